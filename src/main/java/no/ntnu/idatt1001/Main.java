@@ -1,7 +1,11 @@
 package no.ntnu.idatt1001;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import no.ntnu.idatt1001.common.ItemRegister;
 import no.ntnu.idatt1001.common.menu.Menu;
+import no.ntnu.idatt1001.common.persistence.FsyncPolicy;
+import no.ntnu.idatt1001.common.persistence.MutationLog;
 import no.ntnu.idatt1001.util.item.Item;
 
 /**
@@ -11,23 +15,41 @@ import no.ntnu.idatt1001.util.item.Item;
  * a list of items of the {@link Item} class through a register,
  * which utilizes the {@link ItemRegister} class. The main method
  * creates an instance of the {@link Menu} class for easy navigation
- * through the item register.
+ * through the item register. Every change made to the register is
+ * written to a {@link MutationLog}, which restores the register when
+ * the program is started again.
  *
  * @author 10124
  * @version 1.0.0
  */
 public class Main {
+  private static final Path MUTATION_LOG_DIRECTORY = Path.of("wms-data");
+
   /**
    * The main method which gets executed at the start of the program.
-   * This method creates an instance of an {@link ItemRegister} class
-   * for usage in a {@link Menu} object.
+   * This method opens the {@link MutationLog} of the program, which replays
+   * the earlier changes into an {@link ItemRegister} for usage in a
+   * {@link Menu} object. The first time the program is started, the register
+   * is filled with the default items. The log is closed when the program exits.
    *
-   * @param args  Arguments passed in the command line when executing this java class
+   * @param args          Arguments passed in the command line when executing this java class
+   * @throws IOException  If the mutation log could not be opened
    */
-  public static void main(String[] args) {
+  public static void main(String[] args) throws IOException {
+
+    MutationLog mutationLog = MutationLog.open(MUTATION_LOG_DIRECTORY, FsyncPolicy.GROUP_COMMIT);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      try {
+        mutationLog.close();
+      } catch (IOException e) {
+        System.err.println("Could not close the mutation log: " + e.getMessage());
+      }
+    }));
 
-    ItemRegister itemRegister = new ItemRegister();
-    itemRegister.fillListWithDefaultItems();
+    ItemRegister itemRegister = mutationLog.getRegister();
+    if (mutationLog.getLastSequence() == 0) {
+      itemRegister.fillListWithDefaultItems();
+    }
 
     Menu menu = new Menu(itemRegister);
 
@@ -0,0 +1,828 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+
+/**
+ * A register for items which stores the items column by column instead of as
+ * {@link Item} objects. Every field of the items is kept in its own array, where
+ * the item in row {@code i} of the register has its values at index {@code i} in
+ * every array. The numeric fields are kept in primitive arrays, and the
+ * {@link Color} and {@link Category} of each item are dictionary-encoded as the
+ * ordinal of the enum constant in a {@code byte} array.
+ *
+ * <p>The register provides the same functionality as {@link ItemRegister}, and
+ * creates {@link Item} objects only for the items it returns. In addition, it
+ * provides scan methods which go through a single column at a time, such as
+ * {@link ColumnarItemRegister#sumWarehouseStock()}. Such scans read the values
+ * of the column one after another in memory, without visiting any objects.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public class ColumnarItemRegister {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final Color[] COLORS = Color.values();
+  private static final Category[] CATEGORIES = Category.values();
+
+  private String[] itemNumberKeys;
+  private String[] itemNumbers;
+  private String[] descriptions;
+  private String[] brandNames;
+  private int[] prices;
+  private int[] warehouseStocks;
+  private double[] discounts;
+  private double[] weights;
+  private double[] lengths;
+  private double[] heights;
+  private double[] widths;
+  private byte[] colors;
+  private byte[] categories;
+  private int size;
+
+  private final Map<String, Integer> rowIndex;
+  private final DescriptionIndex<String> descriptionIndex;
+  private final int[] categoryCounts;
+
+  private Comparator<Integer> activeOrder;
+  private int[] orderedRows;
+
+  /**
+   * A constructor for the {@link ColumnarItemRegister} class. Creates an
+   * empty register with room for a small number of items before the
+   * columns have to grow.
+   */
+  public ColumnarItemRegister() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * A constructor for the {@link ColumnarItemRegister} class. Creates an
+   * empty register with columns large enough for the specified number of items.
+   *
+   * @param initialCapacity           The number of items the register has room for
+   *                                  before the columns have to grow
+   * @throws IllegalNumberException   If the specified capacity is below 0
+   */
+  public ColumnarItemRegister(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalNumberException("Initial capacity cannot be below 0");
+    }
+
+    itemNumberKeys = new String[initialCapacity];
+    itemNumbers = new String[initialCapacity];
+    descriptions = new String[initialCapacity];
+    brandNames = new String[initialCapacity];
+    prices = new int[initialCapacity];
+    warehouseStocks = new int[initialCapacity];
+    discounts = new double[initialCapacity];
+    weights = new double[initialCapacity];
+    lengths = new double[initialCapacity];
+    heights = new double[initialCapacity];
+    widths = new double[initialCapacity];
+    colors = new byte[initialCapacity];
+    categories = new byte[initialCapacity];
+
+    rowIndex = new HashMap<>();
+    descriptionIndex = new DescriptionIndex<>();
+    categoryCounts = new int[CATEGORIES.length];
+  }
+
+  /**
+   * Adds the values of the specified {@link Item} as a new row at the end of this
+   * register. A check is performed before the item is added, which checks if the
+   * register already contains the specified item's item number. Item numbers are
+   * compared without regard to case and surrounding whitespace.
+   *
+   * @param item                        The {@link Item} which should be
+   *                                    added to this register
+   * @throws IllegalArgumentException   If the specified item's item number
+   *                                    already exists in the register
+   * @throws NullPointerException       If the specified item is {@code null}
+   */
+  public void addItem(Item item) {
+    if (item == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(item.getItemNumber());
+
+    if (rowIndex.containsKey(itemNumberKey)) {
+      throw new IllegalArgumentException("Item number already exists in the register");
+    }
+
+    ensureCapacity(size + 1);
+
+    int row = size;
+    itemNumberKeys[row] = itemNumberKey;
+    itemNumbers[row] = item.getItemNumber();
+    descriptions[row] = item.getDescription();
+    brandNames[row] = item.getBrandName();
+    prices[row] = item.getPriceWithoutDiscount();
+    warehouseStocks[row] = item.getWarehouseStock();
+    discounts[row] = item.getDiscount();
+    weights[row] = item.getWeight();
+    lengths[row] = item.getLength();
+    heights[row] = item.getHeight();
+    widths[row] = item.getWidth();
+    colors[row] = (byte) item.getColor().ordinal();
+    categories[row] = (byte) item.getCategory().ordinal();
+    size++;
+
+    rowIndex.put(itemNumberKey, row);
+    descriptionIndex.add(itemNumberKey, item.getDescription());
+    categoryCounts[categories[row]]++;
+    orderedRows = null;
+  }
+
+  /**
+   * Searches this register for the specified item number, and creates an
+   * {@link Item} from the values of the row that was found. The item number is
+   * trimmed and compared without regard to case.
+   *
+   * @param itemNumberInput             Item number which is used to find any matches
+   * @return                            An {@link Item} object if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified item number is {@code null}
+   */
+  public Item searchByItemNumber(String itemNumberInput) {
+    if (itemNumberInput == null) {
+      throw new NullPointerException("Item number specified cannot be null");
+    }
+
+    Integer row = rowIndex.get(ItemRegister.normalizeItemNumber(itemNumberInput));
+
+    if (row != null) {
+      return itemAt(row);
+    }
+
+    return null;
+  }
+
+  /**
+   * Searches this register for items matching the specified description query,
+   * in the same way as {@link ItemRegister#searchByItemDesc(String)}. An item
+   * matches if its description contains every word in the query, and a word
+   * ending with {@code *} matches every word starting with it.
+   *
+   * @param itemDescInput               Item description query which is used to find
+   *                                    any matches
+   * @return                            A list containing {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified description is {@code null}
+   */
+  public List<Item> searchByItemDesc(String itemDescInput) {
+    if (itemDescInput == null) {
+      throw new NullPointerException("Description cannot be null");
+    }
+
+    List<Item> listFilteredByDescription =
+            descriptionIndex.search(itemDescInput).stream()
+            .map(itemNumberKey -> itemAt(rowIndex.get(itemNumberKey)))
+            .toList();
+
+    if (!listFilteredByDescription.isEmpty()) {
+      return listFilteredByDescription;
+    }
+
+    return null;
+  }
+
+  /**
+   * Searches this register for the specified category by scanning the
+   * category column, and creates {@link Item} objects for the rows that
+   * were found.
+   *
+   * @param category                    Item {@link Category} which is used to find any matches
+   * @return                            A list containing {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public List<Item> searchByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    if (categoryCounts[category.ordinal()] == 0) {
+      return null;
+    }
+
+    return IntStream.of(rowsByCategory(category))
+            .mapToObj(this::itemAt)
+            .toList();
+  }
+
+  /**
+   * Gets the number of items in this register with the specified category.
+   * The count is kept up to date when items are added and removed.
+   *
+   * @param category                    Item {@link Category} which the items
+   *                                    should be counted for
+   * @return                            The number of items with the specified category
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public int countByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    return categoryCounts[category.ordinal()];
+  }
+
+  /**
+   * Increases the stock of the specified {@link Item} by the specified amount of stock.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the stock
+   *                                of should be changed
+   * @param stockIncrease           The amount of stock that should be added to the
+   *                                specified item's stock. Cannot be below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or the stock
+   *                                would become larger than {@link Integer#MAX_VALUE}
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void increaseItemStock(Item itemInput, int stockIncrease) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (stockIncrease < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    int row = rowOf(itemInput);
+    if (Integer.MAX_VALUE - warehouseStocks[row] < stockIncrease) {
+      throw new IllegalNumberException("Warehouse stock cannot be larger than "
+              + Integer.MAX_VALUE);
+    }
+    warehouseStocks[row] += stockIncrease;
+    orderedRows = null;
+  }
+
+  /**
+   * Decreases the stock of the specified {@link Item} by the specified amount of stock.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the stock
+   *                                of should be changed
+   * @param stockDecrease           The amount of stock that should be subtraced from the
+   *                                specified item's stock. Cannot be below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or greater
+   *                                than the item's stock
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void decreaseItemStock(Item itemInput, int stockDecrease) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (stockDecrease < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    int row = rowOf(itemInput);
+    if (warehouseStocks[row] - stockDecrease < 0) {
+      throw new IllegalNumberException("Warehouse stock cannot be set to a negative integer");
+    }
+    warehouseStocks[row] -= stockDecrease;
+    orderedRows = null;
+  }
+
+  /**
+   * Changes the price of the specified {@link Item} to the specified amount.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the price
+   *                                of should be changed
+   * @param price                   The new price which the specified item will have. Cannot
+   *                                be below 0
+   * @throws IllegalNumberException If the specified price is below 0
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changePriceOfItem(Item itemInput, int price) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (price < 0) {
+      throw new IllegalNumberException("Price amount specified cannot be below 0");
+    }
+
+    prices[rowOf(itemInput)] = price;
+    orderedRows = null;
+  }
+
+  /**
+   * Changes the discount of the specified {@link Item} to the specified amount.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the discount
+   *                                of should be changed.
+   * @param discount                The new discount which the specified item will have.
+   *                                Accept numbers between 0 and 100
+   * @throws IllegalNumberException If the specified discount is below 0 or above 100
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changeDiscountOfItem(Item itemInput, double discount) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (discount < 0 || discount > 100) {
+      throw new IllegalNumberException("Discount amount specified cannot be below 0 or above 100");
+    }
+
+    discounts[rowOf(itemInput)] = discount;
+    orderedRows = null;
+  }
+
+  /**
+   * Changes the description of the specified {@link Item} to the specified string.
+   * A {@code null} description is stored as an empty string. If the item is not
+   * found in this register, a {@link NoSuchElementException} is thrown.
+   *
+   * @param itemInput               The {@link Item} which the description
+   *                                of should be changed
+   * @param description             The new description which the specified item will have
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changeDescriptionOfItem(Item itemInput, String description) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    int row = rowOf(itemInput);
+    String newDescription = description == null ? "" : description;
+
+    descriptionIndex.remove(itemNumberKeys[row], descriptions[row]);
+    descriptions[row] = newDescription;
+    descriptionIndex.add(itemNumberKeys[row], newDescription);
+  }
+
+  /**
+   * Gets the index of the specified {@link Item} in this register, in the order
+   * the register is currently sorted by.
+   *
+   * @param itemInput               The {@link Item} which the index
+   *                                of should be returned
+   * @return                        The index number of the specified {@link Item} in this
+   *                                register, otherwise returns
+   *                                {@code -1} if the item is not found in the register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public int getIndexOfItem(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("The specified item cannot be null");
+    }
+
+    Integer row = rowIndex.get(ItemRegister.normalizeItemNumber(itemInput.getItemNumber()));
+    if (row == null) {
+      return -1;
+    }
+
+    if (activeOrder == null) {
+      return row;
+    }
+
+    int[] rows = orderedRows();
+    for (int i = 0; i < rows.length; i++) {
+      if (rows[i] == row) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Removes the specified {@link Item} from this register. The rows after the
+   * removed row are moved one row up in every column, which keeps the remaining
+   * items in the order they were added.
+   *
+   * @param itemInput               The {@link Item} that should be removed from this
+   *                                register
+   * @return                        {@code true} if the specified item is in the register,
+   *                                otherwise returns {@code false} if the item wasn't found
+   *                                in the register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public boolean removeItem(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("The specified item cannot be null");
+    }
+
+    Integer row = rowIndex.remove(ItemRegister.normalizeItemNumber(itemInput.getItemNumber()));
+    if (row == null) {
+      return false;
+    }
+
+    descriptionIndex.remove(itemNumberKeys[row], descriptions[row]);
+    categoryCounts[categories[row]]--;
+
+    int rowsAfter = size - row - 1;
+    System.arraycopy(itemNumberKeys, row + 1, itemNumberKeys, row, rowsAfter);
+    System.arraycopy(itemNumbers, row + 1, itemNumbers, row, rowsAfter);
+    System.arraycopy(descriptions, row + 1, descriptions, row, rowsAfter);
+    System.arraycopy(brandNames, row + 1, brandNames, row, rowsAfter);
+    System.arraycopy(prices, row + 1, prices, row, rowsAfter);
+    System.arraycopy(warehouseStocks, row + 1, warehouseStocks, row, rowsAfter);
+    System.arraycopy(discounts, row + 1, discounts, row, rowsAfter);
+    System.arraycopy(weights, row + 1, weights, row, rowsAfter);
+    System.arraycopy(lengths, row + 1, lengths, row, rowsAfter);
+    System.arraycopy(heights, row + 1, heights, row, rowsAfter);
+    System.arraycopy(widths, row + 1, widths, row, rowsAfter);
+    System.arraycopy(colors, row + 1, colors, row, rowsAfter);
+    System.arraycopy(categories, row + 1, categories, row, rowsAfter);
+    size--;
+
+    itemNumberKeys[size] = null;
+    itemNumbers[size] = null;
+    descriptions[size] = null;
+    brandNames[size] = null;
+
+    for (int i = row; i < size; i++) {
+      rowIndex.put(itemNumberKeys[i], i);
+    }
+    orderedRows = null;
+
+    return true;
+  }
+
+  /**
+   * Sorts this register by item number. The columns are not moved, the order is only
+   * used when retrieving the items by index or in bulk, until the register is sorted
+   * by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByItemnumber(boolean ascending) {
+    sortBy(Comparator.comparing(row -> itemNumbers[row]), ascending);
+  }
+
+  /**
+   * Sorts this register by brand name. Items with the same brand name are ordered
+   * by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByBrandname(boolean ascending) {
+    sortBy(Comparator.comparing(row -> brandNames[row]), ascending);
+  }
+
+  /**
+   * Sorts this register by the price of the items after discount. Items with the
+   * same price are ordered by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByPrice(boolean ascending) {
+    sortBy(Comparator.comparingInt(this::effectivePrice), ascending);
+  }
+
+  /**
+   * Sorts this register by warehouse stock. Items with the same stock are ordered
+   * by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByWarehousestock(boolean ascending) {
+    sortBy(Comparator.comparingInt(row -> warehouseStocks[row]), ascending);
+  }
+
+  /**
+   * Sorts this register alphabetically by the {@code Color.name()} value of the
+   * items. Items with the same color are ordered by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByColor(boolean ascending) {
+    sortBy(Comparator.comparing(row -> COLORS[colors[row]].name()), ascending);
+  }
+
+  /**
+   * Sorts this register alphabetically by the {@code Category.name()} value of the
+   * items. Items with the same category are ordered by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByCategory(boolean ascending) {
+    sortBy(Comparator.comparing(row -> CATEGORIES[categories[row]].name()), ascending);
+  }
+
+  /**
+   * Creates a list containing an {@link Item} object for every row in this register,
+   * in the order the register is currently sorted by.
+   *
+   * @return A {@link List} containing all the items in this register
+   */
+  public List<Item> getCopyOfList() {
+    return IntStream.range(0, size)
+            .map(this::rowAt)
+            .mapToObj(this::itemAt)
+            .toList();
+  }
+
+  /**
+   * Fills this register with the same pre-made items as
+   * {@link ItemRegister#fillListWithDefaultItems()}, for testing purposes.
+   */
+  public void fillListWithDefaultItems() {
+    ItemRegister defaultItems = new ItemRegister();
+    defaultItems.fillListWithDefaultItems();
+    defaultItems.getCopyOfList().forEach(this::addItem);
+  }
+
+  /**
+   * Creates an {@link Item} object from the row in the specified {@code index}
+   * location, in the order the register is currently sorted by.
+   *
+   * @param index                       The {@code index} of the item which should be
+   *                                    retrieved. Cannot be below 0 or greater
+   *                                    than {@link ColumnarItemRegister#size()} - 1
+   * @return                            An {@link Item} with the values in the
+   *                                    specified {@code index} location
+   * @throws IndexOutOfBoundsException  If the specified index is below 0 or greater than
+   *                                    the size of this register
+   */
+  public Item getItem(int index) {
+    if (index < 0 || index > (size() - 1)) {
+      throw new IndexOutOfBoundsException("Specified index is out of bounds");
+    }
+
+    return itemAt(rowAt(index));
+  }
+
+  /**
+   * Gets the number of items in this register.
+   *
+   * @return The size of this register
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Sums the warehouse stock of every item in this register by scanning
+   * the warehouse stock column.
+   *
+   * @return The total warehouse stock of the items in this register
+   */
+  public long sumWarehouseStock() {
+    long sum = 0;
+    for (int row = 0; row < size; row++) {
+      sum += warehouseStocks[row];
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the warehouse stock of every item with the specified category by
+   * scanning the category and warehouse stock columns.
+   *
+   * @param category                The {@link Category} of the items which should be summed
+   * @return                        The total warehouse stock of the items
+   *                                with the specified category
+   * @throws NullPointerException   If the specified {@link Category} is {@code null}
+   */
+  public long sumWarehouseStock(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    byte code = (byte) category.ordinal();
+    long sum = 0;
+    for (int row = 0; row < size; row++) {
+      if (categories[row] == code) {
+        sum += warehouseStocks[row];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the value of the stock of every item in this register, which is the
+   * price after discount multiplied by the warehouse stock of each item.
+   * Scans the price, discount and warehouse stock columns.
+   *
+   * @return The total value of the stock in this register
+   */
+  public long sumStockValue() {
+    long sum = 0;
+    for (int row = 0; row < size; row++) {
+      sum += (long) effectivePrice(row) * warehouseStocks[row];
+    }
+    return sum;
+  }
+
+  /**
+   * Counts the items in this register with a warehouse stock below the specified
+   * threshold by scanning the warehouse stock column.
+   *
+   * @param threshold The warehouse stock which the items should be below
+   * @return          The number of items with a warehouse stock below the threshold
+   */
+  public int countWarehouseStockBelow(int threshold) {
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      if (warehouseStocks[row] < threshold) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the rows of every item with the specified category by scanning the
+   * category column. The rows are in the order the items were added.
+   *
+   * @param category  The {@link Category} of the items which should be found
+   * @return          An array containing the rows of the items with the specified category
+   */
+  private int[] rowsByCategory(Category category) {
+    byte code = (byte) category.ordinal();
+    int[] rows = new int[categoryCounts[category.ordinal()]];
+    int found = 0;
+    for (int row = 0; row < size && found < rows.length; row++) {
+      if (categories[row] == code) {
+        rows[found++] = row;
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Chooses the order of the items in this register. Items which are equal
+   * according to the specified comparator are ordered by item number.
+   *
+   * @param comparator  The comparator of rows which the register should be sorted by
+   * @param ascending   If {@code true}, the items are ordered ascendingly,
+   *                    otherwise descendingly
+   */
+  private void sortBy(Comparator<Integer> comparator, boolean ascending) {
+    Comparator<Integer> order =
+            comparator.thenComparing(row -> itemNumbers[row], Comparator.naturalOrder());
+    activeOrder = ascending ? order : order.reversed();
+    orderedRows = null;
+  }
+
+  /**
+   * Gets the rows of this register in the order the register is currently
+   * sorted by. The rows are sorted again the first time they are needed after
+   * the register has changed.
+   *
+   * @return An array containing the rows in the current order
+   */
+  private int[] orderedRows() {
+    if (orderedRows == null) {
+      orderedRows = IntStream.range(0, size)
+              .boxed()
+              .sorted(activeOrder)
+              .mapToInt(Integer::intValue)
+              .toArray();
+    }
+    return orderedRows;
+  }
+
+  /**
+   * Gets the row of the item in the specified {@code index} location, in the
+   * order the register is currently sorted by.
+   *
+   * @param index The index of the item
+   * @return      The row of the item
+   */
+  private int rowAt(int index) {
+    return activeOrder == null ? index : orderedRows()[index];
+  }
+
+  /**
+   * Gets the row of the specified item in this register.
+   *
+   * @param itemInput               The {@link Item} which the row should be found for
+   * @return                        The row of the item
+   * @throws NoSuchElementException If the item doesn't exist in this register
+   */
+  private int rowOf(Item itemInput) {
+    Integer row = rowIndex.get(ItemRegister.normalizeItemNumber(itemInput.getItemNumber()));
+    if (row == null) {
+      throw new NoSuchElementException();
+    }
+    return row;
+  }
+
+  /**
+   * Creates an {@link Item} object from the values in the specified row, by utilizing
+   * the {@link ItemBuilder} class.
+   *
+   * @param row The row of the item
+   * @return    An {@link Item} with the values of the row
+   */
+  private Item itemAt(int row) {
+    Item item = new ItemBuilder()
+            .setItemNumber(itemNumbers[row])
+            .setDescription(descriptions[row])
+            .setBrandName(brandNames[row])
+            .setPrice(prices[row])
+            .setWarehouseStock(warehouseStocks[row])
+            .setWeight(weights[row])
+            .setLength(lengths[row])
+            .setHeight(heights[row])
+            .setWidth(widths[row])
+            .setColor(COLORS[colors[row]])
+            .setCategory(CATEGORIES[categories[row]])
+            .build();
+    item.setDiscount(discounts[row]);
+    return item;
+  }
+
+  /**
+   * Calculates the price after discount of the item in the specified row, in the
+   * same way as {@link Item#getPrice()}.
+   *
+   * @param row The row of the item
+   * @return    The price of the item calculated with the discount
+   */
+  private int effectivePrice(int row) {
+    return (int) (prices[row] * (1 - (discounts[row] / 100)));
+  }
+
+  /**
+   * Makes sure every column has room for the specified number of items. The columns
+   * grow to at least double their size when they are full.
+   *
+   * @param capacity The number of items the columns should have room for
+   */
+  private void ensureCapacity(int capacity) {
+    if (capacity <= itemNumbers.length) {
+      return;
+    }
+
+    int newCapacity = Math.max(capacity, Math.max(DEFAULT_CAPACITY, itemNumbers.length * 2));
+    itemNumberKeys = Arrays.copyOf(itemNumberKeys, newCapacity);
+    itemNumbers = Arrays.copyOf(itemNumbers, newCapacity);
+    descriptions = Arrays.copyOf(descriptions, newCapacity);
+    brandNames = Arrays.copyOf(brandNames, newCapacity);
+    prices = Arrays.copyOf(prices, newCapacity);
+    warehouseStocks = Arrays.copyOf(warehouseStocks, newCapacity);
+    discounts = Arrays.copyOf(discounts, newCapacity);
+    weights = Arrays.copyOf(weights, newCapacity);
+    lengths = Arrays.copyOf(lengths, newCapacity);
+    heights = Arrays.copyOf(heights, newCapacity);
+    widths = Arrays.copyOf(widths, newCapacity);
+    colors = Arrays.copyOf(colors, newCapacity);
+    categories = Arrays.copyOf(categories, newCapacity);
+  }
+
+  /**
+   * A standard to-string method with all the relevant information from this
+   * register in the same format as {@link ItemRegister#toString()}.
+   *
+   * @return A string formatted with all the relevant information about this register
+   */
+  @Override
+  public String toString() {
+    StringBuilder returnString = new StringBuilder(ItemRegister.tableHeader());
+
+    ItemRowFormatter rowFormatter = new ItemRowFormatter();
+    returnString.append("\u001B[33m");
+    for (int index = 0; index < size; index++) {
+      rowFormatter.appendTo(returnString, itemAt(rowAt(index))).append("\n");
+    }
+    returnString.append("\u001B[0m");
+
+    return returnString.toString();
+  }
+}
@@ -0,0 +1,592 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+
+/**
+ * A register for items which can be shared between threads. The items are kept in a
+ * {@link ConcurrentHashMap} by their normalized item number, and in a
+ * {@link ConcurrentSkipListMap} in the order they were added.
+ *
+ * <p>Every item number belongs to one of a fixed number of stripes, each with its own
+ * {@link ReentrantLock}. Adding and removing an item, and changing anything but its
+ * stock, only locks the stripe of the item's number, so these changes to items in
+ * different stripes never wait for each other. Operations which go through all the
+ * items, like {@link ConcurrentItemRegister#getCopyOfList()}, lock every stripe while
+ * the items are copied, so no item is added, removed or has its price or description
+ * changed while the list is copied.
+ *
+ * <p>The warehouse stock is changed without any locks. The stock of an item is
+ * increased and decreased atomically with compare-and-set, see
+ * {@link Item#tryDecreaseWarehouseStock(int)}, so many threads can pick the same
+ * item at the same time, and the stock never goes below 0. Every change of the stock
+ * of a single item is atomic, but there is no consistency between the stock of
+ * different items: a listing copies the stock of each item at a different moment,
+ * and may show the stock of one item before a change and of another item after a
+ * later change. Changes which must be seen together should not rely on the listings
+ * of this register.
+ *
+ * <p>The register never hands out its own items. Lookups return read-only copies,
+ * which are taken while the stripe of the item is locked. Since the positions of the
+ * items change as other threads add and remove items, items are not retrieved by
+ * index. A list of all the items can be copied with
+ * {@link ConcurrentItemRegister#getCopyOfList()}.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public class ConcurrentItemRegister {
+
+  private static final int DEFAULT_STRIPES = 64;
+
+  private final ReentrantLock[] stripes;
+  private final Map<String, Entry> itemNumberIndex;
+  private final NavigableMap<Long, Item> insertionOrder;
+  private final AtomicLong nextSequence;
+
+  private volatile Comparator<Item> activeOrder;
+
+  /**
+   * A constructor for the {@link ConcurrentItemRegister} class. Creates an
+   * empty register with the default number of lock stripes.
+   */
+  public ConcurrentItemRegister() {
+    this(DEFAULT_STRIPES);
+  }
+
+  /**
+   * A constructor for the {@link ConcurrentItemRegister} class. Creates an
+   * empty register with at least the specified number of lock stripes. The number
+   * is rounded up to a power of two.
+   *
+   * @param stripeCount               The least number of lock stripes
+   * @throws IllegalNumberException   If the specified number is below 1
+   */
+  public ConcurrentItemRegister(int stripeCount) {
+    if (stripeCount < 1) {
+      throw new IllegalNumberException("Stripe count cannot be below 1");
+    }
+
+    int stripeCapacity = Integer.highestOneBit(stripeCount);
+    if (stripeCapacity < stripeCount) {
+      stripeCapacity *= 2;
+    }
+
+    stripes = new ReentrantLock[stripeCapacity];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    itemNumberIndex = new ConcurrentHashMap<>();
+    insertionOrder = new ConcurrentSkipListMap<>();
+    nextSequence = new AtomicLong();
+  }
+
+  /**
+   * Adds a copy of the specified {@link Item} to the end of this register. A check is
+   * performed while the stripe of the item number is locked, which checks if the
+   * register already contains the specified item's item number. Item numbers are
+   * compared without regard to case and surrounding whitespace.
+   *
+   * @param item                        The {@link Item} which should be
+   *                                    added to this register
+   * @throws IllegalArgumentException   If the specified item's item number
+   *                                    already exists in the register
+   * @throws NullPointerException       If the specified item is {@code null}
+   */
+  public void addItem(Item item) {
+    if (item == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(item.getItemNumber());
+    ReentrantLock stripe = stripeOf(itemNumberKey);
+    stripe.lock();
+    try {
+      if (itemNumberIndex.containsKey(itemNumberKey)) {
+        throw new IllegalArgumentException("Item number already exists in the register");
+      }
+
+      Entry entry = new Entry(nextSequence.getAndIncrement(), ItemBuilder.deepCopy(item));
+      itemNumberIndex.put(itemNumberKey, entry);
+      insertionOrder.put(entry.sequence(), entry.item());
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  /**
+   * Searches this register for the specified item number. The item number is
+   * trimmed and compared without regard to case.
+   *
+   * @param itemNumberInput             Item number which is used to find any matches
+   * @return                            A read-only copy of an {@link Item} if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified item number is {@code null}
+   */
+  public Item searchByItemNumber(String itemNumberInput) {
+    if (itemNumberInput == null) {
+      throw new NullPointerException("Item number specified cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemNumberInput);
+    ReentrantLock stripe = stripeOf(itemNumberKey);
+    stripe.lock();
+    try {
+      Entry entry = itemNumberIndex.get(itemNumberKey);
+      return entry == null ? null : ItemBuilder.readOnlyCopy(entry.item());
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  /**
+   * Searches this register for items with the specified category, in the order the
+   * register is currently sorted by.
+   *
+   * @param category                    Item {@link Category} which is used to find any matches
+   * @return                            A list containing read-only copies of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public List<Item> searchByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    List<Item> listFilteredByCategory = orderedCopies(ItemBuilder::readOnlyCopy).stream()
+            .filter(item -> item.getCategory() == category)
+            .toList();
+
+    if (!listFilteredByCategory.isEmpty()) {
+      return listFilteredByCategory;
+    }
+
+    return null;
+  }
+
+  /**
+   * Increases the stock of the specified {@link Item} by the specified amount of stock,
+   * atomically and without locking. If the item is not found in this register, a
+   * {@link NoSuchElementException} is thrown.
+   *
+   * @param itemInput               The {@link Item} which the stock
+   *                                of should be changed
+   * @param stockIncrease           The amount of stock that should be added to the
+   *                                specified item's stock. Cannot be below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or the stock
+   *                                would become larger than {@link Integer#MAX_VALUE}
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void increaseItemStock(Item itemInput, int stockIncrease) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (stockIncrease < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    itemOf(itemInput.getItemNumber()).increaseWarehouseStock(stockIncrease);
+  }
+
+  /**
+   * Decreases the stock of the specified {@link Item} by the specified amount of stock,
+   * atomically and without locking. If the item is not found in this register, a
+   * {@link NoSuchElementException} is thrown. If the item doesn't have enough stock,
+   * the stock is left unchanged.
+   *
+   * @param itemInput               The {@link Item} which the stock
+   *                                of should be changed
+   * @param stockDecrease           The amount of stock that should be subtraced from the
+   *                                specified item's stock. Cannot be below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or greater
+   *                                than the item's stock
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void decreaseItemStock(Item itemInput, int stockDecrease) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (stockDecrease < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    if (!itemOf(itemInput.getItemNumber()).tryDecreaseWarehouseStock(stockDecrease)) {
+      throw new IllegalNumberException("Warehouse stock cannot be set to a negative integer");
+    }
+  }
+
+  /**
+   * Tries to decrease the stock of the item with the specified item number by the
+   * specified quantity, atomically and without locking. If the item doesn't have
+   * enough stock, the stock is left unchanged and {@code false} is returned, so
+   * several threads can pick the same item without the stock going below 0.
+   *
+   * @param itemNumber              The item number of the item which should be picked
+   * @param quantity                The quantity which should be subtracted from the
+   *                                item's stock. Cannot be below 0
+   * @return                        {@code true} if the stock was decreased, otherwise
+   *                                {@code false} if the item has too little stock
+   * @throws IllegalNumberException If the specified quantity is below 0
+   * @throws NoSuchElementException If no item in this register has the item number
+   * @throws NullPointerException   If the specified item number is {@code null}
+   */
+  public boolean tryDecreaseStock(String itemNumber, int quantity) {
+    if (itemNumber == null) {
+      throw new NullPointerException("Item number specified cannot be null");
+    }
+
+    if (quantity < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    return itemOf(itemNumber).tryDecreaseWarehouseStock(quantity);
+  }
+
+  /**
+   * Changes the price of the specified {@link Item} to the specified amount.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the price
+   *                                of should be changed
+   * @param price                   The new price which the specified item will have. Cannot
+   *                                be below 0
+   * @throws IllegalNumberException If the specified price is below 0
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changePriceOfItem(Item itemInput, int price) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (price < 0) {
+      throw new IllegalNumberException("Price amount specified cannot be below 0");
+    }
+
+    changeItem(itemInput, item -> item.setPrice(price));
+  }
+
+  /**
+   * Changes the discount of the specified {@link Item} to the specified amount.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the discount
+   *                                of should be changed.
+   * @param discount                The new discount which the specified item will have.
+   *                                Accept numbers between 0 and 100
+   * @throws IllegalNumberException If the specified discount is below 0 or above 100
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changeDiscountOfItem(Item itemInput, double discount) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (discount < 0 || discount > 100) {
+      throw new IllegalNumberException("Discount amount specified cannot be below 0 or above 100");
+    }
+
+    changeItem(itemInput, item -> item.setDiscount(discount));
+  }
+
+  /**
+   * Changes the description of the specified {@link Item} to the specified string.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the description
+   *                                of should be changed
+   * @param description             The new description which the specified item will have
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changeDescriptionOfItem(Item itemInput, String description) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    changeItem(itemInput, item -> item.setDescription(description));
+  }
+
+  /**
+   * Removes the specified {@link Item} from this register.
+   *
+   * @param itemInput               The {@link Item} that should be removed from this
+   *                                register
+   * @return                        {@code true} if the specified item is in the register,
+   *                                otherwise returns {@code false} if the item wasn't found
+   *                                in the register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public boolean removeItem(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("The specified item cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemInput.getItemNumber());
+    ReentrantLock stripe = stripeOf(itemNumberKey);
+    stripe.lock();
+    try {
+      Entry entry = itemNumberIndex.remove(itemNumberKey);
+      if (entry == null) {
+        return false;
+      }
+
+      insertionOrder.remove(entry.sequence());
+      return true;
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  /**
+   * Sorts this register by item number. The order is used by the methods returning
+   * several items, until the register is sorted by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register gets
+   *                  sorted ascendingly, otherwise descendingly
+   */
+  public void sortListByItemnumber(boolean ascending) {
+    sortBy(Comparator.comparing(Item::getItemNumber), ascending);
+  }
+
+  /**
+   * Sorts this register by brand name. Items with the same brand name are ordered
+   * by item number. The order is used by the methods returning several items, until
+   * the register is sorted by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register gets
+   *                  sorted ascendingly, otherwise descendingly
+   */
+  public void sortListByBrandname(boolean ascending) {
+    sortBy(Comparator.comparing(Item::getBrandName), ascending);
+  }
+
+  /**
+   * Sorts this register by price, with the discount taken into account. Items with the
+   * same price are ordered by item number. The order is used by the methods returning
+   * several items, until the register is sorted by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register gets
+   *                  sorted ascendingly, otherwise descendingly
+   */
+  public void sortListByPrice(boolean ascending) {
+    sortBy(Comparator.comparingInt(Item::getPrice), ascending);
+  }
+
+  /**
+   * Sorts this register by warehouse stock. Items with the same stock are ordered
+   * by item number. The order is used by the methods returning several items, until
+   * the register is sorted by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register gets
+   *                  sorted ascendingly, otherwise descendingly
+   */
+  public void sortListByWarehousestock(boolean ascending) {
+    sortBy(Comparator.comparingInt(Item::getWarehouseStock), ascending);
+  }
+
+  /**
+   * Sorts this register alphabetically by the name of the color. Items with the
+   * same color are ordered by item number. The order is used by the methods returning
+   * several items, until the register is sorted by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register gets
+   *                  sorted ascendingly, otherwise descendingly
+   */
+  public void sortListByColor(boolean ascending) {
+    sortBy(Comparator.comparing(item -> item.getColor().name()), ascending);
+  }
+
+  /**
+   * Sorts this register alphabetically by the name of the category. Items with the
+   * same category are ordered by item number. The order is used by the methods
+   * returning several items, until the register is sorted by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register gets
+   *                  sorted ascendingly, otherwise descendingly
+   */
+  public void sortListByCategory(boolean ascending) {
+    sortBy(Comparator.comparing(item -> item.getCategory().name()), ascending);
+  }
+
+  /**
+   * Gets a deep-copy of all the items in this register, in the order the register
+   * is currently sorted by. The items are copied while every stripe is locked, so no
+   * item is added or removed while the list is copied. The stock is changed without
+   * the locks, so the stock of each copy is read at a different moment.
+   *
+   * @return A {@link List} containing a deep-copy of all the items in this register
+   */
+  public List<Item> getCopyOfList() {
+    return orderedCopies(ItemBuilder::deepCopy);
+  }
+
+  /**
+   * Gets the number of items in this register.
+   *
+   * @return The size of this register
+   */
+  public int size() {
+    return itemNumberIndex.size();
+  }
+
+  /**
+   * Fills this register with the same pre-made items as
+   * {@link ItemRegister#fillListWithDefaultItems()}, for testing purposes.
+   */
+  public void fillListWithDefaultItems() {
+    ItemRegister defaultItems = new ItemRegister();
+    defaultItems.fillListWithDefaultItems();
+    defaultItems.getItems().forEach(this::addItem);
+  }
+
+  /**
+   * Gets the item in this register with the specified item number, without locking.
+   * The item is only used for changing its stock, which is done atomically.
+   *
+   * @param itemNumber              The item number of the item
+   * @return                        The item in this register
+   * @throws NoSuchElementException If the item doesn't exist in this register
+   */
+  private Item itemOf(String itemNumber) {
+    Entry entry = itemNumberIndex.get(ItemRegister.normalizeItemNumber(itemNumber));
+    if (entry == null) {
+      throw new NoSuchElementException();
+    }
+    return entry.item();
+  }
+
+  /**
+   * Changes the item in this register with the same item number as the specified
+   * item, while the stripe of the item number is locked.
+   *
+   * @param itemInput               The {@link Item} which should be changed
+   * @param change                  The change which should be made to the item
+   * @throws NoSuchElementException If the item doesn't exist in this register
+   */
+  private void changeItem(Item itemInput, Consumer<Item> change) {
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemInput.getItemNumber());
+    ReentrantLock stripe = stripeOf(itemNumberKey);
+    stripe.lock();
+    try {
+      Entry entry = itemNumberIndex.get(itemNumberKey);
+      if (entry == null) {
+        throw new NoSuchElementException();
+      }
+      change.accept(entry.item());
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  /**
+   * Copies every item in this register while every stripe is locked, and orders the
+   * copies by the order the register is currently sorted by. The stripes are locked
+   * in the same order every time, and unlocked before the copies are sorted.
+   *
+   * @param copier  The function which copies an item
+   * @return        The copies of the items, in the current order
+   */
+  private List<Item> orderedCopies(Function<Item, Item> copier) {
+    List<Item> copies;
+    for (ReentrantLock stripe : stripes) {
+      stripe.lock();
+    }
+    try {
+      copies = new ArrayList<>(insertionOrder.size());
+      for (Item item : insertionOrder.values()) {
+        copies.add(copier.apply(item));
+      }
+    } finally {
+      for (int i = stripes.length - 1; i >= 0; i--) {
+        stripes[i].unlock();
+      }
+    }
+
+    Comparator<Item> order = activeOrder;
+    if (order != null) {
+      copies.sort(order);
+    }
+    return copies;
+  }
+
+  /**
+   * Chooses the order of the items returned by this register. Items with equal keys
+   * are ordered by item number, and the descending order is the exact reverse of the
+   * ascending order.
+   *
+   * @param key       The comparator comparing the key the items should be sorted by
+   * @param ascending If {@code true}, the items are ordered ascendingly,
+   *                  otherwise descendingly
+   */
+  private void sortBy(Comparator<Item> key, boolean ascending) {
+    Comparator<Item> order = key.thenComparing(Item::getItemNumber);
+    activeOrder = ascending ? order : order.reversed();
+  }
+
+  /**
+   * Gets the lock of the stripe the specified item number belongs to.
+   *
+   * @param itemNumberKey The normalized item number
+   * @return              The lock of the stripe
+   */
+  private ReentrantLock stripeOf(String itemNumberKey) {
+    int hash = itemNumberKey.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+  }
+
+  /**
+   * A standard to-string method with all the items in this register in the same
+   * format as {@link ItemRegister#toString()}, in the order the register is
+   * currently sorted by.
+   *
+   * @return A string formatted with all the relevant information about this register
+   */
+  @Override
+  public String toString() {
+    StringBuilder returnString = new StringBuilder(ItemRegister.tableHeader());
+
+    ItemRowFormatter rowFormatter = new ItemRowFormatter();
+    returnString.append("\u001B[33m");
+    for (Item item : orderedCopies(ItemBuilder::readOnlyCopy)) {
+      rowFormatter.appendTo(returnString, item).append("\n");
+    }
+    returnString.append("\u001B[0m");
+
+    return returnString.toString();
+  }
+
+  /**
+   * An item in the register, together with the sequence number it was
+   * given when it was added.
+   *
+   * @param sequence  The sequence number of the item
+   * @param item      The item
+   */
+  private record Entry(long sequence, Item item) {
+  }
+}
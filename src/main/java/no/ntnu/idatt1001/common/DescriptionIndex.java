@@ -0,0 +1,151 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An inverted index over the descriptions of {@link Item} objects. Every
+ * description is split into lower-cased word tokens, and each token maps to
+ * the set of entries whose description contains it. The tokens are kept in a
+ * {@link TreeMap}, which makes it possible to look up all tokens starting with
+ * a prefix without going through the rest of the tokens.
+ *
+ * <p>The entries are whatever the register uses to refer to its items, for
+ * example the {@link Item} objects themselves or their item numbers. The index
+ * does not observe the items. An item's description must be removed from the
+ * index before it is changed, and added again afterwards.
+ *
+ * @param <T> The type of the entries referring to the indexed items
+ * @author 10124
+ * @version 1.0.0
+ */
+class DescriptionIndex<T> {
+
+  private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Pattern QUERY_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}*]+");
+  private static final String PREFIX_WILDCARD = "*";
+
+  private final NavigableMap<String, Set<T>> postings;
+
+  /**
+   * A constructor for the {@link DescriptionIndex} class. Creates an
+   * empty index.
+   */
+  DescriptionIndex() {
+    postings = new TreeMap<>();
+  }
+
+  /**
+   * Adds the specified entry to the postings of every token in the specified description.
+   *
+   * @param entry       The entry referring to the item which should be indexed
+   * @param description The description of the item
+   */
+  void add(T entry, String description) {
+    for (String token : tokenize(description, TOKEN_SEPARATOR)) {
+      postings.computeIfAbsent(token, t -> new LinkedHashSet<>()).add(entry);
+    }
+  }
+
+  /**
+   * Removes the specified entry from the postings of every token in the specified
+   * description, which must be the description the entry was added with. Tokens
+   * without any entries left are removed from the index.
+   *
+   * @param entry       The entry referring to the item which should be removed
+   * @param description The current description of the item
+   */
+  void remove(T entry, String description) {
+    for (String token : tokenize(description, TOKEN_SEPARATOR)) {
+      Set<T> entriesWithToken = postings.get(token);
+      if (entriesWithToken != null) {
+        entriesWithToken.remove(entry);
+        if (entriesWithToken.isEmpty()) {
+          postings.remove(token);
+        }
+      }
+    }
+  }
+
+  /**
+   * Searches the index for entries matching every term in the specified query.
+   * A term matches an entry if the item's description contains the term as a
+   * word. A term ending with {@code *} is a prefix term, and matches every word
+   * starting with the term. Only the postings of the query terms are visited.
+   *
+   * @param query   The query which the descriptions should be matched against,
+   *                for example {@code "window"} or {@code "hopp*"}
+   * @return        A list containing the entries matching all the terms in the query,
+   *                in the order of the postings of the term with the fewest matches.
+   *                The list is empty if the query doesn't contain any terms
+   */
+  List<T> search(String query) {
+    List<Set<T>> matchesPerTerm = new ArrayList<>();
+
+    for (String term : tokenize(query, QUERY_SEPARATOR)) {
+      boolean isPrefix = term.endsWith(PREFIX_WILDCARD);
+      String word = term.replace(PREFIX_WILDCARD, "");
+      if (word.isEmpty()) {
+        continue;
+      }
+
+      Set<T> matches = isPrefix ? prefixMatches(word) : postings.get(word);
+      if (matches == null || matches.isEmpty()) {
+        return List.of();
+      }
+      matchesPerTerm.add(matches);
+    }
+
+    if (matchesPerTerm.isEmpty()) {
+      return List.of();
+    }
+
+    matchesPerTerm.sort(Comparator.comparingInt(Set::size));
+    Set<T> smallestMatches = matchesPerTerm.get(0);
+    List<Set<T>> otherMatches = matchesPerTerm.subList(1, matchesPerTerm.size());
+
+    return smallestMatches.stream()
+            .filter(entry -> otherMatches.stream().allMatch(matches -> matches.contains(entry)))
+            .toList();
+  }
+
+  /**
+   * Collects the entries of every token starting with the specified prefix.
+   *
+   * @param prefix  The prefix of the tokens
+   * @return        A set containing the entries of every token with the prefix
+   */
+  private Set<T> prefixMatches(String prefix) {
+    Set<T> matches = new LinkedHashSet<>();
+    postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+            .values()
+            .forEach(matches::addAll);
+    return matches;
+  }
+
+  /**
+   * Splits the specified text into lower-cased tokens with the
+   * specified separator pattern. Empty tokens are left out.
+   *
+   * @param text        The text which should be tokenized
+   * @param separator   The pattern separating the tokens
+   * @return            The tokens in the text
+   */
+  private static Collection<String> tokenize(String text, Pattern separator) {
+    Set<String> tokens = new LinkedHashSet<>();
+    for (String token : separator.split(text.toLowerCase())) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+}
@@ -0,0 +1,88 @@
+package no.ntnu.idatt1001.common;
+
+/**
+ * The count, sum, lowest, highest and average value of an {@link ItemMeasure} over a
+ * group of items, as returned by {@link ItemRegister#aggregate(ItemMeasure)} and
+ * {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)}.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemAggregate {
+
+  private final long count;
+  private final double sum;
+  private final double min;
+  private final double max;
+
+  /**
+   * A constructor for the {@link ItemAggregate} class.
+   *
+   * @param count The number of items
+   * @param sum   The sum of the values of the items
+   * @param min   The lowest value, or {@link Double#NaN} if there are no items
+   * @param max   The highest value, or {@link Double#NaN} if there are no items
+   */
+  ItemAggregate(long count, double sum, double min, double max) {
+    this.count = count;
+    this.sum = sum;
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Gets the number of items which were aggregated.
+   *
+   * @return The number of items
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the sum of the values of the items.
+   *
+   * @return The sum, or {@code 0} if there are no items
+   */
+  public double getSum() {
+    return sum;
+  }
+
+  /**
+   * Gets the lowest value of the items.
+   *
+   * @return The lowest value, or {@link Double#NaN} if there are no items
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Gets the highest value of the items.
+   *
+   * @return The highest value, or {@link Double#NaN} if there are no items
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Gets the average value of the items.
+   *
+   * @return The average value, or {@link Double#NaN} if there are no items
+   */
+  public double getAverage() {
+    return count == 0 ? Double.NaN : sum / count;
+  }
+
+  /**
+   * Returns a description of this aggregate.
+   *
+   * @return The count, sum, lowest, highest and average value
+   */
+  @Override
+  public String toString() {
+    return "count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max
+            + ", average=" + getAverage();
+  }
+}
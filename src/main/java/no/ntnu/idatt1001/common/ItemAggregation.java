@@ -0,0 +1,136 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * A fork-join task aggregating an {@link ItemMeasure} over a range of a list of items,
+ * grouped by a key extracted from every item. Ranges larger than
+ * {@link ItemAggregation#LEAF_SIZE} are split in two halves, which are aggregated in
+ * parallel and merged. The items are read where they are, without being copied, so
+ * the list must not be changed while the task is running. Like every fork-join task,
+ * the task is serializable, but it is never serialized, so the list and the key
+ * extractor are transient.
+ *
+ * @param <K> The type of the keys of the groups
+ * @author 10124
+ * @version 1.0.0
+ */
+class ItemAggregation<K> extends RecursiveTask<Map<K, ItemAggregation.Accumulator>> {
+
+  static final int LEAF_SIZE = 1 << 14;
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient List<Item> items;
+  private final int fromIndex;
+  private final int toIndex;
+  private final ItemMeasure measure;
+  private final transient Function<Item, K> keyExtractor;
+
+  /**
+   * A constructor for the {@link ItemAggregation} class.
+   *
+   * @param items         The list of items
+   * @param fromIndex     The index of the first item which should be aggregated
+   * @param toIndex       The index after the last item which should be aggregated
+   * @param measure       The measure which should be aggregated
+   * @param keyExtractor  The function which extracts the key of the group from an item
+   */
+  ItemAggregation(List<Item> items, int fromIndex, int toIndex, ItemMeasure measure,
+                  Function<Item, K> keyExtractor) {
+    this.items = items;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
+    this.measure = measure;
+    this.keyExtractor = keyExtractor;
+  }
+
+  /**
+   * Aggregates the items in the range, splitting the range if it is larger than
+   * {@link ItemAggregation#LEAF_SIZE}.
+   *
+   * @return The aggregate of every group, by the key of the group
+   */
+  @Override
+  protected Map<K, Accumulator> compute() {
+    if (toIndex - fromIndex <= LEAF_SIZE) {
+      Map<K, Accumulator> groups = new HashMap<>();
+      K lastKey = null;
+      Accumulator lastGroup = null;
+      for (int i = fromIndex; i < toIndex; i++) {
+        Item item = items.get(i);
+        K key = keyExtractor.apply(item);
+        if (lastGroup == null || !key.equals(lastKey)) {
+          lastKey = key;
+          lastGroup = groups.computeIfAbsent(key, k -> new Accumulator());
+        }
+        lastGroup.add(measure.valueOf(item));
+      }
+      return groups;
+    }
+
+    int middleIndex = (fromIndex + toIndex) >>> 1;
+    ItemAggregation<K> left =
+            new ItemAggregation<>(items, fromIndex, middleIndex, measure, keyExtractor);
+    left.fork();
+    Map<K, Accumulator> rightGroups =
+            new ItemAggregation<>(items, middleIndex, toIndex, measure, keyExtractor).compute();
+    Map<K, Accumulator> leftGroups = left.join();
+
+    leftGroups.forEach((key, group) -> rightGroups.merge(key, group, Accumulator::merge));
+    return rightGroups;
+  }
+
+  /**
+   * The running count, sum, lowest and highest value of a group.
+   */
+  static final class Accumulator {
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds the specified value to the group.
+     *
+     * @param value The value of an item
+     */
+    void add(double value) {
+      count++;
+      sum += value;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of the specified group to this group.
+     *
+     * @param other The group which should be added
+     * @return      This group
+     */
+    Accumulator merge(Accumulator other) {
+      count += other.count;
+      sum += other.sum;
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+      return this;
+    }
+
+    /**
+     * Creates the aggregate of the values added to this group.
+     *
+     * @return The {@link ItemAggregate} of this group
+     */
+    ItemAggregate toAggregate() {
+      return count == 0
+              ? new ItemAggregate(0, 0, Double.NaN, Double.NaN)
+              : new ItemAggregate(count, sum, min, max);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.Comparator;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An enum representing the numeric fields of an {@link Item} which the items of an
+ * {@link ItemRegister} can be ranked by, see
+ * {@link ItemRegister#getTopItems(ItemField, boolean, int)}. Items with the same
+ * value are ranked in ascending order of item number, whether the items with the
+ * lowest or the highest values are ranked first.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum ItemField {
+  /**
+   * The price of the item, with the discount taken into account.
+   */
+  PRICE(Comparator.comparingInt(Item::getPrice)),
+  /**
+   * The warehouse stock of the item.
+   */
+  WAREHOUSE_STOCK(Comparator.comparingInt(Item::getWarehouseStock)),
+  /**
+   * The weight of the item.
+   */
+  WEIGHT(Comparator.comparingDouble(Item::getWeight)),
+  /**
+   * The length of the item.
+   */
+  LENGTH(Comparator.comparingDouble(Item::getLength)),
+  /**
+   * The height of the item.
+   */
+  HEIGHT(Comparator.comparingDouble(Item::getHeight)),
+  /**
+   * The width of the item.
+   */
+  WIDTH(Comparator.comparingDouble(Item::getWidth));
+
+  private final Comparator<Item> ascendingOrder;
+  private final Comparator<Item> descendingOrder;
+
+  /**
+   * A constructor for the {@link ItemField} enum.
+   *
+   * @param valueOrder  The order of the values of the field
+   */
+  ItemField(Comparator<Item> valueOrder) {
+    this.ascendingOrder = valueOrder.thenComparing(Item::getItemNumber);
+    this.descendingOrder = valueOrder.reversed().thenComparing(Item::getItemNumber);
+  }
+
+  /**
+   * Gets the order of the items by this field, and then by ascending item number.
+   *
+   * @param ascending If {@code true}, the items with the lowest values come first,
+   *                  otherwise the items with the highest values
+   * @return          The order of the items
+   */
+  Comparator<Item> order(boolean ascending) {
+    return ascending ? ascendingOrder : descendingOrder;
+  }
+}
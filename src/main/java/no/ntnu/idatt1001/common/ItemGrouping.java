@@ -0,0 +1,52 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.function.Function;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * A way of grouping the items of an {@link ItemRegister} when aggregating them, see
+ * {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)}. Every item belongs to the
+ * group of the key extracted from it.
+ *
+ * @param <K> The type of the keys of the groups
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemGrouping<K extends Comparable<? super K>> {
+
+  /**
+   * Groups the items by their {@link Category}.
+   */
+  public static final ItemGrouping<Category> BY_CATEGORY =
+          new ItemGrouping<>(Item::getCategory);
+  /**
+   * Groups the items by their {@link Color}.
+   */
+  public static final ItemGrouping<Color> BY_COLOR = new ItemGrouping<>(Item::getColor);
+  /**
+   * Groups the items by their brand name.
+   */
+  public static final ItemGrouping<String> BY_BRAND = new ItemGrouping<>(Item::getBrandName);
+
+  private final Function<Item, K> keyExtractor;
+
+  /**
+   * A constructor for the {@link ItemGrouping} class.
+   *
+   * @param keyExtractor  The function which extracts the key of the group from an item
+   */
+  private ItemGrouping(Function<Item, K> keyExtractor) {
+    this.keyExtractor = keyExtractor;
+  }
+
+  /**
+   * Gets the function which extracts the key of the group from an item.
+   *
+   * @return The key extractor of this grouping
+   */
+  Function<Item, K> keyExtractor() {
+    return keyExtractor;
+  }
+}
@@ -0,0 +1,41 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An enum representing the values of an {@link Item} which can be aggregated over the
+ * items of an {@link ItemRegister}, see
+ * {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)}.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum ItemMeasure {
+  /**
+   * The value of the stock of the item, which is the price with the discount taken
+   * into account multiplied by the warehouse stock.
+   */
+  STOCK_VALUE,
+  /**
+   * The weight of the item.
+   */
+  WEIGHT,
+  /**
+   * The volume of the item, which is the length multiplied by the height and width.
+   */
+  VOLUME;
+
+  /**
+   * Gets the value of this measure for the specified item.
+   *
+   * @param item  The {@link Item} which should be measured
+   * @return      The value of the item
+   */
+  double valueOf(Item item) {
+    return switch (this) {
+      case STOCK_VALUE -> (double) item.getPrice() * item.getWarehouseStock();
+      case WEIGHT -> item.getWeight();
+      case VOLUME -> item.getLength() * item.getHeight() * item.getWidth();
+    };
+  }
+}
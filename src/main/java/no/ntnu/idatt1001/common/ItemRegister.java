@@ -1,18 +1,35 @@
 package no.ntnu.idatt1001.common;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import no.ntnu.idatt1001.util.Category;
 import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.DuplicateItemNumberException;
 import no.ntnu.idatt1001.util.IllegalNumberException;
 import no.ntnu.idatt1001.util.item.Item;
 import no.ntnu.idatt1001.util.item.ItemBuilder;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
 
 
 /**
@@ -21,28 +38,348 @@ import no.ntnu.idatt1001.util.item.ItemBuilder;
  * {@code Item} objects. The register doesn't allow items with duplicate
  * item numbers, and item numbers are not case-sensitive.
  *
+ * <p>Next to the list, the register keeps a hash index from the normalized
+ * (trimmed and lower-cased) item number to the item in the list. Every
+ * lookup by item number goes through this index, which makes them run in
+ * constant time regardless of how many items the register contains.
+ * The descriptions of the items are kept in a {@link DescriptionIndex}, which
+ * is used for searching items by words in their description, and the items
+ * of each {@link Category} are kept in their own bucket, which makes searching
+ * and counting by category independent of the size of the register.
+ *
+ * <p>The items are also kept in a {@link SortedItemIndex} for every field the
+ * register can be sorted by. Sorting the register only chooses which of these
+ * indexes decides the order of the items, and the items in the list are never
+ * moved. The list keeps the order in which the items were added. The indexes are
+ * also used for searching items by a range of prices, stocks, weights or dimensions,
+ * which only visits the items in the range, and for finding the items ranked first
+ * by one of these fields without sorting the register.
+ *
+ * <p>The register stores its own copy of every added item, made with
+ * {@link ItemBuilder#deepCopy(Item)}, so changing an item after it has been added
+ * doesn't change the register or leave its indexes out of date. The items in the
+ * register can only be changed through the methods of the register.
+ *
+ * <p>The items in the register are never handed out directly. Every item has a
+ * read-only view, created with {@link ItemBuilder#readOnlyView(Item)} when the
+ * item is added, and the methods retrieving items return these views. A view
+ * always shows the current values of its item, and reading items does not
+ * allocate copies of them. A mutable copy can be made with
+ * {@link ItemBuilder#deepCopy(Item)}, or with {@link ItemRegister#getCopyOfList()}.
+ *
+ * <p>Read-only copies of the items are also kept in {@link PersistentTree} maps, which
+ * are replaced with new versions sharing the unchanged items when the register is
+ * changed. This makes it possible to take an {@link ItemRegisterSnapshot} of the
+ * register without copying anything, see {@link ItemRegister#snapshot()}. The cost is
+ * paid by the changes instead: every change copies the changed item, made with
+ * {@link ItemBuilder#readOnlyCopy(Item)}, and the tree nodes on the path to it. The
+ * views can't share these copies, since they show the current values of the items,
+ * so the register holds two instances of every item, the item itself and the copy in
+ * the latest tree, in addition to the copies kept alive by snapshots still in use.
+ *
+ * <p>Every change made to the register is reported to the {@link ItemRegisterListener}
+ * objects added with {@link ItemRegister#addListener(ItemRegisterListener)}, which
+ * makes it possible to for example write the changes to a log. The listeners are
+ * asked before every change, and a listener which can no longer record the changes
+ * can refuse them, leaving the register unchanged.
+ *
+ * <p>Aggregates of the items, such as the total stock value of every category, are
+ * computed by scanning the list in parallel, without copying the items, see
+ * {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)}.
+ *
+ * <p>Items can also be searched with any predicate, see
+ * {@link ItemRegister#searchByPredicate(Predicate)}. Such a search has to test every
+ * item, and can be split between several threads by turning on the parallel search
+ * mode with {@link ItemRegister#setParallelSearch(boolean)}.
+ *
+ * <p>Every item can have a stock threshold, set for the item itself or for its
+ * {@link Category}. When a change of the warehouse stock takes the stock of an item
+ * to or below its threshold, or back above it, a {@link StockAlert} is sent to the
+ * {@link StockAlertListener} objects added with
+ * {@link ItemRegister#addStockAlertListener(StockAlertListener)}. The crossing is
+ * found while the stock is changed, by looking up the threshold of the changed item,
+ * and the alerts are delivered on a background thread, so a slow listener never
+ * delays the changes made to the register.
+ *
  * @author 10124
  * @version 1.0.0
  */
 public class ItemRegister {
 
-  private final List<Item> itemList;
+  /**
+   * The least number of items a register must have before a search is split between
+   * threads in the parallel search mode, when no threshold is specified. At 50 000
+   * items, a search tests around 12 chunks of {@link ItemSearch#CHUNK_SIZE} items, and
+   * takes well over half a millisecond, so forking the chunks costs little compared to
+   * testing them, and there are enough chunks to keep several cores busy. Smaller
+   * registers are searched faster by a single thread. {@code ParallelSearchBenchmark}
+   * measures where the parallel search pays off on a given machine.
+   */
+  public static final int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 50_000;
+
+  private final ArrayList<Item> itemList;
+  private final Map<String, Item> itemNumberIndex;
+  private final DescriptionIndex<Item> descriptionIndex;
+  private final Map<Category, Set<Item>> categoryIndex;
+  private final Map<Item, Item> readOnlyViews;
+
+  private final SortedItemIndex<String> itemNumberOrder;
+  private final SortedItemIndex<String> brandNameOrder;
+  private final SortedItemIndex<Integer> priceOrder;
+  private final SortedItemIndex<Integer> warehouseStockOrder;
+  private final SortedItemIndex<String> colorOrder;
+  private final SortedItemIndex<String> categoryOrder;
+  private final SortedItemIndex<Double> weightOrder;
+  private final SortedItemIndex<Double> lengthOrder;
+  private final SortedItemIndex<Double> heightOrder;
+  private final SortedItemIndex<Double> widthOrder;
+  private final List<SortedItemIndex<?>> sortedIndexes;
+
+  private PersistentTree<Long, Item> publishedItems;
+  private PersistentTree<String, Long> publishedSequences;
+  private long nextSequence;
+  private volatile ItemRegisterSnapshot latestSnapshot;
+
+  private SortedItemIndex<?> activeOrder;
+  private boolean activeOrderAscending;
+  private List<Item> orderedItems;
+
+  private final List<ItemRegisterListener> listeners;
+
+  private final Map<Item, Integer> itemStockThresholds;
+  private final Map<Category, Integer> categoryStockThresholds;
+  private final List<StockAlertListener> stockAlertListeners;
+  private ExecutorService stockAlertExecutor;
+
+  private boolean parallelSearch;
+  private int parallelSearchThreshold;
 
   /**
    * A constructor for the {@link ItemRegister} class. Creates a new
-   * instance of an {@link ArrayList} for containing {@code Item} objects.
+   * instance of an {@link ArrayList} for containing {@code Item} objects,
+   * a {@link HashMap} for indexing the items by item number, a
+   * {@link DescriptionIndex} for indexing the items by description,
+   * an {@link EnumMap} with one bucket of items for every {@link Category},
+   * an {@link IdentityHashMap} from the items to their read-only views, empty
+   * {@link PersistentTree} maps for the snapshots of the register and a
+   * {@link SortedItemIndex} for every field the items can be sorted by.
+   * The items are ordered by when they were added until the register is sorted.
+   * The register starts without any listeners.
    */
   public ItemRegister() {
     itemList = new ArrayList<>();
+    itemNumberIndex = new HashMap<>();
+    descriptionIndex = new DescriptionIndex<>();
+    categoryIndex = new EnumMap<>(Category.class);
+    for (Category category : Category.values()) {
+      categoryIndex.put(category, new LinkedHashSet<>());
+    }
+    readOnlyViews = new IdentityHashMap<>();
+    publishedItems = PersistentTree.empty();
+    publishedSequences = PersistentTree.empty();
+    latestSnapshot = new ItemRegisterSnapshot(0, publishedItems, publishedSequences);
+
+    itemNumberOrder = new SortedItemIndex<>(Item::getItemNumber);
+    brandNameOrder = new SortedItemIndex<>(Item::getBrandName);
+    priceOrder = new SortedItemIndex<>(Item::getPrice);
+    warehouseStockOrder = new SortedItemIndex<>(Item::getWarehouseStock);
+    colorOrder = new SortedItemIndex<>(item -> item.getColor().name());
+    categoryOrder = new SortedItemIndex<>(item -> item.getCategory().name());
+    weightOrder = new SortedItemIndex<>(Item::getWeight);
+    lengthOrder = new SortedItemIndex<>(Item::getLength);
+    heightOrder = new SortedItemIndex<>(Item::getHeight);
+    widthOrder = new SortedItemIndex<>(Item::getWidth);
+    sortedIndexes = List.of(itemNumberOrder, brandNameOrder, priceOrder,
+            warehouseStockOrder, colorOrder, categoryOrder,
+            weightOrder, lengthOrder, heightOrder, widthOrder);
+    listeners = new ArrayList<>();
+    itemStockThresholds = new IdentityHashMap<>();
+    categoryStockThresholds = new EnumMap<>(Category.class);
+    stockAlertListeners = new CopyOnWriteArrayList<>();
+    parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
+  }
+
+  /**
+   * Adds the specified {@link ItemRegisterListener} to this register. The listener
+   * is notified about every change made to the register from now on, after the
+   * listeners which were added before it.
+   *
+   * @param listener                The listener which should be notified
+   * @throws NullPointerException   If the specified listener is {@code null}
+   */
+  public void addListener(ItemRegisterListener listener) {
+    if (listener == null) {
+      throw new NullPointerException("Listener specified cannot be null");
+    }
+
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes the specified {@link ItemRegisterListener} from this register, so it is
+   * no longer notified about changes.
+   *
+   * @param listener  The listener which should no longer be notified
+   * @return          {@code true} if the listener was added to this register,
+   *                  otherwise {@code false}
+   */
+  public boolean removeListener(ItemRegisterListener listener) {
+    return listeners.remove(listener);
+  }
+
+  /**
+   * Adds the specified {@link StockAlertListener} to this register. The listener
+   * is sent every {@link StockAlert} from now on, after the listeners which were added
+   * before it. The background thread delivering the alerts is started when the first
+   * listener is added, and doesn't keep the program running.
+   *
+   * @param listener                The listener which should be sent the alerts
+   * @throws NullPointerException   If the specified listener is {@code null}
+   */
+  public void addStockAlertListener(StockAlertListener listener) {
+    if (listener == null) {
+      throw new NullPointerException("Listener specified cannot be null");
+    }
+
+    if (stockAlertExecutor == null) {
+      stockAlertExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-register-stock-alerts");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    stockAlertListeners.add(listener);
+  }
+
+  /**
+   * Removes the specified {@link StockAlertListener} from this register, so it is
+   * no longer sent alerts. Alerts which are already waiting to be delivered may still
+   * be sent to the listener.
+   *
+   * @param listener  The listener which should no longer be sent alerts
+   * @return          {@code true} if the listener was added to this register,
+   *                  otherwise {@code false}
+   */
+  public boolean removeStockAlertListener(StockAlertListener listener) {
+    return stockAlertListeners.remove(listener);
+  }
+
+  /**
+   * Sets the stock threshold of the specified {@link Item}. The threshold of the
+   * item is used instead of the threshold of its category. Setting a threshold
+   * doesn't send an alert, even if the item is already low on stock.
+   *
+   * @param itemInput               The {@link Item} which the threshold should be set for
+   * @param threshold               The highest stock at which the item is low on stock.
+   *                                Cannot be below 0
+   * @throws IllegalNumberException If the specified threshold is below 0
+   * @throws NoSuchElementException If the specified item doesn't exist in this register's list
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void setStockThreshold(Item itemInput, int threshold) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (threshold < 0) {
+      throw new IllegalNumberException("Stock threshold specified cannot be below 0");
+    }
+
+    Item optionalItem = optionalItemFromIndex(itemInput)
+            .orElseThrow(NoSuchElementException::new);
+    itemStockThresholds.put(optionalItem, threshold);
+  }
+
+  /**
+   * Sets the stock threshold of every item with the specified {@link Category}, which
+   * doesn't have a threshold of its own. Setting a threshold doesn't send any alerts,
+   * even if items are already low on stock.
+   *
+   * @param category                The {@link Category} which the threshold should be
+   *                                set for
+   * @param threshold               The highest stock at which an item is low on stock.
+   *                                Cannot be below 0
+   * @throws IllegalNumberException If the specified threshold is below 0
+   * @throws NullPointerException   If the specified {@link Category} is {@code null}
+   */
+  public void setStockThreshold(Category category, int threshold) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    if (threshold < 0) {
+      throw new IllegalNumberException("Stock threshold specified cannot be below 0");
+    }
+
+    categoryStockThresholds.put(category, threshold);
+  }
+
+  /**
+   * Removes the stock threshold of the specified {@link Item}, so the threshold of
+   * its category is used instead, if it has one.
+   *
+   * @param itemInput               The {@link Item} which the threshold should be
+   *                                removed for
+   * @return                        {@code true} if the item had a threshold of its own,
+   *                                otherwise {@code false}
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public boolean removeStockThreshold(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    return optionalItemFromIndex(itemInput)
+            .map(item -> itemStockThresholds.remove(item) != null)
+            .orElse(false);
+  }
+
+  /**
+   * Removes the stock threshold of the specified {@link Category}.
+   *
+   * @param category                The {@link Category} which the threshold should be
+   *                                removed for
+   * @return                        {@code true} if the category had a threshold,
+   *                                otherwise {@code false}
+   * @throws NullPointerException   If the specified {@link Category} is {@code null}
+   */
+  public boolean removeStockThreshold(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    return categoryStockThresholds.remove(category) != null;
+  }
+
+  /**
+   * Gets the stock threshold which applies to the specified {@link Item}, which is
+   * the threshold of the item itself, or otherwise the threshold of its category.
+   *
+   * @param itemInput               The {@link Item} which the threshold should be
+   *                                returned for
+   * @return                        The stock threshold of the item, or {@code -1} if
+   *                                neither the item nor its category has a threshold
+   * @throws NoSuchElementException If the specified item doesn't exist in this register's list
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public int getStockThreshold(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    return stockThresholdOf(optionalItemFromIndex(itemInput)
+            .orElseThrow(NoSuchElementException::new));
   }
 
   /**
    * Adds the specified {@link Item} to this register's {@code itemList}. A check
-   * is performed before the item is added to the list, which checks if list
-   * already contains the specified item's item number. If the check returns
-   * true, an {@link IllegalArgumentException} is thrown, otherwise the item
-   * gets added to the list. Since this method is the only way of adding new items,
-   * this ensures that every item in the list has a unique item number.
+   * is performed before the item is added to the list, which checks if the item
+   * number index already contains the specified item's normalized item number.
+   * If the check returns true, an {@link IllegalArgumentException} is thrown,
+   * otherwise the item gets added to the list and the indexes. Since this
+   * method is the only way of adding new items, this ensures that every item
+   * in the list has a unique item number. A copy of the specified item is added,
+   * so changing the specified item afterwards doesn't change the register.
    *
    * @param item                        The {@link Item} which should be
    *                                    added to this register's list
@@ -55,25 +392,106 @@ public class ItemRegister {
       throw new NullPointerException("Item specified cannot be null");
     }
 
-    boolean itemNumberExists = itemList.stream().anyMatch(itemInList ->
-            itemInList.getItemNumber().equalsIgnoreCase(item.getItemNumber()));
+    String itemNumberKey = normalizeItemNumber(item.getItemNumber());
 
-    if (itemNumberExists) {
+    if (itemNumberIndex.containsKey(itemNumberKey)) {
       throw new IllegalArgumentException("Item number already exists in the register");
     }
 
-    itemList.add(item);
+    notifyListeners(ItemRegisterListener::beforeChange);
+    Item storedItem = ItemBuilder.deepCopy(item);
+
+    itemList.add(storedItem);
+    itemNumberIndex.put(itemNumberKey, storedItem);
+    descriptionIndex.add(storedItem, storedItem.getDescription());
+    categoryIndex.get(storedItem.getCategory()).add(storedItem);
+    sortedIndexes.forEach(sortedIndex -> sortedIndex.add(storedItem));
+    readOnlyViews.put(storedItem, ItemBuilder.readOnlyView(storedItem));
+    orderedItems = null;
+    publish(storedItem);
+    notifyListeners(listener -> listener.itemAdded(readOnlyViews.get(storedItem)));
+  }
+
+  /**
+   * Adds all the specified items to the end of this register's {@code itemList}, in
+   * the order of the collection. This is faster than calling
+   * {@link ItemRegister#addItem(Item)} for every item, and meant for loading many
+   * items at once, for example when the register is started.
+   *
+   * <p>The item numbers are checked for duplicates in a single pass before anything
+   * is added. If any item number already exists in the register, or appears more
+   * than once in the collection, none of the items are added, and every duplicate
+   * is reported in the thrown exception. Otherwise the storage is grown once, and
+   * the items are added to the indexes. If the register at least doubles in size,
+   * the maps used for snapshots are rebuilt in a single pass instead of being
+   * changed for every item. Copies of the specified items are added, like in
+   * {@link ItemRegister#addItem(Item)}.
+   *
+   * @param items                           The items which should be added
+   * @throws DuplicateItemNumberException   If any of the item numbers already exist
+   *                                        in the register, or appear more than once
+   *                                        among the specified items
+   * @throws NullPointerException           If the specified collection or any of
+   *                                        the items in it is {@code null}
+   */
+  public void addAll(Collection<Item> items) {
+    if (items == null) {
+      throw new NullPointerException("Items specified cannot be null");
+    }
+
+    Map<String, Item> newItems = new LinkedHashMap<>((int) (items.size() / 0.75f) + 1);
+    Set<String> duplicateItemNumbers = new LinkedHashSet<>();
+    for (Item item : items) {
+      if (item == null) {
+        throw new NullPointerException("Item specified cannot be null");
+      }
+
+      String itemNumberKey = normalizeItemNumber(item.getItemNumber());
+      Item storedItem = ItemBuilder.deepCopy(item);
+      if (itemNumberIndex.containsKey(itemNumberKey)
+              || newItems.putIfAbsent(itemNumberKey, storedItem) != null) {
+        duplicateItemNumbers.add(item.getItemNumber());
+      }
+    }
+
+    if (!duplicateItemNumbers.isEmpty()) {
+      throw new DuplicateItemNumberException(List.copyOf(duplicateItemNumbers));
+    }
+
+    notifyListeners(ItemRegisterListener::beforeChange);
+    boolean rebuildSnapshot = newItems.size() >= itemList.size();
+    itemList.ensureCapacity(itemList.size() + newItems.size());
+    itemNumberIndex.putAll(newItems);
+    for (Item storedItem : newItems.values()) {
+      itemList.add(storedItem);
+      descriptionIndex.add(storedItem, storedItem.getDescription());
+      categoryIndex.get(storedItem.getCategory()).add(storedItem);
+      sortedIndexes.forEach(sortedIndex -> sortedIndex.add(storedItem));
+      readOnlyViews.put(storedItem, ItemBuilder.readOnlyView(storedItem));
+      if (!rebuildSnapshot) {
+        storePublishedItem(storedItem);
+      }
+    }
+
+    if (rebuildSnapshot) {
+      rebuildPublishedItems();
+    }
+    orderedItems = null;
+    publishSnapshot();
+
+    if (!listeners.isEmpty()) {
+      List<Item> addedItems = newItems.values().stream().map(readOnlyViews::get).toList();
+      notifyListeners(listener -> listener.itemsAdded(addedItems));
+    }
   }
 
   /**
-   * Searches the {@link ItemRegister#itemList} of this instance for the
-   * specified item number. Creates a deep-copy of the item that was found,
-   * and returns the copy. Only uses one matching item if any matches were
-   * found. Utilizes the {@link ItemBuilder#deepCopy(Item)} method for
-   * deep copying the item.
+   * Searches the item number index of this instance for the
+   * specified item number, and returns the read-only view of the item that was
+   * found. The item number is trimmed and compared without regard to case.
    *
    * @param itemNumberInput             Item number which is used to find any matches
-   * @return                            Copy of an {@link Item} object if any matches
+   * @return                            A read-only view of an {@link Item} if any matches
    *                                    were found,otherwise returns {@code null}
    * @throws NullPointerException       If the specified item number is {@code null}
    */
@@ -82,25 +500,26 @@ public class ItemRegister {
       throw new NullPointerException("Item number specified cannot be null");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().toLowerCase().trim().equals(itemNumberInput.toLowerCase().trim()))
-            .orElse(null);
+    Item optionalItem = itemNumberIndex.get(normalizeItemNumber(itemNumberInput));
 
     if (optionalItem != null) {
-      return ItemBuilder.deepCopy(optionalItem);
+      return readOnlyViews.get(optionalItem);
     }
 
     return null;
   }
 
   /**
-   * Searches the {@link ItemRegister#itemList} of this instance for the
-   * specified description. Creates a list containing deep-copies of the items that were found,
-   * and returns the list. Utilizes the {@link ItemBuilder#deepCopy(Item)} method for
-   * deep copying the items.
+   * Searches the {@link DescriptionIndex} of this instance for items matching the
+   * specified description query. The query is split into words, and an item matches
+   * if its description contains every word in the query, regardless of case.
+   * A word ending with {@code *} matches every word starting with it, for example
+   * {@code "hopp*"}. Only the items indexed under the words of the query are visited.
+   * Returns a list containing the read-only views of the items that were found.
    *
-   * @param itemDescInput               Item description which is used to find any matches
-   * @return                            A list containing copies of {@link Item}
+   * @param itemDescInput               Item description query which is used to find
+   *                                    any matches
+   * @return                            A list containing read-only views of {@link Item}
    *                                    objects if any matches
    *                                    were found, otherwise returns {@code null}
    * @throws NullPointerException       If the specified description is {@code null}
@@ -111,10 +530,8 @@ public class ItemRegister {
     }
 
     List<Item> listFilteredByDescription =
-            itemList.stream()
-            .filter(item -> item.getDescription().toLowerCase().trim()
-                    .equals(itemDescInput.toLowerCase().trim()))
-            .map(ItemBuilder::deepCopy)
+            descriptionIndex.search(itemDescInput).stream()
+            .map(readOnlyViews::get)
             .toList();
 
     if (!listFilteredByDescription.isEmpty()) {
@@ -125,13 +542,12 @@ public class ItemRegister {
   }
 
   /**
-   * Searches the {@link ItemRegister#itemList} of this instance for the
-   * specified category. Creates a list containing deep-copies of the items that were found,
-   * and returns the list. Utilizes the {@link ItemBuilder#deepCopy(Item)} method for
-   * deep copying the items.
+   * Searches the category buckets of this instance for the specified category.
+   * Only the items in the bucket of the specified category are visited.
+   * Returns a list containing the read-only views of the items that were found.
    *
    * @param category                    Item {@link Category} which is used to find any matches
-   * @return                            A list containing copies of {@link Item}
+   * @return                            A list containing read-only views of {@link Item}
    *                                    objects if any matches
    *                                    were found, otherwise returns {@code null}
    * @throws NullPointerException       If the specified {@link Category} is {@code null}
@@ -142,10 +558,8 @@ public class ItemRegister {
     }
 
     List<Item> listFilteredByCategory =
-            itemList.stream()
-                    .filter(item -> item.getCategory()
-                            .equals(category))
-                    .map(ItemBuilder::deepCopy)
+            categoryIndex.get(category).stream()
+                    .map(readOnlyViews::get)
                     .toList();
 
     if (!listFilteredByCategory.isEmpty()) {
@@ -155,9 +569,388 @@ public class ItemRegister {
     return null;
   }
 
+  /**
+   * Searches this register for the items matching the specified predicate. Every item
+   * is tested, in the order the register is currently sorted by, and the predicate is
+   * given the read-only view of the item. Returns a list containing the read-only views
+   * of the items that were found, in the same order.
+   *
+   * <p>If the parallel search mode is turned on, and the register contains at least
+   * {@link ItemRegister#getParallelSearchThreshold()} items, the items are split into
+   * chunks which are searched in parallel by an {@link ItemSearch} fork-join task, in
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()} or the pool of the calling
+   * task. The predicate is then called from several threads at once, and must not
+   * depend on the order the items are tested in. The items are found in the same order
+   * as in a sequential search.
+   *
+   * @param predicate                   The predicate the items should match
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified predicate is {@code null}
+   */
+  public List<Item> searchByPredicate(Predicate<Item> predicate) {
+    if (predicate == null) {
+      throw new NullPointerException("Predicate specified cannot be null");
+    }
+
+    List<Item> items = orderedItems();
+    List<Item> listFilteredByPredicate;
+    if (parallelSearch && items.size() >= parallelSearchThreshold) {
+      listFilteredByPredicate = new ItemSearch(items, readOnlyViews, predicate).search();
+    } else {
+      listFilteredByPredicate = new ArrayList<>();
+      for (Item item : items) {
+        Item view = readOnlyViews.get(item);
+        if (predicate.test(view)) {
+          listFilteredByPredicate.add(view);
+        }
+      }
+    }
+
+    if (!listFilteredByPredicate.isEmpty()) {
+      return Collections.unmodifiableList(listFilteredByPredicate);
+    }
+
+    return null;
+  }
+
+  /**
+   * Turns the parallel search mode of
+   * {@link ItemRegister#searchByPredicate(Predicate)} on or off. The mode is off when
+   * the register is created.
+   *
+   * @param parallelSearch  If {@code true}, registers with at least
+   *                        {@link ItemRegister#getParallelSearchThreshold()} items are
+   *                        searched in parallel, otherwise every search is sequential
+   */
+  public void setParallelSearch(boolean parallelSearch) {
+    this.parallelSearch = parallelSearch;
+  }
+
+  /**
+   * Checks if the parallel search mode is turned on.
+   *
+   * @return {@code true} if large registers are searched in parallel, otherwise
+   *         {@code false}
+   */
+  public boolean isParallelSearch() {
+    return parallelSearch;
+  }
+
+  /**
+   * Sets the lowest number of items this register must contain to be searched in
+   * parallel when the parallel search mode is turned on. Smaller registers are
+   * searched sequentially, since splitting the search between threads costs more than
+   * it saves. The threshold is {@link ItemRegister#DEFAULT_PARALLEL_SEARCH_THRESHOLD}
+   * when the register is created.
+   *
+   * @param threshold                   The lowest number of items for a parallel search.
+   *                                    Cannot be 0 or below
+   * @throws IllegalNumberException     If the specified threshold is 0 or below
+   */
+  public void setParallelSearchThreshold(int threshold) {
+    if (threshold <= 0) {
+      throw new IllegalNumberException("Parallel search threshold cannot be 0 or below");
+    }
+
+    this.parallelSearchThreshold = threshold;
+  }
+
+  /**
+   * Gets the lowest number of items this register must contain to be searched in
+   * parallel when the parallel search mode is turned on.
+   *
+   * @return The parallel search threshold
+   */
+  public int getParallelSearchThreshold() {
+    return parallelSearchThreshold;
+  }
+
+  /**
+   * Searches the {@link SortedItemIndex} of the prices for items with a price,
+   * with the discount taken into account, between the specified prices, both
+   * included. Only the items in the range are visited.
+   * Returns a list containing the read-only views of the items that were found,
+   * ordered by price and then by item number.
+   *
+   * @param minPrice                    The lowest price which should be included
+   * @param maxPrice                    The highest price which should be included
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws IllegalNumberException     If the lowest price is above the highest price
+   */
+  public List<Item> searchByPriceRange(int minPrice, int maxPrice) {
+    return searchByRange(priceOrder, minPrice, maxPrice);
+  }
+
+  /**
+   * Searches the {@link SortedItemIndex} of the warehouse stocks for items with a
+   * stock between the specified amounts, both included. Only the items in the range
+   * are visited. Returns a list containing the read-only views of the items that were
+   * found, ordered by warehouse stock and then by item number.
+   *
+   * @param minStock                    The lowest stock which should be included
+   * @param maxStock                    The highest stock which should be included
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws IllegalNumberException     If the lowest stock is above the highest stock
+   */
+  public List<Item> searchByWarehouseStockRange(int minStock, int maxStock) {
+    return searchByRange(warehouseStockOrder, minStock, maxStock);
+  }
+
+  /**
+   * Searches the {@link SortedItemIndex} of the weights for items with a weight
+   * between the specified weights, both included. Only the items in the range
+   * are visited. Returns a list containing the read-only views of the items that were
+   * found, ordered by weight and then by item number.
+   *
+   * @param minWeight                   The lowest weight which should be included
+   * @param maxWeight                   The highest weight which should be included
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws IllegalNumberException     If either weight is not a number, or the lowest
+   *                                    weight is above the highest weight
+   */
+  public List<Item> searchByWeightRange(double minWeight, double maxWeight) {
+    return searchByRange(weightOrder, minWeight, maxWeight);
+  }
+
+  /**
+   * Searches the {@link SortedItemIndex} of the lengths for items with a length
+   * between the specified lengths, both included. Only the items in the range
+   * are visited. Returns a list containing the read-only views of the items that were
+   * found, ordered by length and then by item number.
+   *
+   * @param minLength                   The lowest length which should be included
+   * @param maxLength                   The highest length which should be included
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws IllegalNumberException     If either length is not a number, or the lowest
+   *                                    length is above the highest length
+   */
+  public List<Item> searchByLengthRange(double minLength, double maxLength) {
+    return searchByRange(lengthOrder, minLength, maxLength);
+  }
+
+  /**
+   * Searches the {@link SortedItemIndex} of the heights for items with a height
+   * between the specified heights, both included. Only the items in the range
+   * are visited. Returns a list containing the read-only views of the items that were
+   * found, ordered by height and then by item number.
+   *
+   * @param minHeight                   The lowest height which should be included
+   * @param maxHeight                   The highest height which should be included
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws IllegalNumberException     If either height is not a number, or the lowest
+   *                                    height is above the highest height
+   */
+  public List<Item> searchByHeightRange(double minHeight, double maxHeight) {
+    return searchByRange(heightOrder, minHeight, maxHeight);
+  }
+
+  /**
+   * Searches the {@link SortedItemIndex} of the widths for items with a width
+   * between the specified widths, both included. Only the items in the range
+   * are visited. Returns a list containing the read-only views of the items that were
+   * found, ordered by width and then by item number.
+   *
+   * @param minWidth                    The lowest width which should be included
+   * @param maxWidth                    The highest width which should be included
+   * @return                            A list containing read-only views of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws IllegalNumberException     If either width is not a number, or the lowest
+   *                                    width is above the highest width
+   */
+  public List<Item> searchByWidthRange(double minWidth, double maxWidth) {
+    return searchByRange(widthOrder, minWidth, maxWidth);
+  }
+
+  /**
+   * Gets the specified number of items ranked first by the specified field, without
+   * sorting the register. The items are walked in the {@link SortedItemIndex} of the
+   * field, and only the items which are returned are visited. The order of the
+   * register is not changed.
+   *
+   * @param field                       The {@link ItemField} which the items should be
+   *                                    ranked by
+   * @param ascending                   If {@code true}, the items with the lowest values
+   *                                    are returned, otherwise the items with the
+   *                                    highest values
+   * @param count                       The highest number of items which should be
+   *                                    returned. Cannot be below 0
+   * @return                            A list containing read-only views of the items
+   *                                    ranked first, in ranked order. Items with the same
+   *                                    value are ordered by ascending item number, also
+   *                                    when the highest values are ranked first
+   * @throws IllegalNumberException     If the specified count is below 0
+   * @throws NullPointerException       If the specified field is {@code null}
+   */
+  public List<Item> getTopItems(ItemField field, boolean ascending, int count) {
+    return getTopItems(field, ascending, null, null, count);
+  }
+
+  /**
+   * Gets the specified number of items with the specified category and color ranked
+   * first by the specified field, without sorting the register. Either filter can be
+   * left out with {@code null}.
+   *
+   * <p>Without filters, the items are walked in the {@link SortedItemIndex} of the
+   * field, and only the items which are returned are visited. With a filter, the
+   * items in the bucket of the category, or with the color if only the color is
+   * specified, are ranked with a heap holding at most {@code count} items. This takes
+   * time proportional to {@code m log count}, where {@code m} is the number of items
+   * with the category or color. The order of the register is not changed.
+   *
+   * @param field                       The {@link ItemField} which the items should be
+   *                                    ranked by
+   * @param ascending                   If {@code true}, the items with the lowest values
+   *                                    are returned, otherwise the items with the
+   *                                    highest values
+   * @param category                    The {@link Category} of the items, or {@code null}
+   *                                    to include every category
+   * @param color                       The {@link Color} of the items, or {@code null}
+   *                                    to include every color
+   * @param count                       The highest number of items which should be
+   *                                    returned. Cannot be below 0
+   * @return                            A list containing read-only views of the items
+   *                                    ranked first, in ranked order. Items with the same
+   *                                    value are ordered by ascending item number, also
+   *                                    when the highest values are ranked first
+   * @throws IllegalNumberException     If the specified count is below 0
+   * @throws NullPointerException       If the specified field is {@code null}
+   */
+  public List<Item> getTopItems(ItemField field, boolean ascending, Category category,
+                                Color color, int count) {
+    if (field == null) {
+      throw new NullPointerException("Field specified cannot be null");
+    }
+
+    if (count < 0) {
+      throw new IllegalNumberException("Number of items specified cannot be below 0");
+    }
+
+    if (category == null && color == null) {
+      return sortedIndexOf(field).rankedStream(ascending)
+              .limit(count)
+              .map(readOnlyViews::get)
+              .toList();
+    }
+
+    Stream<Item> candidates = category != null
+            ? categoryIndex.get(category).stream()
+            : colorOrder.stream(color.name(), color.name());
+    if (category != null && color != null) {
+      candidates = candidates.filter(item -> item.getColor() == color);
+    }
+
+    Comparator<Item> rankOrder = field.order(ascending);
+    PriorityQueue<Item> topItems =
+            new PriorityQueue<>(Math.min(count, itemList.size()) + 1, rankOrder.reversed());
+    candidates.forEach(item -> {
+      if (topItems.size() < count) {
+        topItems.add(item);
+      } else if (count > 0 && rankOrder.compare(item, topItems.peek()) < 0) {
+        topItems.poll();
+        topItems.add(item);
+      }
+    });
+
+    Item[] rankedItems = new Item[topItems.size()];
+    for (int i = rankedItems.length - 1; i >= 0; i--) {
+      rankedItems[i] = readOnlyViews.get(topItems.poll());
+    }
+    return List.of(rankedItems);
+  }
+
+  /**
+   * Aggregates the specified measure over every item in this register. See
+   * {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)} for how the items are
+   * scanned.
+   *
+   * @param measure                     The {@link ItemMeasure} which should be aggregated
+   * @return                            The {@link ItemAggregate} of every item. The lowest,
+   *                                    highest and average value are {@link Double#NaN}
+   *                                    if the register is empty
+   * @throws NullPointerException       If the specified measure is {@code null}
+   */
+  public ItemAggregate aggregate(ItemMeasure measure) {
+    if (measure == null) {
+      throw new NullPointerException("Measure specified cannot be null");
+    }
+
+    ItemAggregation.Accumulator total = new ItemAggregation<>(itemList, 0, itemList.size(),
+            measure, item -> Boolean.TRUE).invoke().get(Boolean.TRUE);
+    return total == null ? new ItemAggregation.Accumulator().toAggregate() : total.toAggregate();
+  }
+
+  /**
+   * Aggregates the specified measure over the items in this register, grouped by the
+   * specified grouping, for example the total stock value of every category with
+   * {@link ItemMeasure#STOCK_VALUE} and {@link ItemGrouping#BY_CATEGORY}.
+   *
+   * <p>The list of items is scanned by an {@link ItemAggregation} fork-join task, which
+   * splits the list into ranges that are aggregated in parallel by the threads of
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()}, or of the pool of the
+   * calling task. The items are read where they are, without being copied. The sums
+   * are added up in a different order than in a sequential scan, so sums of decimal
+   * numbers can differ from a sequential sum in the last digits.
+   *
+   * @param measure                     The {@link ItemMeasure} which should be aggregated
+   * @param grouping                    The {@link ItemGrouping} the items should be
+   *                                    grouped by
+   * @param <K>                         The type of the keys of the groups
+   * @return                            The {@link ItemAggregate} of every group with at
+   *                                    least one item, by the key of the group, ordered
+   *                                    by the keys. The map cannot be modified
+   * @throws NullPointerException       If the specified measure or grouping is {@code null}
+   */
+  public <K extends Comparable<? super K>> Map<K, ItemAggregate> aggregate(
+          ItemMeasure measure, ItemGrouping<K> grouping) {
+    if (measure == null) {
+      throw new NullPointerException("Measure specified cannot be null");
+    }
+
+    if (grouping == null) {
+      throw new NullPointerException("Grouping specified cannot be null");
+    }
+
+    Map<K, ItemAggregate> aggregates = new TreeMap<>();
+    new ItemAggregation<>(itemList, 0, itemList.size(), measure, grouping.keyExtractor())
+            .invoke()
+            .forEach((key, group) -> aggregates.put(key, group.toAggregate()));
+    return Collections.unmodifiableMap(aggregates);
+  }
+
+  /**
+   * Gets the number of items in this register with the specified category.
+   * The number is read from the size of the category's bucket, and does
+   * not depend on the size of the register.
+   *
+   * @param category                    Item {@link Category} which the items
+   *                                    should be counted for
+   * @return                            The number of items with the specified category
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public int countByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    return categoryIndex.get(category).size();
+  }
+
   /**
    * Increases the stock of the specified {@link Item} by the specified amount of stock,
-   * utilizing the {@link Item#setWarehouseStock(int)} method.
+   * utilizing the {@link Item#increaseWarehouseStock(int)} method.
    * This method searches the list for the specified item number and adds the specified amount
    * to the existing amount. If the item is not found in this register's list, a
    * {@link NoSuchElementException} is thrown. A negative amount is not allowed because that
@@ -181,16 +974,20 @@ public class ItemRegister {
       throw new IllegalNumberException("Stock amount specified cannot be below 0");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().equals(itemInput.getItemNumber()))
+    Item optionalItem = optionalItemFromIndex(itemInput)
             .orElseThrow(NoSuchElementException::new);
-    optionalItem.setWarehouseStock(optionalItem.getWarehouseStock() + stockIncrease);
-
+    notifyListeners(ItemRegisterListener::beforeChange);
+    int previousStock = optionalItem.getWarehouseStock();
+    updateSortedIndex(warehouseStockOrder, optionalItem, () ->
+            optionalItem.increaseWarehouseStock(stockIncrease));
+    checkStockThreshold(optionalItem, previousStock);
+    notifyListeners(listener ->
+            listener.stockChanged(readOnlyViews.get(optionalItem), stockIncrease));
   }
 
   /**
    * Decreases the stock of the specified {@link Item} by the specified amount of stock,
-   * utilizing the {@link Item#setWarehouseStock(int)} method.
+   * utilizing the {@link Item#tryDecreaseWarehouseStock(int)} method.
    * This method searches the list for the specified item number and subtracts the specified amount
    * from the existing amount. If the item is not found in this register's list, a
    * {@link NoSuchElementException} is thrown. A negative amount is not allowed because that
@@ -201,7 +998,8 @@ public class ItemRegister {
    *                                of should be changed
    * @param stockDecrease           The amount of stock that should be subtraced from the
    *                                specified item's stock. Cannot be below 0
-   * @throws IllegalNumberException If the specified amount is below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or greater
+   *                                than the item's stock
    * @throws NoSuchElementException If the specified item doesn't exist in this register's list
    * @throws NullPointerException   If the specified item is {@code null}
    */
@@ -214,10 +1012,108 @@ public class ItemRegister {
       throw new IllegalNumberException("Stock amount specified cannot be below 0");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().equals(itemInput.getItemNumber()))
+    Item optionalItem = optionalItemFromIndex(itemInput)
             .orElseThrow(NoSuchElementException::new);
-    optionalItem.setWarehouseStock(optionalItem.getWarehouseStock() - stockDecrease);
+    notifyListeners(ItemRegisterListener::beforeChange);
+    int previousStock = optionalItem.getWarehouseStock();
+    updateSortedIndex(warehouseStockOrder, optionalItem, () -> {
+      if (!optionalItem.tryDecreaseWarehouseStock(stockDecrease)) {
+        throw new IllegalNumberException("Warehouse stock cannot be set to a negative integer");
+      }
+    });
+    checkStockThreshold(optionalItem, previousStock);
+    notifyListeners(listener ->
+            listener.stockChanged(readOnlyViews.get(optionalItem), -stockDecrease));
+  }
+
+  /**
+   * Applies a batch of stock movements to the items in this register. The whole batch
+   * is validated before any stock is changed, and the batch is either applied as a
+   * whole or not at all.
+   *
+   * <p>The movements are grouped by item number, and the deltas of every item are
+   * added up, so every item is only looked up and changed once. The batch is rejected
+   * if any item number doesn't exist in the register, or if the total of the deltas
+   * for an item would take its stock below 0 or above {@link Integer#MAX_VALUE}.
+   * Only the total of each item is checked, so the order of the movements within
+   * the batch doesn't matter. An applied batch becomes visible to
+   * {@link ItemRegister#snapshot()} all at once.
+   *
+   * @param movements               The {@link StockMovement} objects which should be
+   *                                applied to this register
+   * @return                        A {@link StockMovementReport} with the result of
+   *                                every movement, in the order of the batch
+   * @throws NullPointerException   If the specified collection or any of the
+   *                                movements in it is {@code null}
+   */
+  public StockMovementReport applyStockMovements(Collection<StockMovement> movements) {
+    if (movements == null) {
+      throw new NullPointerException("Movements specified cannot be null");
+    }
+
+    Map<String, Long> totalDeltas = new LinkedHashMap<>();
+    for (StockMovement movement : movements) {
+      if (movement == null) {
+        throw new NullPointerException("Movement specified cannot be null");
+      }
+      totalDeltas.merge(normalizeItemNumber(movement.getItemNumber()),
+              (long) movement.getDelta(), Long::sum);
+    }
+
+    Map<String, StockMovementStatus> failures = new HashMap<>();
+    for (Map.Entry<String, Long> totalDelta : totalDeltas.entrySet()) {
+      Item item = itemNumberIndex.get(totalDelta.getKey());
+      if (item == null) {
+        failures.put(totalDelta.getKey(), StockMovementStatus.ITEM_NOT_FOUND);
+        continue;
+      }
+
+      long warehouseStock = item.getWarehouseStock() + totalDelta.getValue();
+      if (warehouseStock < 0) {
+        failures.put(totalDelta.getKey(), StockMovementStatus.INSUFFICIENT_STOCK);
+      } else if (warehouseStock > Integer.MAX_VALUE) {
+        failures.put(totalDelta.getKey(), StockMovementStatus.STOCK_OVERFLOW);
+      }
+    }
+
+    boolean applied = failures.isEmpty();
+    if (applied) {
+      notifyListeners(ItemRegisterListener::beforeChange);
+      Map<Item, Integer> appliedDeltas = new LinkedHashMap<>();
+      for (Map.Entry<String, Long> totalDelta : totalDeltas.entrySet()) {
+        if (totalDelta.getValue() != 0) {
+          Item item = itemNumberIndex.get(totalDelta.getKey());
+          int previousStock = item.getWarehouseStock();
+          warehouseStockOrder.remove(item);
+          item.setWarehouseStock((int) (previousStock + totalDelta.getValue()));
+          warehouseStockOrder.add(item);
+          checkStockThreshold(item, previousStock);
+          storePublishedItem(item);
+          appliedDeltas.put(readOnlyViews.get(item), totalDelta.getValue().intValue());
+        }
+      }
+
+      if (activeOrder == warehouseStockOrder) {
+        orderedItems = null;
+      }
+      publishSnapshot();
+
+      if (!appliedDeltas.isEmpty()) {
+        notifyListeners(listener -> listener.stockMovementsApplied(appliedDeltas));
+      }
+    }
+
+    List<StockMovementResult> results = new ArrayList<>(movements.size());
+    for (StockMovement movement : movements) {
+      String itemNumberKey = normalizeItemNumber(movement.getItemNumber());
+      Item item = itemNumberIndex.get(itemNumberKey);
+      StockMovementStatus status = failures.getOrDefault(itemNumberKey,
+              applied ? StockMovementStatus.APPLIED : StockMovementStatus.NOT_APPLIED);
+      results.add(new StockMovementResult(results.size(), movement, status,
+              item == null ? -1 : item.getWarehouseStock()));
+    }
+
+    return new StockMovementReport(applied, results);
   }
 
   /**
@@ -244,10 +1140,11 @@ public class ItemRegister {
       throw new IllegalNumberException("Price amount specified cannot be below 0");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().equals(itemInput.getItemNumber()))
+    Item optionalItem = optionalItemFromIndex(itemInput)
             .orElseThrow(NoSuchElementException::new);
-    optionalItem.setPrice(price);
+    notifyListeners(ItemRegisterListener::beforeChange);
+    updateSortedIndex(priceOrder, optionalItem, () -> optionalItem.setPrice(price));
+    notifyListeners(listener -> listener.priceChanged(readOnlyViews.get(optionalItem)));
   }
 
   /**
@@ -274,19 +1171,20 @@ public class ItemRegister {
       throw new IllegalNumberException("Discount amount specified cannot be below 0 or above 100");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().equals(itemInput.getItemNumber()))
+    Item optionalItem = optionalItemFromIndex(itemInput)
             .orElseThrow(NoSuchElementException::new);
-
-    optionalItem.setDiscount(discount);
+    notifyListeners(ItemRegisterListener::beforeChange);
+    updateSortedIndex(priceOrder, optionalItem, () -> optionalItem.setDiscount(discount));
+    notifyListeners(listener -> listener.discountChanged(readOnlyViews.get(optionalItem)));
   }
 
   /**
    * Changes the description of the specified {@link Item} to the specified string,
    * utilizing the {@link Item#setDescription(String)} method.
    * This method searches the list for the specified item and sets the description of the
-   * item to the specified string. If the item is not found in this register's list,
-   * a {@link NoSuchElementException} is thrown.
+   * item to the specified string. The item is re-indexed in the {@link DescriptionIndex}
+   * under the words of its new description. If the item is not found in this register's
+   * list, a {@link NoSuchElementException} is thrown.
    *
    * @param itemInput               The {@link Item} which the description
    *                                of should be changed
@@ -299,17 +1197,21 @@ public class ItemRegister {
       throw new NullPointerException("Item specified cannot be null");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().equals(itemInput.getItemNumber()))
+    Item optionalItem = optionalItemFromIndex(itemInput)
             .orElseThrow(NoSuchElementException::new);
+    notifyListeners(ItemRegisterListener::beforeChange);
+    descriptionIndex.remove(optionalItem, optionalItem.getDescription());
     optionalItem.setDescription(description);
+    descriptionIndex.add(optionalItem, optionalItem.getDescription());
+    publish(optionalItem);
+    notifyListeners(listener -> listener.descriptionChanged(readOnlyViews.get(optionalItem)));
   }
 
   /**
-   * Gets the index of the specified {@code itemNumber} in this register's list by
-   * utilizing the {@link IntStream} class. The stream
-   * uses the {@link java.util.stream.Stream#filter(Predicate)} method to find the
-   * item with the specified {@code itemNumber} and returns the index.
+   * Gets the index of the specified {@code itemNumber} in this register's list,
+   * in the order the register is currently sorted by.
+   * The item is looked up in the item number index, and its position is found
+   * with the {@link List#indexOf(Object)} method.
    *
    * @param itemInput               The {@link Item} which the index
    *                                of should be returned
@@ -323,9 +1225,8 @@ public class ItemRegister {
       throw new NullPointerException("The specified item cannot be null");
     }
 
-    return IntStream.range(0, itemList.size())
-            .filter(i -> itemInput.getItemNumber().equals(itemList.get(i).getItemNumber()))
-            .findFirst()
+    return optionalItemFromIndex(itemInput)
+            .map(orderedItems()::indexOf)
             .orElse(-1);
   }
 
@@ -345,159 +1246,120 @@ public class ItemRegister {
       throw new NullPointerException("The specified item cannot be null");
     }
 
-    Item optionalItem = optionalItemFromList(item ->
-            item.getItemNumber().equals(itemInput.getItemNumber()))
-            .orElse(null);
+    Item optionalItem = optionalItemFromIndex(itemInput).orElse(null);
 
     if (optionalItem == null) {
       return false;
     }
 
-    return itemList.remove(optionalItem);
+    notifyListeners(ItemRegisterListener::beforeChange);
+    itemNumberIndex.remove(normalizeItemNumber(optionalItem.getItemNumber()));
+    descriptionIndex.remove(optionalItem, optionalItem.getDescription());
+    categoryIndex.get(optionalItem.getCategory()).remove(optionalItem);
+    sortedIndexes.forEach(sortedIndex -> sortedIndex.remove(optionalItem));
+    itemStockThresholds.remove(optionalItem);
+    Item removedView = readOnlyViews.remove(optionalItem);
+    orderedItems = null;
+    unpublish(optionalItem);
+    boolean removed = itemList.remove(optionalItem);
+    notifyListeners(listener -> listener.itemRemoved(removedView));
+    return removed;
   }
 
   /**
-   * Sorts this register's list by item number by utilizing
-   * the {@link List#sort(Comparator)} method. The specified
-   * boolean parameter determines if the list should be sorted
-   * ascendingly. In this case the list gets sorted alphabetically
-   * with the item number
+   * Sorts this register's list by item number by utilizing the
+   * {@link SortedItemIndex} kept for the item number. The items are ordered alphabetically
+   * by the item number, and
+   * items with the same value are ordered by item number. The items are not moved in
+   * the register, the order is only used when retrieving the items by index or in
+   * bulk, until the register is sorted by something else.
    *
    * @param ascending If the specified value is {@code true}, the list
    *                  gets sorted ascendingly, otherwise the list gets
    *                  sorted descendingly
    */
   public void sortListByItemnumber(boolean ascending) {
-    itemList.sort(((o1, o2) -> {
-      if (o1.getItemNumber().equals(o2.getItemNumber())) {
-        return 0;
-      }
-      if (ascending) {
-        return (o1.getItemNumber().compareTo(o2.getItemNumber()) > 0) ? 1 : -1;
-      } else {
-        return (o1.getItemNumber().compareTo(o2.getItemNumber()) > 0) ? -1 : 1;
-      }
-    }));
+    sortBy(itemNumberOrder, ascending);
   }
 
   /**
-   * Sorts this register's list by brand name by utilizing
-   * the {@link List#sort(Comparator)} method. The specified
-   * boolean parameter determines if the list should be sorted
-   * ascendingly. In this case the list gets sorted alphabetically
-   * with the brand name.
+   * Sorts this register's list by brand name by utilizing the
+   * {@link SortedItemIndex} kept for the brand name. The items are ordered alphabetically
+   * by the brand name, and
+   * items with the same value are ordered by item number. The items are not moved in
+   * the register, the order is only used when retrieving the items by index or in
+   * bulk, until the register is sorted by something else.
    *
    * @param ascending If the specified value is {@code true}, the list
    *                  gets sorted ascendingly, otherwise the list gets
    *                  sorted descendingly
    */
   public void sortListByBrandname(boolean ascending) {
-    itemList.sort(((o1, o2) -> {
-      if (o1.getBrandName().equals(o2.getBrandName())) {
-        return 0;
-      }
-      if (ascending) {
-        return (o1.getBrandName().compareTo(o2.getBrandName()) > 0) ? 1 : -1;
-      } else {
-        return (o1.getBrandName().compareTo(o2.getBrandName()) > 0) ? -1 : 1;
-      }
-    }));
+    sortBy(brandNameOrder, ascending);
   }
 
   /**
-   * Sorts this register's list by price by utilizing
-   * the {@link List#sort(Comparator)} method. The specified
-   * boolean parameter determines if the list should be sorted
-   * ascendingly. In this case the list gets sorted by the number
-   * value of the items' price.
+   * Sorts this register's list by price by utilizing the
+   * {@link SortedItemIndex} kept for the price. The items are ordered by the number
+   * value of the items' price after discount, and
+   * items with the same value are ordered by item number. The items are not moved in
+   * the register, the order is only used when retrieving the items by index or in
+   * bulk, until the register is sorted by something else.
    *
    * @param ascending If the specified value is {@code true}, the list
    *                  gets sorted ascendingly, otherwise the list gets
    *                  sorted descendingly
    */
   public void sortListByPrice(boolean ascending) {
-    itemList.sort(((o1, o2) -> {
-      if (o1.getPrice() == o2.getPrice()) {
-        return 0;
-      }
-      if (ascending) {
-        return (o1.getPrice() > o2.getPrice()) ? 1 : -1;
-      } else {
-        return (o1.getPrice() > o2.getPrice()) ? -1 : 1;
-      }
-    }));
+    sortBy(priceOrder, ascending);
   }
 
   /**
-   * Sorts this register's list by warehouse stock by utilizing
-   * the {@link List#sort(Comparator)} method. The specified
-   * boolean parameter determines if the list should be sorted
-   * ascendingly. In this case the list gets sorted by the number
-   * value of the items' warehouse stock.
+   * Sorts this register's list by warehouse stock by utilizing the
+   * {@link SortedItemIndex} kept for the warehouse stock. The items are ordered by the number
+   * value of the items' warehouse stock, and
+   * items with the same value are ordered by item number. The items are not moved in
+   * the register, the order is only used when retrieving the items by index or in
+   * bulk, until the register is sorted by something else.
    *
    * @param ascending If the specified value is {@code true}, the list
    *                  gets sorted ascendingly, otherwise the list gets
    *                  sorted descendingly
    */
   public void sortListByWarehousestock(boolean ascending) {
-    itemList.sort(((o1, o2) -> {
-      if (o1.getWarehouseStock() == o2.getWarehouseStock()) {
-        return 0;
-      }
-      if (ascending) {
-        return (o1.getWarehouseStock() > o2.getWarehouseStock()) ? 1 : -1;
-      } else {
-        return (o1.getWarehouseStock() > o2.getWarehouseStock()) ? -1 : 1;
-      }
-    }));
+    sortBy(warehouseStockOrder, ascending);
   }
 
   /**
-   * Sorts this register's list by {@link Color} by utilizing
-   * the {@link List#sort(Comparator)} method. The specified
-   * boolean parameter determines if the list should be sorted
-   * ascendingly. In this case the list gets sorted alphabetically
-   * with the {@code Color.toString()} value.
+   * Sorts this register's list by {@link Color} by utilizing the
+   * {@link SortedItemIndex} kept for the {@link Color}. The items are ordered alphabetically
+   * by the {@code Color.name()} value, and
+   * items with the same value are ordered by item number. The items are not moved in
+   * the register, the order is only used when retrieving the items by index or in
+   * bulk, until the register is sorted by something else.
    *
    * @param ascending If the specified value is {@code true}, the list
    *                  gets sorted ascendingly, otherwise the list gets
    *                  sorted descendingly
    */
   public void sortListByColor(boolean ascending) {
-    itemList.sort(((o1, o2) -> {
-      if (o1.getColor().equals(o2.getColor())) {
-        return 0;
-      }
-      if (ascending) {
-        return (o1.getColor().name().compareTo(o2.getColor().name()) > 0) ? 1 : -1;
-      } else {
-        return (o1.getColor().name().compareTo(o2.getColor().name()) > 0) ? -1 : 1;
-      }
-    }));
+    sortBy(colorOrder, ascending);
   }
 
   /**
-   * Sorts this register's list by {@link Category} by utilizing
-   * the {@link List#sort(Comparator)} method. The specified
-   * boolean parameter determines if the list should be sorted
-   * ascendingly. In this case the list gets sorted alphabetically
-   * with the {@code Category.toString()} value.
+   * Sorts this register's list by {@link Category} by utilizing the
+   * {@link SortedItemIndex} kept for the {@link Category}. The items are ordered alphabetically
+   * by the {@code Category.name()} value, and
+   * items with the same value are ordered by item number. The items are not moved in
+   * the register, the order is only used when retrieving the items by index or in
+   * bulk, until the register is sorted by something else.
    *
    * @param ascending If the specified value is {@code true}, the list
    *                  gets sorted ascendingly, otherwise the list gets
    *                  sorted descendingly
    */
   public void sortListByCategory(boolean ascending) {
-    itemList.sort(((o1, o2) -> {
-      if (o1.getCategory().equals(o2.getCategory())) {
-        return 0;
-      }
-      if (ascending) {
-        return (o1.getCategory().name().compareTo(o2.getCategory().name()) > 0) ? 1 : -1;
-      } else {
-        return (o1.getCategory().name().compareTo(o2.getCategory().name()) > 0) ? -1 : 1;
-      }
-    }));
+    sortBy(categoryOrder, ascending);
   }
 
   /**
@@ -511,23 +1373,337 @@ public class ItemRegister {
    *         in this register's item list
    */
   public List<Item> getCopyOfList() {
-    return itemList.stream().map(ItemBuilder::deepCopy).toList();
+    return orderedItems().stream().map(ItemBuilder::deepCopy).toList();
+  }
+
+  /**
+   * Gets the read-only views of the items in this register, in the order the
+   * register is currently sorted by. Unlike {@link ItemRegister#getCopyOfList()},
+   * the items are not copied.
+   *
+   * @return An unmodifiable {@link List} containing the read-only views of all the
+   *         items in this register
+   */
+  public List<Item> getItems() {
+    return orderedItems().stream().map(readOnlyViews::get).toList();
+  }
+
+  /**
+   * Gets the read-only views of the items from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, in the order the register is currently sorted by.
+   * Only the items in the range are visited when the register hasn't been sorted, or
+   * when the sorted order has already been listed since the last change. Otherwise,
+   * the sorted index is only walked until the end of the range.
+   *
+   * @param fromIndex                   The index of the first item
+   * @param toIndex                     The index after the last item
+   * @return                            An unmodifiable {@link List} containing the
+   *                                    read-only views of the items in the range
+   * @throws IndexOutOfBoundsException  If {@code fromIndex} is below 0, {@code toIndex}
+   *                                    is greater than the size of this register, or
+   *                                    {@code fromIndex} is greater than {@code toIndex}
+   */
+  public List<Item> getItems(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("Specified range is out of bounds");
+    }
+
+    List<Item> itemsInRange = activeOrder == null || orderedItems != null
+            ? orderedItems().subList(fromIndex, toIndex)
+            : activeOrder.stream(activeOrderAscending)
+                    .skip(fromIndex)
+                    .limit(toIndex - fromIndex)
+                    .toList();
+    return itemsInRange.stream().map(readOnlyViews::get).toList();
   }
 
   /**
    * Extracted method for retrieving an {@link Optional} object of
-   * an {@link Item} object. Utilizes the {@link java.util.stream.Stream} class
-   * for creating a stream out of this register's list, and using the
-   * {@link java.util.stream.Stream#filter(Predicate)} method for filtering
-   * the stream with the specified predicate. Retrieves the first object in the stream
+   * the {@link Item} in this register with the same item number as
+   * the specified item. The item is looked up in the item number index
+   * by its normalized item number.
    *
-   * @param predicate The predicate for filtering the stream
+   * @param itemInput The item which has the item number that should be looked up
    * @return          An {@link Optional} object of the {@link Item} class.
    */
-  private Optional<Item> optionalItemFromList(Predicate<Item> predicate) {
-    return itemList.stream()
-            .filter(predicate)
-            .findFirst();
+  private Optional<Item> optionalItemFromIndex(Item itemInput) {
+    return Optional.ofNullable(itemNumberIndex.get(normalizeItemNumber(itemInput.getItemNumber())));
+  }
+
+  /**
+   * Chooses the specified {@link SortedItemIndex} for ordering the items in this
+   * register. The ordered items are collected again the next time they are needed.
+   *
+   * @param sortedIndex The index which should decide the order of the items
+   * @param ascending   If {@code true}, the items are ordered ascendingly,
+   *                    otherwise descendingly
+   */
+  private void sortBy(SortedItemIndex<?> sortedIndex, boolean ascending) {
+    activeOrder = sortedIndex;
+    activeOrderAscending = ascending;
+    orderedItems = null;
+  }
+
+  /**
+   * Gets the items of this register in the order the register is currently
+   * sorted by. If the register hasn't been sorted, the list of items is returned
+   * as it is. Otherwise the items are collected by walking the active
+   * {@link SortedItemIndex}, and kept until the register is changed.
+   *
+   * @return  The items in this register in the current order. The list must not be
+   *          modified
+   */
+  private List<Item> orderedItems() {
+    if (activeOrder == null) {
+      return itemList;
+    }
+
+    if (orderedItems == null) {
+      orderedItems = activeOrder.stream(activeOrderAscending).toList();
+    }
+    return orderedItems;
+  }
+
+  /**
+   * Collects the read-only views of the items in the specified {@link SortedItemIndex}
+   * with keys between the specified keys, both included.
+   *
+   * @param sortedIndex             The index which should be searched
+   * @param minKey                  The lowest key which should be included
+   * @param maxKey                  The highest key which should be included
+   * @param <K>                     The type of the keys of the index
+   * @return                        A list containing read-only views of the items in
+   *                                the range, otherwise {@code null} if there are none
+   * @throws IllegalNumberException If either key is not a number, or the lowest key
+   *                                is above the highest key
+   */
+  private <K extends Comparable<? super K>> List<Item> searchByRange(
+          SortedItemIndex<K> sortedIndex, K minKey, K maxKey) {
+    if (minKey instanceof Double minDouble && minDouble.isNaN()
+            || maxKey instanceof Double maxDouble && maxDouble.isNaN()) {
+      throw new IllegalNumberException("Range specified cannot contain NaN");
+    }
+
+    if (minKey.compareTo(maxKey) > 0) {
+      throw new IllegalNumberException("Lowest value specified cannot be above highest value");
+    }
+
+    List<Item> itemsInRange = sortedIndex.stream(minKey, maxKey)
+            .map(readOnlyViews::get)
+            .toList();
+
+    if (!itemsInRange.isEmpty()) {
+      return itemsInRange;
+    }
+
+    return null;
+  }
+
+  /**
+   * Gets the {@link SortedItemIndex} which is sorted by the specified field.
+   *
+   * @param field The field the index should be sorted by
+   * @return      The index sorted by the field
+   */
+  private SortedItemIndex<?> sortedIndexOf(ItemField field) {
+    return switch (field) {
+      case PRICE -> priceOrder;
+      case WAREHOUSE_STOCK -> warehouseStockOrder;
+      case WEIGHT -> weightOrder;
+      case LENGTH -> lengthOrder;
+      case HEIGHT -> heightOrder;
+      case WIDTH -> widthOrder;
+    };
+  }
+
+  /**
+   * Changes a field of the specified item which the specified {@link SortedItemIndex}
+   * is sorted by. The item is removed from the index before the change and added back
+   * afterwards, also if the change fails.
+   *
+   * @param sortedIndex The index which is sorted by the changed field
+   * @param item        The {@link Item} which should be changed
+   * @param change      The change which should be made to the item
+   */
+  private void updateSortedIndex(SortedItemIndex<?> sortedIndex, Item item, Runnable change) {
+    sortedIndex.remove(item);
+    try {
+      change.run();
+    } finally {
+      sortedIndex.add(item);
+    }
+
+    if (activeOrder == sortedIndex) {
+      orderedItems = null;
+    }
+    publish(item);
+  }
+
+  /**
+   * Gets the stock threshold which applies to the specified item in this register.
+   *
+   * @param item  The {@link Item} in this register
+   * @return      The threshold of the item or its category, or {@code -1} if there is none
+   */
+  private int stockThresholdOf(Item item) {
+    Integer threshold = itemStockThresholds.get(item);
+    if (threshold == null) {
+      threshold = categoryStockThresholds.get(item.getCategory());
+    }
+    return threshold == null ? -1 : threshold;
+  }
+
+  /**
+   * Checks if a change of the stock of the specified item crossed the threshold of
+   * the item, and if so, hands a {@link StockAlert} to the background thread which
+   * delivers it to every {@link StockAlertListener}. Nothing is looked up if there
+   * are no listeners.
+   *
+   * @param item          The {@link Item} whose stock was changed
+   * @param previousStock The warehouse stock of the item before the change
+   */
+  private void checkStockThreshold(Item item, int previousStock) {
+    if (stockAlertListeners.isEmpty()) {
+      return;
+    }
+
+    int threshold = stockThresholdOf(item);
+    int warehouseStock = item.getWarehouseStock();
+    if (threshold < 0 || (previousStock <= threshold) == (warehouseStock <= threshold)) {
+      return;
+    }
+
+    StockAlert alert = new StockAlert(readOnlyViews.get(item), threshold,
+            previousStock, warehouseStock);
+    stockAlertExecutor.execute(() -> {
+      for (StockAlertListener listener : stockAlertListeners) {
+        try {
+          listener.stockAlert(alert);
+        } catch (RuntimeException e) {
+          Thread thread = Thread.currentThread();
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+      }
+    });
+  }
+
+  /**
+   * Notifies every {@link ItemRegisterListener} of this register, in the order they
+   * were added.
+   *
+   * @param notification  The method which should be called on every listener
+   */
+  private void notifyListeners(Consumer<ItemRegisterListener> notification) {
+    for (ItemRegisterListener listener : listeners) {
+      notification.accept(listener);
+    }
+  }
+
+  /**
+   * Takes an immutable snapshot of this register. The snapshot contains read-only
+   * copies of the items in the register, in the order they were added, and is not
+   * affected by later changes to the register. Taking a snapshot doesn't copy any
+   * items, and can be done from any thread, also while the register is being changed.
+   *
+   * @return An {@link ItemRegisterSnapshot} of the current items in this register
+   */
+  public ItemRegisterSnapshot snapshot() {
+    return latestSnapshot;
+  }
+
+  /**
+   * Stores a read-only copy of the current values of the specified item in the
+   * {@link PersistentTree} maps, and publishes the new version of the maps as the
+   * latest snapshot. An item which hasn't been published before is given the next
+   * sequence number, which places it after the other items.
+   *
+   * @param item  The {@link Item} in this register which has been added or changed
+   */
+  private void publish(Item item) {
+    storePublishedItem(item);
+    publishSnapshot();
+  }
+
+  /**
+   * Stores a read-only copy of the current values of the specified item in the
+   * {@link PersistentTree} maps, without publishing a new snapshot. An item which
+   * hasn't been stored before is given the next sequence number.
+   *
+   * @param item  The {@link Item} in this register which has been added or changed
+   */
+  private void storePublishedItem(Item item) {
+    String itemNumberKey = normalizeItemNumber(item.getItemNumber());
+    Long sequence = publishedSequences.get(itemNumberKey);
+    if (sequence == null) {
+      sequence = nextSequence++;
+      publishedSequences = publishedSequences.put(itemNumberKey, sequence);
+    }
+    publishedItems = publishedItems.put(sequence, ItemBuilder.readOnlyCopy(item));
+  }
+
+  /**
+   * Removes the specified item from the {@link PersistentTree} maps, and publishes
+   * the new version of the maps as the latest snapshot.
+   *
+   * @param item  The {@link Item} which has been removed from this register
+   */
+  private void unpublish(Item item) {
+    String itemNumberKey = normalizeItemNumber(item.getItemNumber());
+    Long sequence = publishedSequences.get(itemNumberKey);
+    if (sequence != null) {
+      publishedSequences = publishedSequences.remove(itemNumberKey);
+      publishedItems = publishedItems.remove(sequence);
+      publishSnapshot();
+    }
+  }
+
+  /**
+   * Rebuilds the {@link PersistentTree} maps from the items in this register in a
+   * single pass, without publishing a new snapshot. The items are given new sequence
+   * numbers in the order they were added. Snapshots which have already been taken
+   * keep their own maps, and are not affected.
+   */
+  private void rebuildPublishedItems() {
+    List<Long> sequences = new ArrayList<>(itemList.size());
+    List<Item> copies = new ArrayList<>(itemList.size());
+    List<String> itemNumberKeys = new ArrayList<>(itemList.size());
+    for (Item item : itemList) {
+      sequences.add((long) sequences.size());
+      copies.add(ItemBuilder.readOnlyCopy(item));
+      itemNumberKeys.add(normalizeItemNumber(item.getItemNumber()));
+    }
+
+    List<Long> sequencesByItemNumber = new ArrayList<>(sequences);
+    sequencesByItemNumber.sort(Comparator.comparing(
+            sequence -> itemNumberKeys.get(sequence.intValue())));
+    List<String> sortedItemNumberKeys = sequencesByItemNumber.stream()
+            .map(sequence -> itemNumberKeys.get(sequence.intValue()))
+            .toList();
+
+    publishedItems = PersistentTree.fromSorted(sequences, copies);
+    publishedSequences = PersistentTree.fromSorted(sortedItemNumberKeys, sequencesByItemNumber);
+    nextSequence = sequences.size();
+  }
+
+  /**
+   * Publishes the current version of the {@link PersistentTree} maps as the latest
+   * snapshot, with a version one higher than the previous snapshot.
+   */
+  private void publishSnapshot() {
+    latestSnapshot = new ItemRegisterSnapshot(latestSnapshot.getVersion() + 1,
+            publishedItems, publishedSequences);
+  }
+
+  /**
+   * Normalizes the specified item number for usage as a key in the
+   * item number index. The item number is trimmed and lower-cased, which
+   * makes lookups in the index case-insensitive.
+   *
+   * @param itemNumber  The item number which should be normalized
+   * @return            The normalized item number
+   */
+  static String normalizeItemNumber(String itemNumber) {
+    return itemNumber.trim().toLowerCase();
   }
 
 
@@ -609,15 +1785,13 @@ public class ItemRegister {
   }
 
   /**
-   * Gets a deep-copy of the {@link Item} object in the
+   * Gets the read-only view of the {@link Item} object in the
    * specified {@code index} location in this register's list.
-   * Utilizes the {@link ItemBuilder#deepCopy(Item)} method for
-   * deep copying the item.
    *
-   * @param index                       The {@code index} of the item which should be deep-copied
-   *                                    and retrieved. Cannot be below 0 or greater
+   * @param index                       The {@code index} of the item which should be
+   *                                    retrieved. Cannot be below 0 or greater
    *                                    than {@link ItemRegister#size()} - 1
-   * @return                            A deep-copy of the {@link Item} in the
+   * @return                            A read-only view of the {@link Item} in the
    *                                    specified {@code index} location
    * @throws IndexOutOfBoundsException  If the specified index is below 0 or greater than
    *                                    this register's list
@@ -627,7 +1801,7 @@ public class ItemRegister {
       throw new IndexOutOfBoundsException("Specified index is out of bounds");
     }
 
-    return ItemBuilder.deepCopy(itemList.get(index));
+    return readOnlyViews.get(orderedItems().get(index));
   }
 
   /**
@@ -642,18 +1816,39 @@ public class ItemRegister {
 
   /**
    * A standard to-string method with all the relevant information from this
-   * item register in a specific format. Displays all the items in {@code itemList}.
+   * item register in a specific format. Displays all the items in {@code itemList},
+   * in the order the register is currently sorted by.
    *
    * @return A string formatted with all the relevant information about this item register
    */
   @Override
   public String toString() {
-    StringBuilder returnString = new StringBuilder(String.format(
+    StringBuilder returnString = new StringBuilder(tableHeader());
+
+    ItemRowFormatter rowFormatter = new ItemRowFormatter();
+    returnString.append("\u001B[33m");
+    for (Item item : orderedItems()) {
+      rowFormatter.appendTo(returnString, item).append("\n");
+    }
+    returnString.append("\u001B[0m");
+
+    return returnString.toString();
+  }
+
+  /**
+   * Creates the header of the item table used when displaying the items of a
+   * register. The header contains the column names and a separator line, and
+   * matches the columns of {@link Item#toString()}.
+   *
+   * @return A string containing the header of the item table
+   */
+  public static String tableHeader() {
+    StringBuilder header = new StringBuilder(String.format(
             "| %-15s | %-22s | %-17s | %-6s | %-12s | %-11s | %-11s | %-11s | %-8s | %-18s | %s\n",
             "ITEM NUMBER", "BRAND NAME", "PRICE (DISCOUNT)", "STOCK", "WEIGHT(kg)",
             "LENGTH(m)", "HEIGHT(m)", "WIDTH(m)", "COLOR", "CATEGORY", "DESCRIPTION"));
 
-    returnString.append("+ ").append("-".repeat(15)).append(" + ")
+    header.append("+ ").append("-".repeat(15)).append(" + ")
             .append("-".repeat(22)).append(" + ")
             .append("-".repeat(17)).append(" + ").append("-".repeat(6)).append(" + ")
             .append("-".repeat(12)).append(" + ").append("-".repeat(11)).append(" + ")
@@ -661,13 +1856,7 @@ public class ItemRegister {
             .append("-".repeat(8)).append(" + ").append("-".repeat(18)).append(" + ")
             .append("-".repeat(64)).append("\n");
 
-    returnString.append("\u001B[33m");
-    for (Item item : itemList) {
-      returnString.append(item.toString()).append("\n");
-    }
-    returnString.append("\u001B[0m");
-
-    return returnString.toString();
+    return header.toString();
   }
 
 
@@ -0,0 +1,107 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.List;
+import java.util.Map;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * A listener which is notified about every change made to an {@link ItemRegister}.
+ * Listeners are added with {@link ItemRegister#addListener(ItemRegisterListener)},
+ * and are notified in the order they were added, after the change has been made and
+ * before the method making the change returns. Changes which fail are not reported.
+ * Before a change is made, {@link ItemRegisterListener#beforeChange()} is called on
+ * every listener, and a listener can refuse the change by throwing an exception.
+ *
+ * <p>The items passed to the listener are the read-only views of the items in the
+ * register, which show the values of the items after the change. Every method does
+ * nothing by default, so a listener only has to implement the changes it needs.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public interface ItemRegisterListener {
+
+  /**
+   * Called before a change is made to the register, once the arguments of the change
+   * have been checked. If this method throws an exception, the change is not made,
+   * the following listeners are not called, and the exception is thrown to the caller
+   * of the method making the change. Does nothing by default.
+   */
+  default void beforeChange() {
+  }
+
+  /**
+   * Called when an item has been added to the register.
+   *
+   * @param item  The read-only view of the added {@link Item}
+   */
+  default void itemAdded(Item item) {
+  }
+
+  /**
+   * Called when several items have been added to the register at once with
+   * {@link ItemRegister#addAll(java.util.Collection)}. Calls
+   * {@link ItemRegisterListener#itemAdded(Item)} for every item by default.
+   *
+   * @param items The read-only views of the added items, in the order they were added
+   */
+  default void itemsAdded(List<Item> items) {
+    items.forEach(this::itemAdded);
+  }
+
+  /**
+   * Called when an item has been removed from the register.
+   *
+   * @param item  The read-only view of the removed {@link Item}
+   */
+  default void itemRemoved(Item item) {
+  }
+
+  /**
+   * Called when the warehouse stock of an item has been increased or decreased.
+   *
+   * @param item  The read-only view of the changed {@link Item}
+   * @param delta The amount the stock was changed by, which is negative if the
+   *              stock was decreased
+   */
+  default void stockChanged(Item item, int delta) {
+  }
+
+  /**
+   * Called when a batch of stock movements has been applied with
+   * {@link ItemRegister#applyStockMovements(java.util.Collection)}. Only the total
+   * change of every item is reported, and items with a total change of 0 are left
+   * out. Calls {@link ItemRegisterListener#stockChanged(Item, int)} for every item
+   * by default.
+   *
+   * @param deltas  The total change of the stock of every changed item, by the
+   *                read-only view of the item, in the order of the batch
+   */
+  default void stockMovementsApplied(Map<Item, Integer> deltas) {
+    deltas.forEach(this::stockChanged);
+  }
+
+  /**
+   * Called when the price of an item has been changed.
+   *
+   * @param item  The read-only view of the changed {@link Item}
+   */
+  default void priceChanged(Item item) {
+  }
+
+  /**
+   * Called when the discount of an item has been changed.
+   *
+   * @param item  The read-only view of the changed {@link Item}
+   */
+  default void discountChanged(Item item) {
+  }
+
+  /**
+   * Called when the description of an item has been changed.
+   *
+   * @param item  The read-only view of the changed {@link Item}
+   */
+  default void descriptionChanged(Item item) {
+  }
+}
@@ -0,0 +1,166 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+
+/**
+ * An immutable snapshot of an {@link ItemRegister} at a point in time. The snapshot
+ * contains read-only copies of the items in the register, in the order the items were
+ * added, and does not change when the register is changed afterwards.
+ *
+ * <p>Snapshots are taken with the {@link ItemRegister#snapshot()} method. The register
+ * keeps its items in {@link PersistentTree} maps next to its other indexes, and a
+ * snapshot only holds on to the current version of these maps. Taking a snapshot
+ * therefore doesn't copy anything, and snapshots share every unchanged item with the
+ * register and with each other.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemRegisterSnapshot {
+
+  private final long version;
+  private final PersistentTree<Long, Item> itemsBySequence;
+  private final PersistentTree<String, Long> sequenceByItemNumber;
+
+  /**
+   * A constructor for the {@link ItemRegisterSnapshot} class. Creates a snapshot
+   * of the specified version of a register's items.
+   *
+   * @param version               The version of the register the snapshot was taken of
+   * @param itemsBySequence       The read-only copies of the items, by the sequence
+   *                              number they were given when they were added
+   * @param sequenceByItemNumber  The sequence numbers of the items, by their
+   *                              normalized item number
+   */
+  ItemRegisterSnapshot(long version, PersistentTree<Long, Item> itemsBySequence,
+                       PersistentTree<String, Long> sequenceByItemNumber) {
+    this.version = version;
+    this.itemsBySequence = itemsBySequence;
+    this.sequenceByItemNumber = sequenceByItemNumber;
+  }
+
+  /**
+   * Gets the version of the register this snapshot was taken of. The version of a
+   * register is increased by every change, so a snapshot with a higher version
+   * contains later changes.
+   *
+   * @return The version of this snapshot
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Searches this snapshot for the specified item number. The item number is
+   * trimmed and compared without regard to case.
+   *
+   * @param itemNumberInput             Item number which is used to find any matches
+   * @return                            A read-only copy of an {@link Item} if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified item number is {@code null}
+   */
+  public Item searchByItemNumber(String itemNumberInput) {
+    if (itemNumberInput == null) {
+      throw new NullPointerException("Item number specified cannot be null");
+    }
+
+    Long sequence = sequenceByItemNumber.get(ItemRegister.normalizeItemNumber(itemNumberInput));
+    return sequence == null ? null : itemsBySequence.get(sequence);
+  }
+
+  /**
+   * Searches this snapshot for items with the specified category by going through
+   * all the items.
+   *
+   * @param category                    Item {@link Category} which is used to find any matches
+   * @return                            A list containing read-only copies of {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public List<Item> searchByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    List<Item> listFilteredByCategory = stream()
+            .filter(item -> item.getCategory() == category)
+            .toList();
+
+    if (!listFilteredByCategory.isEmpty()) {
+      return listFilteredByCategory;
+    }
+
+    return null;
+  }
+
+  /**
+   * Gets the read-only copy of the {@link Item} in the specified {@code index}
+   * location in this snapshot.
+   *
+   * @param index                       The {@code index} of the item which should be
+   *                                    retrieved. Cannot be below 0 or greater
+   *                                    than {@link ItemRegisterSnapshot#size()} - 1
+   * @return                            A read-only copy of the {@link Item} in the
+   *                                    specified {@code index} location
+   * @throws IndexOutOfBoundsException  If the specified index is below 0 or greater than
+   *                                    the size of this snapshot
+   */
+  public Item getItem(int index) {
+    return itemsBySequence.getAt(index);
+  }
+
+  /**
+   * Gets the read-only copies of all the items in this snapshot, in the order the
+   * items were added to the register.
+   *
+   * @return An unmodifiable {@link List} containing all the items in this snapshot
+   */
+  public List<Item> getItems() {
+    return stream().toList();
+  }
+
+  /**
+   * Creates a sequential stream of the items in this snapshot, in the order the
+   * items were added to the register.
+   *
+   * @return A {@link Stream} of the read-only copies of the items in this snapshot
+   */
+  public Stream<Item> stream() {
+    return StreamSupport.stream(itemsBySequence.spliterator(), false);
+  }
+
+  /**
+   * Gets the number of items in this snapshot.
+   *
+   * @return The size of this snapshot
+   */
+  public int size() {
+    return itemsBySequence.size();
+  }
+
+  /**
+   * A standard to-string method with all the items in this snapshot, in the same
+   * format as {@link ItemRegister#toString()}.
+   *
+   * @return A string formatted with all the relevant information about this snapshot
+   */
+  @Override
+  public String toString() {
+    StringBuilder returnString = new StringBuilder(ItemRegister.tableHeader());
+
+    ItemRowFormatter rowFormatter = new ItemRowFormatter();
+    returnString.append("\u001B[33m");
+    for (Item item : itemsBySequence) {
+      rowFormatter.appendTo(returnString, item).append("\n");
+    }
+    returnString.append("\u001B[0m");
+
+    return returnString.toString();
+  }
+}
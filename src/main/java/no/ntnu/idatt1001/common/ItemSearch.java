@@ -0,0 +1,136 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * A fork-join task searching a list of items for the items matching a predicate. The
+ * list is split into chunks of {@link ItemSearch#CHUNK_SIZE} items, and the ranges of
+ * chunks are split in two halves until a single chunk is left, which is searched by one
+ * thread. The matches of every chunk are kept apart and joined in the order of the
+ * chunks at the end, so the items are found in the same order as in a sequential search.
+ *
+ * <p>The items are read where they are, so the list must not be changed while the task
+ * is running. The predicate is given the read-only views of the items, and is called
+ * from several threads at once. Like every fork-join task, the task is serializable,
+ * but it is never serialized, so the fields referring to the items, the views, the
+ * predicate and the matches are transient.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+class ItemSearch extends RecursiveAction {
+
+  static final int CHUNK_SIZE = 1 << 12;
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient List<Item> items;
+  private final transient Map<Item, Item> readOnlyViews;
+  private final transient Predicate<Item> predicate;
+  private final transient List<List<Item>> chunkMatches;
+  private final int fromChunk;
+  private final int toChunk;
+
+  /**
+   * A constructor for the {@link ItemSearch} class, creating the task searching the
+   * whole list.
+   *
+   * @param items         The list of items
+   * @param readOnlyViews The read-only views of the items, by the items
+   * @param predicate     The predicate the read-only views should match
+   */
+  ItemSearch(List<Item> items, Map<Item, Item> readOnlyViews, Predicate<Item> predicate) {
+    this(items, readOnlyViews, predicate,
+            new ArrayList<>(Collections.nCopies(chunkCount(items), null)), 0,
+            chunkCount(items));
+  }
+
+  /**
+   * A constructor for the {@link ItemSearch} class, creating the task searching a range
+   * of chunks.
+   *
+   * @param items         The list of items
+   * @param readOnlyViews The read-only views of the items, by the items
+   * @param predicate     The predicate the read-only views should match
+   * @param chunkMatches  The matches of every chunk, filled in by the tasks at the
+   *                      index of their chunk
+   * @param fromChunk     The first chunk which should be searched
+   * @param toChunk       The chunk after the last chunk which should be searched
+   */
+  private ItemSearch(List<Item> items, Map<Item, Item> readOnlyViews,
+                     Predicate<Item> predicate, List<List<Item>> chunkMatches,
+                     int fromChunk, int toChunk) {
+    this.items = items;
+    this.readOnlyViews = readOnlyViews;
+    this.predicate = predicate;
+    this.chunkMatches = chunkMatches;
+    this.fromChunk = fromChunk;
+    this.toChunk = toChunk;
+  }
+
+  /**
+   * Gets the number of chunks the specified list is split into.
+   *
+   * @param items The list of items
+   * @return      The number of chunks
+   */
+  private static int chunkCount(List<Item> items) {
+    return (items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+  }
+
+  /**
+   * Runs the search in the current fork-join pool, and joins the matches of the chunks.
+   *
+   * @return The read-only views of the matching items, in the order of the list
+   */
+  List<Item> search() {
+    invoke();
+
+    int matchCount = 0;
+    for (List<Item> matches : chunkMatches) {
+      matchCount += matches.size();
+    }
+
+    List<Item> allMatches = new ArrayList<>(matchCount);
+    for (List<Item> matches : chunkMatches) {
+      allMatches.addAll(matches);
+    }
+    return allMatches;
+  }
+
+  /**
+   * Searches the range of chunks, splitting it if it contains more than one chunk.
+   */
+  @Override
+  protected void compute() {
+    if (fromChunk == toChunk) {
+      return;
+    }
+
+    if (toChunk - fromChunk > 1) {
+      int middleChunk = (fromChunk + toChunk) >>> 1;
+      invokeAll(
+              new ItemSearch(items, readOnlyViews, predicate, chunkMatches,
+                      fromChunk, middleChunk),
+              new ItemSearch(items, readOnlyViews, predicate, chunkMatches,
+                      middleChunk, toChunk));
+      return;
+    }
+
+    List<Item> matches = new ArrayList<>();
+    int toIndex = Math.min(items.size(), (fromChunk + 1) * CHUNK_SIZE);
+    for (int i = fromChunk * CHUNK_SIZE; i < toIndex; i++) {
+      Item view = readOnlyViews.get(items.get(i));
+      if (predicate.test(view)) {
+        matches.add(view);
+      }
+    }
+    chunkMatches.set(fromChunk, matches);
+  }
+}
@@ -0,0 +1,588 @@
+package no.ntnu.idatt1001.common;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.DuplicateItemNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+
+/**
+ * A read-only register for items which reads the items from a memory-mapped file.
+ * The file is written with {@link MappedItemRegister#write(Path, Collection)}, and
+ * opened with {@link MappedItemRegister#open(Path)}, which only maps the file and
+ * checks its header. Nothing is read or deserialized when the register is opened,
+ * so opening a large catalog is almost instant, and the operating system only reads
+ * the pages of the file which are used. The pages stay in the page cache after the
+ * program has exited, and are shared with every other process mapping the file.
+ *
+ * <p>The file has a fixed layout. It starts with a header containing the number of
+ * items, the location of the other sections, the number of items in every
+ * {@link Category} and a CRC-32C checksum of the header. The header is followed by
+ * a fixed-width record for every item, in the order the items were written, with the
+ * same fields as the records of {@link OffHeapItemRegister}. The records are followed
+ * by a hash table from the item numbers to the records, which uses linear probing,
+ * and the UTF-8 bytes of the strings of every item.
+ *
+ * <p>{@link Item} objects are only created for the items a method returns. The file
+ * is mapped in chunks of 1 GB, so the size of the file is not limited to 2 GB. The
+ * file is unmapped when the register is garbage collected.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class MappedItemRegister {
+
+  static final int MAGIC = 0x574D5352;
+  static final int FORMAT_VERSION = 1;
+  static final int DEFAULT_CHUNK_SHIFT = 30;
+
+  private static final Color[] COLORS = Color.values();
+  private static final Category[] CATEGORIES = Category.values();
+
+  private static final int ITEM_COUNT = 8;
+  private static final int SLOT_COUNT = 12;
+  private static final int RECORDS_OFFSET = 16;
+  private static final int SLOTS_OFFSET = 24;
+  private static final int STRINGS_OFFSET = 32;
+  private static final int FILE_LENGTH = 40;
+  private static final int CATEGORY_COUNTS = 48;
+  private static final int MAX_CATEGORIES = 16;
+  private static final int HEADER_CHECKSUM = CATEGORY_COUNTS + MAX_CATEGORIES * 4;
+  private static final int HEADER_SIZE = HEADER_CHECKSUM + 8;
+
+  private static final int PRICE = 0;
+  private static final int WAREHOUSE_STOCK = 4;
+  private static final int DISCOUNT = 8;
+  private static final int WEIGHT = 16;
+  private static final int LENGTH = 24;
+  private static final int HEIGHT = 32;
+  private static final int WIDTH = 40;
+  private static final int COLOR = 48;
+  private static final int CATEGORY = 49;
+  private static final int KEY_HASH = 52;
+  private static final int STRINGS = 56;
+  private static final int ITEM_NUMBER_LENGTH = 64;
+  private static final int BRAND_NAME_LENGTH = 68;
+  private static final int DESCRIPTION_LENGTH = 72;
+  private static final int RECORD_SIZE = 80;
+
+  private static final int EMPTY_SLOT = 0;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final ByteBuffer[] chunks;
+  private final int chunkShift;
+  private final long chunkMask;
+
+  private final int size;
+  private final int slotCount;
+  private final long recordsOffset;
+  private final long slotsOffset;
+  private final long stringsOffset;
+  private final int[] categoryCounts;
+
+  /**
+   * A constructor for the {@link MappedItemRegister} class. Creates a register
+   * reading from the specified chunks of a mapped file, which must have a valid header.
+   *
+   * @param chunks      The mapped chunks of the file, in order
+   * @param chunkShift  The size of every chunk but the last, as a power of two
+   */
+  private MappedItemRegister(ByteBuffer[] chunks, int chunkShift) {
+    this.chunks = chunks;
+    this.chunkShift = chunkShift;
+    this.chunkMask = (1L << chunkShift) - 1;
+
+    size = getInt(ITEM_COUNT);
+    slotCount = getInt(SLOT_COUNT);
+    recordsOffset = getLong(RECORDS_OFFSET);
+    slotsOffset = getLong(SLOTS_OFFSET);
+    stringsOffset = getLong(STRINGS_OFFSET);
+    categoryCounts = new int[CATEGORIES.length];
+    for (int category = 0; category < CATEGORIES.length; category++) {
+      categoryCounts[category] = getInt(CATEGORY_COUNTS + category * 4L);
+    }
+  }
+
+  /**
+   * Writes the specified items to the specified file in the format read by
+   * {@link MappedItemRegister#open(Path)}. The file is written to a temporary file
+   * first, which replaces the specified file when it is complete. The items are
+   * checked for duplicate item numbers before anything is written, in the same way
+   * as {@link ItemRegister#addAll(Collection)}.
+   *
+   * @param file                            The file which should be written
+   * @param items                           The items which should be written, in the
+   *                                        order they should have in the register
+   * @throws IOException                    If the file could not be written
+   * @throws DuplicateItemNumberException   If any item number appears more than once
+   *                                        among the specified items
+   * @throws NullPointerException           If the specified file or collection, or any
+   *                                        of the items in it, is {@code null}
+   */
+  public static void write(Path file, Collection<Item> items) throws IOException {
+    if (file == null) {
+      throw new NullPointerException("File specified cannot be null");
+    }
+
+    if (items == null) {
+      throw new NullPointerException("Items specified cannot be null");
+    }
+
+    int slotCount = Integer.highestOneBit(Math.max(items.size(), 1)) * 4;
+    int[] slots = new int[slotCount];
+    String[] itemNumberKeys = new String[items.size()];
+    Set<String> duplicateItemNumbers = new LinkedHashSet<>();
+    int[] categoryCounts = new int[CATEGORIES.length];
+
+    int record = 0;
+    for (Item item : items) {
+      if (item == null) {
+        throw new NullPointerException("Item specified cannot be null");
+      }
+
+      String itemNumberKey = ItemRegister.normalizeItemNumber(item.getItemNumber());
+      int slot = spread(itemNumberKey.hashCode()) & (slotCount - 1);
+      while (slots[slot] != EMPTY_SLOT
+              && !itemNumberKeys[slots[slot] - 1].equals(itemNumberKey)) {
+        slot = (slot + 1) & (slotCount - 1);
+      }
+      if (slots[slot] != EMPTY_SLOT) {
+        duplicateItemNumbers.add(item.getItemNumber());
+      }
+      slots[slot] = record + 1;
+      itemNumberKeys[record++] = itemNumberKey;
+      categoryCounts[item.getCategory().ordinal()]++;
+    }
+
+    if (!duplicateItemNumbers.isEmpty()) {
+      throw new DuplicateItemNumberException(List.copyOf(duplicateItemNumbers));
+    }
+
+    long recordsOffset = HEADER_SIZE;
+    long slotsOffset = recordsOffset + (long) items.size() * RECORD_SIZE;
+    long stringsOffset = align(slotsOffset + (long) slotCount * 4);
+
+    Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+              Channels.newOutputStream(channel.position(recordsOffset)), BUFFER_SIZE));
+
+      long stringPosition = 0;
+      for (Item item : items) {
+        int itemNumberLength = utf8Length(item.getItemNumber());
+        int brandNameLength = utf8Length(item.getBrandName());
+        int descriptionLength = utf8Length(item.getDescription());
+
+        out.writeInt(item.getPriceWithoutDiscount());
+        out.writeInt(item.getWarehouseStock());
+        out.writeDouble(item.getDiscount());
+        out.writeDouble(item.getWeight());
+        out.writeDouble(item.getLength());
+        out.writeDouble(item.getHeight());
+        out.writeDouble(item.getWidth());
+        out.writeByte(item.getColor().ordinal());
+        out.writeByte(item.getCategory().ordinal());
+        out.writeShort(0);
+        out.writeInt(ItemRegister.normalizeItemNumber(item.getItemNumber()).hashCode());
+        out.writeLong(stringPosition);
+        out.writeInt(itemNumberLength);
+        out.writeInt(brandNameLength);
+        out.writeInt(descriptionLength);
+        out.writeInt(0);
+        stringPosition += (long) itemNumberLength + brandNameLength + descriptionLength;
+      }
+
+      for (int slot : slots) {
+        out.writeInt(slot);
+      }
+      out.write(new byte[(int) (stringsOffset - slotsOffset - (long) slotCount * 4)]);
+
+      for (Item item : items) {
+        out.write(item.getItemNumber().getBytes(StandardCharsets.UTF_8));
+        out.write(item.getBrandName().getBytes(StandardCharsets.UTF_8));
+        out.write(item.getDescription().getBytes(StandardCharsets.UTF_8));
+      }
+      out.flush();
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+              .putInt(MAGIC)
+              .putInt(FORMAT_VERSION)
+              .putInt(items.size())
+              .putInt(slotCount)
+              .putLong(recordsOffset)
+              .putLong(slotsOffset)
+              .putLong(stringsOffset)
+              .putLong(stringsOffset + stringPosition);
+      for (int categoryCount : categoryCounts) {
+        header.putInt(categoryCount);
+      }
+      header.putLong(HEADER_CHECKSUM, headerChecksum(header));
+      channel.write(header.clear(), 0);
+      channel.force(true);
+    }
+
+    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Opens the register in the specified file, written by
+   * {@link MappedItemRegister#write(Path, Collection)}. The file is mapped, and only
+   * its header is read.
+   *
+   * @param file                  The file which should be opened
+   * @return                      The register in the file
+   * @throws IOException          If the file could not be mapped, or isn't a valid
+   *                              register file
+   * @throws NullPointerException If the specified file is {@code null}
+   */
+  public static MappedItemRegister open(Path file) throws IOException {
+    return open(file, DEFAULT_CHUNK_SHIFT);
+  }
+
+  /**
+   * Opens the register in the specified file, mapping it in chunks of the
+   * specified size.
+   *
+   * @param file                  The file which should be opened
+   * @param chunkShift            The size of the chunks, as a power of two. Must be
+   *                              at least 3, so no number in the file is split
+   *                              between two chunks
+   * @return                      The register in the file
+   * @throws IOException          If the file could not be mapped, or isn't a valid
+   *                              register file
+   * @throws NullPointerException If the specified file is {@code null}
+   */
+  static MappedItemRegister open(Path file, int chunkShift) throws IOException {
+    if (file == null) {
+      throw new NullPointerException("File specified cannot be null");
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      if (fileSize < HEADER_SIZE) {
+        throw new IOException(file + " is not a register file");
+      }
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      int read = 0;
+      while (header.hasRemaining() && read >= 0) {
+        read = channel.read(header, header.position());
+      }
+      if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+        throw new IOException(file + " is not a register file of a supported version");
+      }
+      if (header.getLong(HEADER_CHECKSUM) != headerChecksum(header)
+              || header.getLong(FILE_LENGTH) != fileSize) {
+        throw new IOException(file + " is damaged");
+      }
+
+      long chunkSize = 1L << chunkShift;
+      ByteBuffer[] chunks = new ByteBuffer[(int) ((fileSize + chunkSize - 1) >>> chunkShift)];
+      for (int chunk = 0; chunk < chunks.length; chunk++) {
+        long position = chunk * chunkSize;
+        MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(chunkSize, fileSize - position));
+        chunks[chunk] = mapping;
+      }
+      return new MappedItemRegister(chunks, chunkShift);
+    }
+  }
+
+  /**
+   * Searches this register for the specified item number in the hash table of
+   * the file, and creates an {@link Item} from the record that was found. The item
+   * number is trimmed and compared without regard to case.
+   *
+   * @param itemNumberInput             Item number which is used to find any matches
+   * @return                            An {@link Item} object if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified item number is {@code null}
+   */
+  public Item searchByItemNumber(String itemNumberInput) {
+    if (itemNumberInput == null) {
+      throw new NullPointerException("Item number specified cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemNumberInput);
+    int keyHash = itemNumberKey.hashCode();
+    int mask = slotCount - 1;
+    for (int slot = spread(keyHash) & mask; ; slot = (slot + 1) & mask) {
+      int record = getInt(slotsOffset + slot * 4L) - 1;
+      if (record < 0) {
+        return null;
+      }
+
+      long base = recordsOffset + (long) record * RECORD_SIZE;
+      if (getInt(base + KEY_HASH) == keyHash
+              && ItemRegister.normalizeItemNumber(itemNumberOf(base)).equals(itemNumberKey)) {
+        return itemAt(record);
+      }
+    }
+  }
+
+  /**
+   * Searches this register for the specified category by scanning the category of
+   * every record, and creates {@link Item} objects for the records that were found.
+   *
+   * @param category                    Item {@link Category} which is used to find any matches
+   * @return                            A list containing {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public List<Item> searchByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    if (categoryCounts[category.ordinal()] == 0) {
+      return null;
+    }
+
+    byte code = (byte) category.ordinal();
+    List<Item> listFilteredByCategory = new ArrayList<>(categoryCounts[category.ordinal()]);
+    for (int record = 0; record < size; record++) {
+      if (getByte(recordsOffset + (long) record * RECORD_SIZE + CATEGORY) == code) {
+        listFilteredByCategory.add(itemAt(record));
+      }
+    }
+    return listFilteredByCategory;
+  }
+
+  /**
+   * Gets the number of items in this register with the specified category.
+   * The counts are stored in the header of the file.
+   *
+   * @param category                    Item {@link Category} which the items
+   *                                    should be counted for
+   * @return                            The number of items with the specified category
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public int countByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    return categoryCounts[category.ordinal()];
+  }
+
+  /**
+   * Creates an {@link Item} object from the record in the specified {@code index}
+   * location in this register.
+   *
+   * @param index                       The {@code index} of the item which should be
+   *                                    retrieved. Cannot be below 0 or greater
+   *                                    than {@link MappedItemRegister#size()} - 1
+   * @return                            An {@link Item} with the values of the record
+   * @throws IndexOutOfBoundsException  If the specified index is below 0 or greater than
+   *                                    the size of this register
+   */
+  public Item getItem(int index) {
+    if (index < 0 || index > (size() - 1)) {
+      throw new IndexOutOfBoundsException("Specified index is out of bounds");
+    }
+
+    return itemAt(index);
+  }
+
+  /**
+   * Gets the number of items in this register.
+   *
+   * @return The size of this register
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Reads the item number of the record at the specified position.
+   *
+   * @param base  The position of the record in the file
+   * @return      The item number of the record
+   */
+  private String itemNumberOf(long base) {
+    return readString(stringsOffset + getLong(base + STRINGS), getInt(base + ITEM_NUMBER_LENGTH));
+  }
+
+  /**
+   * Creates an {@link Item} object from the specified record, by utilizing
+   * the {@link ItemBuilder} class.
+   *
+   * @param record  The record of the item
+   * @return        An {@link Item} with the values of the record
+   */
+  private Item itemAt(int record) {
+    long base = recordsOffset + (long) record * RECORD_SIZE;
+    long itemNumber = stringsOffset + getLong(base + STRINGS);
+    int itemNumberLength = getInt(base + ITEM_NUMBER_LENGTH);
+    long brandName = itemNumber + itemNumberLength;
+    int brandNameLength = getInt(base + BRAND_NAME_LENGTH);
+
+    Item item = new ItemBuilder()
+            .setItemNumber(readString(itemNumber, itemNumberLength))
+            .setDescription(readString(brandName + brandNameLength,
+                    getInt(base + DESCRIPTION_LENGTH)))
+            .setBrandName(readString(brandName, brandNameLength))
+            .setPrice(getInt(base + PRICE))
+            .setWarehouseStock(getInt(base + WAREHOUSE_STOCK))
+            .setWeight(getDouble(base + WEIGHT))
+            .setLength(getDouble(base + LENGTH))
+            .setHeight(getDouble(base + HEIGHT))
+            .setWidth(getDouble(base + WIDTH))
+            .setColor(COLORS[getByte(base + COLOR)])
+            .setCategory(CATEGORIES[getByte(base + CATEGORY)])
+            .build();
+    item.setDiscount(getDouble(base + DISCOUNT));
+    return item;
+  }
+
+  /**
+   * Reads a string from the specified position in the file. The string may be
+   * split between two or more chunks.
+   *
+   * @param position  The position of the string in the file
+   * @param length    The length of the string in bytes
+   * @return          The string
+   */
+  private String readString(long position, int length) {
+    byte[] bytes = new byte[length];
+    int copied = 0;
+    while (copied < length) {
+      long current = position + copied;
+      ByteBuffer chunk = chunks[(int) (current >>> chunkShift)];
+      int offset = (int) (current & chunkMask);
+      int count = Math.min(length - copied, chunk.limit() - offset);
+      chunk.get(offset, bytes, copied, count);
+      copied += count;
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads a byte from the specified position in the file.
+   *
+   * @param position  The position in the file
+   * @return          The byte
+   */
+  private byte getByte(long position) {
+    return chunks[(int) (position >>> chunkShift)].get((int) (position & chunkMask));
+  }
+
+  /**
+   * Reads an int from the specified position in the file. The position must be
+   * a multiple of 4, so the int is never split between two chunks.
+   *
+   * @param position  The position in the file
+   * @return          The int
+   */
+  private int getInt(long position) {
+    return chunks[(int) (position >>> chunkShift)].getInt((int) (position & chunkMask));
+  }
+
+  /**
+   * Reads a long from the specified position in the file. The position must be
+   * a multiple of 8, so the long is never split between two chunks.
+   *
+   * @param position  The position in the file
+   * @return          The long
+   */
+  private long getLong(long position) {
+    return chunks[(int) (position >>> chunkShift)].getLong((int) (position & chunkMask));
+  }
+
+  /**
+   * Reads a double from the specified position in the file. The position must be
+   * a multiple of 8, so the double is never split between two chunks.
+   *
+   * @param position  The position in the file
+   * @return          The double
+   */
+  private double getDouble(long position) {
+    return chunks[(int) (position >>> chunkShift)].getDouble((int) (position & chunkMask));
+  }
+
+  /**
+   * Calculates the checksum of the specified header, leaving out the checksum itself.
+   *
+   * @param header  The header of a register file
+   * @return        The CRC-32C checksum of the header
+   */
+  private static long headerChecksum(ByteBuffer header) {
+    CRC32C checksum = new CRC32C();
+    checksum.update(header.array(), 0, HEADER_CHECKSUM);
+    return checksum.getValue();
+  }
+
+  /**
+   * Gets the number of bytes of the specified string in UTF-8.
+   *
+   * @param value The string
+   * @return      The length of the string in bytes
+   */
+  private static int utf8Length(String value) {
+    return value.getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  /**
+   * Rounds the specified position up to the next multiple of 8.
+   *
+   * @param position  The position which should be aligned
+   * @return          The aligned position
+   */
+  private static long align(long position) {
+    return (position + 7) & ~7L;
+  }
+
+  /**
+   * Spreads the bits of the specified hash code, so item numbers which only differ
+   * at the end don't end up next to each other in the hash table.
+   *
+   * @param keyHash The hash code which should be spread
+   * @return        The spread hash code
+   */
+  private static int spread(int keyHash) {
+    int hash = keyHash * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * A standard to-string method with all the relevant information from this
+   * register in the same format as {@link ItemRegister#toString()}.
+   *
+   * @return A string formatted with all the relevant information about this register
+   */
+  @Override
+  public String toString() {
+    StringBuilder returnString = new StringBuilder(ItemRegister.tableHeader());
+
+    ItemRowFormatter rowFormatter = new ItemRowFormatter();
+    returnString.append("\u001B[33m");
+    for (int record = 0; record < size; record++) {
+      rowFormatter.appendTo(returnString, itemAt(record)).append("\n");
+    }
+    returnString.append("\u001B[0m");
+
+    return returnString.toString();
+  }
+}
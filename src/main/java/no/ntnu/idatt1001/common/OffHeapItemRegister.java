@@ -0,0 +1,913 @@
+package no.ntnu.idatt1001.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+
+/**
+ * A register for items which stores the items outside of the Java heap. Every item
+ * is stored as a fixed-width record in a direct {@link ByteBuffer}, containing the
+ * numeric fields, the ordinals of the {@link Color} and {@link Category}, and the
+ * location of the item's strings. The item number, brand name and description are
+ * stored as UTF-8 bytes in a separate direct buffer, the string arena.
+ *
+ * <p>The heap only holds a few primitive arrays, for the hash table from item numbers
+ * to records and for the order of the items, and a {@link DescriptionIndex} from the
+ * words of the descriptions to the records, so the garbage collector does not have
+ * to go through the items. {@link Item} objects are only created for the items a
+ * method returns.
+ *
+ * <p>Sorting the register doesn't move the records. The records are ordered the first
+ * time they are retrieved by index or in bulk after the register has changed, by
+ * comparing the values in the records. The strings are decoded from the string arena
+ * for every comparison, so sorting by item number or brand name is slower than
+ * sorting by the numeric fields.
+ *
+ * <p>Records of removed items are reused by later items. The strings of removed items
+ * and old descriptions are not reclaimed from the string arena. The buffers are
+ * indexed with {@code int} values, which limits each of them to 2 GB.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public class OffHeapItemRegister {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final Color[] COLORS = Color.values();
+  private static final Category[] CATEGORIES = Category.values();
+
+  private static final int PRICE = 0;
+  private static final int WAREHOUSE_STOCK = 4;
+  private static final int DISCOUNT = 8;
+  private static final int WEIGHT = 16;
+  private static final int LENGTH = 24;
+  private static final int HEIGHT = 32;
+  private static final int WIDTH = 40;
+  private static final int COLOR = 48;
+  private static final int CATEGORY = 49;
+  private static final int KEY_HASH = 52;
+  private static final int ITEM_NUMBER = 56;
+  private static final int BRAND_NAME = 64;
+  private static final int DESCRIPTION = 72;
+  private static final int RECORD_SIZE = 80;
+
+  private static final int EMPTY_SLOT = 0;
+  private static final int REMOVED_SLOT = -1;
+
+  private ByteBuffer records;
+  private ByteBuffer strings;
+  private int recordCount;
+  private int stringsSize;
+
+  private int[] freeRecords;
+  private int freeRecordCount;
+
+  private int[] order;
+  private int size;
+
+  private int[] slots;
+  private int usedSlots;
+
+  private final DescriptionIndex<Integer> descriptionIndex;
+  private final int[] categoryCounts;
+
+  private Comparator<Integer> activeOrder;
+  private int[] orderedRecords;
+
+  /**
+   * A constructor for the {@link OffHeapItemRegister} class. Creates an
+   * empty register with room for a small number of items before the
+   * buffers have to grow.
+   */
+  public OffHeapItemRegister() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * A constructor for the {@link OffHeapItemRegister} class. Creates an
+   * empty register with room for the specified number of items before the
+   * buffers have to grow.
+   *
+   * @param initialCapacity           The number of items the register has room for
+   *                                  before the buffers have to grow
+   * @throws IllegalNumberException   If the specified capacity is below 0, or too
+   *                                  large for the buffers
+   */
+  public OffHeapItemRegister(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalNumberException("Initial capacity cannot be below 0");
+    }
+
+    if (initialCapacity > Integer.MAX_VALUE / Math.max(RECORD_SIZE, 64)) {
+      throw new IllegalNumberException("Initial capacity cannot be above "
+              + Integer.MAX_VALUE / Math.max(RECORD_SIZE, 64));
+    }
+
+    int capacity = Math.max(initialCapacity, 1);
+    records = ByteBuffer.allocateDirect(capacity * RECORD_SIZE);
+    strings = ByteBuffer.allocateDirect(capacity * 64);
+    freeRecords = new int[DEFAULT_CAPACITY];
+    order = new int[capacity];
+    slots = new int[Integer.highestOneBit(capacity) * 4];
+    descriptionIndex = new DescriptionIndex<>();
+    categoryCounts = new int[CATEGORIES.length];
+  }
+
+  /**
+   * Adds the specified {@link Item} to the end of this register by writing its values
+   * to a record. A check is performed before the item is added, which checks if the
+   * register already contains the specified item's item number. Item numbers are
+   * compared without regard to case and surrounding whitespace.
+   *
+   * @param item                        The {@link Item} which should be
+   *                                    added to this register
+   * @throws IllegalArgumentException   If the specified item's item number
+   *                                    already exists in the register
+   * @throws NullPointerException       If the specified item is {@code null}
+   */
+  public void addItem(Item item) {
+    if (item == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(item.getItemNumber());
+    int keyHash = itemNumberKey.hashCode();
+
+    if (findRecord(itemNumberKey, keyHash) >= 0) {
+      throw new IllegalArgumentException("Item number already exists in the register");
+    }
+
+    int record = allocateRecord();
+    int base = record * RECORD_SIZE;
+    records.putInt(base + PRICE, item.getPriceWithoutDiscount());
+    records.putInt(base + WAREHOUSE_STOCK, item.getWarehouseStock());
+    records.putDouble(base + DISCOUNT, item.getDiscount());
+    records.putDouble(base + WEIGHT, item.getWeight());
+    records.putDouble(base + LENGTH, item.getLength());
+    records.putDouble(base + HEIGHT, item.getHeight());
+    records.putDouble(base + WIDTH, item.getWidth());
+    records.put(base + COLOR, (byte) item.getColor().ordinal());
+    records.put(base + CATEGORY, (byte) item.getCategory().ordinal());
+    records.putInt(base + KEY_HASH, keyHash);
+    writeString(base + ITEM_NUMBER, item.getItemNumber());
+    writeString(base + BRAND_NAME, item.getBrandName());
+    writeString(base + DESCRIPTION, item.getDescription());
+
+    insertSlot(record, keyHash);
+    if (size == order.length) {
+      order = Arrays.copyOf(order, size * 2);
+    }
+    order[size++] = record;
+    categoryCounts[item.getCategory().ordinal()]++;
+    descriptionIndex.add(record, item.getDescription());
+    orderedRecords = null;
+  }
+
+  /**
+   * Searches this register for the specified item number, and creates an
+   * {@link Item} from the record that was found. The item number is
+   * trimmed and compared without regard to case.
+   *
+   * @param itemNumberInput             Item number which is used to find any matches
+   * @return                            An {@link Item} object if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified item number is {@code null}
+   */
+  public Item searchByItemNumber(String itemNumberInput) {
+    if (itemNumberInput == null) {
+      throw new NullPointerException("Item number specified cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemNumberInput);
+    int record = findRecord(itemNumberKey, itemNumberKey.hashCode());
+
+    if (record >= 0) {
+      return itemAt(record);
+    }
+
+    return null;
+  }
+
+  /**
+   * Searches this register for items whose description matches the specified query,
+   * in the same way as {@link ItemRegister#searchByItemDesc(String)}. An item
+   * matches if its description contains every word in the query, and a word
+   * ending with {@code *} matches every word starting with it.
+   *
+   * @param itemDescInput               Item description query which is used to find
+   *                                    any matches
+   * @return                            A list containing {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified description is {@code null}
+   */
+  public List<Item> searchByItemDesc(String itemDescInput) {
+    if (itemDescInput == null) {
+      throw new NullPointerException("Description cannot be null");
+    }
+
+    List<Item> listFilteredByDescription = descriptionIndex.search(itemDescInput).stream()
+            .map(this::itemAt)
+            .toList();
+
+    if (!listFilteredByDescription.isEmpty()) {
+      return listFilteredByDescription;
+    }
+
+    return null;
+  }
+
+  /**
+   * Searches this register for the specified category by scanning the category of
+   * every record, and creates {@link Item} objects for the records that were found.
+   *
+   * @param category                    Item {@link Category} which is used to find any matches
+   * @return                            A list containing {@link Item}
+   *                                    objects if any matches
+   *                                    were found, otherwise returns {@code null}
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public List<Item> searchByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    if (categoryCounts[category.ordinal()] == 0) {
+      return null;
+    }
+
+    byte code = (byte) category.ordinal();
+    List<Item> listFilteredByCategory = new ArrayList<>(categoryCounts[category.ordinal()]);
+    for (int index = 0; index < size; index++) {
+      if (records.get(order[index] * RECORD_SIZE + CATEGORY) == code) {
+        listFilteredByCategory.add(itemAt(order[index]));
+      }
+    }
+    return listFilteredByCategory;
+  }
+
+  /**
+   * Gets the number of items in this register with the specified category.
+   * The count is kept up to date when items are added and removed.
+   *
+   * @param category                    Item {@link Category} which the items
+   *                                    should be counted for
+   * @return                            The number of items with the specified category
+   * @throws NullPointerException       If the specified {@link Category} is {@code null}
+   */
+  public int countByCategory(Category category) {
+    if (category == null) {
+      throw new NullPointerException("Category cannot be null");
+    }
+
+    return categoryCounts[category.ordinal()];
+  }
+
+  /**
+   * Increases the stock of the specified {@link Item} by the specified amount of stock.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the stock
+   *                                of should be changed
+   * @param stockIncrease           The amount of stock that should be added to the
+   *                                specified item's stock. Cannot be below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or the stock
+   *                                would become larger than {@link Integer#MAX_VALUE}
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void increaseItemStock(Item itemInput, int stockIncrease) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (stockIncrease < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    int position = recordOf(itemInput) * RECORD_SIZE + WAREHOUSE_STOCK;
+    long warehouseStock = (long) records.getInt(position) + stockIncrease;
+    if (warehouseStock > Integer.MAX_VALUE) {
+      throw new IllegalNumberException("Warehouse stock cannot be larger than "
+              + Integer.MAX_VALUE);
+    }
+    records.putInt(position, (int) warehouseStock);
+    orderedRecords = null;
+  }
+
+  /**
+   * Decreases the stock of the specified {@link Item} by the specified amount of stock.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the stock
+   *                                of should be changed
+   * @param stockDecrease           The amount of stock that should be subtraced from the
+   *                                specified item's stock. Cannot be below 0
+   * @throws IllegalNumberException If the specified amount is below 0, or greater
+   *                                than the item's stock
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void decreaseItemStock(Item itemInput, int stockDecrease) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (stockDecrease < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    int position = recordOf(itemInput) * RECORD_SIZE + WAREHOUSE_STOCK;
+    int warehouseStock = records.getInt(position) - stockDecrease;
+    if (warehouseStock < 0) {
+      throw new IllegalNumberException("Warehouse stock cannot be set to a negative integer");
+    }
+    records.putInt(position, warehouseStock);
+    orderedRecords = null;
+  }
+
+  /**
+   * Changes the price of the specified {@link Item} to the specified amount.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the price
+   *                                of should be changed
+   * @param price                   The new price which the specified item will have. Cannot
+   *                                be below 0
+   * @throws IllegalNumberException If the specified price is below 0
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changePriceOfItem(Item itemInput, int price) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (price < 0) {
+      throw new IllegalNumberException("Price amount specified cannot be below 0");
+    }
+
+    records.putInt(recordOf(itemInput) * RECORD_SIZE + PRICE, price);
+    orderedRecords = null;
+  }
+
+  /**
+   * Changes the discount of the specified {@link Item} to the specified amount.
+   * If the item is not found in this register, a {@link NoSuchElementException}
+   * is thrown.
+   *
+   * @param itemInput               The {@link Item} which the discount
+   *                                of should be changed.
+   * @param discount                The new discount which the specified item will have.
+   *                                Accept numbers between 0 and 100
+   * @throws IllegalNumberException If the specified discount is below 0 or above 100
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changeDiscountOfItem(Item itemInput, double discount) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    if (discount < 0 || discount > 100) {
+      throw new IllegalNumberException("Discount amount specified cannot be below 0 or above 100");
+    }
+
+    records.putDouble(recordOf(itemInput) * RECORD_SIZE + DISCOUNT, discount);
+    orderedRecords = null;
+  }
+
+  /**
+   * Changes the description of the specified {@link Item} to the specified string.
+   * The new description is appended to the string arena, and the item is re-indexed
+   * under the words of its new description. A {@code null} description is stored as
+   * an empty string. If the item is not found in this register, a
+   * {@link NoSuchElementException} is thrown.
+   *
+   * @param itemInput               The {@link Item} which the description
+   *                                of should be changed
+   * @param description             The new description which the specified item will have
+   * @throws NoSuchElementException If the specified item doesn't exist in this register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public void changeDescriptionOfItem(Item itemInput, String description) {
+    if (itemInput == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    int record = recordOf(itemInput);
+    descriptionIndex.remove(record, readString(record * RECORD_SIZE + DESCRIPTION));
+    writeString(record * RECORD_SIZE + DESCRIPTION, description == null ? "" : description);
+    descriptionIndex.add(record, readString(record * RECORD_SIZE + DESCRIPTION));
+  }
+
+  /**
+   * Gets the index of the specified {@link Item} in this register, in the order
+   * the register is currently sorted by.
+   *
+   * @param itemInput               The {@link Item} which the index
+   *                                of should be returned
+   * @return                        The index number of the specified {@link Item} in this
+   *                                register, otherwise returns
+   *                                {@code -1} if the item is not found in the register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public int getIndexOfItem(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("The specified item cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemInput.getItemNumber());
+    int record = findRecord(itemNumberKey, itemNumberKey.hashCode());
+    if (record < 0) {
+      return -1;
+    }
+
+    if (activeOrder == null) {
+      return indexOfRecord(record);
+    }
+
+    int[] sortedRecords = orderedRecords();
+    for (int index = 0; index < sortedRecords.length; index++) {
+      if (sortedRecords[index] == record) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Removes the specified {@link Item} from this register. The record of the item is
+   * reused by items added later, and the remaining items keep the order they were
+   * added in.
+   *
+   * @param itemInput               The {@link Item} that should be removed from this
+   *                                register
+   * @return                        {@code true} if the specified item is in the register,
+   *                                otherwise returns {@code false} if the item wasn't found
+   *                                in the register
+   * @throws NullPointerException   If the specified item is {@code null}
+   */
+  public boolean removeItem(Item itemInput) {
+    if (itemInput == null) {
+      throw new NullPointerException("The specified item cannot be null");
+    }
+
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemInput.getItemNumber());
+    int slot = findSlot(itemNumberKey, itemNumberKey.hashCode());
+    if (slot < 0) {
+      return false;
+    }
+
+    int record = slots[slot] - 1;
+    slots[slot] = REMOVED_SLOT;
+
+    int index = indexOfRecord(record);
+    System.arraycopy(order, index + 1, order, index, size - index - 1);
+    size--;
+
+    categoryCounts[records.get(record * RECORD_SIZE + CATEGORY)]--;
+    descriptionIndex.remove(record, readString(record * RECORD_SIZE + DESCRIPTION));
+    orderedRecords = null;
+    if (freeRecordCount == freeRecords.length) {
+      freeRecords = Arrays.copyOf(freeRecords, freeRecordCount * 2);
+    }
+    freeRecords[freeRecordCount++] = record;
+
+    return true;
+  }
+
+  /**
+   * Sorts this register by item number. The records are not moved, the order is only
+   * used when retrieving the items by index or in bulk, until the register is sorted
+   * by something else.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByItemnumber(boolean ascending) {
+    sortBy(Comparator.comparing(record -> readString(record * RECORD_SIZE + ITEM_NUMBER)),
+            ascending);
+  }
+
+  /**
+   * Sorts this register by brand name. Items with the same brand name are ordered
+   * by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByBrandname(boolean ascending) {
+    sortBy(Comparator.comparing(record -> readString(record * RECORD_SIZE + BRAND_NAME)),
+            ascending);
+  }
+
+  /**
+   * Sorts this register by the price of the items after discount. Items with the
+   * same price are ordered by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByPrice(boolean ascending) {
+    sortBy(Comparator.comparingInt(this::effectivePrice), ascending);
+  }
+
+  /**
+   * Sorts this register by warehouse stock. Items with the same stock are ordered
+   * by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByWarehousestock(boolean ascending) {
+    sortBy(Comparator.comparingInt(record ->
+            records.getInt(record * RECORD_SIZE + WAREHOUSE_STOCK)), ascending);
+  }
+
+  /**
+   * Sorts this register alphabetically by the {@code Color.name()} value of the
+   * items. Items with the same color are ordered by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByColor(boolean ascending) {
+    sortBy(Comparator.comparing(record -> COLORS[records.get(record * RECORD_SIZE + COLOR)]
+            .name()), ascending);
+  }
+
+  /**
+   * Sorts this register alphabetically by the {@code Category.name()} value of the
+   * items. Items with the same category are ordered by item number.
+   *
+   * @param ascending If the specified value is {@code true}, the register
+   *                  gets sorted ascendingly, otherwise the register gets
+   *                  sorted descendingly
+   */
+  public void sortListByCategory(boolean ascending) {
+    sortBy(Comparator.comparing(record ->
+            CATEGORIES[records.get(record * RECORD_SIZE + CATEGORY)].name()), ascending);
+  }
+
+  /**
+   * Creates a list containing an {@link Item} object for every item in this register,
+   * in the order the register is currently sorted by.
+   *
+   * @return A {@link List} containing all the items in this register
+   */
+  public List<Item> getCopyOfList() {
+    return IntStream.range(0, size)
+            .map(this::recordAt)
+            .mapToObj(this::itemAt)
+            .toList();
+  }
+
+  /**
+   * Fills this register with the same pre-made items as
+   * {@link ItemRegister#fillListWithDefaultItems()}, for testing purposes.
+   */
+  public void fillListWithDefaultItems() {
+    ItemRegister defaultItems = new ItemRegister();
+    defaultItems.fillListWithDefaultItems();
+    defaultItems.getCopyOfList().forEach(this::addItem);
+  }
+
+  /**
+   * Creates an {@link Item} object from the record of the item in the specified
+   * {@code index} location, in the order the register is currently sorted by.
+   *
+   * @param index                       The {@code index} of the item which should be
+   *                                    retrieved. Cannot be below 0 or greater
+   *                                    than {@link OffHeapItemRegister#size()} - 1
+   * @return                            An {@link Item} with the values in the
+   *                                    specified {@code index} location
+   * @throws IndexOutOfBoundsException  If the specified index is below 0 or greater than
+   *                                    the size of this register
+   */
+  public Item getItem(int index) {
+    if (index < 0 || index > (size() - 1)) {
+      throw new IndexOutOfBoundsException("Specified index is out of bounds");
+    }
+
+    return itemAt(recordAt(index));
+  }
+
+  /**
+   * Gets the number of items in this register.
+   *
+   * @return The size of this register
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Sets the order of this register, with the item number as the tie-breaker.
+   *
+   * @param comparator  The comparator of records which the register should be sorted by
+   * @param ascending   If {@code true}, the items are ordered ascendingly,
+   *                    otherwise descendingly
+   */
+  private void sortBy(Comparator<Integer> comparator, boolean ascending) {
+    Comparator<Integer> sortOrder = comparator.thenComparing(
+            record -> readString(record * RECORD_SIZE + ITEM_NUMBER), Comparator.naturalOrder());
+    activeOrder = ascending ? sortOrder : sortOrder.reversed();
+    orderedRecords = null;
+  }
+
+  /**
+   * Gets the records of this register in the order the register is currently
+   * sorted by. The records are sorted again the first time they are needed after
+   * the register has changed.
+   *
+   * @return An array containing the records in the current order
+   */
+  private int[] orderedRecords() {
+    if (orderedRecords == null) {
+      orderedRecords = Arrays.stream(order, 0, size)
+              .boxed()
+              .sorted(activeOrder)
+              .mapToInt(Integer::intValue)
+              .toArray();
+    }
+    return orderedRecords;
+  }
+
+  /**
+   * Gets the record of the item in the specified {@code index} location, in the
+   * order the register is currently sorted by.
+   *
+   * @param index The index of the item
+   * @return      The record of the item
+   */
+  private int recordAt(int index) {
+    return activeOrder == null ? order[index] : orderedRecords()[index];
+  }
+
+  /**
+   * Calculates the price after discount of the item in the specified record, in the
+   * same way as {@link Item#getPrice()}.
+   *
+   * @param record  The record of the item
+   * @return        The price of the item calculated with the discount
+   */
+  private int effectivePrice(int record) {
+    int base = record * RECORD_SIZE;
+    return (int) (records.getInt(base + PRICE)
+            * (1 - (records.getDouble(base + DISCOUNT) / 100)));
+  }
+
+  /**
+   * Gets the record of the specified item in this register.
+   *
+   * @param itemInput               The {@link Item} which the record should be found for
+   * @return                        The record of the item
+   * @throws NoSuchElementException If the item doesn't exist in this register
+   */
+  private int recordOf(Item itemInput) {
+    String itemNumberKey = ItemRegister.normalizeItemNumber(itemInput.getItemNumber());
+    int record = findRecord(itemNumberKey, itemNumberKey.hashCode());
+    if (record < 0) {
+      throw new NoSuchElementException();
+    }
+    return record;
+  }
+
+  /**
+   * Finds the record with the specified normalized item number.
+   *
+   * @param itemNumberKey The normalized item number
+   * @param keyHash       The hash code of the normalized item number
+   * @return              The record of the item, or {@code -1} if it doesn't exist
+   */
+  private int findRecord(String itemNumberKey, int keyHash) {
+    int slot = findSlot(itemNumberKey, keyHash);
+    return slot < 0 ? -1 : slots[slot] - 1;
+  }
+
+  /**
+   * Finds the slot in the hash table which refers to the record with the specified
+   * normalized item number. The table uses linear probing, and the item number of a
+   * record is only read when the hash of the record matches.
+   *
+   * @param itemNumberKey The normalized item number
+   * @param keyHash       The hash code of the normalized item number
+   * @return              The slot of the item, or {@code -1} if it doesn't exist
+   */
+  private int findSlot(String itemNumberKey, int keyHash) {
+    int mask = slots.length - 1;
+    for (int slot = spread(keyHash) & mask; slots[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+      int record = slots[slot] - 1;
+      if (record >= 0
+              && records.getInt(record * RECORD_SIZE + KEY_HASH) == keyHash
+              && ItemRegister.normalizeItemNumber(readString(record * RECORD_SIZE + ITEM_NUMBER))
+                      .equals(itemNumberKey)) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Inserts the specified record into the hash table. The table is doubled when
+   * more than half of it is in use, counting slots of removed items.
+   *
+   * @param record  The record which should be inserted
+   * @param keyHash The hash code of the record's normalized item number
+   */
+  private void insertSlot(int record, int keyHash) {
+    if ((usedSlots + 1) * 2 > slots.length) {
+      rehash();
+    }
+
+    int mask = slots.length - 1;
+    int slot = spread(keyHash) & mask;
+    while (slots[slot] != EMPTY_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    slots[slot] = record + 1;
+    usedSlots++;
+  }
+
+  /**
+   * Rebuilds the hash table from the records of the items in this register,
+   * leaving out the slots of removed items.
+   */
+  private void rehash() {
+    int capacity = Integer.highestOneBit(Math.max(size, 1)) * 4;
+    slots = new int[capacity];
+    usedSlots = 0;
+    int mask = capacity - 1;
+    for (int index = 0; index < size; index++) {
+      int record = order[index];
+      int slot = spread(records.getInt(record * RECORD_SIZE + KEY_HASH)) & mask;
+      while (slots[slot] != EMPTY_SLOT) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = record + 1;
+      usedSlots++;
+    }
+  }
+
+  /**
+   * Gets a free record for a new item, either a record of a removed item or a new
+   * record at the end of the record buffer.
+   *
+   * @return The free record
+   */
+  private int allocateRecord() {
+    if (freeRecordCount > 0) {
+      return freeRecords[--freeRecordCount];
+    }
+
+    if ((recordCount + 1) * RECORD_SIZE > records.capacity()) {
+      records = grow(records, (recordCount + 1) * RECORD_SIZE);
+    }
+    return recordCount++;
+  }
+
+  /**
+   * Gets the index of the specified record in the order of the items.
+   *
+   * @param record  The record which the index should be found for
+   * @return        The index of the record, or {@code -1} if it is not in use
+   */
+  private int indexOfRecord(int record) {
+    for (int index = 0; index < size; index++) {
+      if (order[index] == record) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Appends the specified string to the string arena, and writes its offset and
+   * length to the specified position in the record buffer.
+   *
+   * @param position  The position in the record buffer of the string reference
+   * @param value     The string which should be written
+   */
+  private void writeString(int position, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (stringsSize + bytes.length > strings.capacity()) {
+      strings = grow(strings, stringsSize + bytes.length);
+    }
+
+    strings.put(stringsSize, bytes);
+    records.putInt(position, stringsSize);
+    records.putInt(position + 4, bytes.length);
+    stringsSize += bytes.length;
+  }
+
+  /**
+   * Reads the string referred to at the specified position in the record buffer
+   * from the string arena.
+   *
+   * @param position  The position in the record buffer of the string reference
+   * @return          The string
+   */
+  private String readString(int position) {
+    byte[] bytes = new byte[records.getInt(position + 4)];
+    strings.get(records.getInt(position), bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates an {@link Item} object from the specified record, by utilizing
+   * the {@link ItemBuilder} class.
+   *
+   * @param record  The record of the item
+   * @return        An {@link Item} with the values of the record
+   */
+  private Item itemAt(int record) {
+    int base = record * RECORD_SIZE;
+    Item item = new ItemBuilder()
+            .setItemNumber(readString(base + ITEM_NUMBER))
+            .setDescription(readString(base + DESCRIPTION))
+            .setBrandName(readString(base + BRAND_NAME))
+            .setPrice(records.getInt(base + PRICE))
+            .setWarehouseStock(records.getInt(base + WAREHOUSE_STOCK))
+            .setWeight(records.getDouble(base + WEIGHT))
+            .setLength(records.getDouble(base + LENGTH))
+            .setHeight(records.getDouble(base + HEIGHT))
+            .setWidth(records.getDouble(base + WIDTH))
+            .setColor(COLORS[records.get(base + COLOR)])
+            .setCategory(CATEGORIES[records.get(base + CATEGORY)])
+            .build();
+    item.setDiscount(records.getDouble(base + DISCOUNT));
+    return item;
+  }
+
+  /**
+   * Copies the specified buffer into a new direct buffer with at least double
+   * the capacity, and room for the specified number of bytes.
+   *
+   * @param buffer    The buffer which should grow
+   * @param minimum   The number of bytes the new buffer must have room for
+   * @return          The new buffer
+   */
+  private static ByteBuffer grow(ByteBuffer buffer, int minimum) {
+    int capacity = (int) Math.min(Integer.MAX_VALUE - 8,
+            Math.max(minimum, (long) buffer.capacity() * 2));
+    if (capacity < minimum) {
+      throw new IllegalStateException("The register cannot hold more data");
+    }
+
+    ByteBuffer grownBuffer = ByteBuffer.allocateDirect(capacity);
+    grownBuffer.put(0, buffer, 0, buffer.capacity());
+    return grownBuffer;
+  }
+
+  /**
+   * Spreads the bits of the specified hash code, so item numbers which only differ
+   * at the end don't end up next to each other in the hash table.
+   *
+   * @param keyHash The hash code which should be spread
+   * @return        The spread hash code
+   */
+  private static int spread(int keyHash) {
+    int hash = keyHash * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * A standard to-string method with all the relevant information from this
+   * register in the same format as {@link ItemRegister#toString()}.
+   *
+   * @return A string formatted with all the relevant information about this register
+   */
+  @Override
+  public String toString() {
+    StringBuilder returnString = new StringBuilder(ItemRegister.tableHeader());
+
+    ItemRowFormatter rowFormatter = new ItemRowFormatter();
+    returnString.append("\u001B[33m");
+    for (int index = 0; index < size; index++) {
+      rowFormatter.appendTo(returnString, itemAt(recordAt(index))).append("\n");
+    }
+    returnString.append("\u001B[0m");
+
+    return returnString.toString();
+  }
+}
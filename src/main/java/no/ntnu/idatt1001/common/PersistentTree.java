@@ -0,0 +1,350 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable sorted map, implemented as a balanced binary search tree (an AVL tree).
+ * Changing the map creates a new map, which shares every node with the old map except
+ * for the nodes on the path to the changed key. A change therefore only creates a
+ * logarithmic number of nodes, and old versions of the map stay valid and unchanged
+ * for as long as they are referenced.
+ *
+ * <p>Every node knows the size of its subtree, which makes it possible to look up
+ * the value at a position in the sorted order in logarithmic time.
+ *
+ * @param <K> The type of the keys in the map
+ * @param <V> The type of the values in the map
+ * @author 10124
+ * @version 1.0.0
+ */
+final class PersistentTree<K extends Comparable<? super K>, V> implements Iterable<V> {
+
+  private static final PersistentTree<?, ?> EMPTY = new PersistentTree<>(null);
+
+  private final Node<K, V> root;
+
+  /**
+   * A constructor for the {@link PersistentTree} class. Creates a map
+   * with the specified root node.
+   *
+   * @param root  The root node of the map, or {@code null} for an empty map
+   */
+  private PersistentTree(Node<K, V> root) {
+    this.root = root;
+  }
+
+  /**
+   * Gets the empty map.
+   *
+   * @param <K> The type of the keys in the map
+   * @param <V> The type of the values in the map
+   * @return    A map without any entries
+   */
+  @SuppressWarnings("unchecked")
+  static <K extends Comparable<? super K>, V> PersistentTree<K, V> empty() {
+    return (PersistentTree<K, V>) EMPTY;
+  }
+
+  /**
+   * Creates a map with the specified entries in a single pass, which is faster than
+   * putting the entries into the map one by one. The keys must be sorted ascendingly,
+   * and every key must be unique.
+   *
+   * @param keys    The keys of the entries, in ascending order
+   * @param values  The values of the entries, in the same order as the keys
+   * @param <K>     The type of the keys in the map
+   * @param <V>     The type of the values in the map
+   * @return        A map with the specified entries
+   */
+  static <K extends Comparable<? super K>, V> PersistentTree<K, V> fromSorted(
+          List<K> keys, List<V> values) {
+    return new PersistentTree<>(fromSorted(keys, values, 0, keys.size()));
+  }
+
+  /**
+   * Gets the number of entries in this map.
+   *
+   * @return The size of this map
+   */
+  int size() {
+    return size(root);
+  }
+
+  /**
+   * Gets the value of the specified key.
+   *
+   * @param key The key which the value should be found for
+   * @return    The value of the key, or {@code null} if the map doesn't contain the key
+   */
+  V get(K key) {
+    Node<K, V> node = root;
+    while (node != null) {
+      int comparison = key.compareTo(node.key);
+      if (comparison == 0) {
+        return node.value;
+      }
+      node = comparison < 0 ? node.left : node.right;
+    }
+    return null;
+  }
+
+  /**
+   * Gets the value at the specified position in the sorted order of the keys.
+   *
+   * @param index                       The position of the value
+   * @return                            The value at the position
+   * @throws IndexOutOfBoundsException  If the index is below 0, or not below the size
+   */
+  V getAt(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Specified index is out of bounds");
+    }
+
+    Node<K, V> node = root;
+    while (true) {
+      int leftSize = size(node.left);
+      if (index == leftSize) {
+        return node.value;
+      }
+      if (index < leftSize) {
+        node = node.left;
+      } else {
+        index -= leftSize + 1;
+        node = node.right;
+      }
+    }
+  }
+
+  /**
+   * Creates a map with the entries of this map, where the specified key
+   * has the specified value.
+   *
+   * @param key   The key of the entry
+   * @param value The value of the entry
+   * @return      The new map
+   */
+  PersistentTree<K, V> put(K key, V value) {
+    return new PersistentTree<>(put(root, key, value));
+  }
+
+  /**
+   * Creates a map with the entries of this map, without the specified key.
+   *
+   * @param key The key which should be left out
+   * @return    The new map, or this map if it doesn't contain the key
+   */
+  PersistentTree<K, V> remove(K key) {
+    Node<K, V> newRoot = remove(root, key);
+    return newRoot == root ? this : new PersistentTree<>(newRoot);
+  }
+
+  /**
+   * Creates an iterator over the values of this map, in the sorted order of the keys.
+   *
+   * @return An {@link Iterator} over the values of this map
+   */
+  @Override
+  public Iterator<V> iterator() {
+    Deque<Node<K, V>> path = new ArrayDeque<>();
+    for (Node<K, V> node = root; node != null; node = node.left) {
+      path.push(node);
+    }
+
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return !path.isEmpty();
+      }
+
+      @Override
+      public V next() {
+        if (path.isEmpty()) {
+          throw new NoSuchElementException();
+        }
+
+        Node<K, V> node = path.pop();
+        for (Node<K, V> child = node.right; child != null; child = child.left) {
+          path.push(child);
+        }
+        return node.value;
+      }
+    };
+  }
+
+  /**
+   * Creates a balanced subtree with the specified range of entries, by making the
+   * middle entry the root and the entries on each side its subtrees.
+   *
+   * @param keys    The keys of the entries, in ascending order
+   * @param values  The values of the entries, in the same order as the keys
+   * @param from    The first entry in the subtree
+   * @param to      The entry after the last entry in the subtree
+   * @return        The root of the subtree, or {@code null} if the range is empty
+   */
+  private static <K, V> Node<K, V> fromSorted(List<K> keys, List<V> values, int from, int to) {
+    if (from >= to) {
+      return null;
+    }
+
+    int middle = (from + to) >>> 1;
+    return new Node<>(keys.get(middle), values.get(middle),
+            fromSorted(keys, values, from, middle), fromSorted(keys, values, middle + 1, to));
+  }
+
+  /**
+   * Creates a copy of the path from the specified node to the specified key,
+   * where the key has the specified value.
+   *
+   * @param node  The root of the subtree
+   * @param key   The key of the entry
+   * @param value The value of the entry
+   * @return      The root of the new subtree
+   */
+  private static <K extends Comparable<? super K>, V> Node<K, V> put(
+          Node<K, V> node, K key, V value) {
+    if (node == null) {
+      return new Node<>(key, value, null, null);
+    }
+
+    int comparison = key.compareTo(node.key);
+    if (comparison == 0) {
+      return new Node<>(key, value, node.left, node.right);
+    }
+    if (comparison < 0) {
+      return balance(node.key, node.value, put(node.left, key, value), node.right);
+    }
+    return balance(node.key, node.value, node.left, put(node.right, key, value));
+  }
+
+  /**
+   * Creates a copy of the path from the specified node to the specified key,
+   * without the key. A node with two children is replaced by its successor.
+   *
+   * @param node  The root of the subtree
+   * @param key   The key which should be left out
+   * @return      The root of the new subtree, or the specified node if the subtree
+   *              doesn't contain the key
+   */
+  private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+    if (node == null) {
+      return null;
+    }
+
+    int comparison = key.compareTo(node.key);
+    if (comparison < 0) {
+      Node<K, V> left = remove(node.left, key);
+      return left == node.left ? node : balance(node.key, node.value, left, node.right);
+    }
+    if (comparison > 0) {
+      Node<K, V> right = remove(node.right, key);
+      return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    }
+
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+
+    Node<K, V> successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    return balance(successor.key, successor.value, node.left, remove(node.right, successor.key));
+  }
+
+  /**
+   * Creates a node with the specified entry and children, and rotates it if the
+   * heights of the children differ by more than one.
+   *
+   * @param key   The key of the node
+   * @param value The value of the node
+   * @param left  The left child of the node
+   * @param right The right child of the node
+   * @return      The root of the balanced subtree
+   */
+  private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+    int difference = height(left) - height(right);
+
+    if (difference > 1) {
+      if (height(left.left) >= height(left.right)) {
+        return new Node<>(left.key, left.value, left.left,
+                new Node<>(key, value, left.right, right));
+      }
+      return new Node<>(left.right.key, left.right.value,
+              new Node<>(left.key, left.value, left.left, left.right.left),
+              new Node<>(key, value, left.right.right, right));
+    }
+
+    if (difference < -1) {
+      if (height(right.right) >= height(right.left)) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left),
+                right.right);
+      }
+      return new Node<>(right.left.key, right.left.value,
+              new Node<>(key, value, left, right.left.left),
+              new Node<>(right.key, right.value, right.left.right, right.right));
+    }
+
+    return new Node<>(key, value, left, right);
+  }
+
+  /**
+   * Gets the height of the specified subtree.
+   *
+   * @param node  The root of the subtree
+   * @return      The height of the subtree, or 0 if it is empty
+   */
+  private static int height(Node<?, ?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  /**
+   * Gets the number of entries in the specified subtree.
+   *
+   * @param node  The root of the subtree
+   * @return      The size of the subtree, or 0 if it is empty
+   */
+  private static int size(Node<?, ?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  /**
+   * An immutable node in the tree, containing an entry, the children of the node
+   * and the height and size of the subtree.
+   *
+   * @param <K> The type of the key
+   * @param <V> The type of the value
+   */
+  private static final class Node<K, V> {
+    private final K key;
+    private final V value;
+    private final Node<K, V> left;
+    private final Node<K, V> right;
+    private final int height;
+    private final int size;
+
+    /**
+     * A constructor for the {@link Node} class. Calculates the height and size
+     * of the subtree from the specified children.
+     *
+     * @param key   The key of the node
+     * @param value The value of the node
+     * @param left  The left child of the node
+     * @param right The right child of the node
+     */
+    private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.key = key;
+      this.value = value;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.size = size(left) + size(right) + 1;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An ordered index over {@link Item} objects, sorted by a key which is
+ * extracted from each item. The items are kept in a {@link TreeMap} from
+ * the key to the items with that key, and items with equal keys are
+ * ordered by their item number. This gives every item a unique position
+ * in the index, so walking the index always produces the same order.
+ *
+ * <p>The index does not observe the items. An item must be removed from
+ * the index before the field which the key is extracted from is changed,
+ * and added again afterwards.
+ *
+ * @param <K> The type of the key the items are sorted by
+ * @author 10124
+ * @version 1.0.0
+ */
+class SortedItemIndex<K extends Comparable<? super K>> {
+
+  private final Function<Item, K> keyExtractor;
+  private final NavigableMap<K, NavigableMap<String, Item>> entries;
+
+  /**
+   * A constructor for the {@link SortedItemIndex} class. Creates an
+   * empty index sorted by the key extracted with the specified function.
+   *
+   * @param keyExtractor  The function which extracts the key to sort by from an item
+   */
+  SortedItemIndex(Function<Item, K> keyExtractor) {
+    this.keyExtractor = keyExtractor;
+    this.entries = new TreeMap<>();
+  }
+
+  /**
+   * Adds the specified item to the index under its current key.
+   *
+   * @param item  The {@link Item} which should be added to the index
+   */
+  void add(Item item) {
+    entries.computeIfAbsent(keyExtractor.apply(item), key -> new TreeMap<>())
+            .put(item.getItemNumber(), item);
+  }
+
+  /**
+   * Removes the specified item from the index. The item is looked up
+   * under its current key, so this must be called before the key changes.
+   *
+   * @param item  The {@link Item} which should be removed from the index
+   */
+  void remove(Item item) {
+    K key = keyExtractor.apply(item);
+    NavigableMap<String, Item> itemsWithKey = entries.get(key);
+    if (itemsWithKey != null) {
+      itemsWithKey.remove(item.getItemNumber());
+      if (itemsWithKey.isEmpty()) {
+        entries.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Creates a stream which walks the items of this index in sorted order.
+   * The descending order is the exact reverse of the ascending order.
+   *
+   * @param ascending   If {@code true}, the items are streamed in ascending order,
+   *                    otherwise in descending order
+   * @return            A sequential {@link Stream} of the items in this index
+   */
+  Stream<Item> stream(boolean ascending) {
+    NavigableMap<K, NavigableMap<String, Item>> orderedEntries =
+            ascending ? entries : entries.descendingMap();
+
+    return orderedEntries.values().stream()
+            .flatMap(itemsWithKey ->
+                    (ascending ? itemsWithKey : itemsWithKey.descendingMap()).values().stream());
+  }
+
+  /**
+   * Creates a stream which walks the items of this index in sorted order of their
+   * keys, with the items with the same key in ascending order of item number in
+   * both directions. Used for ranking the items, where the ties should come out in
+   * the same order whether the lowest or the highest keys are ranked first.
+   *
+   * @param ascending   If {@code true}, the keys are streamed in ascending order,
+   *                    otherwise in descending order
+   * @return            A sequential {@link Stream} of the items in this index
+   */
+  Stream<Item> rankedStream(boolean ascending) {
+    NavigableMap<K, NavigableMap<String, Item>> orderedEntries =
+            ascending ? entries : entries.descendingMap();
+
+    return orderedEntries.values().stream()
+            .flatMap(itemsWithKey -> itemsWithKey.values().stream());
+  }
+
+  /**
+   * Creates a stream which walks the items of this index with keys between the
+   * specified keys, both included, in ascending order. Only the items in the range
+   * are visited, so walking the stream takes time proportional to the number of
+   * items in the range, after a logarithmic search for the first of them.
+   *
+   * @param fromKey The lowest key which should be included
+   * @param toKey   The highest key which should be included. Cannot be lower
+   *                than {@code fromKey}
+   * @return        A sequential {@link Stream} of the items in the range
+   */
+  Stream<Item> stream(K fromKey, K toKey) {
+    return entries.subMap(fromKey, true, toKey, true).values().stream()
+            .flatMap(itemsWithKey -> itemsWithKey.values().stream());
+  }
+}
@@ -0,0 +1,94 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An alert that the warehouse stock of an item in an {@link ItemRegister} has crossed
+ * the stock threshold of the item, see {@link ItemRegister#setStockThreshold(Item, int)}.
+ * An item is low on stock when its stock is at or below its threshold.
+ *
+ * <p>The alert keeps the stock and threshold from when the stock was changed, since
+ * the alert is delivered after the change, when the item may have changed again.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class StockAlert {
+
+  private final Item item;
+  private final int threshold;
+  private final int previousStock;
+  private final int warehouseStock;
+
+  /**
+   * A constructor for the {@link StockAlert} class.
+   *
+   * @param item            The read-only view of the item whose stock was changed
+   * @param threshold       The stock threshold of the item when the stock was changed
+   * @param previousStock   The warehouse stock of the item before the change
+   * @param warehouseStock  The warehouse stock of the item after the change
+   */
+  StockAlert(Item item, int threshold, int previousStock, int warehouseStock) {
+    this.item = item;
+    this.threshold = threshold;
+    this.previousStock = previousStock;
+    this.warehouseStock = warehouseStock;
+  }
+
+  /**
+   * Gets the item whose stock crossed its threshold.
+   *
+   * @return The read-only view of the {@link Item}, which shows its current values
+   */
+  public Item getItem() {
+    return item;
+  }
+
+  /**
+   * Gets the stock threshold of the item when the stock was changed.
+   *
+   * @return The threshold which was crossed
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Gets the warehouse stock of the item before the change.
+   *
+   * @return The previous warehouse stock
+   */
+  public int getPreviousStock() {
+    return previousStock;
+  }
+
+  /**
+   * Gets the warehouse stock of the item after the change.
+   *
+   * @return The warehouse stock which crossed the threshold
+   */
+  public int getWarehouseStock() {
+    return warehouseStock;
+  }
+
+  /**
+   * Checks if the stock fell to or below the threshold, or rose above it.
+   *
+   * @return {@code true} if the item became low on stock, otherwise {@code false}
+   *         if the item was restocked above its threshold
+   */
+  public boolean isLowStock() {
+    return warehouseStock <= threshold;
+  }
+
+  /**
+   * Returns a description of this alert.
+   *
+   * @return The item number, the change of the stock and the threshold
+   */
+  @Override
+  public String toString() {
+    return item.getItemNumber() + (isLowStock() ? " is low on stock: " : " was restocked: ")
+            + previousStock + " -> " + warehouseStock + " (threshold " + threshold + ")";
+  }
+}
@@ -0,0 +1,26 @@
+package no.ntnu.idatt1001.common;
+
+/**
+ * A listener which is notified when the warehouse stock of an item in an
+ * {@link ItemRegister} crosses the stock threshold of the item. Listeners are added
+ * with {@link ItemRegister#addStockAlertListener(StockAlertListener)}.
+ *
+ * <p>Alerts are delivered on a background thread of the register, one at a time and
+ * in the order the stock was changed, after the method changing the stock has
+ * returned. A slow listener delays later alerts, but never the changes made to the
+ * register. An exception thrown by a listener is passed to the uncaught exception
+ * handler of the thread, and doesn't stop the alert from reaching the other listeners.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface StockAlertListener {
+
+  /**
+   * Called when the stock of an item has crossed its threshold.
+   *
+   * @param alert The {@link StockAlert} describing the crossing
+   */
+  void stockAlert(StockAlert alert);
+}
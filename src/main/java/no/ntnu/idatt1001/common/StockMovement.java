@@ -0,0 +1,50 @@
+package no.ntnu.idatt1001.common;
+
+/**
+ * A change of the warehouse stock of one item, as a line in a batch of stock
+ * movements. A positive delta adds stock, for example goods arriving at the
+ * receiving dock, and a negative delta removes stock, for example a pick.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class StockMovement {
+
+  private final String itemNumber;
+  private final int delta;
+
+  /**
+   * A constructor for the {@link StockMovement} class.
+   *
+   * @param itemNumber              The item number of the item which the stock
+   *                                should be changed for
+   * @param delta                   The amount the stock should be changed by
+   * @throws NullPointerException   If the specified item number is {@code null}
+   */
+  public StockMovement(String itemNumber, int delta) {
+    if (itemNumber == null) {
+      throw new NullPointerException("Item number cannot be null");
+    }
+
+    this.itemNumber = itemNumber;
+    this.delta = delta;
+  }
+
+  /**
+   * Gets the item number of the item which the stock should be changed for.
+   *
+   * @return The item number of this movement
+   */
+  public String getItemNumber() {
+    return itemNumber;
+  }
+
+  /**
+   * Gets the amount the stock should be changed by.
+   *
+   * @return The delta of this movement
+   */
+  public int getDelta() {
+    return delta;
+  }
+}
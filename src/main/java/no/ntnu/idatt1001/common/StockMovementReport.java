@@ -0,0 +1,59 @@
+package no.ntnu.idatt1001.common;
+
+import java.util.List;
+
+/**
+ * A report of a batch of {@link StockMovement} objects applied to an
+ * {@link ItemRegister}, with one {@link StockMovementResult} for every line in the
+ * batch. A batch is either applied as a whole, or not at all.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class StockMovementReport {
+
+  private final boolean applied;
+  private final List<StockMovementResult> results;
+
+  /**
+   * A constructor for the {@link StockMovementReport} class.
+   *
+   * @param applied   If {@code true}, every movement in the batch was applied
+   * @param results   The results of the lines in the batch, in the order of the batch
+   */
+  StockMovementReport(boolean applied, List<StockMovementResult> results) {
+    this.applied = applied;
+    this.results = List.copyOf(results);
+  }
+
+  /**
+   * Checks if the batch was applied. If it wasn't, no stock was changed.
+   *
+   * @return {@code true} if every movement in the batch was applied, otherwise {@code false}
+   */
+  public boolean isApplied() {
+    return applied;
+  }
+
+  /**
+   * Gets the results of the lines in the batch, in the order of the batch.
+   *
+   * @return An unmodifiable {@link List} of the results
+   */
+  public List<StockMovementResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Gets the results of the lines which caused the batch to be rejected.
+   *
+   * @return A {@link List} of the results which were neither applied nor
+   *         only left out because of other lines
+   */
+  public List<StockMovementResult> getFailures() {
+    return results.stream()
+            .filter(result -> result.getStatus() != StockMovementStatus.APPLIED
+                    && result.getStatus() != StockMovementStatus.NOT_APPLIED)
+            .toList();
+  }
+}
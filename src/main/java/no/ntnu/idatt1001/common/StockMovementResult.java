@@ -0,0 +1,70 @@
+package no.ntnu.idatt1001.common;
+
+/**
+ * The result of one line in a batch of {@link StockMovement} objects, as part of a
+ * {@link StockMovementReport}.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class StockMovementResult {
+
+  private final int line;
+  private final StockMovement movement;
+  private final StockMovementStatus status;
+  private final int warehouseStock;
+
+  /**
+   * A constructor for the {@link StockMovementResult} class.
+   *
+   * @param line            The position of the movement in the batch, starting at 0
+   * @param movement        The movement this is the result of
+   * @param status          The outcome of the movement
+   * @param warehouseStock  The warehouse stock of the item after the batch, or
+   *                        {@code -1} if the item doesn't exist
+   */
+  StockMovementResult(int line, StockMovement movement, StockMovementStatus status,
+                      int warehouseStock) {
+    this.line = line;
+    this.movement = movement;
+    this.status = status;
+    this.warehouseStock = warehouseStock;
+  }
+
+  /**
+   * Gets the position of the movement in the batch, starting at 0.
+   *
+   * @return The line of the movement
+   */
+  public int getLine() {
+    return line;
+  }
+
+  /**
+   * Gets the movement this is the result of.
+   *
+   * @return The {@link StockMovement} of this line
+   */
+  public StockMovement getMovement() {
+    return movement;
+  }
+
+  /**
+   * Gets the outcome of the movement.
+   *
+   * @return The {@link StockMovementStatus} of this line
+   */
+  public StockMovementStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Gets the warehouse stock of the item after the batch. If the batch was rejected,
+   * this is the stock the item had before the batch.
+   *
+   * @return The warehouse stock of the item, or {@code -1} if the item doesn't exist
+   */
+  public int getWarehouseStock() {
+    return warehouseStock;
+  }
+}
@@ -0,0 +1,24 @@
+package no.ntnu.idatt1001.common;
+
+/**
+ * Enum class representing the outcome of one line in a batch of
+ * {@link StockMovement} objects. If any line in a batch fails, no line
+ * in the batch is applied.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum StockMovementStatus {
+
+  /** The movement was applied. */
+  APPLIED,
+  /** The movement was valid, but not applied because another line failed. */
+  NOT_APPLIED,
+  /** No item in the register has the item number of the movement. */
+  ITEM_NOT_FOUND,
+  /** The movements of the item would take its stock below 0. */
+  INSUFFICIENT_STOCK,
+  /** The movements of the item would take its stock above {@link Integer#MAX_VALUE}. */
+  STOCK_OVERFLOW
+
+}
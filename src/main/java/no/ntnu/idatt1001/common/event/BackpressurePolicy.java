@@ -0,0 +1,29 @@
+package no.ntnu.idatt1001.common.event;
+
+/**
+ * An enum representing what an {@link ItemChangeBus} does with a new event when the
+ * queue of a subscriber is full, because the subscriber handles events slower than
+ * the register is changed. Events which are dropped are counted by the
+ * {@link ItemChangeSubscription}, and show up as gaps in the sequence numbers
+ * the subscriber receives.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum BackpressurePolicy {
+  /**
+   * The change to the register waits until there is room in the queue. No event is
+   * lost, but a slow subscriber slows down the changes to the register.
+   */
+  BLOCK,
+  /**
+   * The new event is dropped. The subscriber receives the oldest events, and the
+   * changes to the register never wait.
+   */
+  DROP_NEWEST,
+  /**
+   * The oldest event in the queue is dropped to make room for the new event. The
+   * subscriber receives the latest events, and the changes to the register never wait.
+   */
+  DROP_OLDEST
+}
@@ -0,0 +1,199 @@
+package no.ntnu.idatt1001.common.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.ItemRegisterListener;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+
+/**
+ * A bus publishing every change made to an {@link ItemRegister} as an
+ * {@link ItemChangeEvent} to its subscribers, which handle the events on their own
+ * background threads. This lets other systems follow the register without taking
+ * copies of it.
+ *
+ * <p>The bus is an {@link ItemRegisterListener} of the register. For every change,
+ * the bus makes one read-only copy of the changed item, gives the event the next
+ * sequence number, and puts it in the bounded queue of every subscriber. Nothing else
+ * is done while the register is being changed. If the queue of a subscriber is full,
+ * the {@link BackpressurePolicy} of the subscriber decides if the change waits, or an
+ * event is dropped.
+ *
+ * <p>Items added together with {@link ItemRegister#addAll(java.util.Collection)} and
+ * stock movements applied together with
+ * {@link ItemRegister#applyStockMovements(java.util.Collection)} are published as one
+ * event for every item.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemChangeBus implements AutoCloseable {
+
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private final ItemRegister itemRegister;
+  private final ItemRegisterListener registerListener;
+  private final List<ItemChangeSubscription> subscriptions;
+  private final AtomicLong lastSequence;
+  private volatile boolean closed;
+
+  /**
+   * A constructor for the {@link ItemChangeBus} class. The bus starts publishing the
+   * changes made to the specified register, and has no subscribers.
+   *
+   * @param itemRegister          The register whose changes should be published
+   * @throws NullPointerException If the specified register is {@code null}
+   */
+  public ItemChangeBus(ItemRegister itemRegister) {
+    if (itemRegister == null) {
+      throw new NullPointerException("Item register specified cannot be null");
+    }
+
+    this.itemRegister = itemRegister;
+    this.subscriptions = new CopyOnWriteArrayList<>();
+    this.lastSequence = new AtomicLong();
+    this.registerListener = new RegisterListener();
+    itemRegister.addListener(registerListener);
+  }
+
+  /**
+   * Subscribes the specified subscriber to the events published from now on, with a
+   * queue of {@link ItemChangeBus#DEFAULT_CAPACITY} events and the
+   * {@link BackpressurePolicy#BLOCK} policy.
+   *
+   * @param subscriber              The subscriber which should receive the events
+   * @return                          The {@link ItemChangeSubscription} of the subscriber
+   * @throws IllegalStateException    If this bus has been closed
+   * @throws NullPointerException     If the specified subscriber is {@code null}
+   */
+  public ItemChangeSubscription subscribe(ItemChangeSubscriber subscriber) {
+    return subscribe(subscriber, DEFAULT_CAPACITY, BackpressurePolicy.BLOCK);
+  }
+
+  /**
+   * Subscribes the specified subscriber to the events published from now on.
+   *
+   * @param subscriber              The subscriber which should receive the events
+   * @param capacity                The highest number of events waiting to be delivered
+   *                                to the subscriber. Cannot be 0 or below
+   * @param policy                  What is done with new events when the queue of the
+   *                                subscriber is full
+   * @return                        The {@link ItemChangeSubscription} of the subscriber
+   * @throws IllegalNumberException If the specified capacity is 0 or below
+   * @throws IllegalStateException  If this bus has been closed
+   * @throws NullPointerException   If the specified subscriber or policy is {@code null}
+   */
+  public ItemChangeSubscription subscribe(ItemChangeSubscriber subscriber, int capacity,
+                                          BackpressurePolicy policy) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber specified cannot be null");
+    }
+
+    if (policy == null) {
+      throw new NullPointerException("Backpressure policy specified cannot be null");
+    }
+
+    if (capacity <= 0) {
+      throw new IllegalNumberException("Capacity cannot be 0 or below");
+    }
+
+    if (closed) {
+      throw new IllegalStateException("Item change bus has been closed");
+    }
+
+    ItemChangeSubscription subscription = new ItemChangeSubscription(subscriber, capacity,
+            policy, "item-change-subscriber-" + (subscriptions.size() + 1));
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  /**
+   * Closes the specified subscription, and removes it from this bus.
+   *
+   * @param subscription  The subscription which should be closed
+   * @return              {@code true} if the subscription belonged to this bus,
+   *                      otherwise {@code false}
+   */
+  public boolean unsubscribe(ItemChangeSubscription subscription) {
+    boolean removed = subscriptions.remove(subscription);
+    if (removed) {
+      subscription.close();
+    }
+    return removed;
+  }
+
+  /**
+   * Gets the sequence number of the last event published by this bus.
+   *
+   * @return The last sequence number, or {@code 0} if no events have been published
+   */
+  public long getLastSequence() {
+    return lastSequence.get();
+  }
+
+  /**
+   * Stops publishing the changes made to the register, and closes every subscription.
+   * Closing a closed bus does nothing.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    itemRegister.removeListener(registerListener);
+    subscriptions.forEach(ItemChangeSubscription::close);
+    subscriptions.clear();
+  }
+
+  /**
+   * Publishes an event with the next sequence number to every subscriber.
+   *
+   * @param type        The kind of change
+   * @param item        The read-only view of the changed item
+   * @param stockDelta  The change of the stock, or {@code 0}
+   */
+  private void publish(ItemChangeType type, Item item, int stockDelta) {
+    ItemChangeEvent event = new ItemChangeEvent(lastSequence.incrementAndGet(), type,
+            ItemBuilder.readOnlyCopy(item), stockDelta);
+    for (ItemChangeSubscription subscription : subscriptions) {
+      subscription.offer(event);
+    }
+  }
+
+  /**
+   * The listener of the register, which publishes the changes.
+   */
+  private final class RegisterListener implements ItemRegisterListener {
+
+    @Override
+    public void itemAdded(Item item) {
+      publish(ItemChangeType.ITEM_ADDED, item, 0);
+    }
+
+    @Override
+    public void itemRemoved(Item item) {
+      publish(ItemChangeType.ITEM_REMOVED, item, 0);
+    }
+
+    @Override
+    public void stockChanged(Item item, int delta) {
+      publish(ItemChangeType.STOCK_CHANGED, item, delta);
+    }
+
+    @Override
+    public void priceChanged(Item item) {
+      publish(ItemChangeType.PRICE_CHANGED, item, 0);
+    }
+
+    @Override
+    public void discountChanged(Item item) {
+      publish(ItemChangeType.DISCOUNT_CHANGED, item, 0);
+    }
+
+    @Override
+    public void descriptionChanged(Item item) {
+      publish(ItemChangeType.DESCRIPTION_CHANGED, item, 0);
+    }
+  }
+}
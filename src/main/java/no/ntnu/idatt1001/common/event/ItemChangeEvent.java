@@ -0,0 +1,92 @@
+package no.ntnu.idatt1001.common.event;
+
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An event describing a single change to an {@link no.ntnu.idatt1001.common.ItemRegister},
+ * published by an {@link ItemChangeBus}. Every event of a bus has a sequence number
+ * one higher than the event before it, so a subscriber can tell if it has missed any
+ * events.
+ *
+ * <p>The item of the event is a read-only copy of the item made when the change
+ * happened, so it shows the values of the item right after the change, also when the
+ * event is handled later. The item of a removed item shows its values when it was
+ * removed.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemChangeEvent {
+
+  private final long sequence;
+  private final ItemChangeType type;
+  private final Item item;
+  private final int stockDelta;
+
+  /**
+   * A constructor for the {@link ItemChangeEvent} class.
+   *
+   * @param sequence    The sequence number of the event
+   * @param type        The kind of change
+   * @param item        A read-only copy of the changed item
+   * @param stockDelta  The amount the stock was changed by, or {@code 0} if the
+   *                    event is not a change of the stock
+   */
+  ItemChangeEvent(long sequence, ItemChangeType type, Item item, int stockDelta) {
+    this.sequence = sequence;
+    this.type = type;
+    this.item = item;
+    this.stockDelta = stockDelta;
+  }
+
+  /**
+   * Gets the sequence number of this event. The first event of a bus has the
+   * sequence number 1.
+   *
+   * @return The sequence number of this event
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Gets the kind of change this event describes.
+   *
+   * @return The {@link ItemChangeType} of this event
+   */
+  public ItemChangeType getType() {
+    return type;
+  }
+
+  /**
+   * Gets a read-only copy of the changed item, with the values it had right after
+   * the change.
+   *
+   * @return The changed {@link Item}
+   */
+  public Item getItem() {
+    return item;
+  }
+
+  /**
+   * Gets the amount the warehouse stock was changed by, if this event is a
+   * {@link ItemChangeType#STOCK_CHANGED} event.
+   *
+   * @return The change of the stock, which is negative if the stock was decreased,
+   *         or {@code 0} for the other kinds of events
+   */
+  public int getStockDelta() {
+    return stockDelta;
+  }
+
+  /**
+   * Returns a description of this event.
+   *
+   * @return The sequence number, the kind of change and the item number
+   */
+  @Override
+  public String toString() {
+    return "#" + sequence + " " + type + " " + item.getItemNumber()
+            + (type == ItemChangeType.STOCK_CHANGED ? " " + stockDelta : "");
+  }
+}
@@ -0,0 +1,26 @@
+package no.ntnu.idatt1001.common.event;
+
+/**
+ * A subscriber which receives the {@link ItemChangeEvent} objects published by an
+ * {@link ItemChangeBus}, see
+ * {@link ItemChangeBus#subscribe(ItemChangeSubscriber, int, BackpressurePolicy)}.
+ *
+ * <p>Every subscriber receives its events on its own background thread, one at a time
+ * and in the order of their sequence numbers. An exception thrown by the subscriber is
+ * passed to the uncaught exception handler of the thread, and the subscriber goes on
+ * with the next event.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ItemChangeSubscriber {
+
+  /**
+   * Called with every event published after the subscriber subscribed, unless the
+   * event was dropped because the queue of the subscriber was full.
+   *
+   * @param event The {@link ItemChangeEvent} describing the change
+   */
+  void onEvent(ItemChangeEvent event);
+}
@@ -0,0 +1,153 @@
+package no.ntnu.idatt1001.common.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A subscription of an {@link ItemChangeSubscriber} to an {@link ItemChangeBus}.
+ * The subscription has a bounded queue of events, and a background thread which takes
+ * the events from the queue and hands them to the subscriber. When the queue is full,
+ * new events are handled by the {@link BackpressurePolicy} of the subscription.
+ *
+ * <p>Closing the subscription stops the thread, and the events which are still in the
+ * queue are not delivered.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemChangeSubscription implements AutoCloseable {
+
+  private static final long BLOCK_CHECK_MILLIS = 10;
+
+  private final ItemChangeSubscriber subscriber;
+  private final BackpressurePolicy policy;
+  private final BlockingQueue<ItemChangeEvent> queue;
+  private final AtomicLong droppedCount;
+  private final Thread deliveryThread;
+  private volatile boolean closed;
+
+  /**
+   * A constructor for the {@link ItemChangeSubscription} class. Starts the thread
+   * delivering the events to the subscriber, which doesn't keep the program running.
+   *
+   * @param subscriber  The subscriber which should receive the events
+   * @param capacity    The highest number of events waiting in the queue
+   * @param policy      What is done with new events when the queue is full
+   * @param name        The name of the delivery thread
+   */
+  ItemChangeSubscription(ItemChangeSubscriber subscriber, int capacity,
+                         BackpressurePolicy policy, String name) {
+    this.subscriber = subscriber;
+    this.policy = policy;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.droppedCount = new AtomicLong();
+    this.deliveryThread = new Thread(this::deliverEvents, name);
+    this.deliveryThread.setDaemon(true);
+    this.deliveryThread.start();
+  }
+
+  /**
+   * Gets the backpressure policy of this subscription.
+   *
+   * @return The {@link BackpressurePolicy} used when the queue is full
+   */
+  public BackpressurePolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Gets the number of events which have been dropped because the queue was full.
+   *
+   * @return The number of dropped events
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * Gets the number of events waiting in the queue to be delivered.
+   *
+   * @return The number of waiting events
+   */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * Checks if this subscription has been closed.
+   *
+   * @return {@code true} if the subscription has been closed, otherwise {@code false}
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Closes this subscription. The subscriber doesn't receive any more events,
+   * also not the events which are waiting in the queue. Closing a closed
+   * subscription does nothing.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    deliveryThread.interrupt();
+    queue.clear();
+  }
+
+  /**
+   * Puts the specified event in the queue, following the backpressure policy if the
+   * queue is full. Events published after the subscription has been closed are ignored.
+   *
+   * @param event The event which should be delivered
+   */
+  void offer(ItemChangeEvent event) {
+    if (closed || queue.offer(event)) {
+      return;
+    }
+
+    switch (policy) {
+      case BLOCK -> {
+        try {
+          while (!closed && !queue.offer(event, BLOCK_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+            // Waits until there is room, or the subscription is closed
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          droppedCount.incrementAndGet();
+        }
+      }
+      case DROP_NEWEST -> droppedCount.incrementAndGet();
+      case DROP_OLDEST -> {
+        while (!queue.offer(event)) {
+          if (queue.poll() != null) {
+            droppedCount.incrementAndGet();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Takes the events from the queue and hands them to the subscriber, until the
+   * subscription is closed.
+   */
+  private void deliverEvents() {
+    while (!closed) {
+      ItemChangeEvent event;
+      try {
+        event = queue.take();
+      } catch (InterruptedException e) {
+        return;
+      }
+
+      try {
+        subscriber.onEvent(event);
+      } catch (RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+    }
+  }
+}
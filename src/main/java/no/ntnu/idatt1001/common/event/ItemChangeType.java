@@ -0,0 +1,37 @@
+package no.ntnu.idatt1001.common.event;
+
+import no.ntnu.idatt1001.common.ItemRegister;
+
+/**
+ * An enum representing the kinds of changes to an {@link ItemRegister} which are
+ * published as {@link ItemChangeEvent} objects by an {@link ItemChangeBus}.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum ItemChangeType {
+  /**
+   * An item was added to the register.
+   */
+  ITEM_ADDED,
+  /**
+   * An item was removed from the register.
+   */
+  ITEM_REMOVED,
+  /**
+   * The warehouse stock of an item was increased or decreased.
+   */
+  STOCK_CHANGED,
+  /**
+   * The price of an item was changed.
+   */
+  PRICE_CHANGED,
+  /**
+   * The discount of an item was changed.
+   */
+  DISCOUNT_CHANGED,
+  /**
+   * The description of an item was changed.
+   */
+  DESCRIPTION_CHANGED
+}
@@ -0,0 +1,53 @@
+package no.ntnu.idatt1001.common.io;
+
+/**
+ * A row of a CSV file which could not be imported by an {@link ItemCsvImporter},
+ * as part of a {@link CsvImportReport}.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class CsvImportError {
+
+  private final long row;
+  private final String message;
+
+  /**
+   * A constructor for the {@link CsvImportError} class.
+   *
+   * @param row     The number of the row in the file, where the header is row 1
+   * @param message A description of what is wrong with the row
+   */
+  CsvImportError(long row, String message) {
+    this.row = row;
+    this.message = message;
+  }
+
+  /**
+   * Gets the number of the row in the file, where the header is row 1.
+   *
+   * @return The number of the row
+   */
+  public long getRow() {
+    return row;
+  }
+
+  /**
+   * Gets a description of what is wrong with the row.
+   *
+   * @return The error message of the row
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * A standard to-string method with the row and the error message.
+   *
+   * @return A string with the row and the error message
+   */
+  @Override
+  public String toString() {
+    return "Row " + row + ": " + message;
+  }
+}
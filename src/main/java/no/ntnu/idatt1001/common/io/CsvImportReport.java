@@ -0,0 +1,74 @@
+package no.ntnu.idatt1001.common.io;
+
+import java.util.List;
+
+/**
+ * The outcome of importing a CSV file with an {@link ItemCsvImporter}. Only the first
+ * errors are kept, so the report stays small even if most rows of a large file are
+ * invalid, but every error is counted.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class CsvImportReport {
+
+  private final long rowCount;
+  private final long importedCount;
+  private final long errorCount;
+  private final List<CsvImportError> errors;
+
+  /**
+   * A constructor for the {@link CsvImportReport} class.
+   *
+   * @param rowCount      The number of rows read, not counting the header
+   * @param importedCount The number of items added to the register
+   * @param errorCount    The number of rows which could not be imported
+   * @param errors        The first errors, in the order they were found
+   */
+  CsvImportReport(long rowCount, long importedCount, long errorCount,
+                  List<CsvImportError> errors) {
+    this.rowCount = rowCount;
+    this.importedCount = importedCount;
+    this.errorCount = errorCount;
+    this.errors = List.copyOf(errors);
+  }
+
+  /**
+   * Gets the number of rows which were read, not counting the header or empty rows.
+   *
+   * @return The number of rows
+   */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Gets the number of items which were added to the register.
+   *
+   * @return The number of imported items
+   */
+  public long getImportedCount() {
+    return importedCount;
+  }
+
+  /**
+   * Gets the number of rows which could not be imported. This may be larger than
+   * the number of errors in {@link CsvImportReport#getErrors()}.
+   *
+   * @return The number of rows with errors
+   */
+  public long getErrorCount() {
+    return errorCount;
+  }
+
+  /**
+   * Gets the first errors which were found, in the order they were found. Duplicate
+   * item numbers are found when their batch is added to the register, so they come
+   * after the other errors of the batch.
+   *
+   * @return An unmodifiable list of {@link CsvImportError} objects
+   */
+  public List<CsvImportError> getErrors() {
+    return errors;
+  }
+}
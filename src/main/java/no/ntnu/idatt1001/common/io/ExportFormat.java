@@ -0,0 +1,21 @@
+package no.ntnu.idatt1001.common.io;
+
+/**
+ * An enum representing the file formats an {@link ItemExporter} can write. Both
+ * formats have one item per line, so the files can be read and written as streams.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum ExportFormat {
+  /**
+   * Comma-separated values with a header, in the format read by {@link ItemCsvReader},
+   * so an exported file can be imported again.
+   */
+  CSV,
+  /**
+   * JSON lines, where every line is a JSON object with the same fields as the
+   * columns of {@link ExportFormat#CSV}.
+   */
+  JSON_LINES
+}
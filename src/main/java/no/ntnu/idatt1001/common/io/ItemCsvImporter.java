@@ -0,0 +1,197 @@
+package no.ntnu.idatt1001.common.io;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.DuplicateItemNumberException;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * Imports items from CSV files into an {@link ItemRegister}, in the format read by
+ * {@link ItemCsvReader}. The file is streamed, and the items are added to the register
+ * in batches with {@link ItemRegister#addAll(Collection)}, so only one batch of items
+ * is kept besides the register itself.
+ *
+ * <p>Rows which can't be imported don't stop the import. Every invalid row, and every
+ * row with an item number which already exists in the register or appeared earlier
+ * in the file, is counted and reported in the returned {@link CsvImportReport}, and
+ * the import goes on with the next row. If a batch contains a duplicate item number,
+ * the items of that batch are added one at a time, so only the duplicates are left
+ * out.
+ *
+ * <p>The file is meant to be read at 1 000 000 rows per second or more, and imported
+ * at 50 000 rows per second or more, where most of the time is spent adding the
+ * items to the indexes of the register. {@code ItemCsvImportBenchmark} measures both.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemCsvImporter {
+
+  public static final int DEFAULT_BATCH_SIZE = 10_000;
+  public static final int DEFAULT_MAX_REPORTED_ERRORS = 1_000;
+
+  private final ItemRegister itemRegister;
+  private final int batchSize;
+  private final int maxReportedErrors;
+
+  /**
+   * A constructor for the {@link ItemCsvImporter} class, with the default batch size
+   * and number of reported errors.
+   *
+   * @param itemRegister          The register the items should be added to
+   * @throws NullPointerException If the specified register is {@code null}
+   */
+  public ItemCsvImporter(ItemRegister itemRegister) {
+    this(itemRegister, DEFAULT_BATCH_SIZE, DEFAULT_MAX_REPORTED_ERRORS);
+  }
+
+  /**
+   * A constructor for the {@link ItemCsvImporter} class.
+   *
+   * @param itemRegister            The register the items should be added to
+   * @param batchSize               The number of items added to the register at a time.
+   *                                Cannot be 0 or below
+   * @param maxReportedErrors       The number of errors kept in a report. Later errors
+   *                                are only counted. Cannot be below 0
+   * @throws NullPointerException   If the specified register is {@code null}
+   * @throws IllegalNumberException If the batch size is 0 or below, or the number of
+   *                                reported errors is below 0
+   */
+  public ItemCsvImporter(ItemRegister itemRegister, int batchSize, int maxReportedErrors) {
+    if (itemRegister == null) {
+      throw new NullPointerException("Item register specified cannot be null");
+    }
+
+    if (batchSize <= 0) {
+      throw new IllegalNumberException("Batch size cannot be 0 or below");
+    }
+
+    if (maxReportedErrors < 0) {
+      throw new IllegalNumberException("Number of reported errors cannot be below 0");
+    }
+
+    this.itemRegister = itemRegister;
+    this.batchSize = batchSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  /**
+   * Imports the items in the specified UTF-8 encoded CSV file.
+   *
+   * @param file                  The CSV file which should be imported
+   * @return                      A report of the import
+   * @throws IOException          If the file could not be read, or has no valid header
+   * @throws NullPointerException If the specified file is {@code null}
+   */
+  public CsvImportReport importFrom(Path file) throws IOException {
+    if (file == null) {
+      throw new NullPointerException("File specified cannot be null");
+    }
+
+    try (Reader reader = new InputStreamReader(Files.newInputStream(file),
+            StandardCharsets.UTF_8)) {
+      return importFrom(reader);
+    }
+  }
+
+  /**
+   * Imports the items in the CSV file read by the specified reader. The reader is
+   * not closed.
+   *
+   * @param reader                The reader of the CSV file which should be imported
+   * @return                      A report of the import
+   * @throws IOException          If the file could not be read, or has no valid header
+   * @throws NullPointerException If the specified reader is {@code null}
+   */
+  public CsvImportReport importFrom(Reader reader) throws IOException {
+    ItemCsvReader csvReader = new ItemCsvReader(reader);
+    Import currentImport = new Import();
+
+    while (true) {
+      Item item;
+      try {
+        item = csvReader.readItem();
+      } catch (IllegalArgumentException iae) {
+        currentImport.rowCount++;
+        currentImport.fail(csvReader.getRow(), iae.getMessage());
+        continue;
+      }
+
+      if (item == null) {
+        break;
+      }
+
+      currentImport.rowCount++;
+      currentImport.batch.add(item);
+      currentImport.batchRows[currentImport.batch.size() - 1] = csvReader.getRow();
+      if (currentImport.batch.size() == batchSize) {
+        currentImport.addBatch();
+      }
+    }
+
+    currentImport.addBatch();
+    return new CsvImportReport(currentImport.rowCount, currentImport.importedCount,
+            currentImport.errorCount, currentImport.errors);
+  }
+
+  /**
+   * The state of a single import.
+   */
+  private final class Import {
+
+    private final List<Item> batch = new ArrayList<>(batchSize);
+    private final long[] batchRows = new long[batchSize];
+    private final List<CsvImportError> errors = new ArrayList<>();
+    private long rowCount;
+    private long importedCount;
+    private long errorCount;
+
+    /**
+     * Adds the items of the current batch to the register, and starts a new batch.
+     * If the batch contains a duplicate item number, the items are added one at a
+     * time, and the duplicates are reported.
+     */
+    private void addBatch() {
+      if (batch.isEmpty()) {
+        return;
+      }
+
+      try {
+        itemRegister.addAll(batch);
+        importedCount += batch.size();
+      } catch (DuplicateItemNumberException dine) {
+        for (int i = 0; i < batch.size(); i++) {
+          try {
+            itemRegister.addItem(batch.get(i));
+            importedCount++;
+          } catch (IllegalArgumentException iae) {
+            fail(batchRows[i], "Duplicate item number: " + batch.get(i).getItemNumber());
+          }
+        }
+      }
+      batch.clear();
+    }
+
+    /**
+     * Counts an error of the specified row, and keeps it if there is room in the report.
+     *
+     * @param row     The number of the row
+     * @param message A description of what is wrong with the row
+     */
+    private void fail(long row, String message) {
+      errorCount++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new CsvImportError(row, message));
+      }
+    }
+  }
+}
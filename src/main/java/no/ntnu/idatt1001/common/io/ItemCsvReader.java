@@ -0,0 +1,469 @@
+package no.ntnu.idatt1001.common.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+
+/**
+ * Reads items from a CSV file one row at a time, so a file of any size can be read
+ * in bounded memory. The file is read through a fixed buffer, and only the fields of
+ * the current row are kept.
+ *
+ * <p>The first row is a header naming the columns, which may come in any order. The
+ * names are compared without regard to case, spaces, dashes and underscores, so
+ * {@code itemNumber}, {@code item_number} and {@code Item Number} are the same
+ * column. The columns are the fields of {@link ItemBuilder}, {@code itemNumber},
+ * {@code description}, {@code brandName}, {@code price}, {@code warehouseStock},
+ * {@code weight}, {@code length}, {@code height}, {@code width}, {@code color} and
+ * {@code category}, and the optional {@code discount}. The description may also be
+ * left out, and other columns are ignored. Colors and categories are the names of
+ * the {@link Color} and {@link Category} constants, compared in the same way as
+ * the column names.
+ *
+ * <p>Fields are separated by commas, and fields containing commas, quotes or line
+ * breaks are enclosed in double quotes, with quotes doubled, as in RFC 4180. Rows
+ * are separated by {@code \n} or {@code \r\n}, and empty rows are skipped. A row
+ * longer than {@link ItemCsvReader#MAX_ROW_LENGTH} characters is rejected without
+ * being kept in memory.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemCsvReader implements Closeable {
+
+  public static final int MAX_ROW_LENGTH = 1 << 20;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final Map<String, Color> COLORS = new HashMap<>();
+  private static final Map<String, Category> CATEGORIES = new HashMap<>();
+
+  static {
+    for (Color color : Color.values()) {
+      COLORS.put(normalizeName(color.name()), color);
+    }
+    for (Category category : Category.values()) {
+      CATEGORIES.put(normalizeName(category.name()), category);
+    }
+  }
+
+  /**
+   * The columns of a CSV file of items.
+   */
+  private enum Column {
+    ITEM_NUMBER(true),
+    DESCRIPTION(false),
+    BRAND_NAME(true),
+    PRICE(true),
+    WAREHOUSE_STOCK(true),
+    DISCOUNT(false),
+    WEIGHT(true),
+    LENGTH(true),
+    HEIGHT(true),
+    WIDTH(true),
+    COLOR(true),
+    CATEGORY(true);
+
+    private final boolean required;
+    private final String label;
+
+    Column(boolean required) {
+      this.required = required;
+      this.label = name().toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+  }
+
+  private final Reader reader;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+
+  private final StringBuilder field = new StringBuilder();
+  private String[] fields = new String[Column.values().length];
+  private int fieldCount;
+  private int rowLength;
+  private String rowError;
+  private long row;
+
+  private final int[] columns = new int[Column.values().length];
+
+  /**
+   * A constructor for the {@link ItemCsvReader} class. Reads the header of the
+   * specified CSV file.
+   *
+   * @param reader                The CSV file which should be read
+   * @throws IOException          If the header could not be read, or any required
+   *                              column is missing
+   * @throws NullPointerException If the specified reader is {@code null}
+   */
+  public ItemCsvReader(Reader reader) throws IOException {
+    if (reader == null) {
+      throw new NullPointerException("Reader specified cannot be null");
+    }
+
+    this.reader = reader;
+    if (!readRow() || rowError != null) {
+      throw new IOException("The CSV file has no valid header");
+    }
+
+    Arrays.fill(columns, -1);
+    Map<String, Column> columnNames = new HashMap<>();
+    for (Column column : Column.values()) {
+      columnNames.put(normalizeName(column.name()), column);
+    }
+    for (int i = 0; i < fieldCount; i++) {
+      String name = i == 0 ? stripByteOrderMark(fields[i]) : fields[i];
+      Column column = columnNames.get(normalizeName(name));
+      if (column != null && columns[column.ordinal()] < 0) {
+        columns[column.ordinal()] = i;
+      }
+    }
+    for (Column column : Column.values()) {
+      if (column.required && columns[column.ordinal()] < 0) {
+        throw new IOException("The CSV file has no " + column.label + " column");
+      }
+    }
+  }
+
+  /**
+   * Reads the next row of the file, and creates an {@link Item} with the values of
+   * the row, by utilizing the {@link ItemBuilder} class. If the row is invalid, the
+   * row is skipped, and an exception is thrown, so the next call reads the row
+   * after it.
+   *
+   * @return                          The item of the next row, or {@code null} if
+   *                                  there are no more rows
+   * @throws IOException              If the file could not be read
+   * @throws IllegalArgumentException If the row is malformed, or any of its values
+   *                                  are missing or invalid
+   */
+  public Item readItem() throws IOException {
+    do {
+      if (!readRow()) {
+        return null;
+      }
+    } while (fieldCount == 1 && fields[0].isEmpty() && rowError == null);
+
+    if (rowError != null) {
+      throw new IllegalArgumentException(rowError);
+    }
+
+    Item item = new ItemBuilder()
+            .setItemNumber(text(Column.ITEM_NUMBER))
+            .setDescription(value(Column.DESCRIPTION))
+            .setBrandName(text(Column.BRAND_NAME))
+            .setPrice(intValue(Column.PRICE))
+            .setWarehouseStock(intValue(Column.WAREHOUSE_STOCK))
+            .setWeight(doubleValue(Column.WEIGHT))
+            .setLength(doubleValue(Column.LENGTH))
+            .setHeight(doubleValue(Column.HEIGHT))
+            .setWidth(doubleValue(Column.WIDTH))
+            .setColor(enumValue(Column.COLOR, COLORS))
+            .setCategory(enumValue(Column.CATEGORY, CATEGORIES))
+            .build();
+
+    if (!value(Column.DISCOUNT).isBlank()) {
+      item.setDiscount(doubleValue(Column.DISCOUNT));
+    }
+    return item;
+  }
+
+  /**
+   * Gets the number of the last row which was read, where the header is row 1.
+   * Rows are counted as records, so a row with line breaks in quoted fields is
+   * still one row.
+   *
+   * @return The number of the last row
+   */
+  public long getRow() {
+    return row;
+  }
+
+  /**
+   * Closes the underlying reader.
+   *
+   * @throws IOException If the reader could not be closed
+   */
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  /**
+   * Gets the value of the specified column in the current row.
+   *
+   * @param column  The column
+   * @return        The value, or an empty string if the file has no such column or
+   *                the row has too few fields
+   */
+  private String value(Column column) {
+    int index = columns[column.ordinal()];
+    return index >= 0 && index < fieldCount ? fields[index] : "";
+  }
+
+  /**
+   * Gets the value of the specified text column in the current row, which cannot
+   * be empty.
+   *
+   * @param column                    The column
+   * @return                          The value
+   * @throws IllegalArgumentException If the value is empty
+   */
+  private String text(Column column) {
+    String value = value(column);
+    if (value.isBlank()) {
+      throw new IllegalArgumentException("Missing " + column.label);
+    }
+    return value;
+  }
+
+  /**
+   * Parses the value of the specified integer column in the current row.
+   *
+   * @param column                    The column
+   * @return                          The value
+   * @throws IllegalArgumentException If the value is missing or not an integer
+   */
+  private int intValue(Column column) {
+    String value = text(column);
+    try {
+      return Integer.parseInt(value.strip());
+    } catch (NumberFormatException nfe) {
+      throw new IllegalArgumentException("Invalid " + column.label + ": " + value);
+    }
+  }
+
+  /**
+   * Parses the value of the specified decimal column in the current row.
+   *
+   * @param column                    The column
+   * @return                          The value
+   * @throws IllegalArgumentException If the value is missing or not a number
+   */
+  private double doubleValue(Column column) {
+    String value = text(column);
+    try {
+      return Double.parseDouble(value);
+    } catch (NumberFormatException nfe) {
+      throw new IllegalArgumentException("Invalid " + column.label + ": " + value);
+    }
+  }
+
+  /**
+   * Finds the constant named by the value of the specified column in the current row.
+   *
+   * @param column                    The column
+   * @param constants                 The constants by their normalized names
+   * @param <E>                       The type of the constants
+   * @return                          The constant
+   * @throws IllegalArgumentException If the value is missing or doesn't name a constant
+   */
+  private <E extends Enum<E>> E enumValue(Column column, Map<String, E> constants) {
+    String value = text(column);
+    E constant = constants.get(normalizeName(value));
+    if (constant == null) {
+      throw new IllegalArgumentException("Unknown " + column.label + ": " + value);
+    }
+    return constant;
+  }
+
+  /**
+   * Reads the next row into {@code fields}. If the row is malformed or too long,
+   * the rest of it is skipped, and {@code rowError} describes the problem.
+   *
+   * @return              {@code false} if there are no more rows
+   * @throws IOException  If the file could not be read
+   */
+  private boolean readRow() throws IOException {
+    if (position == limit && !fill()) {
+      return false;
+    }
+
+    row++;
+    fieldCount = 0;
+    rowLength = 0;
+    rowError = null;
+    field.setLength(0);
+    boolean quoted = false;
+
+    while (true) {
+      if (position == limit && !fill()) {
+        if (quoted) {
+          rowError = "Unterminated quoted field";
+        }
+        endField(-1, 0);
+        return true;
+      }
+
+      if (quoted) {
+        char c = buffer[position++];
+        if (c != '"') {
+          append(c);
+        } else if (position == limit && !fill()) {
+          quoted = false;
+        } else if (buffer[position] == '"') {
+          append('"');
+          position++;
+        } else {
+          quoted = false;
+        }
+        continue;
+      }
+
+      int start = position;
+      while (position < limit && isPlain(buffer[position])) {
+        position++;
+      }
+      if (position == limit) {
+        append(start, position - start);
+        continue;
+      }
+
+      char c = buffer[position++];
+      if (c == '"' && field.length() == 0 && position - 1 == start) {
+        quoted = true;
+      } else if (c == '"') {
+        append(start, position - start);
+      } else if (c == ',') {
+        endField(start, position - 1 - start);
+      } else {
+        endField(start, position - 1 - start);
+        if (c == '\r') {
+          if (position == limit) {
+            fill();
+          }
+          if (position < limit && buffer[position] == '\n') {
+            position++;
+          }
+        }
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Checks if the specified character can be part of a field without ending it.
+   *
+   * @param c The character
+   * @return  {@code true} if the character isn't a separator, quote or line break
+   */
+  private static boolean isPlain(char c) {
+    return c != ',' && c != '"' && c != '\n' && c != '\r';
+  }
+
+  /**
+   * Ends the current field, which consists of what was appended to {@code field}
+   * followed by the specified characters of the buffer.
+   *
+   * @param start   The start of the last characters in the buffer, or -1 if there
+   *                are none
+   * @param length  The number of characters in the buffer
+   */
+  private void endField(int start, int length) {
+    String value;
+    if (field.length() == 0 && start >= 0 && rowLength + length <= MAX_ROW_LENGTH) {
+      rowLength += length;
+      value = new String(buffer, start, length);
+    } else {
+      if (start >= 0) {
+        append(start, length);
+      }
+      value = field.toString();
+      field.setLength(0);
+    }
+
+    if (fieldCount == fields.length) {
+      fields = Arrays.copyOf(fields, fields.length * 2);
+    }
+    fields[fieldCount++] = value;
+  }
+
+  /**
+   * Appends the specified character to the current field, unless the row is too long.
+   *
+   * @param c The character
+   */
+  private void append(char c) {
+    if (++rowLength <= MAX_ROW_LENGTH) {
+      field.append(c);
+    } else {
+      tooLong();
+    }
+  }
+
+  /**
+   * Appends the specified characters of the buffer to the current field, unless the
+   * row is too long.
+   *
+   * @param start   The start of the characters in the buffer
+   * @param length  The number of characters
+   */
+  private void append(int start, int length) {
+    rowLength += length;
+    if (rowLength <= MAX_ROW_LENGTH) {
+      field.append(buffer, start, length);
+    } else {
+      tooLong();
+    }
+  }
+
+  /**
+   * Marks the current row as too long, and frees the characters kept for it.
+   */
+  private void tooLong() {
+    rowError = "Row is longer than " + MAX_ROW_LENGTH + " characters";
+    field.setLength(0);
+    field.trimToSize();
+  }
+
+  /**
+   * Reads more characters into the buffer, when all the characters in it are used.
+   *
+   * @return              {@code false} if there are no more characters
+   * @throws IOException  If the file could not be read
+   */
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = reader.read(buffer, 0, buffer.length);
+    } while (read == 0);
+    position = 0;
+    limit = Math.max(read, 0);
+    return read > 0;
+  }
+
+  /**
+   * Removes the byte order mark some programs write at the start of a UTF-8 file.
+   *
+   * @param name  The first column name of the file
+   * @return      The name without a byte order mark
+   */
+  private static String stripByteOrderMark(String name) {
+    return name.startsWith("\uFEFF") ? name.substring(1) : name;
+  }
+
+  /**
+   * Normalizes the specified column or constant name, by removing spaces, dashes and
+   * underscores and converting it to lower case.
+   *
+   * @param name  The name
+   * @return      The normalized name
+   */
+  private static String normalizeName(String name) {
+    StringBuilder normalized = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c != ' ' && c != '-' && c != '_') {
+        normalized.append(Character.toLowerCase(c));
+      }
+    }
+    return normalized.toString();
+  }
+}
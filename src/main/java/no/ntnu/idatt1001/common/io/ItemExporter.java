@@ -0,0 +1,376 @@
+package no.ntnu.idatt1001.common.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.ItemRegisterSnapshot;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * Exports items as CSV or JSON lines, writing straight to an {@link OutputStream} or a
+ * {@link WritableByteChannel}. The items are encoded as UTF-8 into a buffer which is
+ * reused for every item and written out whenever it is full, so the memory used
+ * doesn't depend on the number of items, unlike {@link ItemRegister#toString()}.
+ *
+ * <p>The items of a register are exported from an {@link ItemRegisterSnapshot}, so the
+ * export shows the register at a single point in time, and the register can be
+ * changed while the export is running. The fields are {@code itemNumber},
+ * {@code description}, {@code brandName}, {@code price} without discount,
+ * {@code discount}, {@code warehouseStock}, {@code weight}, {@code length},
+ * {@code height}, {@code width}, {@code color} and {@code category}.
+ *
+ * <p>An exporter reuses its buffers between exports, so it can only be used by one
+ * thread at a time.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemExporter {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final String CSV_HEADER = "itemNumber,description,brandName,price,discount,"
+          + "warehouseStock,weight,length,height,width,color,category\n";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final ExportFormat format;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private final StringBuilder number = new StringBuilder();
+  private WritableByteChannel channel;
+
+  /**
+   * A constructor for the {@link ItemExporter} class.
+   *
+   * @param format                The format the items should be exported in
+   * @throws NullPointerException If the specified format is {@code null}
+   */
+  public ItemExporter(ExportFormat format) {
+    if (format == null) {
+      throw new NullPointerException("Format specified cannot be null");
+    }
+
+    this.format = format;
+  }
+
+  /**
+   * Exports the items of the specified snapshot to the specified stream, in the
+   * order they were added to the register. The stream is not closed.
+   *
+   * @param snapshot              The snapshot which should be exported
+   * @param out                   The stream the items should be written to
+   * @return                      The number of items which were exported
+   * @throws IOException          If the items could not be written
+   * @throws NullPointerException If the specified snapshot or stream is {@code null}
+   */
+  public long export(ItemRegisterSnapshot snapshot, OutputStream out) throws IOException {
+    if (out == null) {
+      throw new NullPointerException("Output stream specified cannot be null");
+    }
+
+    return export(snapshot, Channels.newChannel(out));
+  }
+
+  /**
+   * Exports the items of the specified snapshot to the specified channel, in the
+   * order they were added to the register. The channel is not closed.
+   *
+   * @param snapshot              The snapshot which should be exported
+   * @param channel               The channel the items should be written to
+   * @return                      The number of items which were exported
+   * @throws IOException          If the items could not be written
+   * @throws NullPointerException If the specified snapshot or channel is {@code null}
+   */
+  public long export(ItemRegisterSnapshot snapshot, WritableByteChannel channel)
+          throws IOException {
+    if (snapshot == null) {
+      throw new NullPointerException("Snapshot specified cannot be null");
+    }
+
+    return export(snapshot.stream()::iterator, channel);
+  }
+
+  /**
+   * Exports the specified items to the specified channel, in the order of the
+   * iteration. The channel is not closed.
+   *
+   * @param items                 The items which should be exported
+   * @param channel               The channel the items should be written to
+   * @return                      The number of items which were exported
+   * @throws IOException          If the items could not be written
+   * @throws NullPointerException If the specified items, any item or the channel
+   *                              is {@code null}
+   */
+  public long export(Iterable<Item> items, WritableByteChannel channel) throws IOException {
+    if (items == null) {
+      throw new NullPointerException("Items specified cannot be null");
+    }
+
+    if (channel == null) {
+      throw new NullPointerException("Channel specified cannot be null");
+    }
+
+    this.channel = channel;
+    buffer.clear();
+    try {
+      if (format == ExportFormat.CSV) {
+        writeAscii(CSV_HEADER);
+      }
+
+      long itemCount = 0;
+      for (Item item : items) {
+        if (item == null) {
+          throw new NullPointerException("Item specified cannot be null");
+        }
+
+        if (format == ExportFormat.CSV) {
+          writeCsv(item);
+        } else {
+          writeJson(item);
+        }
+        itemCount++;
+      }
+      flush();
+      return itemCount;
+    } finally {
+      this.channel = null;
+    }
+  }
+
+  /**
+   * Writes the specified item as a row of CSV.
+   *
+   * @param item          The item
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeCsv(Item item) throws IOException {
+    writeCsvText(item.getItemNumber());
+    writeByte(',');
+    writeCsvText(item.getDescription());
+    writeByte(',');
+    writeCsvText(item.getBrandName());
+    writeByte(',');
+    writeNumber(number.append(item.getPriceWithoutDiscount()));
+    writeByte(',');
+    writeNumber(number.append(item.getDiscount()));
+    writeByte(',');
+    writeNumber(number.append(item.getWarehouseStock()));
+    writeByte(',');
+    writeNumber(number.append(item.getWeight()));
+    writeByte(',');
+    writeNumber(number.append(item.getLength()));
+    writeByte(',');
+    writeNumber(number.append(item.getHeight()));
+    writeByte(',');
+    writeNumber(number.append(item.getWidth()));
+    writeByte(',');
+    writeAscii(item.getColor().name());
+    writeByte(',');
+    writeAscii(item.getCategory().name());
+    writeByte('\n');
+  }
+
+  /**
+   * Writes the specified item as a line of JSON.
+   *
+   * @param item          The item
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeJson(Item item) throws IOException {
+    writeAscii("{\"itemNumber\":");
+    writeJsonText(item.getItemNumber());
+    writeAscii(",\"description\":");
+    writeJsonText(item.getDescription());
+    writeAscii(",\"brandName\":");
+    writeJsonText(item.getBrandName());
+    writeAscii(",\"price\":");
+    writeNumber(number.append(item.getPriceWithoutDiscount()));
+    writeAscii(",\"discount\":");
+    writeNumber(number.append(item.getDiscount()));
+    writeAscii(",\"warehouseStock\":");
+    writeNumber(number.append(item.getWarehouseStock()));
+    writeAscii(",\"weight\":");
+    writeNumber(number.append(item.getWeight()));
+    writeAscii(",\"length\":");
+    writeNumber(number.append(item.getLength()));
+    writeAscii(",\"height\":");
+    writeNumber(number.append(item.getHeight()));
+    writeAscii(",\"width\":");
+    writeNumber(number.append(item.getWidth()));
+    writeAscii(",\"color\":\"");
+    writeAscii(item.getColor().name());
+    writeAscii("\",\"category\":\"");
+    writeAscii(item.getCategory().name());
+    writeAscii("\"}\n");
+  }
+
+  /**
+   * Writes the specified text as a CSV field, enclosed in quotes if it contains
+   * commas, quotes or line breaks.
+   *
+   * @param text          The text
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeCsvText(String text) throws IOException {
+    boolean quoted = false;
+    for (int i = 0; i < text.length() && !quoted; i++) {
+      char c = text.charAt(i);
+      quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+
+    if (!quoted) {
+      writeText(text, 0, text.length());
+      return;
+    }
+
+    writeByte('"');
+    int start = 0;
+    for (int i = text.indexOf('"'); i >= 0; i = text.indexOf('"', i + 1)) {
+      writeText(text, start, i + 1);
+      writeByte('"');
+      start = i + 1;
+    }
+    writeText(text, start, text.length());
+    writeByte('"');
+  }
+
+  /**
+   * Writes the specified text as a JSON string, escaping quotes, backslashes and
+   * control characters.
+   *
+   * @param text          The text
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeJsonText(String text) throws IOException {
+    writeByte('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"' || c == '\\') {
+        writeByte('\\');
+        writeByte(c);
+      } else if (c == '\n') {
+        writeAscii("\\n");
+      } else if (c == '\r') {
+        writeAscii("\\r");
+      } else if (c == '\t') {
+        writeAscii("\\t");
+      } else if (c < 0x20) {
+        writeAscii("\\u00");
+        writeByte(HEX_DIGITS[c >> 4]);
+        writeByte(HEX_DIGITS[c & 15]);
+      } else if (c < 0x80) {
+        writeByte(c);
+      } else {
+        i = writeNonAscii(text, i);
+      }
+    }
+    writeByte('"');
+  }
+
+  /**
+   * Writes the specified part of the text as UTF-8.
+   *
+   * @param text          The text
+   * @param start         The position of the first character which should be written
+   * @param end           The position after the last character which should be written
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeText(String text, int start, int end) throws IOException {
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        writeByte(c);
+      } else {
+        i = writeNonAscii(text, i);
+      }
+    }
+  }
+
+  /**
+   * Writes the character at the specified position of the text as UTF-8, together
+   * with the next character if they are a surrogate pair. A surrogate which isn't
+   * part of a pair is written as {@code ?}.
+   *
+   * @param text          The text
+   * @param i             The position of a character which isn't ASCII
+   * @return              The position of the last character which was written
+   * @throws IOException  If the buffer could not be written
+   */
+  private int writeNonAscii(String text, int i) throws IOException {
+    char c = text.charAt(i);
+    if (buffer.remaining() < 4) {
+      flush();
+    }
+
+    if (c < 0x800) {
+      buffer.put((byte) (0xC0 | (c >> 6)));
+      buffer.put((byte) (0x80 | (c & 0x3F)));
+    } else if (!Character.isSurrogate(c)) {
+      buffer.put((byte) (0xE0 | (c >> 12)));
+      buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+      buffer.put((byte) (0x80 | (c & 0x3F)));
+    } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+            && Character.isLowSurrogate(text.charAt(i + 1))) {
+      int codePoint = Character.toCodePoint(c, text.charAt(++i));
+      buffer.put((byte) (0xF0 | (codePoint >> 18)));
+      buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+      buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+      buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+    } else {
+      buffer.put((byte) '?');
+    }
+    return i;
+  }
+
+  /**
+   * Writes the number in the specified builder, and clears it for the next number.
+   *
+   * @param digits        The builder containing the number
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeNumber(StringBuilder digits) throws IOException {
+    for (int i = 0; i < digits.length(); i++) {
+      writeByte(digits.charAt(i));
+    }
+    digits.setLength(0);
+  }
+
+  /**
+   * Writes the specified text, which only contains ASCII characters.
+   *
+   * @param text          The text
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeAscii(String text) throws IOException {
+    for (int i = 0; i < text.length(); i++) {
+      writeByte(text.charAt(i));
+    }
+  }
+
+  /**
+   * Writes the specified ASCII character.
+   *
+   * @param c             The character
+   * @throws IOException  If the buffer could not be written
+   */
+  private void writeByte(char c) throws IOException {
+    if (!buffer.hasRemaining()) {
+      flush();
+    }
+    buffer.put((byte) c);
+  }
+
+  /**
+   * Writes the contents of the buffer to the channel, and clears the buffer.
+   *
+   * @throws IOException  If the buffer could not be written
+   */
+  private void flush() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
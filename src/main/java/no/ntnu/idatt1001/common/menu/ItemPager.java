@@ -0,0 +1,132 @@
+package no.ntnu.idatt1001.common.menu;
+
+import java.io.IOException;
+import java.io.Writer;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+
+/**
+ * A class for showing the items of an {@link ItemRegister} one page at a time, in the
+ * order the register is currently sorted by. Only the items on the current page are
+ * retrieved and formatted, with the {@link ItemRegister#getItems(int, int)} method, so
+ * the time it takes to show a page doesn't grow with the size of the register.
+ *
+ * <p>The pages are numbered from 1. If the register shrinks, the current page is
+ * moved to the last page when it is rendered.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+final class ItemPager {
+
+  static final int DEFAULT_PAGE_SIZE = 20;
+
+  private final ItemRegister itemRegister;
+  private final int pageSize;
+  private final ItemRowFormatter rowFormatter = new ItemRowFormatter();
+  private final StringBuilder pageText = new StringBuilder();
+  private int page;
+
+  /**
+   * A constructor for the {@link ItemPager} class. The pager starts at the first page.
+   *
+   * @param itemRegister            The register which should be shown
+   * @param pageSize                The number of items on every page. Cannot be 0
+   *                                or below
+   * @throws NullPointerException   If the specified register is {@code null}
+   * @throws IllegalNumberException If the specified page size is 0 or below
+   */
+  ItemPager(ItemRegister itemRegister, int pageSize) {
+    if (itemRegister == null) {
+      throw new NullPointerException("Item register specified cannot be null");
+    }
+
+    if (pageSize <= 0) {
+      throw new IllegalNumberException("Page size cannot be 0 or below");
+    }
+
+    this.itemRegister = itemRegister;
+    this.pageSize = pageSize;
+    this.page = 1;
+  }
+
+  /**
+   * Gets the number of the current page.
+   *
+   * @return The current page, starting at 1
+   */
+  int getPage() {
+    return page;
+  }
+
+  /**
+   * Gets the number of pages. An empty register has a single, empty page.
+   *
+   * @return The number of pages
+   */
+  int getPageCount() {
+    return Math.max(1, (itemRegister.size() + pageSize - 1) / pageSize);
+  }
+
+  /**
+   * Moves to the next page, unless the current page is the last.
+   *
+   * @return {@code true} if the page was changed
+   */
+  boolean next() {
+    return jumpTo(page + 1);
+  }
+
+  /**
+   * Moves to the previous page, unless the current page is the first.
+   *
+   * @return {@code true} if the page was changed
+   */
+  boolean previous() {
+    return jumpTo(page - 1);
+  }
+
+  /**
+   * Moves to the specified page, if it exists.
+   *
+   * @param newPage The page which should be shown, starting at 1
+   * @return        {@code true} if the page exists
+   */
+  boolean jumpTo(int newPage) {
+    if (newPage < 1 || newPage > getPageCount()) {
+      return false;
+    }
+
+    page = newPage;
+    return true;
+  }
+
+  /**
+   * Writes the current page to the specified writer, in the same format as
+   * {@link ItemRegister#toString()}, followed by a line with the page number and
+   * the positions of the items on the page. The rows are formatted with an
+   * {@link ItemRowFormatter} into a reused buffer. The writer is not flushed.
+   *
+   * @param out           The writer the page should be written to
+   * @throws IOException  If the page could not be written
+   */
+  void render(Writer out) throws IOException {
+    page = Math.min(page, getPageCount());
+    int fromIndex = (page - 1) * pageSize;
+    int toIndex = Math.min(fromIndex + pageSize, itemRegister.size());
+
+    pageText.setLength(0);
+    pageText.append(ItemRegister.tableHeader()).append("\u001B[33m");
+    for (Item item : itemRegister.getItems(fromIndex, toIndex)) {
+      rowFormatter.appendTo(pageText, item).append('\n');
+    }
+    pageText.append("\u001B[0m");
+
+    pageText.append("\u001B[36mPage ").append(page).append(" of ").append(getPageCount())
+            .append(" (items ").append(Math.min(fromIndex + 1, toIndex)).append('-')
+            .append(toIndex).append(" of ").append(itemRegister.size()).append(")\u001B[0m\n");
+    out.append(pageText);
+  }
+}
@@ -1,15 +1,21 @@
 package no.ntnu.idatt1001.common.menu;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.stream.Collectors;
 import no.ntnu.idatt1001.common.ItemRegister;
 import no.ntnu.idatt1001.common.UserInput;
 import no.ntnu.idatt1001.util.Category;
 import no.ntnu.idatt1001.util.Color;
 import no.ntnu.idatt1001.util.item.Item;
 import no.ntnu.idatt1001.util.item.ItemBuilder;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
 
 
 /**
@@ -23,7 +29,10 @@ import no.ntnu.idatt1001.util.item.ItemBuilder;
  */
 public class Menu {
 
+  private static final int PAGE_BUFFER_SIZE = 1 << 14;
+
   private final ItemRegister itemRegister;
+  private final ItemRowFormatter rowFormatter;
   private final Scanner scanner;
   private boolean running;
 
@@ -31,13 +40,15 @@ public class Menu {
    * A constructor for the {@link Menu} class. Creating an instance
    * requires an {@link ItemRegister} object which will be used
    * through the menu object. An object of the {@link Scanner} class
-   * is also initialized for getting user input.
+   * is also initialized for getting user input, and an {@link ItemRowFormatter}
+   * for printing out items.
    *
    * @param itemRegister  The {@link ItemRegister} which the menu will
    *                      be navigating through
    */
   public Menu(ItemRegister itemRegister) {
     this.itemRegister = itemRegister;
+    this.rowFormatter = new ItemRowFormatter();
     this.scanner = new Scanner(System.in);
     running = true;
   }
@@ -105,12 +116,49 @@ public class Menu {
 
 
   /**
-   * Utilizes the {@link ItemRegister#toString()} method for printing out
-   * the whole item list in the register.
+   * Prints out the item list in the register one page at a time by utilizing
+   * the {@link ItemPager} class. Only the items on the shown page are formatted,
+   * and every page is written through a buffered writer. The user can go to the
+   * next or previous page, or jump to a page by its number, and returns to the
+   * menu by pressing ENTER.
    */
   private void printOutItems() {
-    System.out.println(itemRegister);
-    halt();
+    ItemPager itemPager = new ItemPager(itemRegister, ItemPager.DEFAULT_PAGE_SIZE);
+    Writer out = new BufferedWriter(new OutputStreamWriter(System.out), PAGE_BUFFER_SIZE);
+
+    while (true) {
+      try {
+        itemPager.render(out);
+        out.flush();
+      } catch (IOException ioe) {
+        System.out.println("\u001B[31mCould not print out items\u001B[0m");
+        return;
+      }
+
+      System.out.println("\u001B[32mType N for the next page, P for the previous page, "
+              + "a page number to jump to it, or press ENTER to continue\u001B[0m");
+      String pageInput = scannerNextLine().trim();
+
+      if (pageInput.isEmpty()) {
+        return;
+      } else if (pageInput.equalsIgnoreCase("n")) {
+        if (!itemPager.next()) {
+          System.out.println("\u001B[31mThis is the last page\u001B[0m");
+        }
+      } else if (pageInput.equalsIgnoreCase("p")) {
+        if (!itemPager.previous()) {
+          System.out.println("\u001B[31mThis is the first page\u001B[0m");
+        }
+      } else {
+        try {
+          if (!itemPager.jumpTo(Integer.parseInt(pageInput))) {
+            System.out.println("\u001B[31mPage not found, try again\u001B[0m");
+          }
+        } catch (NumberFormatException nfe) {
+          System.out.println("\u001B[31mInput N, P or a page number, try again\u001B[0m");
+        }
+      }
+    }
   }
 
   /**
@@ -137,15 +185,17 @@ public class Menu {
     }
 
     if (isItemNumber) {
-      System.out.println(itemFoundByItemNumber);
+      System.out.println(rowFormatter.format(itemFoundByItemNumber));
     }
 
     if (isDescription) {
-      itemsFoundByDescription.forEach(item -> {
+      StringBuilder row = new StringBuilder();
+      for (Item item : itemsFoundByDescription) {
         if (!item.getItemNumber().toLowerCase().trim().equals(userInput)) {
-          System.out.println(item);
+          row.setLength(0);
+          System.out.println(rowFormatter.appendTo(row, item));
         }
-      });
+      }
     }
 
     if (!isItemNumber && !isDescription) {
@@ -160,10 +210,16 @@ public class Menu {
   /**
    * Finds all the items by the specified category by
    * utilizing the {@link ItemRegister#searchByCategory(Category)} method.
+   * The number of items in each category is shown next to the categories
+   * by utilizing the {@link ItemRegister#countByCategory(Category)} method.
    */
   private void getItemsByCategory() {
+    String categoriesWithCount = Arrays.stream(Category.values())
+            .map(category -> category + " (" + itemRegister.countByCategory(category) + ")")
+            .collect(Collectors.joining(", ", "[", "]"));
+
     Category categorySelected = Category.valueOf(
-            getUserInput("Choose Category " + Arrays.toString(Category.values()), () -> {
+            getUserInput("Choose Category " + categoriesWithCount, () -> {
               boolean isCategory;
               String categoryInput;
               do {
@@ -183,8 +239,14 @@ public class Menu {
 
     List<Item> itemsFoundByCategory = itemRegister.searchByCategory(categorySelected);
     if (itemsFoundByCategory != null) {
+      System.out.printf("%d items found in %s\n",
+              itemRegister.countByCategory(categorySelected), categorySelected);
       System.out.print("\u001B[33m");
-      itemsFoundByCategory.forEach(System.out::println);
+      StringBuilder row = new StringBuilder();
+      for (Item item : itemsFoundByCategory) {
+        row.setLength(0);
+        System.out.println(rowFormatter.appendTo(row, item));
+      }
       System.out.print("\u001B[0m");
     } else {
       System.out.println("\u001B[32mNo items in the specified category were found\u001B[0m");
@@ -215,13 +277,7 @@ public class Menu {
               isNullString = true;
               continue;
             }
-            List<Item> itemArrayList = itemRegister.getCopyOfList();
-            String finalItemNumberInput = itemNumberInput;
-            itemNumberExists = itemArrayList
-                    .stream()
-                    .anyMatch(item -> item
-                            .getItemNumber()
-                            .equalsIgnoreCase(finalItemNumberInput));
+            itemNumberExists = itemRegister.searchByItemNumber(itemNumberInput) != null;
 
             if (itemNumberExists) {
               System.out.print("\u001B[31mItem number already exists, try again:\u001B[0m");
@@ -679,8 +735,12 @@ public class Menu {
                     + "| %-11s | %-8s | %-18s | %s\n",
             "index", "ITEM NUMBER", "BRAND NAME", "PRICE (DISCOUNT)", "STOCK", "WEIGHT(kg)",
             "LENGTH(m)", "HEIGHT(m)", "WIDTH(m)", "COLOR", "CATEGORY", "DESCRIPTION");
+    StringBuilder row = new StringBuilder();
     for (int i = 0; i < itemRegister.size(); i++) {
-      System.out.printf("%5d %s\n", i + 1, itemRegister.getItem(i));
+      row.setLength(0);
+      String index = Integer.toString(i + 1);
+      row.append(" ".repeat(Math.max(0, 5 - index.length()))).append(index).append(' ');
+      System.out.println(rowFormatter.appendTo(row, itemRegister.getItem(i)));
     }
 
     int listIndex = Integer.parseInt(
@@ -0,0 +1,165 @@
+package no.ntnu.idatt1001.common.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.ItemRegisterSnapshot;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * Writes and reads the checkpoint files of a {@link MutationLog}. A checkpoint contains
+ * every item of an {@link ItemRegisterSnapshot}, and the sequence number of the last
+ * record of the log which the snapshot contains. The register can be restored by
+ * loading the checkpoint and replaying only the records after it.
+ *
+ * <p>The file starts with a magic number, the version of the format, the sequence
+ * number and the number of items, followed by the items written with
+ * {@link ItemCodec}, and ends with a CRC-32C checksum of everything before it. A
+ * checkpoint is written to a temporary file, which is forced to the storage device
+ * and then renamed, so a checkpoint file is always complete.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+final class Checkpoint {
+
+  static final int MAGIC = 0x574D5343;
+  static final int FORMAT_VERSION = 1;
+
+  private static final String PREFIX = "checkpoint-";
+  private static final String SUFFIX = ".bin";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  /**
+   * A private constructor, since this class only has static methods.
+   */
+  private Checkpoint() {
+  }
+
+  /**
+   * Gets the path of the checkpoint with the specified sequence number.
+   *
+   * @param directory The directory of the log
+   * @param sequence  The sequence number of the last record in the checkpoint
+   * @return          The path of the checkpoint file
+   */
+  static Path path(Path directory, long sequence) {
+    return directory.resolve(PREFIX + sequence + SUFFIX);
+  }
+
+  /**
+   * Gets the sequence number of the checkpoint in the specified file.
+   *
+   * @param file  The file which may contain a checkpoint
+   * @return      The sequence number in the name of the file, or -1 if the file
+   *              isn't a checkpoint
+   */
+  static long sequenceOf(Path file) {
+    return MutationLog.numberInName(file, PREFIX, SUFFIX);
+  }
+
+  /**
+   * Checks if the specified file is a temporary checkpoint file, which is left
+   * behind if a checkpoint was interrupted.
+   *
+   * @param file  The file which should be checked
+   * @return      {@code true} if the file is a temporary checkpoint file
+   */
+  static boolean isTemporary(Path file) {
+    return MutationLog.numberInName(file, PREFIX, TEMPORARY_SUFFIX) >= 0;
+  }
+
+  /**
+   * Writes a checkpoint of the specified snapshot to the specified directory. The
+   * checkpoint is first written to a temporary file, which is forced to the storage
+   * device and renamed when it is complete.
+   *
+   * @param directory     The directory of the log
+   * @param snapshot      The snapshot which should be written
+   * @param sequence      The sequence number of the last record in the snapshot
+   * @throws IOException  If the checkpoint could not be written
+   */
+  static void write(Path directory, ItemRegisterSnapshot snapshot, long sequence)
+          throws IOException {
+    Path temporary = directory.resolve(PREFIX + sequence + TEMPORARY_SUFFIX);
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      CRC32C checksum = new CRC32C();
+      DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+              new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE),
+              checksum));
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeLong(sequence);
+      out.writeInt(snapshot.size());
+      for (Item item : snapshot.getItems()) {
+        ItemCodec.write(out, item);
+      }
+      out.flush();
+
+      ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).putInt((int) checksum.getValue());
+      channel.write(trailer.flip());
+      channel.force(true);
+    }
+
+    Files.move(temporary, path(directory, sequence), StandardCopyOption.ATOMIC_MOVE);
+    MutationLog.syncDirectory(directory);
+  }
+
+  /**
+   * Reads the checkpoint in the specified file, and adds its items to the specified
+   * register, which should be empty.
+   *
+   * @param file          The checkpoint file
+   * @param itemRegister  The register which the items should be added to
+   * @return              The sequence number of the last record in the checkpoint
+   * @throws IOException  If the file could not be read, or isn't a valid checkpoint
+   */
+  static long read(Path file, ItemRegister itemRegister) throws IOException {
+    try (InputStream fileInput = new BufferedInputStream(Files.newInputStream(file),
+            BUFFER_SIZE)) {
+      CRC32C checksum = new CRC32C();
+      DataInputStream in = new DataInputStream(new CheckedInputStream(fileInput, checksum));
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        throw new IOException(file + " is not a checkpoint of a supported version");
+      }
+
+      long sequence = in.readLong();
+      int count = in.readInt();
+      if (count < 0) {
+        throw new IOException(file + " is damaged");
+      }
+
+      List<Item> items = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        items.add(ItemCodec.read(in));
+      }
+
+      int actualChecksum = (int) checksum.getValue();
+      if (new DataInputStream(fileInput).readInt() != actualChecksum
+              || fileInput.read() != -1) {
+        throw new IOException(file + " is damaged");
+      }
+
+      itemRegister.addAll(items);
+      return sequence;
+    }
+  }
+}
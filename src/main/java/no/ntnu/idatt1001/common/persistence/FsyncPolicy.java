@@ -0,0 +1,30 @@
+package no.ntnu.idatt1001.common.persistence;
+
+/**
+ * An enum representing when a {@link MutationLog} forces its records to the storage
+ * device. Forcing the records makes sure they survive a crash of the operating system
+ * or a power loss, but is slow, so the policies trade durability for throughput.
+ * A record which has been written, but not forced, survives the program crashing.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public enum FsyncPolicy {
+  /**
+   * Every record is written and forced before the change which it records returns.
+   * No change is lost, but every change waits for the storage device.
+   */
+  EVERY_WRITE,
+  /**
+   * The records are collected in memory, and written and forced together by a
+   * background thread at a fixed interval. The changes made during the last interval
+   * can be lost, but many changes share the cost of forcing.
+   */
+  GROUP_COMMIT,
+  /**
+   * Every record is written when the change is made, but only forced when the log
+   * is synced or closed. The operating system decides when the records reach the
+   * storage device.
+   */
+  OS_BUFFERED
+}
@@ -0,0 +1,118 @@
+package no.ntnu.idatt1001.common.persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+
+/**
+ * Writes and reads the binary format of an {@link Item}, which is used in the files
+ * of this package. The fields are written in the order of the {@link Item}
+ * constructor, with the price without the discount followed by the discount.
+ * Strings are written as their length in bytes followed by their UTF-8 bytes, and
+ * the {@link Color} and {@link Category} are written as the names of the constants.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+final class ItemCodec {
+
+  /**
+   * A private constructor, since this class only has static methods.
+   */
+  private ItemCodec() {
+  }
+
+  /**
+   * Writes the specified {@link Item} to the specified output.
+   *
+   * @param out           The output which the item should be written to
+   * @param item          The item which should be written
+   * @throws IOException  If the output could not be written to
+   */
+  static void write(DataOutput out, Item item) throws IOException {
+    writeString(out, item.getItemNumber());
+    writeString(out, item.getDescription());
+    writeString(out, item.getBrandName());
+    out.writeInt(item.getPriceWithoutDiscount());
+    out.writeDouble(item.getDiscount());
+    out.writeInt(item.getWarehouseStock());
+    out.writeDouble(item.getWeight());
+    out.writeDouble(item.getLength());
+    out.writeDouble(item.getHeight());
+    out.writeDouble(item.getWidth());
+    writeString(out, item.getColor().name());
+    writeString(out, item.getCategory().name());
+  }
+
+  /**
+   * Reads an {@link Item} written by {@link ItemCodec#write(DataOutput, Item)} from
+   * the specified input.
+   *
+   * @param in            The input which the item should be read from
+   * @return              A new {@link Item} with the values which were read
+   * @throws IOException  If the input could not be read from, or doesn't contain
+   *                      a valid item
+   */
+  static Item read(DataInput in) throws IOException {
+    try {
+      ItemBuilder itemBuilder = new ItemBuilder()
+              .setItemNumber(readString(in))
+              .setDescription(readString(in))
+              .setBrandName(readString(in))
+              .setPrice(in.readInt());
+      double discount = in.readDouble();
+      Item item = itemBuilder
+              .setWarehouseStock(in.readInt())
+              .setWeight(in.readDouble())
+              .setLength(in.readDouble())
+              .setHeight(in.readDouble())
+              .setWidth(in.readDouble())
+              .setColor(Color.valueOf(readString(in)))
+              .setCategory(Category.valueOf(readString(in)))
+              .build();
+      item.setDiscount(discount);
+      return item;
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid item", e);
+    }
+  }
+
+  /**
+   * Writes the specified string to the specified output, as its length in bytes
+   * followed by its UTF-8 bytes.
+   *
+   * @param out           The output which the string should be written to
+   * @param string        The string which should be written
+   * @throws IOException  If the output could not be written to
+   */
+  static void writeString(DataOutput out, String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Reads a string written by {@link ItemCodec#writeString(DataOutput, String)} from
+   * the specified input.
+   *
+   * @param in            The input which the string should be read from
+   * @return              The string which was read
+   * @throws IOException  If the input could not be read from, or the length of
+   *                      the string is negative
+   */
+  static String readString(DataInput in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Invalid string length " + length);
+    }
+
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
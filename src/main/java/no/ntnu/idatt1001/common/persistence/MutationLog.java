@@ -0,0 +1,1012 @@
+package no.ntnu.idatt1001.common.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.ItemRegisterListener;
+import no.ntnu.idatt1001.common.ItemRegisterSnapshot;
+import no.ntnu.idatt1001.common.StockMovement;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+
+/**
+ * An append-only log of every change made to an {@link ItemRegister}, which makes the
+ * register survive a restart of the program. The log is kept in a directory, and is
+ * opened with {@link MutationLog#open(Path, FsyncPolicy)}, which restores the register
+ * from the directory, and then adds the log as a listener of the register. From then
+ * on, every change made to the register is appended to the log as a record before the
+ * method making the change returns. When the records are forced to the storage device
+ * is decided by the {@link FsyncPolicy} of the log.
+ *
+ * <p>The records are appended to segment files, named after the sequence number of
+ * their first record. Every segment starts with a header containing a magic number
+ * and the version of the format. Every record contains the length of its payload, a
+ * CRC-32C checksum of the payload and the payload, which contains the sequence number
+ * of the record, the type of the change and the values of the change. Added items are
+ * written with {@link ItemCodec}. A batch of stock movements is written as a single
+ * record, so a batch is either replayed as a whole or not at all.
+ *
+ * <p>After a number of records, the log takes a {@link Checkpoint}. The current segment
+ * is closed, new records are appended to a new segment, and an
+ * {@link ItemRegisterSnapshot} of the register is written to a checkpoint file by a
+ * background thread. When the checkpoint is complete, the older segments and
+ * checkpoints are deleted. Opening the log loads the latest checkpoint, and only
+ * replays the records after it, so the time it takes to open the log depends on the
+ * size of the register and the checkpoint interval, and not on how long the log has
+ * been used. Since files are only deleted once a newer checkpoint is complete, the
+ * program can be stopped at any point during a checkpoint.
+ *
+ * <p>A crash can leave the last record incomplete. When the log is opened, the last
+ * segment is read until the first record which is incomplete or doesn't match its
+ * checksum, and the segment is truncated after the last valid record, so new records
+ * are appended after it.
+ *
+ * <p>If a record cannot be written, or a group commit fails, the log has failed. The
+ * change which was being logged has already been made to the register, and the
+ * method making it throws an {@link UncheckedIOException}. From then on, the log
+ * refuses every change to the register before it is made, by throwing an
+ * {@link UncheckedIOException}, so the register never gets further ahead of the log
+ * than the change which failed, and the changes which were lost in a failed group
+ * commit. Reopening the log restores the register as it was at the last record
+ * which reached the storage device.
+ *
+ * <p>The register is not thread-safe, and should only be changed from one thread
+ * at a time. A checkpoint must be started from that thread too, but the log can be
+ * synced and closed from any thread.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class MutationLog implements ItemRegisterListener, Closeable {
+
+  /**
+   * The interval between the group commits of a log with the
+   * {@link FsyncPolicy#GROUP_COMMIT} policy, when no interval is specified.
+   */
+  public static final long DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS = 10;
+
+  /**
+   * The number of records between the checkpoints of a log, when no interval
+   * is specified.
+   */
+  public static final long DEFAULT_CHECKPOINT_INTERVAL = 100_000;
+
+  static final int MAGIC = 0x574D534C;
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_SIZE = 8;
+
+  private static final String SEGMENT_PREFIX = "mutations-";
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private static final int RECORD_HEADER_SIZE = 8;
+  private static final int MIN_PAYLOAD_SIZE = 9;
+  private static final int MAX_PENDING_BYTES = 1 << 16;
+
+  private static final byte ADD = 1;
+  private static final byte ADD_ALL = 2;
+  private static final byte REMOVE = 3;
+  private static final byte STOCK = 4;
+  private static final byte STOCK_BATCH = 5;
+  private static final byte PRICE = 6;
+  private static final byte DISCOUNT = 7;
+  private static final byte DESCRIPTION = 8;
+
+  private final Path directory;
+  private final ItemRegister itemRegister;
+  private final FsyncPolicy fsyncPolicy;
+  private final long checkpointInterval;
+  private final ScheduledExecutorService groupCommitter;
+  private final ExecutorService checkpointer;
+
+  private final RecordBuffer record;
+  private final DataOutputStream recordOutput;
+  private final RecordBuffer pending;
+  private final CRC32C checksum;
+
+  private FileChannel channel;
+  private long segmentFirstSequence;
+  private long lastSequence;
+  private long lastCheckpointStarted;
+  private boolean closed;
+  private volatile long checkpointSequence;
+  private volatile boolean checkpointRunning;
+  private volatile IOException failure;
+
+  /**
+   * A constructor for the {@link MutationLog} class. Creates a log appending to the
+   * specified segment, which must be positioned after its last valid record.
+   *
+   * @param directory                 The directory of the log
+   * @param itemRegister              The register which the changes are made to
+   * @param fsyncPolicy               When the records are forced to the storage device
+   * @param groupCommitIntervalMillis The interval between the group commits
+   * @param checkpointInterval        The number of records between the checkpoints
+   * @param channel                   The channel of the current segment
+   * @param segmentFirstSequence      The sequence number of the first record in the
+   *                                  current segment
+   * @param lastSequence              The sequence number of the last valid record
+   * @param checkpointSequence        The sequence number of the latest checkpoint
+   */
+  private MutationLog(Path directory, ItemRegister itemRegister, FsyncPolicy fsyncPolicy,
+                      long groupCommitIntervalMillis, long checkpointInterval,
+                      FileChannel channel, long segmentFirstSequence, long lastSequence,
+                      long checkpointSequence) {
+    this.directory = directory;
+    this.itemRegister = itemRegister;
+    this.fsyncPolicy = fsyncPolicy;
+    this.checkpointInterval = checkpointInterval;
+    this.channel = channel;
+    this.segmentFirstSequence = segmentFirstSequence;
+    this.lastSequence = lastSequence;
+    this.lastCheckpointStarted = checkpointSequence;
+    this.checkpointSequence = checkpointSequence;
+    this.record = new RecordBuffer();
+    this.recordOutput = new DataOutputStream(record);
+    this.pending = new RecordBuffer();
+    this.checksum = new CRC32C();
+
+    this.checkpointer = Executors.newSingleThreadExecutor(
+            runnable -> daemonThread(runnable, "mutation-log-checkpoint"));
+    if (fsyncPolicy == FsyncPolicy.GROUP_COMMIT) {
+      groupCommitter = Executors.newSingleThreadScheduledExecutor(
+              runnable -> daemonThread(runnable, "mutation-log-group-commit"));
+      groupCommitter.scheduleWithFixedDelay(this::groupCommit, groupCommitIntervalMillis,
+              groupCommitIntervalMillis, TimeUnit.MILLISECONDS);
+    } else {
+      groupCommitter = null;
+    }
+  }
+
+  /**
+   * Opens the log in the specified directory, and restores it into a new
+   * {@link ItemRegister}. If the directory doesn't exist, it is created, and the
+   * register is empty. A log with the {@link FsyncPolicy#GROUP_COMMIT} policy commits
+   * every {@value #DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS} milliseconds, and a checkpoint
+   * is taken every {@value #DEFAULT_CHECKPOINT_INTERVAL} records.
+   *
+   * @param directory             The directory of the log
+   * @param fsyncPolicy           When the records are forced to the storage device
+   * @return                      The opened log, see {@link MutationLog#getRegister()}
+   * @throws IOException          If the directory could not be read or written, or
+   *                              doesn't contain a valid log
+   * @throws NullPointerException If the specified directory or policy is {@code null}
+   */
+  public static MutationLog open(Path directory, FsyncPolicy fsyncPolicy) throws IOException {
+    return open(directory, fsyncPolicy, DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS,
+            DEFAULT_CHECKPOINT_INTERVAL);
+  }
+
+  /**
+   * Opens the log in the specified directory, and restores it into a new
+   * {@link ItemRegister}. The latest checkpoint is loaded, and the records after it
+   * are replayed. If the directory doesn't exist, it is created, and the register
+   * is empty. Files left behind by an interrupted checkpoint are deleted.
+   *
+   * @param directory                 The directory of the log
+   * @param fsyncPolicy               When the records are forced to the storage device
+   * @param groupCommitIntervalMillis The interval between the group commits, in
+   *                                  milliseconds. Only used by the
+   *                                  {@link FsyncPolicy#GROUP_COMMIT} policy
+   * @param checkpointInterval        The number of records between the checkpoints
+   * @return                          The opened log, see {@link MutationLog#getRegister()}
+   * @throws IOException              If the directory could not be read or written, or
+   *                                  doesn't contain a valid log
+   * @throws IllegalNumberException   If the specified interval or checkpoint interval
+   *                                  is 0 or below
+   * @throws NullPointerException     If the specified directory or policy is {@code null}
+   */
+  public static MutationLog open(Path directory, FsyncPolicy fsyncPolicy,
+                                 long groupCommitIntervalMillis, long checkpointInterval)
+          throws IOException {
+    if (directory == null) {
+      throw new NullPointerException("Directory specified cannot be null");
+    }
+
+    if (fsyncPolicy == null) {
+      throw new NullPointerException("Fsync policy specified cannot be null");
+    }
+
+    if (groupCommitIntervalMillis <= 0) {
+      throw new IllegalNumberException("Group commit interval cannot be 0 or below");
+    }
+
+    if (checkpointInterval <= 0) {
+      throw new IllegalNumberException("Checkpoint interval cannot be 0 or below");
+    }
+
+    Files.createDirectories(directory);
+    List<Path> files = listFiles(directory);
+    ItemRegister itemRegister = new ItemRegister();
+
+    long checkpointSequence = files.stream()
+            .mapToLong(Checkpoint::sequenceOf)
+            .max()
+            .orElse(-1);
+    if (checkpointSequence >= 0) {
+      Path checkpoint = Checkpoint.path(directory, checkpointSequence);
+      if (Checkpoint.read(checkpoint, itemRegister) != checkpointSequence) {
+        throw new IOException(checkpoint + " does not match its name");
+      }
+    } else {
+      checkpointSequence = 0;
+    }
+
+    List<Long> segments = segmentsOf(files);
+    long lastSequence = checkpointSequence;
+    FileChannel channel = null;
+    for (int i = 0; i < segments.size(); i++) {
+      long firstSequence = segments.get(i);
+      if (firstSequence > lastSequence + 1) {
+        throw new IOException("Records " + (lastSequence + 1) + " to " + (firstSequence - 1)
+                + " are missing from " + directory);
+      }
+
+      Path segment = segmentPath(directory, firstSequence);
+      FileChannel segmentChannel = FileChannel.open(segment,
+              StandardOpenOption.READ, StandardOpenOption.WRITE);
+      boolean lastSegment = i == segments.size() - 1;
+      try {
+        lastSequence = replay(segment, segmentChannel, firstSequence, lastSequence,
+                itemRegister, lastSegment);
+      } catch (IOException | RuntimeException e) {
+        segmentChannel.close();
+        throw e;
+      }
+
+      if (lastSegment) {
+        channel = segmentChannel;
+      } else {
+        segmentChannel.close();
+      }
+    }
+
+    long segmentFirstSequence = segments.isEmpty() ? lastSequence + 1
+            : segments.get(segments.size() - 1);
+    if (channel == null) {
+      channel = createSegment(directory, segmentFirstSequence);
+    }
+
+    try {
+      deleteObsoleteFiles(directory, checkpointSequence);
+      MutationLog mutationLog = new MutationLog(directory, itemRegister, fsyncPolicy,
+              groupCommitIntervalMillis, checkpointInterval, channel, segmentFirstSequence,
+              lastSequence, checkpointSequence);
+      itemRegister.addListener(mutationLog);
+      return mutationLog;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Replays the records in the specified segment into the specified register. Records
+   * which are already in the register are skipped. The last segment is truncated after
+   * its last valid record, and positioned at its end.
+   *
+   * @param segment       The path of the segment
+   * @param channel       The channel of the segment
+   * @param firstSequence The sequence number of the first record in the segment
+   * @param lastApplied   The sequence number of the last record in the register
+   * @param itemRegister  The register which the changes should be made to
+   * @param lastSegment   If {@code true}, the segment is the last segment of the log,
+   *                      which is allowed to end with an invalid record
+   * @return              The sequence number of the last record in the register
+   * @throws IOException  If the channel could not be read or written, the segment
+   *                      isn't valid, or a valid record could not be replayed
+   */
+  private static long replay(Path segment, FileChannel channel, long firstSequence,
+                             long lastApplied, ItemRegister itemRegister, boolean lastSegment)
+          throws IOException {
+    if (channel.size() < HEADER_SIZE) {
+      if (!lastSegment) {
+        throw new IOException(segment + " is damaged");
+      }
+      writeHeader(channel);
+      return lastApplied;
+    }
+
+    DataInputStream in = new DataInputStream(
+            new BufferedInputStream(Channels.newInputStream(channel.position(0))));
+    if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+      throw new IOException(segment + " is not a mutation log of a supported version");
+    }
+
+    long size = channel.size();
+    long position = HEADER_SIZE;
+    long previousSequence = firstSequence - 1;
+    CRC32C checksum = new CRC32C();
+    while (size - position >= RECORD_HEADER_SIZE) {
+      int length = in.readInt();
+      int expectedChecksum = in.readInt();
+      if (length < MIN_PAYLOAD_SIZE || length > size - position - RECORD_HEADER_SIZE) {
+        break;
+      }
+
+      byte[] payload = new byte[length];
+      in.readFully(payload);
+      checksum.reset();
+      checksum.update(payload);
+      if ((int) checksum.getValue() != expectedChecksum) {
+        break;
+      }
+
+      DataInputStream payloadInput = new DataInputStream(new ByteArrayInputStream(payload));
+      long sequence = payloadInput.readLong();
+      if (sequence != previousSequence + 1) {
+        throw new IOException("Record " + sequence + " does not follow record "
+                + previousSequence + " in " + segment);
+      }
+
+      if (sequence > lastApplied) {
+        try {
+          apply(payloadInput.readByte(), payloadInput, itemRegister);
+        } catch (EOFException | IllegalArgumentException | NoSuchElementException e) {
+          throw new IOException("Record " + sequence + " could not be replayed", e);
+        }
+        lastApplied = sequence;
+      }
+      position += RECORD_HEADER_SIZE + length;
+      previousSequence = sequence;
+    }
+
+    if (position != size) {
+      if (!lastSegment) {
+        throw new IOException(segment + " is damaged");
+      }
+      channel.truncate(position);
+    }
+    channel.position(position);
+    return lastApplied;
+  }
+
+  /**
+   * Makes the change recorded in the specified payload to the specified register.
+   *
+   * @param type          The type of the change
+   * @param in            The values of the change
+   * @param itemRegister  The register which the change should be made to
+   * @throws IOException  If the payload could not be read, or the type is unknown
+   */
+  private static void apply(byte type, DataInputStream in, ItemRegister itemRegister)
+          throws IOException {
+    switch (type) {
+      case ADD -> itemRegister.addItem(ItemCodec.read(in));
+      case ADD_ALL -> {
+        int count = in.readInt();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+          items.add(ItemCodec.read(in));
+        }
+        itemRegister.addAll(items);
+      }
+      case REMOVE -> itemRegister.removeItem(itemOf(in, itemRegister));
+      case STOCK -> {
+        Item item = itemOf(in, itemRegister);
+        int delta = in.readInt();
+        if (delta >= 0) {
+          itemRegister.increaseItemStock(item, delta);
+        } else {
+          itemRegister.decreaseItemStock(item, -delta);
+        }
+      }
+      case STOCK_BATCH -> {
+        int count = in.readInt();
+        List<StockMovement> movements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+          movements.add(new StockMovement(ItemCodec.readString(in), in.readInt()));
+        }
+        if (!itemRegister.applyStockMovements(movements).isApplied()) {
+          throw new IOException("Stock movements could not be applied");
+        }
+      }
+      case PRICE -> itemRegister.changePriceOfItem(itemOf(in, itemRegister), in.readInt());
+      case DISCOUNT -> itemRegister.changeDiscountOfItem(itemOf(in, itemRegister),
+              in.readDouble());
+      case DESCRIPTION -> itemRegister.changeDescriptionOfItem(itemOf(in, itemRegister),
+              ItemCodec.readString(in));
+      default -> throw new IOException("Unknown record type " + type);
+    }
+  }
+
+  /**
+   * Reads an item number from the specified payload, and finds the item in the
+   * specified register.
+   *
+   * @param in                      The values of the change
+   * @param itemRegister            The register which contains the item
+   * @return                        The read-only view of the item
+   * @throws IOException            If the item number could not be read
+   * @throws NoSuchElementException If the register doesn't contain the item
+   */
+  private static Item itemOf(DataInputStream in, ItemRegister itemRegister) throws IOException {
+    Item item = itemRegister.searchByItemNumber(ItemCodec.readString(in));
+    if (item == null) {
+      throw new NoSuchElementException();
+    }
+    return item;
+  }
+
+  /**
+   * Gets the register which this log records the changes of. The register contains
+   * the changes restored from the log when it was opened.
+   *
+   * @return The {@link ItemRegister} of this log
+   */
+  public ItemRegister getRegister() {
+    return itemRegister;
+  }
+
+  /**
+   * Gets the policy which decides when the records of this log are forced to the
+   * storage device.
+   *
+   * @return The {@link FsyncPolicy} of this log
+   */
+  public FsyncPolicy getFsyncPolicy() {
+    return fsyncPolicy;
+  }
+
+  /**
+   * Gets the sequence number of the last record in this log. The records are
+   * numbered from 1, in the order they were appended.
+   *
+   * @return The sequence number of the last record, or 0 if the log doesn't
+   *         contain any records
+   */
+  public synchronized long getLastSequence() {
+    return lastSequence;
+  }
+
+  /**
+   * Gets the sequence number of the last record in the latest complete checkpoint
+   * of this log. Opening the log only replays the records after it.
+   *
+   * @return The sequence number of the latest checkpoint, or 0 if no checkpoint
+   *         has been taken
+   */
+  public long getCheckpointSequence() {
+    return checkpointSequence;
+  }
+
+  /**
+   * Refuses the change about to be made to the register if this log is closed or
+   * has failed, so the change is not made.
+   *
+   * @throws IllegalStateException  If this log is closed
+   * @throws UncheckedIOException   If this log has failed
+   */
+  @Override
+  public synchronized void beforeChange() {
+    if (closed) {
+      throw new IllegalStateException("Mutation log is closed");
+    }
+
+    if (failure != null) {
+      throw new UncheckedIOException("Mutation log has failed", failure);
+    }
+  }
+
+  @Override
+  public void itemAdded(Item item) {
+    append(ADD, out -> ItemCodec.write(out, item));
+  }
+
+  @Override
+  public void itemsAdded(List<Item> items) {
+    append(ADD_ALL, out -> {
+      out.writeInt(items.size());
+      for (Item item : items) {
+        ItemCodec.write(out, item);
+      }
+    });
+  }
+
+  @Override
+  public void itemRemoved(Item item) {
+    append(REMOVE, out -> ItemCodec.writeString(out, item.getItemNumber()));
+  }
+
+  @Override
+  public void stockChanged(Item item, int delta) {
+    append(STOCK, out -> {
+      ItemCodec.writeString(out, item.getItemNumber());
+      out.writeInt(delta);
+    });
+  }
+
+  @Override
+  public void stockMovementsApplied(Map<Item, Integer> deltas) {
+    append(STOCK_BATCH, out -> {
+      out.writeInt(deltas.size());
+      for (Map.Entry<Item, Integer> delta : deltas.entrySet()) {
+        ItemCodec.writeString(out, delta.getKey().getItemNumber());
+        out.writeInt(delta.getValue());
+      }
+    });
+  }
+
+  @Override
+  public void priceChanged(Item item) {
+    append(PRICE, out -> {
+      ItemCodec.writeString(out, item.getItemNumber());
+      out.writeInt(item.getPriceWithoutDiscount());
+    });
+  }
+
+  @Override
+  public void discountChanged(Item item) {
+    append(DISCOUNT, out -> {
+      ItemCodec.writeString(out, item.getItemNumber());
+      out.writeDouble(item.getDiscount());
+    });
+  }
+
+  @Override
+  public void descriptionChanged(Item item) {
+    append(DESCRIPTION, out -> {
+      ItemCodec.writeString(out, item.getItemNumber());
+      ItemCodec.writeString(out, item.getDescription());
+    });
+  }
+
+  /**
+   * Appends a record of the specified type to this log. The record is built in a
+   * reused buffer, and written or forced according to the {@link FsyncPolicy}. A
+   * checkpoint is started when enough records have been appended since the last one,
+   * unless a checkpoint is already being written. If a checkpoint fails, it is tried
+   * again when the next checkpoint is due. If the record cannot be written, the log
+   * has failed, and refuses every following change.
+   *
+   * @param type                    The type of the change
+   * @param values                  Writes the values of the change
+   * @throws IllegalStateException  If this log is closed
+   * @throws UncheckedIOException   If the record could not be written, or a group
+   *                                commit has failed
+   */
+  private synchronized void append(byte type, RecordValues values) {
+    if (closed) {
+      throw new IllegalStateException("Mutation log is closed");
+    }
+
+    if (failure != null) {
+      throw new UncheckedIOException("Mutation log has failed", failure);
+    }
+
+    try {
+      record.reset();
+      recordOutput.writeLong(0);
+      recordOutput.writeLong(lastSequence + 1);
+      recordOutput.writeByte(type);
+      values.write(recordOutput);
+      record.seal(checksum);
+
+      switch (fsyncPolicy) {
+        case EVERY_WRITE -> {
+          record.writeTo(channel);
+          channel.force(false);
+        }
+        case OS_BUFFERED -> record.writeTo(channel);
+        default -> {
+          pending.write(record.buffer(), 0, record.size());
+          if (pending.size() >= MAX_PENDING_BYTES) {
+            pending.writeTo(channel);
+            pending.reset();
+          }
+        }
+      }
+      lastSequence++;
+
+      if (!checkpointRunning && lastSequence - lastCheckpointStarted >= checkpointInterval) {
+        startCheckpoint();
+      }
+    } catch (IOException e) {
+      failure = e;
+      throw new UncheckedIOException(
+              "Change was made to the register, but could not be logged", e);
+    }
+  }
+
+  /**
+   * Takes a checkpoint of the register, and waits until it is complete. Once this
+   * method returns, the records before the checkpoint have been deleted, and opening
+   * the log only replays the records appended after it. Must be called from the
+   * thread which changes the register.
+   *
+   * @throws IOException            If the checkpoint could not be written
+   * @throws IllegalStateException  If this log is closed
+   */
+  public void checkpoint() throws IOException {
+    Future<?> checkpoint;
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("Mutation log is closed");
+      }
+      checkpoint = startCheckpoint();
+    }
+
+    try {
+      checkpoint.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      throw new IOException("Checkpoint failed", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the checkpoint");
+    }
+  }
+
+  /**
+   * Starts a checkpoint of the current state of the register. New records are
+   * appended to a new segment, and the snapshot of the register is written to a
+   * checkpoint file by the background thread, which deletes the older files when
+   * the checkpoint is complete. Must be called while holding the lock of this log.
+   *
+   * @return              A {@link Future} which completes when the checkpoint is complete
+   * @throws IOException  If the new segment could not be created
+   */
+  private Future<?> startCheckpoint() throws IOException {
+    ItemRegisterSnapshot snapshot = itemRegister.snapshot();
+    long sequence = lastSequence;
+    rollSegment();
+    lastCheckpointStarted = sequence;
+    checkpointRunning = true;
+
+    return checkpointer.submit(() -> {
+      try {
+        if (sequence > checkpointSequence) {
+          Checkpoint.write(directory, snapshot, sequence);
+          checkpointSequence = sequence;
+          deleteObsoleteFiles(directory, sequence);
+        }
+        return null;
+      } finally {
+        checkpointRunning = false;
+      }
+    });
+  }
+
+  /**
+   * Closes the current segment, and appends the following records to a new segment.
+   * The records of the current segment are forced before the new segment is created,
+   * so the segments never have any gaps between them. Nothing is done if the current
+   * segment doesn't contain any records. Must be called while holding the lock of
+   * this log.
+   *
+   * @throws IOException  If the current segment could not be forced, or the new
+   *                      segment could not be created
+   */
+  private void rollSegment() throws IOException {
+    if (segmentFirstSequence == lastSequence + 1) {
+      return;
+    }
+
+    pending.writeTo(channel);
+    pending.reset();
+    channel.force(false);
+
+    FileChannel newChannel = createSegment(directory, lastSequence + 1);
+    channel.close();
+    channel = newChannel;
+    segmentFirstSequence = lastSequence + 1;
+  }
+
+  /**
+   * Writes the records collected since the last group commit, and forces them to the
+   * storage device. Called by the background thread of a log with the
+   * {@link FsyncPolicy#GROUP_COMMIT} policy. If the commit fails, the failure is kept,
+   * and every following change is refused before it is made.
+   */
+  private void groupCommit() {
+    try {
+      sync();
+    } catch (IOException e) {
+      failure = e;
+    }
+  }
+
+  /**
+   * Writes every record appended to this log, and forces them to the storage device.
+   * Every change made to the register before this method was called survives a crash
+   * once the method returns, whatever the {@link FsyncPolicy} of this log.
+   *
+   * @throws IOException  If the records could not be written or forced
+   */
+  public void sync() throws IOException {
+    FileChannel segmentChannel;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      pending.writeTo(channel);
+      pending.reset();
+      segmentChannel = channel;
+    }
+
+    try {
+      segmentChannel.force(false);
+    } catch (ClosedChannelException e) {
+      synchronized (this) {
+        if (segmentChannel == channel) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Syncs and closes this log. A checkpoint which is being written is completed
+   * first. The register can still be read afterwards, but changing it throws an
+   * {@link IllegalStateException}. Closing a closed log does nothing.
+   *
+   * @throws IOException  If the records could not be written or forced, or the
+   *                      files could not be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (groupCommitter != null) {
+      groupCommitter.shutdown();
+    }
+    checkpointer.shutdown();
+
+    try {
+      sync();
+    } finally {
+      synchronized (this) {
+        closed = true;
+        channel.close();
+      }
+
+      try {
+        checkpointer.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Creates a new segment with the specified sequence number, and writes its header.
+   *
+   * @param directory     The directory of the log
+   * @param firstSequence The sequence number of the first record in the segment
+   * @return              The channel of the segment, positioned after the header
+   * @throws IOException  If the segment could not be created
+   */
+  private static FileChannel createSegment(Path directory, long firstSequence)
+          throws IOException {
+    FileChannel segmentChannel = FileChannel.open(segmentPath(directory, firstSequence),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      writeHeader(segmentChannel);
+      syncDirectory(directory);
+      return segmentChannel;
+    } catch (IOException e) {
+      segmentChannel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Replaces the content of the specified segment with the header, and forces it to
+   * the storage device.
+   *
+   * @param segmentChannel  The channel of the segment
+   * @throws IOException    If the header could not be written
+   */
+  private static void writeHeader(FileChannel segmentChannel) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION);
+    segmentChannel.truncate(0);
+    segmentChannel.write(header.flip(), 0);
+    segmentChannel.force(true);
+    segmentChannel.position(HEADER_SIZE);
+  }
+
+  /**
+   * Deletes the files which are no longer needed when the specified checkpoint is
+   * complete. These are the older checkpoints, the segments which only contain records
+   * in the checkpoint, and temporary files left behind by interrupted checkpoints.
+   *
+   * @param directory           The directory of the log
+   * @param checkpointSequence  The sequence number of the latest checkpoint
+   * @throws IOException        If the directory could not be read, or a file could
+   *                            not be deleted
+   */
+  private static void deleteObsoleteFiles(Path directory, long checkpointSequence)
+          throws IOException {
+    List<Path> files = listFiles(directory);
+    for (Path file : files) {
+      long sequence = Checkpoint.sequenceOf(file);
+      if (Checkpoint.isTemporary(file) || (sequence >= 0 && sequence < checkpointSequence)) {
+        Files.deleteIfExists(file);
+      }
+    }
+
+    List<Long> segments = segmentsOf(files);
+    for (int i = 0; i + 1 < segments.size(); i++) {
+      if (segments.get(i + 1) <= checkpointSequence + 1) {
+        Files.deleteIfExists(segmentPath(directory, segments.get(i)));
+      }
+    }
+  }
+
+  /**
+   * Lists the files in the specified directory.
+   *
+   * @param directory     The directory of the log
+   * @return              The files in the directory
+   * @throws IOException  If the directory could not be read
+   */
+  private static List<Path> listFiles(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.toList();
+    }
+  }
+
+  /**
+   * Finds the segments among the specified files.
+   *
+   * @param files The files in the directory of the log
+   * @return      The sequence numbers of the first records of the segments, in
+   *              ascending order
+   */
+  private static List<Long> segmentsOf(List<Path> files) {
+    return files.stream()
+            .map(file -> numberInName(file, SEGMENT_PREFIX, SEGMENT_SUFFIX))
+            .filter(sequence -> sequence >= 0)
+            .sorted()
+            .toList();
+  }
+
+  /**
+   * Gets the path of the segment with the specified sequence number.
+   *
+   * @param directory     The directory of the log
+   * @param firstSequence The sequence number of the first record in the segment
+   * @return              The path of the segment
+   */
+  private static Path segmentPath(Path directory, long firstSequence) {
+    return directory.resolve(SEGMENT_PREFIX + firstSequence + SEGMENT_SUFFIX);
+  }
+
+  /**
+   * Gets the number in the name of the specified file, between the specified
+   * prefix and suffix.
+   *
+   * @param file    The file
+   * @param prefix  The start of the name
+   * @param suffix  The end of the name
+   * @return        The number in the name, or -1 if the name doesn't consist of the
+   *                prefix, a number and the suffix
+   */
+  static long numberInName(Path file, String prefix, String suffix) {
+    String name = file.getFileName().toString();
+    if (!name.startsWith(prefix) || !name.endsWith(suffix)
+            || name.length() == prefix.length() + suffix.length()) {
+      return -1;
+    }
+
+    try {
+      return Long.parseUnsignedLong(name.substring(prefix.length(),
+              name.length() - suffix.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Forces the entries of the specified directory to the storage device, so files
+   * which have been created or renamed in it survive a crash. Not every platform
+   * supports this, and nothing is done if it fails.
+   *
+   * @param directory The directory which should be synced
+   */
+  static void syncDirectory(Path directory) {
+    try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      directoryChannel.force(true);
+    } catch (IOException e) {
+      // Directories can't be opened or forced on every platform
+    }
+  }
+
+  /**
+   * Creates a daemon thread with the specified name, so the background threads of
+   * a log don't keep the program running.
+   *
+   * @param runnable  The task of the thread
+   * @param name      The name of the thread
+   * @return          The new thread
+   */
+  private static Thread daemonThread(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Writes the values of a change to a record.
+   */
+  @FunctionalInterface
+  private interface RecordValues {
+    /**
+     * Writes the values of the change to the specified output.
+     *
+     * @param out           The output of the record
+     * @throws IOException  If the output could not be written to
+     */
+    void write(DataOutput out) throws IOException;
+  }
+
+  /**
+   * A {@link ByteArrayOutputStream} which gives access to its buffer, so records can
+   * be checksummed and written without copying them.
+   */
+  private static final class RecordBuffer extends ByteArrayOutputStream {
+
+    /**
+     * Gets the buffer of this stream. Only the first {@link RecordBuffer#size()}
+     * bytes are valid.
+     *
+     * @return The buffer of this stream
+     */
+    private byte[] buffer() {
+      return buf;
+    }
+
+    /**
+     * Fills in the length and checksum of the record in this buffer, which starts
+     * with a placeholder for them followed by the payload.
+     *
+     * @param checksum  The checksum which should be used
+     */
+    private void seal(CRC32C checksum) {
+      int length = count - RECORD_HEADER_SIZE;
+      checksum.reset();
+      checksum.update(buf, RECORD_HEADER_SIZE, length);
+      ByteBuffer.wrap(buf).putInt(length).putInt((int) checksum.getValue());
+    }
+
+    /**
+     * Writes the bytes in this buffer to the specified channel.
+     *
+     * @param channel       The channel which the bytes should be written to
+     * @throws IOException  If the channel could not be written to
+     */
+    private void writeTo(FileChannel channel) throws IOException {
+      ByteBuffer bytes = ByteBuffer.wrap(buf, 0, count);
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+    }
+  }
+}
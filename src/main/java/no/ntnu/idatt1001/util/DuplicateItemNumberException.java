@@ -0,0 +1,46 @@
+package no.ntnu.idatt1001.util;
+
+import java.util.List;
+
+/**
+ * Thrown to indicate that items could not be added to a register, because
+ * some of their item numbers already exist in the register or appear more
+ * than once among the items. Every duplicate item number is reported.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public class DuplicateItemNumberException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int ITEM_NUMBERS_IN_MESSAGE = 10;
+
+  // List.copyOf always returns a serializable list
+  @SuppressWarnings("serial")
+  private final List<String> duplicateItemNumbers;
+
+  /**
+   * Constructs a {@code DuplicateItemNumberException} with the
+   * specified duplicate item numbers. The detail message contains
+   * the first few of the item numbers.
+   *
+   * @param   duplicateItemNumbers  the item numbers which are duplicates.
+   */
+  public DuplicateItemNumberException(List<String> duplicateItemNumbers) {
+    super(duplicateItemNumbers.size() + " duplicate item numbers: "
+            + String.join(", ", duplicateItemNumbers.subList(0,
+                    Math.min(ITEM_NUMBERS_IN_MESSAGE, duplicateItemNumbers.size())))
+            + (duplicateItemNumbers.size() > ITEM_NUMBERS_IN_MESSAGE ? ", ..." : ""));
+    this.duplicateItemNumbers = List.copyOf(duplicateItemNumbers);
+  }
+
+  /**
+   * Gets every item number which is a duplicate, in the order they were found.
+   *
+   * @return  an unmodifiable list of the duplicate item numbers.
+   */
+  public List<String> getDuplicateItemNumbers() {
+    return duplicateItemNumbers;
+  }
+}
@@ -1,5 +1,7 @@
 package no.ntnu.idatt1001.util.item;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import no.ntnu.idatt1001.util.Category;
 import no.ntnu.idatt1001.util.Color;
 import no.ntnu.idatt1001.util.IllegalNumberException;
@@ -9,16 +11,31 @@ import no.ntnu.idatt1001.util.IllegalNumberException;
  * the warehouse. An item contains information accessed
  * by the warehouse for simple warehouse functionality
  *
+ * <p>The warehouse stock is a volatile field which is changed atomically with
+ * compare-and-set through a {@link VarHandle}, so the stock of an item can be
+ * increased and decreased from several threads without locking.
+ *
  * @author 10124
  * @version 1.1.0
  */
 public class Item {
+  private static final VarHandle WAREHOUSE_STOCK;
+
+  static {
+    try {
+      WAREHOUSE_STOCK = MethodHandles.lookup()
+              .findVarHandle(Item.class, "warehouseStock", int.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
   private final String itemNumber;
   private String description;
   private final String brandName;
 
   private int price;
-  private int warehouseStock;
+  private volatile int warehouseStock;
   private double discount;
 
   private final double weight;
@@ -126,7 +143,7 @@ public class Item {
     this.itemNumber = item.getItemNumber();
     this.description = item.getDescription();
     this.brandName = item.getBrandName();
-    this.price = item.price;
+    this.price = item.getPriceWithoutDiscount();
     this.warehouseStock = item.getWarehouseStock();
     this.weight = item.getWeight();
     this.length = item.getLength();
@@ -177,6 +194,16 @@ public class Item {
     return (int) (price * (1 - (discount / 100)));
   }
 
+  /**
+   * Gets the {@link Item#price} of the item before the {@link Item#discount}
+   * is taken into account.
+   *
+   * @return  The price of the item without discount
+   */
+  public int getPriceWithoutDiscount() {
+    return price;
+  }
+
   /**
    * Gets the {@code discount} of this item.
    *
@@ -250,6 +277,17 @@ public class Item {
   }
 
 
+  /**
+   * Checks if this item is a read-only view or copy. The setters of a read-only
+   * item throw an {@link UnsupportedOperationException}, and a mutable copy can be
+   * made with {@link ItemBuilder#deepCopy(Item)}.
+   *
+   * @return {@code true} if this item is read-only, otherwise {@code false}
+   */
+  public boolean isReadOnly() {
+    return false;
+  }
+
   /**
    * Sets the {@link Item#description} of the item to the specified string.
    *
@@ -306,6 +344,60 @@ public class Item {
     this.warehouseStock = warehouseStock;
   }
 
+  /**
+   * Atomically increases the {@link Item#warehouseStock} of the item by the
+   * specified amount.
+   *
+   * @param amount                    The amount which should be added to the stock
+   * @return                          The warehouse stock after the increase
+   * @throws IllegalNumberException   If the specified amount is below 0, or the
+   *                                  stock would become larger than
+   *                                  {@link Integer#MAX_VALUE}
+   */
+  public int increaseWarehouseStock(int amount) {
+    if (amount < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    int current;
+    do {
+      current = warehouseStock;
+      if (current > Integer.MAX_VALUE - amount) {
+        throw new IllegalNumberException("Warehouse stock cannot be larger than "
+                + Integer.MAX_VALUE);
+      }
+    } while (!WAREHOUSE_STOCK.compareAndSet(this, current, current + amount));
+
+    return current + amount;
+  }
+
+  /**
+   * Atomically decreases the {@link Item#warehouseStock} of the item by the
+   * specified amount, if the item has enough stock. The stock is never
+   * set to a negative integer, not even for a moment.
+   *
+   * @param amount                    The amount which should be subtracted from the stock
+   * @return                          {@code true} if the stock was decreased, otherwise
+   *                                  {@code false} if the item has less stock than the
+   *                                  specified amount
+   * @throws IllegalNumberException   If the specified amount is below 0
+   */
+  public boolean tryDecreaseWarehouseStock(int amount) {
+    if (amount < 0) {
+      throw new IllegalNumberException("Stock amount specified cannot be below 0");
+    }
+
+    int current;
+    do {
+      current = warehouseStock;
+      if (current < amount) {
+        return false;
+      }
+    } while (!WAREHOUSE_STOCK.compareAndSet(this, current, current - amount));
+
+    return true;
+  }
+
   /**
    * A standard to-string method with all the relevant information from this
    * item in a specific format.
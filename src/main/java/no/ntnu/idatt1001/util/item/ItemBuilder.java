@@ -256,4 +256,36 @@ public class ItemBuilder {
 
     return new Item(item);
   }
+
+  /**
+   * A static method for creating a read-only view of an {@link Item} object.
+   * The view always shows the current values of the specified item, and its
+   * setters throw an {@link UnsupportedOperationException}. If the specified
+   * item already is a read-only view, it is returned as is.
+   *
+   * @param item                  The {@link Item} which the view should read from
+   * @return                      A read-only view of the specified item
+   * @throws NullPointerException If the parameter specified is {@code null}
+   */
+  public static Item readOnlyView(Item item) {
+    if (item == null) {
+      throw new NullPointerException("Item cannot be null");
+    }
+
+    return item.isReadOnly() ? item : new ReadOnlyItem(item);
+  }
+
+  /**
+   * A static method for creating a read-only copy of an {@link Item} object.
+   * The values of the specified item are copied into a single new object, whose
+   * setters throw an {@link UnsupportedOperationException}, so the values of the
+   * copy can never change.
+   *
+   * @param item                  The {@link Item} which should be copied from
+   * @return                      A read-only copy of the specified item
+   * @throws NullPointerException If the parameter specified is {@code null}
+   */
+  public static Item readOnlyCopy(Item item) {
+    return new ReadOnlyCopy(item);
+  }
 }
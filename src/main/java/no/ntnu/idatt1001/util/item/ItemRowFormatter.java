@@ -0,0 +1,209 @@
+package no.ntnu.idatt1001.util.item;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formats items as rows of the item table, with the same output as
+ * {@link Item#toString()}, but without {@link String#format(String, Object...)}. The
+ * fixed-width columns are appended straight into a {@link StringBuilder}, which can be
+ * reused for every row, so formatting a row doesn't create any objects in most cases.
+ *
+ * <p>The output is the same as {@link Item#toString()} in the locale of the formatter,
+ * which is the default locale for formatting unless another locale is specified. The
+ * digits and decimal separator of the locale are used, and decimal numbers are
+ * rounded half up from their shortest decimal representation, like
+ * {@link java.util.Formatter} does. A decimal number which is very large, negative
+ * or too close to halfway between two rounded values to be rounded safely with
+ * {@code double} arithmetic is formatted with {@link String#format(String, Object...)}
+ * instead.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+public final class ItemRowFormatter {
+
+  private static final double MAX_FAST_VALUE = 1e7;
+  private static final double TIE_TOLERANCE = 1e-6;
+
+  private final Locale locale;
+  private final char zeroDigit;
+  private final char decimalSeparator;
+
+  /**
+   * A constructor for the {@link ItemRowFormatter} class. Creates a formatter for the
+   * current default locale for formatting.
+   */
+  public ItemRowFormatter() {
+    this(Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  /**
+   * A constructor for the {@link ItemRowFormatter} class.
+   *
+   * @param locale                The locale of the digits and decimal separator
+   * @throws NullPointerException If the specified locale is {@code null}
+   */
+  public ItemRowFormatter(Locale locale) {
+    if (locale == null) {
+      throw new NullPointerException("Locale specified cannot be null");
+    }
+
+    DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+    this.locale = locale;
+    this.zeroDigit = symbols.getZeroDigit();
+    this.decimalSeparator = symbols.getDecimalSeparator();
+  }
+
+  /**
+   * Formats the specified item as a row of the item table.
+   *
+   * @param item                  The item which should be formatted
+   * @return                      The same string as {@link Item#toString()}
+   * @throws NullPointerException If the specified item is {@code null}
+   */
+  public String format(Item item) {
+    return appendTo(new StringBuilder(160), item).toString();
+  }
+
+  /**
+   * Appends the specified item as a row of the item table to the specified builder.
+   *
+   * @param out                   The builder the row should be appended to
+   * @param item                  The item which should be formatted
+   * @return                      The specified builder
+   * @throws NullPointerException If the specified builder or item is {@code null}
+   */
+  public StringBuilder appendTo(StringBuilder out, Item item) {
+    if (out == null) {
+      throw new NullPointerException("String builder specified cannot be null");
+    }
+
+    if (item == null) {
+      throw new NullPointerException("Item specified cannot be null");
+    }
+
+    out.append("| ");
+    appendLeft(out, item.getItemNumber(), 15);
+    out.append(" | ");
+    appendLeft(out, item.getBrandName(), 22);
+    out.append(" | ");
+    appendRight(out, item.getPrice(), 6);
+    out.append(" (");
+    appendRight(out, item.getDiscount(), 8);
+    out.append("%)| ");
+    appendRight(out, item.getWarehouseStock(), 6);
+    out.append(" | ");
+    appendRight(out, item.getWeight(), 10);
+    out.append("kg | ");
+    appendRight(out, item.getLength(), 10);
+    out.append("m | ");
+    appendRight(out, item.getHeight(), 10);
+    out.append("m | ");
+    appendRight(out, item.getWidth(), 10);
+    out.append("m | ");
+    appendLeft(out, item.getColor().toString(), 8);
+    out.append(" | ");
+    appendLeft(out, item.getCategory().toString(), 18);
+    out.append(" | ");
+    return out.append(item.getDescription());
+  }
+
+  /**
+   * Appends the specified text, followed by spaces up to the specified width,
+   * like {@code %-<width>s}.
+   *
+   * @param out   The builder
+   * @param text  The text
+   * @param width The minimum width
+   */
+  private static void appendLeft(StringBuilder out, String text, int width) {
+    out.append(text);
+    for (int i = text.length(); i < width; i++) {
+      out.append(' ');
+    }
+  }
+
+  /**
+   * Appends the specified integer, after spaces up to the specified width,
+   * like {@code %<width>d}.
+   *
+   * @param out   The builder
+   * @param value The integer
+   * @param width The minimum width
+   */
+  private void appendRight(StringBuilder out, int value, int width) {
+    long magnitude = Math.abs((long) value);
+    int length = digitCount(magnitude) + (value < 0 ? 1 : 0);
+    for (int i = length; i < width; i++) {
+      out.append(' ');
+    }
+    if (value < 0) {
+      out.append('-');
+    }
+    appendDigits(out, magnitude);
+  }
+
+  /**
+   * Appends the specified decimal number rounded to two decimals, after spaces up
+   * to the specified width, like {@code %<width>.2f}.
+   *
+   * @param out   The builder
+   * @param value The decimal number
+   * @param width The minimum width
+   */
+  private void appendRight(StringBuilder out, double value, int width) {
+    double scaled = value * 100;
+    long hundredths = (long) scaled;
+    double fraction = scaled - hundredths;
+    if (!(value >= 0 && value < MAX_FAST_VALUE)
+            || Math.abs(fraction - 0.5) < TIE_TOLERANCE) {
+      out.append(String.format(locale, width == 8 ? "%8.2f" : "%10.2f", value));
+      return;
+    }
+
+    if (fraction > 0.5) {
+      hundredths++;
+    }
+    long whole = hundredths / 100;
+    int decimals = (int) (hundredths % 100);
+    for (int i = digitCount(whole) + 3; i < width; i++) {
+      out.append(' ');
+    }
+    appendDigits(out, whole);
+    out.append(decimalSeparator)
+            .append((char) (zeroDigit + decimals / 10))
+            .append((char) (zeroDigit + decimals % 10));
+  }
+
+  /**
+   * Appends the digits of the specified non-negative number in the digits of the locale.
+   *
+   * @param out   The builder
+   * @param value The number
+   */
+  private void appendDigits(StringBuilder out, long value) {
+    long divisor = 1;
+    while (value / divisor >= 10) {
+      divisor *= 10;
+    }
+    for (; divisor > 0; divisor /= 10) {
+      out.append((char) (zeroDigit + (value / divisor) % 10));
+    }
+  }
+
+  /**
+   * Counts the digits of the specified non-negative number.
+   *
+   * @param value The number
+   * @return      The number of digits
+   */
+  private static int digitCount(long value) {
+    int count = 1;
+    while (value >= 10) {
+      value /= 10;
+      count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,100 @@
+package no.ntnu.idatt1001.util.item;
+
+/**
+ * A read-only copy of an {@link Item}. The values of the item are copied into the
+ * fields of the copy when it is created, and its setters throw an
+ * {@link UnsupportedOperationException}, so the values of the copy can never change.
+ * Unlike a view wrapping a deep-copy, the copy is a single object, which halves the
+ * allocations of code taking many copies, such as the snapshots of an item register.
+ *
+ * <p>Copies are created with the {@link ItemBuilder#readOnlyCopy(Item)} method.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+final class ReadOnlyCopy extends Item {
+
+  /**
+   * Constructor for the {@link ReadOnlyCopy} class. Creates a copy of the current
+   * values of the specified item.
+   *
+   * @param item                  The {@link Item} which should be copied from
+   * @throws NullPointerException If the specified item is {@code null}
+   */
+  ReadOnlyCopy(Item item) {
+    super(item);
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
+  /**
+   * Not supported, since this item is a read-only copy.
+   *
+   * @param description                     Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setDescription(String description) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only copy.
+   *
+   * @param price                           Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setPrice(int price) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only copy.
+   *
+   * @param discount                        Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setDiscount(double discount) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only copy.
+   *
+   * @param warehouseStock                  Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setWarehouseStock(int warehouseStock) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only copy.
+   *
+   * @param amount                          Not used
+   * @return                                Never returns
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public int increaseWarehouseStock(int amount) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only copy.
+   *
+   * @param amount                          Not used
+   * @return                                Never returns
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public boolean tryDecreaseWarehouseStock(int amount) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+}
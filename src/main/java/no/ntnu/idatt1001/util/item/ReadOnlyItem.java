@@ -0,0 +1,126 @@
+package no.ntnu.idatt1001.util.item;
+
+/**
+ * A read-only view of an {@link Item}. The view reads the fields which can change,
+ * the description, price, discount and warehouse stock, from the item it was created
+ * for, so it always shows the current values of that item without copying it. The
+ * setters of the view throw an {@link UnsupportedOperationException}.
+ *
+ * <p>Views are created with the {@link ItemBuilder#readOnlyView(Item)} method.
+ *
+ * @author 10124
+ * @version 1.0.0
+ */
+final class ReadOnlyItem extends Item {
+
+  private final Item item;
+
+  /**
+   * Constructor for the {@link ReadOnlyItem} class. Creates a view of the specified item.
+   *
+   * @param item                  The {@link Item} which the view should read from
+   * @throws NullPointerException If the specified item is {@code null}
+   */
+  ReadOnlyItem(Item item) {
+    super(item);
+    this.item = item;
+  }
+
+  @Override
+  public String getDescription() {
+    return item.getDescription();
+  }
+
+  @Override
+  public int getPrice() {
+    return item.getPrice();
+  }
+
+  @Override
+  public int getPriceWithoutDiscount() {
+    return item.getPriceWithoutDiscount();
+  }
+
+  @Override
+  public double getDiscount() {
+    return item.getDiscount();
+  }
+
+  @Override
+  public int getWarehouseStock() {
+    return item.getWarehouseStock();
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
+  /**
+   * Not supported, since this item is a read-only view.
+   *
+   * @param description                     Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setDescription(String description) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only view.
+   *
+   * @param price                           Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setPrice(int price) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only view.
+   *
+   * @param discount                        Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setDiscount(double discount) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only view.
+   *
+   * @param warehouseStock                  Not used
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public void setWarehouseStock(int warehouseStock) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only view.
+   *
+   * @param amount                          Not used
+   * @return                                Never returns
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public int increaseWarehouseStock(int amount) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+
+  /**
+   * Not supported, since this item is a read-only view.
+   *
+   * @param amount                          Not used
+   * @return                                Never returns
+   * @throws UnsupportedOperationException  Always
+   */
+  @Override
+  public boolean tryDecreaseWarehouseStock(int amount) {
+    throw new UnsupportedOperationException("Item is read-only");
+  }
+}
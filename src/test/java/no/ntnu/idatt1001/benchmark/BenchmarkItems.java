@@ -0,0 +1,71 @@
+package no.ntnu.idatt1001.benchmark;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+
+/**
+ * Generates items with varied values for the benchmarks. The same index
+ * always gives an item with the same values, so every benchmark run works
+ * on the same data.
+ */
+final class BenchmarkItems {
+
+  private static final Color[] COLORS = Color.values();
+  private static final Category[] CATEGORIES = Category.values();
+  private static final String[] WORDS = {
+    "Large", "Small", "Christmas", "Window", "Door", "Cherry", "Lumber", "Magnetic",
+    "Thermal", "Insulated", "Basement", "Hopper", "Vinyl", "Floor", "Tile", "Steel"
+  };
+
+  private BenchmarkItems() {
+  }
+
+  /**
+   * Creates the item with the specified index.
+   *
+   * @param index The index of the item
+   * @return      An {@link Item} with values derived from the index
+   */
+  static Item item(int index) {
+    int hash = mix(index);
+    Item item = new ItemBuilder()
+            .setItemNumber(itemNumber(index))
+            .setDescription(WORDS[hash & 15] + " " + WORDS[(hash >>> 4) & 15] + " "
+                    + WORDS[(hash >>> 8) & 15])
+            .setBrandName("Brand " + ((hash >>> 12) & 255))
+            .setPrice(1 + ((hash >>> 3) & 1023))
+            .setWarehouseStock((hash >>> 7) & 511)
+            .setWeight(0.1 + ((hash >>> 5) & 1023) / 10.0)
+            .setLength(0.5 + ((hash >>> 9) & 255) / 10.0)
+            .setHeight(0.5 + ((hash >>> 11) & 255) / 10.0)
+            .setWidth(0.5 + ((hash >>> 13) & 255) / 10.0)
+            .setColor(COLORS[Math.floorMod(hash, COLORS.length)])
+            .setCategory(CATEGORIES[Math.floorMod(hash >>> 16, CATEGORIES.length)])
+            .build();
+    item.setDiscount((hash >>> 20) & 31);
+    return item;
+  }
+
+  /**
+   * Creates the item number of the item with the specified index.
+   *
+   * @param index The index of the item
+   * @return      The item number of the item
+   */
+  static String itemNumber(int index) {
+    return "SKU" + index;
+  }
+
+  /**
+   * Scrambles the bits of the specified index, for spreading the values of the items.
+   *
+   * @param index The index which should be scrambled
+   * @return      The scrambled index
+   */
+  private static int mix(int index) {
+    int hash = index * 0x9E3779B9;
+    return hash ^ (hash >>> 15);
+  }
+}
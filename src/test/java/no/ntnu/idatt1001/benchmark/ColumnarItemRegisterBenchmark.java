@@ -0,0 +1,136 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import no.ntnu.idatt1001.common.ColumnarItemRegister;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark comparing scans over a list of {@link Item} objects with the
+ * column scans of {@link ColumnarItemRegister}. The item list is shuffled, so the
+ * items are visited in a different order than they were allocated in, like in a
+ * register which has been running for a while.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ColumnarItemRegisterBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnarItemRegisterBenchmark {
+
+  @Param({"1000000"})
+  private int itemCount;
+
+  private List<Item> itemList;
+  private ColumnarItemRegister columnarItemRegister;
+
+  /**
+   * Fills the item list and the columnar register with the same items.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    itemList = new ArrayList<>(itemCount);
+    columnarItemRegister = new ColumnarItemRegister(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      Item item = BenchmarkItems.item(i);
+      itemList.add(item);
+      columnarItemRegister.addItem(item);
+    }
+    Collections.shuffle(itemList, new Random(42));
+  }
+
+  /**
+   * Sums the warehouse stock by visiting every item object.
+   *
+   * @return The total warehouse stock
+   */
+  @Benchmark
+  public long sumWarehouseStockObjects() {
+    long sum = 0;
+    for (Item item : itemList) {
+      sum += item.getWarehouseStock();
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the warehouse stock by scanning the warehouse stock column.
+   *
+   * @return The total warehouse stock
+   */
+  @Benchmark
+  public long sumWarehouseStockColumnar() {
+    return columnarItemRegister.sumWarehouseStock();
+  }
+
+  /**
+   * Sums the warehouse stock of one category by visiting every item object.
+   *
+   * @return The total warehouse stock of the category
+   */
+  @Benchmark
+  public long sumCategoryStockObjects() {
+    long sum = 0;
+    for (Item item : itemList) {
+      if (item.getCategory() == Category.DOORS) {
+        sum += item.getWarehouseStock();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the warehouse stock of one category by scanning the category and
+   * warehouse stock columns.
+   *
+   * @return The total warehouse stock of the category
+   */
+  @Benchmark
+  public long sumCategoryStockColumnar() {
+    return columnarItemRegister.sumWarehouseStock(Category.DOORS);
+  }
+
+  /**
+   * Sums the stock value by visiting every item object.
+   *
+   * @return The total stock value
+   */
+  @Benchmark
+  public long sumStockValueObjects() {
+    long sum = 0;
+    for (Item item : itemList) {
+      sum += (long) item.getPrice() * item.getWarehouseStock();
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the stock value by scanning the price, discount and warehouse stock columns.
+   *
+   * @return The total stock value
+   */
+  @Benchmark
+  public long sumStockValueColumnar() {
+    return columnarItemRegister.sumStockValue();
+  }
+}
@@ -0,0 +1,124 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import no.ntnu.idatt1001.common.ItemAggregate;
+import no.ntnu.idatt1001.common.ItemGrouping;
+import no.ntnu.idatt1001.common.ItemMeasure;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark of {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)}, run in
+ * fork-join pools with different numbers of threads, compared with a sequential scan
+ * of the items. The time of the parallel scan should fall with the number of threads,
+ * up to the number of cores of the machine.
+ *
+ * <p>An {@link ItemRegister} uses around 1.5 kB of memory for every item, so the
+ * register is filled with 1 000 000 items by default. Scanning 10 000 000 items takes
+ * {@code -p itemCount=10000000} and a heap of around 20 GB, for example with
+ * {@code -jvmArgs -Xmx20g}.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ItemAggregationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemAggregationBenchmark {
+
+  private static final int BATCH_SIZE = 100_000;
+
+  @Param({"1000000"})
+  private int itemCount;
+
+  @Param({"1", "2", "4", "8"})
+  private int parallelism;
+
+  private ItemRegister itemRegister;
+  private ForkJoinPool pool;
+
+  /**
+   * Fills the register with the items, and creates the pool of threads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    itemRegister = new ItemRegister();
+    List<Item> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < itemCount; i++) {
+      batch.add(BenchmarkItems.item(i));
+      if (batch.size() == BATCH_SIZE) {
+        itemRegister.addAll(batch);
+        batch.clear();
+      }
+    }
+    itemRegister.addAll(batch);
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Shuts down the pool of threads.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  /**
+   * Aggregates the stock value by category in parallel.
+   *
+   * @return The aggregates of every category
+   */
+  @Benchmark
+  public Map<Category, ItemAggregate> stockValueByCategory() {
+    return pool.submit(() ->
+            itemRegister.aggregate(ItemMeasure.STOCK_VALUE, ItemGrouping.BY_CATEGORY)).join();
+  }
+
+  /**
+   * Aggregates the stock value by brand in parallel.
+   *
+   * @return The aggregates of every brand
+   */
+  @Benchmark
+  public Map<String, ItemAggregate> stockValueByBrand() {
+    return pool.submit(() ->
+            itemRegister.aggregate(ItemMeasure.STOCK_VALUE, ItemGrouping.BY_BRAND)).join();
+  }
+
+  /**
+   * Sums the stock value by category in a sequential scan of the items, for comparison.
+   *
+   * @return The total stock value of every category
+   */
+  @Benchmark
+  public Map<Category, Double> sequentialStockValueByCategory() {
+    Map<Category, Double> stockValues = new EnumMap<>(Category.class);
+    for (Item item : itemRegister.getItems()) {
+      stockValues.merge(item.getCategory(),
+              (double) item.getPrice() * item.getWarehouseStock(), Double::sum);
+    }
+    return stockValues;
+  }
+}
@@ -0,0 +1,135 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.io.CsvImportReport;
+import no.ntnu.idatt1001.common.io.ItemCsvImporter;
+import no.ntnu.idatt1001.common.io.ItemCsvReader;
+import no.ntnu.idatt1001.util.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark measuring how many rows per second are read from generated CSV
+ * files. {@code readItems} parses and validates a file of 10 000 000 rows with an
+ * {@link ItemCsvReader}, which shows that the file is streamed in bounded memory.
+ * {@code importItems} imports a file of 250 000 rows into an empty
+ * {@link ItemRegister} with an {@link ItemCsvImporter}, since 10 000 000 items don't
+ * fit in the heap of the benchmark together with the indexes of the register. The
+ * targets are 1 000 000 rows per second for reading, and 50 000 rows per second for
+ * importing, which is bounded by adding the items to the indexes of the register.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ItemCsvImportBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemCsvImportBenchmark {
+
+  private static final int ROW_COUNT = 10_000_000;
+  private static final int IMPORTED_ROW_COUNT = 250_000;
+
+  private Path directory;
+  private Path file;
+  private Path importedFile;
+
+  /**
+   * Generates the CSV files in the temporary directory.
+   *
+   * @throws IOException If the files could not be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("wms-benchmark");
+    file = directory.resolve("items.csv");
+    importedFile = directory.resolve("imported-items.csv");
+    writeFile(file, ROW_COUNT);
+    writeFile(importedFile, IMPORTED_ROW_COUNT);
+  }
+
+  /**
+   * Deletes the CSV files.
+   *
+   * @throws IOException If the files could not be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(file);
+    Files.delete(importedFile);
+    Files.delete(directory);
+  }
+
+  /**
+   * Reads every item of the large file, without adding them to a register.
+   *
+   * @return              The number of items read
+   * @throws IOException  If the file could not be read
+   */
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public long readItems() throws IOException {
+    long itemCount = 0;
+    try (ItemCsvReader reader = new ItemCsvReader(new InputStreamReader(
+            Files.newInputStream(file), StandardCharsets.UTF_8))) {
+      while (reader.readItem() != null) {
+        itemCount++;
+      }
+    }
+    return itemCount;
+  }
+
+  /**
+   * Imports every item of the smaller file into an empty register.
+   *
+   * @return              The report of the import
+   * @throws IOException  If the file could not be read
+   */
+  @Benchmark
+  @OperationsPerInvocation(IMPORTED_ROW_COUNT)
+  public CsvImportReport importItems() throws IOException {
+    return new ItemCsvImporter(new ItemRegister()).importFrom(importedFile);
+  }
+
+  /**
+   * Writes a CSV file with the specified number of generated items.
+   *
+   * @param path          The file which should be written
+   * @param rowCount      The number of rows
+   * @throws IOException  If the file could not be written
+   */
+  private static void writeFile(Path path, int rowCount) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      writer.write("itemNumber,description,brandName,price,discount,warehouseStock,"
+              + "weight,length,height,width,color,category\n");
+      for (int i = 0; i < rowCount; i++) {
+        Item item = BenchmarkItems.item(i);
+        writer.write(item.getItemNumber() + "," + item.getDescription() + ","
+                + item.getBrandName() + "," + item.getPriceWithoutDiscount() + ","
+                + item.getDiscount() + "," + item.getWarehouseStock() + ","
+                + item.getWeight() + "," + item.getLength() + "," + item.getHeight() + ","
+                + item.getWidth() + "," + item.getColor() + "," + item.getCategory() + "\n");
+      }
+    }
+  }
+}
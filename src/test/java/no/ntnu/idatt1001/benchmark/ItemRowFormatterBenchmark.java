@@ -0,0 +1,82 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemRowFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark comparing {@link Item#toString()} with an {@link ItemRowFormatter}
+ * appending into a reused {@link StringBuilder}, when formatting the rows of a listing.
+ * The score is the time per row. Run with {@code -prof gc} to compare the memory
+ * allocated per row as well.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ItemRowFormatterBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemRowFormatterBenchmark {
+
+  private static final int ITEM_COUNT = 1000;
+
+  private final List<Item> items = new ArrayList<>(ITEM_COUNT);
+  private final StringBuilder listing = new StringBuilder();
+  private final ItemRowFormatter rowFormatter = new ItemRowFormatter();
+
+  /**
+   * Creates the items to format.
+   */
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      items.add(BenchmarkItems.item(i));
+    }
+  }
+
+  /**
+   * Formats every item with {@link Item#toString()}.
+   *
+   * @return The length of the listing
+   */
+  @Benchmark
+  @OperationsPerInvocation(ITEM_COUNT)
+  public int itemToString() {
+    listing.setLength(0);
+    for (Item item : items) {
+      listing.append(item.toString()).append('\n');
+    }
+    return listing.length();
+  }
+
+  /**
+   * Formats every item with the {@link ItemRowFormatter}.
+   *
+   * @return The length of the listing
+   */
+  @Benchmark
+  @OperationsPerInvocation(ITEM_COUNT)
+  public int rowFormatter() {
+    listing.setLength(0);
+    for (Item item : items) {
+      rowFormatter.appendTo(listing, item).append('\n');
+    }
+    return listing.length();
+  }
+}
@@ -0,0 +1,112 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.persistence.FsyncPolicy;
+import no.ntnu.idatt1001.common.persistence.MutationLog;
+import no.ntnu.idatt1001.util.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark measuring how many stock changes per second an {@link ItemRegister}
+ * can make while every change is written to a {@link MutationLog}, for every
+ * {@link FsyncPolicy}. Every iteration starts with a new log in the temporary
+ * directory, and checkpoints are taken as by default.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main MutationLogBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MutationLogBenchmark {
+
+  @Param({"EVERY_WRITE", "GROUP_COMMIT", "OS_BUFFERED"})
+  private FsyncPolicy fsyncPolicy;
+
+  @Param({"1000"})
+  private int itemCount;
+
+  private Path directory;
+  private MutationLog mutationLog;
+  private ItemRegister itemRegister;
+  private List<Item> items;
+  private int next;
+
+  /**
+   * Opens a new log, and fills its register.
+   *
+   * @throws IOException If the log could not be opened
+   */
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("wms-benchmark");
+    mutationLog = MutationLog.open(directory, fsyncPolicy);
+    itemRegister = mutationLog.getRegister();
+
+    List<Item> newItems = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      newItems.add(BenchmarkItems.item(i));
+    }
+    itemRegister.addAll(newItems);
+    items = itemRegister.getItems();
+  }
+
+  /**
+   * Closes and deletes the log.
+   *
+   * @throws IOException If the log could not be closed or deleted
+   */
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    mutationLog.close();
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(directory);
+  }
+
+  /**
+   * Increases the stock of the next item in the register.
+   *
+   * @return The register
+   */
+  @Benchmark
+  public ItemRegister increaseItemStock() {
+    itemRegister.increaseItemStock(nextItem(), 1);
+    return itemRegister;
+  }
+
+  /**
+   * Gets the next item to change, going through the items in turn.
+   *
+   * @return The read-only view of the item
+   */
+  private Item nextItem() {
+    next = next + 1 == itemCount ? 0 : next + 1;
+    return items.get(next);
+  }
+}
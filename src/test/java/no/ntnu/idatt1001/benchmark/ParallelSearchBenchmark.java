@@ -0,0 +1,86 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark comparing sequential and parallel searches with
+ * {@link ItemRegister#searchByPredicate(Predicate)} on registers of different sizes,
+ * for finding the size where the parallel search starts to pay off. The parallel
+ * searches run in {@link java.util.concurrent.ForkJoinPool#commonPool()}, so the
+ * crossover depends on the number of cores of the machine, and should be compared
+ * with {@link ItemRegister#DEFAULT_PARALLEL_SEARCH_THRESHOLD}.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main ParallelSearchBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSearchBenchmark {
+
+  private static final Predicate<Item> PREDICATE = item ->
+          item.getCategory() == Category.DOORS && item.getPrice() > 500
+                  && item.getWarehouseStock() < 100;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  private int itemCount;
+
+  private ItemRegister itemRegister;
+
+  /**
+   * Fills the register with the items.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    itemRegister = new ItemRegister();
+    List<Item> items = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      items.add(BenchmarkItems.item(i));
+    }
+    itemRegister.addAll(items);
+    itemRegister.setParallelSearchThreshold(1);
+  }
+
+  /**
+   * Searches the register sequentially.
+   *
+   * @return The matching items
+   */
+  @Benchmark
+  public List<Item> sequentialSearch() {
+    itemRegister.setParallelSearch(false);
+    return itemRegister.searchByPredicate(PREDICATE);
+  }
+
+  /**
+   * Searches the register in parallel, whatever its size.
+   *
+   * @return The matching items
+   */
+  @Benchmark
+  public List<Item> parallelSearch() {
+    itemRegister.setParallelSearch(true);
+    return itemRegister.searchByPredicate(PREDICATE);
+  }
+}
@@ -0,0 +1,136 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import no.ntnu.idatt1001.common.ConcurrentItemRegister;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark measuring the throughput of picking stock from many threads. The
+ * lock-free {@link ConcurrentItemRegister#tryDecreaseStock(String, int)} is compared
+ * with an {@link ItemRegister} behind a single lock, which is how a register was
+ * shared between threads before. Every pick takes one unit of a random item, and the
+ * items have enough stock to never run out during a run. A small number of items
+ * makes the threads pick the same items, and a large number spreads them out.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main StockCounterBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StockCounterBenchmark {
+
+  @Param({"16", "100000"})
+  private int itemCount;
+
+  private String[] itemNumbers;
+  private Item[] items;
+  private ConcurrentItemRegister concurrentItemRegister;
+  private ItemRegister lockedItemRegister;
+
+  /**
+   * Fills both registers with the same items, each with a large stock.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    itemNumbers = new String[itemCount];
+    items = new Item[itemCount];
+    concurrentItemRegister = new ConcurrentItemRegister();
+    lockedItemRegister = new ItemRegister();
+    for (int i = 0; i < itemCount; i++) {
+      Item item = BenchmarkItems.item(i);
+      item.setWarehouseStock(Integer.MAX_VALUE);
+      itemNumbers[i] = item.getItemNumber();
+      items[i] = item;
+      concurrentItemRegister.addItem(item);
+      lockedItemRegister.addItem(ItemBuilder.deepCopy(item));
+    }
+  }
+
+  /**
+   * Picks one unit of a random item from the concurrent register.
+   *
+   * @return {@code true} if the pick succeeded
+   */
+  private boolean pickLockFree() {
+    return concurrentItemRegister.tryDecreaseStock(
+            itemNumbers[ThreadLocalRandom.current().nextInt(itemCount)], 1);
+  }
+
+  /**
+   * Picks one unit of a random item from the register behind a single lock.
+   */
+  private void pickLocked() {
+    Item item = items[ThreadLocalRandom.current().nextInt(itemCount)];
+    synchronized (lockedItemRegister) {
+      lockedItemRegister.decreaseItemStock(item, 1);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public boolean lockFree01Thread() {
+    return pickLockFree();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean lockFree04Threads() {
+    return pickLockFree();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public boolean lockFree16Threads() {
+    return pickLockFree();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public boolean lockFree64Threads() {
+    return pickLockFree();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void singleLock01Thread() {
+    pickLocked();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void singleLock04Threads() {
+    pickLocked();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void singleLock16Threads() {
+    pickLocked();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void singleLock64Threads() {
+    pickLocked();
+  }
+}
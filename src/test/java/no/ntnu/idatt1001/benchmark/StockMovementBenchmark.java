@@ -0,0 +1,99 @@
+package no.ntnu.idatt1001.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.StockMovement;
+import no.ntnu.idatt1001.common.StockMovementReport;
+import no.ntnu.idatt1001.util.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A JMH benchmark comparing {@link ItemRegister#applyStockMovements(java.util.Collection)}
+ * with looking up every item and calling {@link ItemRegister#increaseItemStock(Item, int)}
+ * or {@link ItemRegister#decreaseItemStock(Item, int)} for every movement. The batch
+ * contains random items, with a few items appearing several times, and adds more
+ * stock than it removes, so the items never run out.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main StockMovementBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StockMovementBenchmark {
+
+  @Param({"100000"})
+  private int itemCount;
+
+  @Param({"1000"})
+  private int batchSize;
+
+  private ItemRegister itemRegister;
+  private List<StockMovement> movements;
+
+  /**
+   * Fills the register and creates the batch of movements.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    itemRegister = new ItemRegister();
+    for (int i = 0; i < itemCount; i++) {
+      Item item = BenchmarkItems.item(i);
+      item.setWarehouseStock(1_000_000);
+      itemRegister.addItem(item);
+    }
+
+    Random random = new Random(42);
+    movements = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      int index = i % 10 == 0 ? random.nextInt(10) : random.nextInt(itemCount);
+      movements.add(new StockMovement(BenchmarkItems.itemNumber(index),
+              random.nextInt(9) - 3));
+    }
+  }
+
+  /**
+   * Applies the movements one by one.
+   *
+   * @return The register
+   */
+  @Benchmark
+  public ItemRegister perCall() {
+    for (StockMovement movement : movements) {
+      Item item = itemRegister.searchByItemNumber(movement.getItemNumber());
+      if (movement.getDelta() >= 0) {
+        itemRegister.increaseItemStock(item, movement.getDelta());
+      } else {
+        itemRegister.decreaseItemStock(item, -movement.getDelta());
+      }
+    }
+    return itemRegister;
+  }
+
+  /**
+   * Applies the movements as one batch.
+   *
+   * @return The report of the batch
+   */
+  @Benchmark
+  public StockMovementReport batch() {
+    return itemRegister.applyStockMovements(movements);
+  }
+}
@@ -0,0 +1,242 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ColumnarItemRegister} class.
+ */
+class ColumnarItemRegisterTest {
+
+  ColumnarItemRegister itemRegister;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Assigns a new {@link ColumnarItemRegister} to the {@code itemRegister} value and fills
+   * it with default items with the {@link ColumnarItemRegister#fillListWithDefaultItems()}
+   * method for further testing purposes.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ColumnarItemRegister(2);
+    itemRegister.fillListWithDefaultItems();
+  }
+
+  /**
+   * Test for the {@link ColumnarItemRegister#addItem(Item)} method.
+   * Test will <code>PASS</code> if the item was added with all its values
+   * Test will <code>FAIL</code> if the item wasn't added successfully
+   */
+  @Test
+  void addItem() {
+    Item item = new ItemBuilder()
+            .setItemNumber("A1215C")
+            .setDescription("Large Christmas Window")
+            .setBrandName("SULOLI")
+            .setPrice(130)
+            .setWarehouseStock(2)
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .setWidth(20)
+            .build();
+    item.setDiscount(20);
+    itemRegister.addItem(item);
+
+    assertEquals(6, itemRegister.size());
+    Item itemFromRegister = itemRegister.getItem(5);
+
+    assertEquals(item.toString(), itemFromRegister.toString());
+    assertEquals(104, itemFromRegister.getPrice());
+    assertThrows(IllegalArgumentException.class, () -> itemRegister.addItem(item));
+  }
+
+  /**
+   * Test for the search methods of {@link ColumnarItemRegister}.
+   * Test will <code>PASS</code> if the items were found by item number, description
+   * and category
+   * Test will <code>FAIL</code> if the items weren't found successfully
+   */
+  @Test
+  void search() {
+    assertEquals("A1205B", itemRegister.searchByItemNumber(" a1205b").getItemNumber());
+    assertNull(itemRegister.searchByItemNumber("A1215C"));
+
+    List<Item> windows = itemRegister.searchByItemDesc("win*");
+    assertEquals(2, windows.size());
+    assertEquals("A1205B", windows.get(0).getItemNumber());
+    assertNull(itemRegister.searchByItemDesc("metal"));
+
+    List<Item> itemsInCategory = itemRegister.searchByCategory(Category.WINDOWS);
+    assertEquals(2, itemsInCategory.size());
+    assertEquals("A1008B", itemsInCategory.get(1).getItemNumber());
+    assertEquals(2, itemRegister.countByCategory(Category.WINDOWS));
+    assertNull(itemRegister.searchByCategory(Category.METAL));
+  }
+
+  /**
+   * Test for the methods changing the items in {@link ColumnarItemRegister}.
+   * Test will <code>PASS</code> if the values of the item were changed successfully
+   * Test will <code>FAIL</code> if the values of the item weren't changed successfully
+   */
+  @Test
+  void changeItem() {
+    Item item = itemRegister.searchByItemNumber("A1205B");
+
+    itemRegister.increaseItemStock(item, 3);
+    itemRegister.decreaseItemStock(item, 1);
+    itemRegister.changePriceOfItem(item, 200);
+    itemRegister.changeDiscountOfItem(item, 25);
+    itemRegister.changeDescriptionOfItem(item, "Small Easter Window");
+
+    Item changedItem = itemRegister.searchByItemNumber("A1205B");
+    assertEquals(4, changedItem.getWarehouseStock());
+    assertEquals(150, changedItem.getPrice());
+    assertEquals(25, changedItem.getDiscount());
+    assertEquals("Small Easter Window", changedItem.getDescription());
+    assertNull(itemRegister.searchByItemDesc("christmas"));
+    assertEquals(1, itemRegister.searchByItemDesc("easter").size());
+  }
+
+  /**
+   * Test for the {@link ColumnarItemRegister#removeItem(Item)} method.
+   * Test will <code>PASS</code> if the item was removed and the remaining items
+   * kept their order
+   * Test will <code>FAIL</code> if the item wasn't removed successfully
+   */
+  @Test
+  void removeItem() {
+    Item item = itemRegister.searchByItemNumber("M5788B");
+
+    assertTrue(itemRegister.removeItem(item));
+    assertFalse(itemRegister.removeItem(item));
+    assertEquals(4, itemRegister.size());
+    assertNull(itemRegister.searchByItemNumber("M5788B"));
+    assertEquals("C1007B", itemRegister.getItem(1).getItemNumber());
+    assertEquals(1, itemRegister.getIndexOfItem(itemRegister.searchByItemNumber("C1007B")));
+    assertEquals(0, itemRegister.countByCategory(Category.LUMBER));
+
+    itemRegister.decreaseItemStock(itemRegister.searchByItemNumber("F4020G"), 11);
+    assertEquals(200, itemRegister.getItem(3).getWarehouseStock());
+  }
+
+  /**
+   * Test for the sort methods of {@link ColumnarItemRegister}.
+   * Test will <code>PASS</code> if the items are retrieved in sorted order
+   * Test will <code>FAIL</code> if the items aren't retrieved in sorted order
+   */
+  @Test
+  void sortList() {
+    itemRegister.sortListByItemnumber(true);
+    assertEquals("A1008B", itemRegister.getItem(0).getItemNumber());
+
+    itemRegister.sortListByBrandname(false);
+    assertEquals("SULOLI", itemRegister.getItem(0).getBrandName());
+
+    itemRegister.sortListByPrice(false);
+    assertEquals(977, itemRegister.getItem(0).getPrice());
+    assertEquals(4, itemRegister.getIndexOfItem(itemRegister.searchByItemNumber("M5788B")));
+
+    itemRegister.sortListByWarehousestock(true);
+    assertEquals(2, itemRegister.getItem(0).getWarehouseStock());
+
+    itemRegister.sortListByColor(true);
+    assertEquals("A1008B", itemRegister.getItem(2).getItemNumber());
+    assertEquals("C1007B", itemRegister.getItem(3).getItemNumber());
+
+    itemRegister.sortListByCategory(false);
+    assertEquals(Category.WINDOWS, itemRegister.getItem(0).getCategory());
+    assertEquals(Category.WINDOWS, itemRegister.getCopyOfList().get(1).getCategory());
+  }
+
+  /**
+   * Test for the column scan methods of {@link ColumnarItemRegister}.
+   * Test will <code>PASS</code> if the scans return the same results as summing the items
+   * Test will <code>FAIL</code> if the scans return wrong results
+   */
+  @Test
+  void columnScans() {
+    itemRegister.changeDiscountOfItem(itemRegister.searchByItemNumber("A1205B"), 20);
+
+    List<Item> items = itemRegister.getCopyOfList();
+    long stockValue = items.stream()
+            .mapToLong(item -> (long) item.getPrice() * item.getWarehouseStock())
+            .sum();
+
+    assertEquals(328, itemRegister.sumWarehouseStock());
+    assertEquals(78, itemRegister.sumWarehouseStock(Category.WINDOWS));
+    assertEquals(stockValue, itemRegister.sumStockValue());
+    assertEquals(2, itemRegister.countWarehouseStockBelow(10));
+  }
+
+  /**
+   * Test for increasing the stock of an item in {@link ColumnarItemRegister} up to
+   * {@link Integer#MAX_VALUE}.
+   * Test will <code>PASS</code> if the stock can be increased to the largest integer,
+   * and an increase past it throws an {@link IllegalNumberException} without changing
+   * the stock
+   * Test will <code>FAIL</code> if the stock overflows
+   */
+  @Test
+  void stockOverflow() {
+    Item item = itemRegister.getItem(0);
+    itemRegister.increaseItemStock(item, Integer.MAX_VALUE - 2);
+    assertEquals(Integer.MAX_VALUE, itemRegister.getItem(0).getWarehouseStock());
+
+    assertThrows(IllegalNumberException.class, () -> itemRegister.increaseItemStock(item, 1));
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.increaseItemStock(item, Integer.MAX_VALUE));
+    assertEquals(Integer.MAX_VALUE, itemRegister.getItem(0).getWarehouseStock());
+  }
+
+  /**
+   * Test for all the exceptions that can be thrown
+   * in the methods.
+   * Test will <code>PASS</code> if all exceptions were
+   * thrown as expected
+   * Test will <code>FAIL</code> if any exceptions were
+   * thrown as unexpectedly
+   */
+  @Test
+  void testExceptionsInMethods() {
+    Item item = itemRegister.getItem(0);
+    Item itemNotInList = new ItemBuilder()
+            .setItemNumber("A1215C")
+            .setBrandName("SULOLI")
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setWidth(20)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .build();
+
+    assertThrows(IllegalNumberException.class, () -> new ColumnarItemRegister(-1));
+    assertThrows(NullPointerException.class, () -> itemRegister.addItem(null));
+    assertThrows(NullPointerException.class, () -> itemRegister.searchByItemNumber(null));
+    assertThrows(NullPointerException.class, () -> itemRegister.searchByCategory(null));
+    assertThrows(IllegalNumberException.class, () -> itemRegister.increaseItemStock(item, -2));
+    assertThrows(IllegalNumberException.class, () -> itemRegister.decreaseItemStock(item, 3));
+    assertThrows(IllegalNumberException.class, () -> itemRegister.changePriceOfItem(item, -2));
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.changeDiscountOfItem(item, 101));
+    assertThrows(NoSuchElementException.class,
+            () -> itemRegister.increaseItemStock(itemNotInList, 5));
+    assertThrows(NoSuchElementException.class,
+            () -> itemRegister.changeDescriptionOfItem(itemNotInList, "Test"));
+    assertEquals(-1, itemRegister.getIndexOfItem(itemNotInList));
+    assertThrows(IndexOutOfBoundsException.class, () -> itemRegister.getItem(5));
+    assertEquals(2, itemRegister.getItem(0).getWarehouseStock());
+  }
+}
@@ -0,0 +1,250 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ConcurrentItemRegister} class.
+ */
+class ConcurrentItemRegisterTest {
+
+  ConcurrentItemRegister itemRegister;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Assigns a new {@link ConcurrentItemRegister} to the {@code itemRegister} value and
+   * fills it with default items with the
+   * {@link ConcurrentItemRegister#fillListWithDefaultItems()} method for further
+   * testing purposes.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ConcurrentItemRegister();
+    itemRegister.fillListWithDefaultItems();
+  }
+
+  /**
+   * Test for the methods of {@link ConcurrentItemRegister} on a single thread.
+   * Test will <code>PASS</code> if the register behaves like {@link ItemRegister}
+   * Test will <code>FAIL</code> if any of the methods behave differently
+   */
+  @Test
+  void singleThread() {
+    ItemRegister defaultItems = new ItemRegister();
+    defaultItems.fillListWithDefaultItems();
+    assertEquals(defaultItems.toString(), itemRegister.toString());
+
+    Item item = itemRegister.searchByItemNumber(" m5788b");
+    itemRegister.increaseItemStock(item, 2);
+    itemRegister.decreaseItemStock(item, 5);
+    itemRegister.changePriceOfItem(item, 200);
+    itemRegister.changeDiscountOfItem(item, 50);
+    itemRegister.changeDescriptionOfItem(item, "Walnut Lumber");
+
+    Item changedItem = itemRegister.searchByItemNumber("M5788B");
+    assertEquals(5, changedItem.getWarehouseStock());
+    assertEquals(100, changedItem.getPrice());
+    assertEquals("Walnut Lumber", changedItem.getDescription());
+    assertEquals(8, item.getWarehouseStock());
+
+    assertThrows(IllegalArgumentException.class, () -> itemRegister.addItem(item));
+    assertThrows(IllegalNumberException.class, () -> itemRegister.decreaseItemStock(item, 6));
+    assertThrows(IllegalNumberException.class, () -> new ConcurrentItemRegister(0));
+
+    itemRegister.sortListByPrice(false);
+    List<Item> items = itemRegister.getCopyOfList();
+    assertEquals("A1008B", items.get(0).getItemNumber());
+    assertEquals("M5788B", items.get(4).getItemNumber());
+    assertEquals(2, itemRegister.searchByCategory(Category.WINDOWS).size());
+    assertNull(itemRegister.searchByCategory(Category.METAL));
+
+    assertTrue(itemRegister.removeItem(item));
+    assertFalse(itemRegister.removeItem(item));
+    assertEquals(4, itemRegister.size());
+    assertThrows(NoSuchElementException.class, () -> itemRegister.changePriceOfItem(item, 10));
+  }
+
+  /**
+   * Stress test mixing {@link ConcurrentItemRegister#increaseItemStock(Item, int)},
+   * {@link ConcurrentItemRegister#decreaseItemStock(Item, int)},
+   * {@link ConcurrentItemRegister#changePriceOfItem(Item, int)},
+   * {@link ConcurrentItemRegister#addItem(Item)} and
+   * {@link ConcurrentItemRegister#removeItem(Item)} on several threads, while
+   * another thread copies the register.
+   * Test will <code>PASS</code> if no change is lost, every item is removed exactly once
+   * and every copy of the register is consistent
+   * Test will <code>FAIL</code> if the threads interfere with each other
+   */
+  @Test
+  void stressTest() throws Exception {
+    ConcurrentItemRegister register = new ConcurrentItemRegister(8);
+    int threads = 8;
+    int stableItems = 64;
+    int removableItems = 512;
+    int itemsAddedPerThread = 250;
+    for (int i = 0; i < stableItems; i++) {
+      register.addItem(item("STABLE" + i, 1000));
+    }
+    for (int i = 0; i < removableItems; i++) {
+      register.addItem(item("REMOVABLE" + i, 0));
+    }
+
+    AtomicInteger removed = new AtomicInteger();
+    AtomicBoolean running = new AtomicBoolean(true);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+
+    Future<?> reader = executor.submit(() -> {
+      start.await();
+      while (running.get()) {
+        List<Item> items = register.getCopyOfList();
+        Set<String> itemNumbers = new HashSet<>();
+        int stableCount = 0;
+        for (Item item : items) {
+          assertTrue(itemNumbers.add(item.getItemNumber()));
+          if (item.getItemNumber().startsWith("STABLE")) {
+            stableCount++;
+          }
+        }
+        assertEquals(stableItems, stableCount);
+        assertTrue(items.size() >= stableItems);
+      }
+      return null;
+    });
+
+    List<Future<?>> writers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      writers.add(executor.submit(() -> {
+        Random random = new Random(thread);
+        start.await();
+        for (int i = 0; i < 20000; i++) {
+          Item stableItem = item("STABLE" + random.nextInt(stableItems), 0);
+          int amount = 1 + random.nextInt(10);
+          register.increaseItemStock(stableItem, amount);
+          register.changePriceOfItem(stableItem, 100 + thread);
+          register.decreaseItemStock(stableItem, amount);
+
+          if (i % 40 == 0) {
+            Item removableItem = item("REMOVABLE" + random.nextInt(removableItems), 0);
+            if (register.removeItem(removableItem)) {
+              removed.incrementAndGet();
+            }
+          }
+          if (i % 80 == 0) {
+            register.addItem(item("ADDED" + thread + "-" + i / 80, 0));
+          }
+        }
+        return null;
+      }));
+    }
+
+    start.countDown();
+    for (Future<?> writer : writers) {
+      writer.get(60, TimeUnit.SECONDS);
+    }
+    running.set(false);
+    reader.get(60, TimeUnit.SECONDS);
+    executor.shutdown();
+
+    for (int i = 0; i < stableItems; i++) {
+      Item stableItem = register.searchByItemNumber("STABLE" + i);
+      assertEquals(1000, stableItem.getWarehouseStock());
+      assertTrue(stableItem.getPrice() == 1 || stableItem.getPrice() >= 100);
+    }
+    assertEquals(stableItems + removableItems - removed.get() + threads * itemsAddedPerThread,
+            register.size());
+    assertEquals(register.size(), register.getCopyOfList().size());
+  }
+
+  /**
+   * Test for the {@link ConcurrentItemRegister#tryDecreaseStock(String, int)} method,
+   * with several threads picking the same items until they run out of stock.
+   * Test will <code>PASS</code> if exactly the stock of every item is picked, and
+   * the stock never goes below 0
+   * Test will <code>FAIL</code> if any stock is lost or picked twice
+   */
+  @Test
+  void tryDecreaseStock() throws Exception {
+    ConcurrentItemRegister register = new ConcurrentItemRegister();
+    int items = 4;
+    int stockPerItem = 50000;
+    for (int i = 0; i < items; i++) {
+      register.addItem(item("PICK" + i, stockPerItem));
+    }
+
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<Integer>> pickers = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      pickers.add(executor.submit(() -> {
+        int picked = 0;
+        for (int i = 0; i < items; i++) {
+          String itemNumber = "pick" + ((i + thread) % items);
+          while (register.tryDecreaseStock(itemNumber, 1)) {
+            picked++;
+          }
+        }
+        return picked;
+      }));
+    }
+
+    int picked = 0;
+    for (Future<Integer> picker : pickers) {
+      picked += picker.get(60, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    assertEquals(items * stockPerItem, picked);
+    for (int i = 0; i < items; i++) {
+      assertEquals(0, register.searchByItemNumber("PICK" + i).getWarehouseStock());
+    }
+    assertFalse(register.tryDecreaseStock("PICK0", 1));
+    assertTrue(register.tryDecreaseStock("PICK0", 0));
+    assertThrows(NoSuchElementException.class, () -> register.tryDecreaseStock("PICK9", 1));
+    assertThrows(IllegalNumberException.class, () -> register.tryDecreaseStock("PICK0", -1));
+  }
+
+  /**
+   * Creates an item with the specified item number and warehouse stock.
+   *
+   * @param itemNumber      The item number of the item
+   * @param warehouseStock  The warehouse stock of the item
+   * @return                An {@link Item} with the specified item number and stock
+   */
+  private static Item item(String itemNumber, int warehouseStock) {
+    return new ItemBuilder()
+            .setItemNumber(itemNumber)
+            .setBrandName("Brand")
+            .setPrice(1)
+            .setWarehouseStock(warehouseStock)
+            .setWeight(1)
+            .setLength(1)
+            .setHeight(1)
+            .setWidth(1)
+            .setColor(Color.BLACK)
+            .setCategory(Category.METAL)
+            .build();
+  }
+}
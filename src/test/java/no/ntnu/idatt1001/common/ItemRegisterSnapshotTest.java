@@ -0,0 +1,165 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ItemRegisterSnapshot} class.
+ */
+class ItemRegisterSnapshotTest {
+
+  ItemRegister itemRegister;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Assigns a new {@link ItemRegister} to the {@code itemRegister} value and fills
+   * it with default items with the {@link ItemRegister#fillListWithDefaultItems()}
+   * method for further testing purposes.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ItemRegister();
+    itemRegister.fillListWithDefaultItems();
+  }
+
+  /**
+   * Test for the {@link ItemRegister#snapshot()} method.
+   * Test will <code>PASS</code> if the snapshot contains the items of the register
+   * in the order they were added, and the same snapshot is returned until the
+   * register is changed
+   * Test will <code>FAIL</code> if the snapshot doesn't match the register
+   */
+  @Test
+  void snapshot() {
+    ItemRegisterSnapshot snapshot = itemRegister.snapshot();
+
+    assertSame(snapshot, itemRegister.snapshot());
+    assertEquals(5, snapshot.size());
+    assertEquals(itemRegister.toString(), snapshot.toString());
+    assertEquals("M5788B", snapshot.getItem(1).getItemNumber());
+    assertEquals("C1007B", snapshot.searchByItemNumber(" c1007b").getItemNumber());
+    assertNull(snapshot.searchByItemNumber("A1215C"));
+    assertEquals(2, snapshot.searchByCategory(Category.WINDOWS).size());
+    assertNull(snapshot.searchByCategory(Category.METAL));
+    assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getItem(5));
+    assertThrows(UnsupportedOperationException.class,
+            () -> snapshot.getItem(0).setWarehouseStock(0));
+  }
+
+  /**
+   * Test for snapshots taken before the register is changed.
+   * Test will <code>PASS</code> if the old snapshot is unchanged, and a new
+   * snapshot contains the changes
+   * Test will <code>FAIL</code> if any change is visible in the old snapshot
+   */
+  @Test
+  void snapshotIsNotChangedByRegister() {
+    ItemRegisterSnapshot before = itemRegister.snapshot();
+    String listingBefore = before.toString();
+
+    Item item = itemRegister.searchByItemNumber("M5788B");
+    itemRegister.increaseItemStock(item, 10);
+    itemRegister.changePriceOfItem(item, 200);
+    itemRegister.changeDescriptionOfItem(item, "Walnut Lumber");
+    itemRegister.removeItem(itemRegister.searchByItemNumber("A1205B"));
+    itemRegister.sortListByPrice(true);
+
+    ItemRegisterSnapshot after = itemRegister.snapshot();
+
+    assertEquals(listingBefore, before.toString());
+    assertEquals(8, before.searchByItemNumber("M5788B").getWarehouseStock());
+    assertEquals("A1205B", before.getItem(0).getItemNumber());
+    assertTrue(after.getVersion() > before.getVersion());
+
+    assertEquals(4, after.size());
+    assertEquals("M5788B", after.getItem(0).getItemNumber());
+    assertEquals(18, after.getItem(0).getWarehouseStock());
+    assertEquals(200, after.getItem(0).getPrice());
+    assertEquals("Walnut Lumber", after.getItem(0).getDescription());
+    assertSame(before.searchByItemNumber("F4020G"), after.searchByItemNumber("F4020G"));
+
+    itemRegister.addItem(before.searchByItemNumber("A1205B"));
+    List<Item> items = itemRegister.snapshot().getItems();
+    assertEquals("A1205B", items.get(4).getItemNumber());
+  }
+
+  /**
+   * Test for taking snapshots while another thread changes the register.
+   * Test will <code>PASS</code> if every snapshot is consistent with its version
+   * Test will <code>FAIL</code> if a snapshot changes after it was taken
+   */
+  @Test
+  void snapshotsWhileRegisterIsChanged() throws InterruptedException {
+    AtomicBoolean writing = new AtomicBoolean(true);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    Thread reader = new Thread(() -> {
+      try {
+        while (writing.get()) {
+          ItemRegisterSnapshot snapshot = itemRegister.snapshot();
+          int totalStock = snapshot.stream().mapToInt(Item::getWarehouseStock).sum();
+          Thread.yield();
+          assertEquals(totalStock, snapshot.stream().mapToInt(Item::getWarehouseStock).sum());
+          assertEquals(5, snapshot.size());
+        }
+      } catch (Throwable throwable) {
+        failure.set(throwable);
+      }
+    });
+    reader.start();
+
+    Item item = itemRegister.searchByItemNumber("F4020G");
+    for (int i = 0; i < 20000; i++) {
+      itemRegister.increaseItemStock(item, 1);
+    }
+    writing.set(false);
+    reader.join();
+
+    assertNull(failure.get());
+    assertEquals(20211, itemRegister.snapshot().searchByItemNumber("F4020G").getWarehouseStock());
+  }
+
+  /**
+   * Test for snapshots of a register where many items are added and removed.
+   * Test will <code>PASS</code> if the snapshot contains the same items in the same
+   * order as the register after every change
+   * Test will <code>FAIL</code> if the snapshot and the register differ
+   */
+  @Test
+  void snapshotAfterManyChanges() {
+    Item template = itemRegister.getItem(0);
+    for (int i = 0; i < 2000; i++) {
+      itemRegister.addItem(new ItemBuilder()
+              .setItemNumber("SKU" + ((i * 7919) % 2000))
+              .setBrandName(template.getBrandName())
+              .setWeight(template.getWeight())
+              .setLength(template.getLength())
+              .setHeight(template.getHeight())
+              .setWidth(template.getWidth())
+              .setColor(template.getColor())
+              .setCategory(template.getCategory())
+              .build());
+    }
+    for (int i = 0; i < 2000; i += 3) {
+      itemRegister.removeItem(itemRegister.searchByItemNumber("SKU" + i));
+    }
+
+    ItemRegisterSnapshot snapshot = itemRegister.snapshot();
+    List<Item> items = itemRegister.getItems();
+
+    assertEquals(items.size(), snapshot.size());
+    for (int i = 0; i < items.size(); i++) {
+      assertEquals(items.get(i).getItemNumber(), snapshot.getItem(i).getItemNumber());
+    }
+    assertEquals(items.stream().map(Item::getItemNumber).toList(),
+            snapshot.getItems().stream().map(Item::getItemNumber).toList());
+  }
+}
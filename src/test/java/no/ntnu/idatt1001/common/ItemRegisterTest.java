@@ -2,14 +2,22 @@ package no.ntnu.idatt1001.common;
 
 import no.ntnu.idatt1001.util.Category;
 import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.DuplicateItemNumberException;
 import no.ntnu.idatt1001.util.IllegalNumberException;
 import no.ntnu.idatt1001.util.item.Item;
 import no.ntnu.idatt1001.util.item.ItemBuilder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,6 +72,55 @@ class ItemRegisterTest {
 
   }
 
+  /**
+   * Test for the {@link ItemRegister#addItem(Item)} and
+   * {@link ItemRegister#addAll(Collection)} methods with items which are changed after
+   * they have been added.
+   * Test will <code>PASS</code> if the register and its indexes keep the values the
+   * items had when they were added
+   * Test will <code>FAIL</code> if a change to an added item shows up in the register
+   */
+  @Test
+  void addedItemsAreCopied() {
+    Item item = ItemBuilder.deepCopy(itemRegister.getItem(0));
+    itemRegister.removeItem(item);
+    itemRegister.addItem(item);
+    Item bulkItem = new ItemBuilder()
+            .setItemNumber("B1")
+            .setDescription("Bulk window")
+            .setBrandName("Bulk")
+            .setPrice(10)
+            .setWarehouseStock(1)
+            .setWeight(1)
+            .setLength(1)
+            .setHeight(1)
+            .setWidth(1)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .build();
+    itemRegister.addAll(List.of(bulkItem));
+
+    for (Item addedItem : List.of(item, bulkItem)) {
+      addedItem.setPrice(5000);
+      addedItem.setDiscount(50);
+      addedItem.setWarehouseStock(5000);
+      addedItem.setDescription("Changed outside the register");
+    }
+
+    assertEquals(130, itemRegister.searchByItemNumber("A1205B").getPrice());
+    assertEquals(2, itemRegister.searchByItemNumber("A1205B").getWarehouseStock());
+    assertNull(itemRegister.searchByPriceRange(2000, 3000));
+    assertNull(itemRegister.searchByWarehouseStockRange(1000, 6000));
+    assertNull(itemRegister.searchByItemDesc("Changed"));
+    assertEquals(List.of("B1"), itemRegister.searchByPriceRange(10, 10).stream()
+            .map(Item::getItemNumber).toList());
+    assertEquals("A1008B",
+            itemRegister.getTopItems(ItemField.PRICE, false, 1).get(0).getItemNumber());
+    assertEquals(2, itemRegister.searchByItemDesc("window").stream()
+            .filter(found -> found.getItemNumber().startsWith("A12")
+                    || found.getItemNumber().equals("B1")).count());
+  }
+
   /**
    * Test for the {@link ItemRegister#searchByItemNumber(String)} method.
    * Test will <code>PASS</code> if the item was found successfully
@@ -96,6 +153,52 @@ class ItemRegisterTest {
 
   }
 
+  /**
+   * Test for word and prefix queries in the {@link ItemRegister#searchByItemDesc(String)}
+   * method.
+   * Test will <code>PASS</code> if the items containing the words or word prefixes
+   * were found successfully
+   * Test will <code>FAIL</code> if the wrong items were found
+   */
+  @Test
+  void searchByItemDescWithWordsAndPrefixes() {
+    List<Item> windows = itemRegister.searchByItemDesc("window");
+    assertEquals(2, windows.size());
+    assertEquals("A1205B", windows.get(0).getItemNumber());
+    assertEquals("A1008B", windows.get(1).getItemNumber());
+
+    List<Item> hopperWindows = itemRegister.searchByItemDesc("hopp*");
+    assertEquals(1, hopperWindows.size());
+    assertEquals("A1008B", hopperWindows.get(0).getItemNumber());
+
+    assertEquals(1, itemRegister.searchByItemDesc("WIN* large").size());
+    assertNull(itemRegister.searchByItemDesc("hopp"));
+    assertNull(itemRegister.searchByItemDesc("door window"));
+    assertNull(itemRegister.searchByItemDesc("  "));
+  }
+
+  /**
+   * Test for keeping the description search of {@link ItemRegister} up to date
+   * when descriptions are changed and items are removed.
+   * Test will <code>PASS</code> if the items are only found by their current description
+   * Test will <code>FAIL</code> if items are found by old descriptions or removed items
+   * are found
+   */
+  @Test
+  void searchByItemDescAfterChanges() {
+    itemRegister.changeDescriptionOfItem(itemRegister.searchByItemNumber("A1205B"),
+            "Small Easter Window");
+
+    assertNull(itemRegister.searchByItemDesc("christmas"));
+    assertEquals("A1205B", itemRegister.searchByItemDesc("easter").get(0).getItemNumber());
+    assertEquals(2, itemRegister.searchByItemDesc("window").size());
+
+    itemRegister.removeItem(itemRegister.searchByItemNumber("A1008B"));
+
+    assertNull(itemRegister.searchByItemDesc("basement"));
+    assertEquals(1, itemRegister.searchByItemDesc("window").size());
+  }
+
   /**
    * Test for the {@link ItemRegister#searchByCategory(Category)} method.
    * Test will <code>PASS</code> if the items were found successfully
@@ -112,6 +215,412 @@ class ItemRegisterTest {
     assertEquals(item.getWeight(),0.45);
   }
 
+  /**
+   * Test for the {@link ItemRegister#searchByPredicate(java.util.function.Predicate)}
+   * method.
+   * Test will <code>PASS</code> if the matching items are found in the order the register
+   * is sorted by
+   * Test will <code>FAIL</code> if any item is missing, out of order or doesn't match
+   */
+  @Test
+  void searchByPredicate() {
+    assertEquals(List.of("C1007B", "A1008B", "F4020G"),
+            itemRegister.searchByPredicate(item -> item.getPrice() > 150).stream()
+                    .map(Item::getItemNumber).toList());
+
+    itemRegister.sortListByPrice(true);
+    assertEquals(List.of("F4020G", "C1007B", "A1008B"),
+            itemRegister.searchByPredicate(item -> item.getPrice() > 150).stream()
+                    .map(Item::getItemNumber).toList());
+    assertTrue(itemRegister.searchByPredicate(item -> true).get(0).isReadOnly());
+    assertNull(itemRegister.searchByPredicate(item -> item.getPrice() > 1000));
+
+    assertThrows(NullPointerException.class, () -> itemRegister.searchByPredicate(null));
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.setParallelSearchThreshold(0));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#setParallelSearch(boolean)} method.
+   * Test will <code>PASS</code> if a parallel search finds the same items in the same
+   * order as a sequential search, both above and below the threshold
+   * Test will <code>FAIL</code> if the parallel search finds other items, or finds them
+   * in another order
+   */
+  @Test
+  void parallelSearchMatchesSequentialSearch() {
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < 5 * ItemSearch.CHUNK_SIZE + 11; i++) {
+      items.add(new ItemBuilder()
+              .setItemNumber("S" + i)
+              .setDescription("Searched item")
+              .setBrandName("Brand " + i % 11)
+              .setPrice(1 + (i * 31) % 997)
+              .setWarehouseStock(i % 17)
+              .setWeight(1)
+              .setLength(1)
+              .setHeight(1)
+              .setWidth(1)
+              .setColor(Color.values()[i % Color.values().length])
+              .setCategory(Category.values()[i % Category.values().length])
+              .build());
+    }
+    itemRegister.addAll(items);
+    itemRegister.sortListByWarehousestock(false);
+
+    List<Item> sequentialMatches =
+            itemRegister.searchByPredicate(item -> item.getPrice() % 7 == 0);
+    itemRegister.setParallelSearch(true);
+    assertEquals(sequentialMatches,
+            itemRegister.searchByPredicate(item -> item.getPrice() % 7 == 0));
+
+    itemRegister.setParallelSearchThreshold(1);
+    assertEquals(sequentialMatches,
+            itemRegister.searchByPredicate(item -> item.getPrice() % 7 == 0));
+    assertEquals(itemRegister.getItems(), itemRegister.searchByPredicate(item -> true));
+    assertNull(itemRegister.searchByPredicate(item -> false));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#searchByPriceRange(int, int)} and
+   * {@link ItemRegister#searchByWarehouseStockRange(int, int)} methods.
+   * Test will <code>PASS</code> if the items in the ranges are found in order, also
+   * after their prices and stocks are changed
+   * Test will <code>FAIL</code> if any item is missing, out of order or outside the range
+   */
+  @Test
+  void searchByPriceAndStockRange() {
+    assertEquals(List.of("M5788B", "A1205B", "F4020G"),
+            itemRegister.searchByPriceRange(120, 173).stream().map(Item::getItemNumber).toList());
+    assertEquals(List.of("M5788B", "C1007B", "A1008B"),
+            itemRegister.searchByWarehouseStockRange(8, 76).stream()
+                    .map(Item::getItemNumber).toList());
+    assertTrue(itemRegister.searchByPriceRange(120, 173).get(0).isReadOnly());
+
+    Item basementWindow = itemRegister.searchByItemNumber("A1008B");
+    itemRegister.changeDiscountOfItem(basementWindow, 50);
+    assertEquals(List.of("A1008B"), itemRegister.searchByPriceRange(400, 500).stream()
+            .map(Item::getItemNumber).toList());
+    assertNull(itemRegister.searchByPriceRange(900, 1000));
+
+    itemRegister.increaseItemStock(itemRegister.searchByItemNumber("A1205B"), 10);
+    assertEquals(List.of("M5788B", "A1205B"), itemRegister.searchByWarehouseStockRange(0, 30)
+            .stream().map(Item::getItemNumber).toList());
+
+    assertThrows(IllegalNumberException.class, () -> itemRegister.searchByPriceRange(10, 5));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#searchByWeightRange(double, double)},
+   * {@link ItemRegister#searchByLengthRange(double, double)},
+   * {@link ItemRegister#searchByHeightRange(double, double)} and
+   * {@link ItemRegister#searchByWidthRange(double, double)} methods.
+   * Test will <code>PASS</code> if the items in the ranges are found in order, and
+   * removed items are not found
+   * Test will <code>FAIL</code> if any item is missing, out of order or outside the range
+   */
+  @Test
+  void searchByWeightAndDimensionRange() {
+    assertEquals(List.of("M5788B", "F4020G", "A1008B"),
+            itemRegister.searchByWeightRange(2, 10).stream().map(Item::getItemNumber).toList());
+    assertEquals(List.of("F4020G", "M5788B"),
+            itemRegister.searchByLengthRange(30.48, 30.48).stream()
+                    .map(Item::getItemNumber).toList());
+    assertEquals(List.of("C1007B"),
+            itemRegister.searchByHeightRange(200, 300).stream().map(Item::getItemNumber).toList());
+    assertEquals(List.of("M5788B", "F4020G", "A1008B"),
+            itemRegister.searchByWidthRange(0, 15).stream().map(Item::getItemNumber).toList());
+
+    itemRegister.removeItem(itemRegister.searchByItemNumber("C1007B"));
+    assertNull(itemRegister.searchByHeightRange(200, 300));
+
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.searchByWeightRange(Double.NaN, 10));
+    assertThrows(IllegalNumberException.class, () -> itemRegister.searchByWidthRange(15, 0));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#getTopItems(ItemField, boolean, Category, Color, int)}
+   * method.
+   * Test will <code>PASS</code> if the top items are found with and without filters,
+   * and the order of the register is not changed
+   * Test will <code>FAIL</code> if any item is missing, out of order or doesn't match
+   * the filters
+   */
+  @Test
+  void getTopItems() {
+    assertEquals(List.of("A1205B", "M5788B"),
+            itemRegister.getTopItems(ItemField.WAREHOUSE_STOCK, true, 2).stream()
+                    .map(Item::getItemNumber).toList());
+    assertEquals(List.of("A1008B", "A1205B"),
+            itemRegister.getTopItems(ItemField.PRICE, false, Category.WINDOWS, null, 10)
+                    .stream().map(Item::getItemNumber).toList());
+    assertEquals(List.of("C1007B"),
+            itemRegister.getTopItems(ItemField.HEIGHT, false, null, Color.GRAY, 1).stream()
+                    .map(Item::getItemNumber).toList());
+    assertEquals(List.of("A1008B"),
+            itemRegister.getTopItems(ItemField.WEIGHT, true, Category.WINDOWS, Color.GRAY, 5)
+                    .stream().map(Item::getItemNumber).toList());
+    assertTrue(itemRegister.getTopItems(ItemField.WIDTH, true, Category.DOORS, null, 0)
+            .isEmpty());
+    assertEquals(List.of("A1008B", "C1007B"),
+            itemRegister.getTopItems(ItemField.PRICE, false, null, Color.GRAY,
+                    Integer.MAX_VALUE).stream().map(Item::getItemNumber).toList());
+    assertEquals(5, itemRegister.getTopItems(ItemField.WEIGHT, true, Integer.MAX_VALUE).size());
+    assertTrue(itemRegister.getTopItems(ItemField.PRICE, true, 1).get(0).isReadOnly());
+    assertEquals("A1205B", itemRegister.getItem(0).getItemNumber());
+
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.getTopItems(ItemField.PRICE, true, -1));
+    assertThrows(NullPointerException.class,
+            () -> itemRegister.getTopItems(null, true, 1));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#getTopItems(ItemField, boolean, Category, Color, int)}
+   * method with many items with equal values.
+   * Test will <code>PASS</code> if the top items are the same as the first items of a
+   * full sort for every field, direction and filter
+   * Test will <code>FAIL</code> if the top items differ from the full sort
+   */
+  @Test
+  void getTopItemsMatchesFullSort() {
+    Random random = new Random(21);
+    for (int i = 0; i < 300; i++) {
+      itemRegister.addItem(new ItemBuilder()
+              .setItemNumber("R" + i)
+              .setDescription("Random item " + i)
+              .setBrandName("Random")
+              .setPrice(1 + random.nextInt(50))
+              .setWarehouseStock(random.nextInt(20))
+              .setWeight(1 + random.nextInt(10) / 2.0)
+              .setLength(1 + random.nextInt(10))
+              .setHeight(1 + random.nextInt(10))
+              .setWidth(1 + random.nextInt(10))
+              .setColor(Color.values()[random.nextInt(3)])
+              .setCategory(Category.values()[random.nextInt(3)])
+              .build());
+      itemRegister.changeDiscountOfItem(itemRegister.getItem(i + 5), random.nextInt(3) * 10);
+    }
+
+    for (ItemField field : ItemField.values()) {
+      for (boolean ascending : new boolean[] {true, false}) {
+        Category category = Category.values()[random.nextInt(3)];
+        Color color = Color.values()[random.nextInt(3)];
+        List<Item> sortedItems = itemRegister.getItems().stream()
+                .filter(item -> item.getCategory() == category && item.getColor() == color)
+                .sorted(field.order(ascending))
+                .toList();
+
+        assertEquals(sortedItems.subList(0, Math.min(7, sortedItems.size())),
+                itemRegister.getTopItems(field, ascending, category, color, 7));
+
+        List<Item> allSortedItems = itemRegister.getItems().stream()
+                .sorted(field.order(ascending))
+                .limit(7)
+                .toList();
+        assertEquals(allSortedItems, itemRegister.getTopItems(field, ascending, 7));
+      }
+    }
+  }
+
+  /**
+   * Test for the {@link ItemRegister#setStockThreshold(Item, int)} and
+   * {@link ItemRegister#setStockThreshold(Category, int)} methods.
+   * Test will <code>PASS</code> if an alert is delivered every time a stock change
+   * crosses the threshold of an item, and the threshold of the item is used before
+   * the threshold of its category
+   * Test will <code>FAIL</code> if an alert is missing, or sent without a crossing
+   */
+  @Test
+  void stockAlertsOnThresholdCrossings() throws InterruptedException {
+    BlockingQueue<StockAlert> alerts = new LinkedBlockingQueue<>();
+    itemRegister.addStockAlertListener(alerts::add);
+    Item christmasWindow = itemRegister.searchByItemNumber("A1205B");
+    Item basementWindow = itemRegister.searchByItemNumber("A1008B");
+    Item cherryLumber = itemRegister.searchByItemNumber("M5788B");
+
+    itemRegister.setStockThreshold(Category.WINDOWS, 5);
+    itemRegister.setStockThreshold(basementWindow, 70);
+    assertEquals(5, itemRegister.getStockThreshold(christmasWindow));
+    assertEquals(70, itemRegister.getStockThreshold(basementWindow));
+    assertEquals(-1, itemRegister.getStockThreshold(cherryLumber));
+
+    itemRegister.decreaseItemStock(cherryLumber, 8);
+    itemRegister.decreaseItemStock(basementWindow, 5);
+    itemRegister.decreaseItemStock(basementWindow, 1);
+    StockAlert lowStock = alerts.poll(5, TimeUnit.SECONDS);
+    assertNotNull(lowStock);
+    assertEquals("A1008B", lowStock.getItem().getItemNumber());
+    assertEquals(71, lowStock.getPreviousStock());
+    assertEquals(70, lowStock.getWarehouseStock());
+    assertTrue(lowStock.isLowStock());
+
+    itemRegister.increaseItemStock(christmasWindow, 3);
+    itemRegister.increaseItemStock(christmasWindow, 1);
+    StockAlert restocked = alerts.poll(5, TimeUnit.SECONDS);
+    assertNotNull(restocked);
+    assertEquals("A1205B", restocked.getItem().getItemNumber());
+    assertEquals(6, restocked.getWarehouseStock());
+    assertEquals(5, restocked.getThreshold());
+    assertFalse(restocked.isLowStock());
+
+    itemRegister.applyStockMovements(List.of(new StockMovement("A1205B", -6),
+            new StockMovement("A1008B", 10)));
+    assertEquals("A1205B", alerts.poll(5, TimeUnit.SECONDS).getItem().getItemNumber());
+    assertEquals("A1008B", alerts.poll(5, TimeUnit.SECONDS).getItem().getItemNumber());
+
+    assertTrue(itemRegister.removeStockThreshold(basementWindow));
+    assertEquals(5, itemRegister.getStockThreshold(basementWindow));
+    assertTrue(itemRegister.removeStockThreshold(Category.WINDOWS));
+    itemRegister.increaseItemStock(christmasWindow, 50);
+    assertNull(alerts.poll(100, TimeUnit.MILLISECONDS));
+
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.setStockThreshold(Category.DOORS, -1));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#addStockAlertListener(StockAlertListener)} method.
+   * Test will <code>PASS</code> if a blocked listener doesn't block changes to the stock,
+   * and a failing listener doesn't stop the alerts from reaching the other listeners
+   * Test will <code>FAIL</code> if changing the stock waits for a listener, or an alert
+   * is lost
+   */
+  @Test
+  void stockAlertListenersDontBlockChanges() throws InterruptedException {
+    BlockingQueue<StockAlert> alerts = new LinkedBlockingQueue<>();
+    Object lock = new Object();
+    itemRegister.addStockAlertListener(alert -> {
+      synchronized (lock) {
+        if (alert.getPreviousStock() == 211) {
+          throw new IllegalStateException("Listener failed");
+        }
+      }
+    });
+    itemRegister.addStockAlertListener(alerts::add);
+    itemRegister.setStockThreshold(Category.FLOOR_LAMINATES, 200);
+    Item floorTile = itemRegister.searchByItemNumber("F4020G");
+
+    synchronized (lock) {
+      for (int i = 0; i < 10; i++) {
+        itemRegister.decreaseItemStock(floorTile, 20);
+        itemRegister.increaseItemStock(floorTile, 20);
+      }
+      assertNull(alerts.poll(50, TimeUnit.MILLISECONDS));
+    }
+
+    for (int i = 0; i < 20; i++) {
+      StockAlert alert = alerts.poll(5, TimeUnit.SECONDS);
+      assertNotNull(alert);
+      assertEquals(i % 2 == 0, alert.isLowStock());
+    }
+  }
+
+  /**
+   * Test for the {@link ItemRegister#aggregate(ItemMeasure)} and
+   * {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)} methods.
+   * Test will <code>PASS</code> if the count, sum, lowest, highest and average values
+   * of every group are correct
+   * Test will <code>FAIL</code> if any value or group is wrong
+   */
+  @Test
+  void aggregate() {
+    ItemAggregate total = itemRegister.aggregate(ItemMeasure.STOCK_VALUE);
+    assertEquals(5, total.getCount());
+    assertEquals(121213, total.getSum());
+    assertEquals(260, total.getMin());
+    assertEquals(74252, total.getMax());
+
+    Map<Category, ItemAggregate> byCategory =
+            itemRegister.aggregate(ItemMeasure.STOCK_VALUE, ItemGrouping.BY_CATEGORY);
+    assertEquals(List.of(Category.FLOOR_LAMINATES, Category.WINDOWS, Category.DOORS,
+            Category.LUMBER), List.copyOf(byCategory.keySet()));
+    assertEquals(2, byCategory.get(Category.WINDOWS).getCount());
+    assertEquals(74512, byCategory.get(Category.WINDOWS).getSum());
+    assertEquals(37256, byCategory.get(Category.WINDOWS).getAverage());
+
+    Map<Color, ItemAggregate> byColor =
+            itemRegister.aggregate(ItemMeasure.WEIGHT, ItemGrouping.BY_COLOR);
+    assertEquals(61.0, byColor.get(Color.GRAY).getSum(), 1e-9);
+    assertEquals(8.6, byColor.get(Color.GRAY).getMin());
+
+    Map<String, ItemAggregate> byBrand =
+            itemRegister.aggregate(ItemMeasure.VOLUME, ItemGrouping.BY_BRAND);
+    assertEquals(List.of("Achim", "Barrington Hardwoods", "Mpmedo", "Park products", "SULOLI"),
+            List.copyOf(byBrand.keySet()));
+    assertEquals(15.8 * 27.5 * 20, byBrand.get("SULOLI").getMax());
+
+    ItemAggregate empty = new ItemRegister().aggregate(ItemMeasure.WEIGHT);
+    assertEquals(0, empty.getCount());
+    assertTrue(Double.isNaN(empty.getAverage()));
+    assertThrows(NullPointerException.class, () -> itemRegister.aggregate(null));
+  }
+
+  /**
+   * Test for the {@link ItemRegister#aggregate(ItemMeasure, ItemGrouping)} method with
+   * enough items to be split between several threads.
+   * Test will <code>PASS</code> if the parallel aggregates are the same as a sequential
+   * scan of the items
+   * Test will <code>FAIL</code> if any group differs from the sequential scan
+   */
+  @Test
+  void aggregateMatchesSequentialScan() {
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < 3 * ItemAggregation.LEAF_SIZE + 7; i++) {
+      items.add(new ItemBuilder()
+              .setItemNumber("P" + i)
+              .setDescription("Parallel item")
+              .setBrandName("Brand " + i % 7)
+              .setPrice(1 + i % 101)
+              .setWarehouseStock(i % 13)
+              .setWeight(1 + i % 5)
+              .setLength(1)
+              .setHeight(1)
+              .setWidth(1)
+              .setColor(Color.values()[i % Color.values().length])
+              .setCategory(Category.values()[i % Category.values().length])
+              .build());
+    }
+    itemRegister.addAll(items);
+
+    Map<String, ItemAggregate> byBrand =
+            itemRegister.aggregate(ItemMeasure.STOCK_VALUE, ItemGrouping.BY_BRAND);
+    for (int brand = 0; brand < 7; brand++) {
+      String brandName = "Brand " + brand;
+      List<Item> brandItems = itemRegister.getItems().stream()
+              .filter(item -> item.getBrandName().equals(brandName)).toList();
+      ItemAggregate aggregate = byBrand.get(brandName);
+
+      assertEquals(brandItems.size(), aggregate.getCount());
+      assertEquals(brandItems.stream()
+              .mapToLong(item -> (long) item.getPrice() * item.getWarehouseStock()).sum(),
+              aggregate.getSum());
+      assertEquals(brandItems.stream()
+              .mapToLong(item -> (long) item.getPrice() * item.getWarehouseStock()).max()
+              .getAsLong(), aggregate.getMax());
+    }
+    assertEquals(itemRegister.size(), itemRegister.aggregate(ItemMeasure.WEIGHT).getCount());
+  }
+
+  /**
+   * Test for the {@link ItemRegister#countByCategory(Category)} method.
+   * Test will <code>PASS</code> if the category counts follow added and removed items
+   * Test will <code>FAIL</code> if the category counts are wrong
+   */
+  @Test
+  void countByCategory() {
+    assertEquals(2, itemRegister.countByCategory(Category.WINDOWS));
+    assertEquals(0, itemRegister.countByCategory(Category.METAL));
+    assertNull(itemRegister.searchByCategory(Category.METAL));
+
+    itemRegister.removeItem(itemRegister.searchByItemNumber("A1205B"));
+
+    assertEquals(1, itemRegister.countByCategory(Category.WINDOWS));
+    assertEquals("A1008B", itemRegister.searchByCategory(Category.WINDOWS).get(0).getItemNumber());
+    assertThrows(NullPointerException.class, () -> itemRegister.countByCategory(null));
+  }
+
   /**
    * Test for the {@link ItemRegister#increaseItemStock(Item, int)} method.
    * Test will <code>PASS</code> if the item stock was increased successfully
@@ -303,6 +812,190 @@ class ItemRegisterTest {
 
   }
 
+  /**
+   * Test for the order of items with equal values when sorting {@link ItemRegister}.
+   * Test will <code>PASS</code> if items with the same color are ordered by item number,
+   * and the descending order is the reverse of the ascending order
+   * Test will <code>FAIL</code> if the order of equal items is not deterministic
+   */
+  @Test
+  void sortListWithEqualValues() {
+    itemRegister.sortListByColor(true);
+    assertEquals("A1008B", itemRegister.getItem(2).getItemNumber());
+    assertEquals("C1007B", itemRegister.getItem(3).getItemNumber());
+
+    itemRegister.sortListByColor(false);
+    assertEquals("C1007B", itemRegister.getItem(1).getItemNumber());
+    assertEquals("A1008B", itemRegister.getItem(2).getItemNumber());
+  }
+
+  /**
+   * Test for keeping the sorted order of {@link ItemRegister} up to date when
+   * the sorted field of an item changes.
+   * Test will <code>PASS</code> if the changed item is moved to its new position
+   * and no items are lost when a change fails
+   * Test will <code>FAIL</code> if the order is outdated or items are lost
+   */
+  @Test
+  void sortListAfterChanges() {
+    itemRegister.sortListByPrice(true);
+    itemRegister.changePriceOfItem(itemRegister.searchByItemNumber("A1008B"), 1);
+    assertEquals("A1008B", itemRegister.getItem(0).getItemNumber());
+
+    itemRegister.changeDiscountOfItem(itemRegister.searchByItemNumber("F4020G"), 100);
+    assertEquals("F4020G", itemRegister.getItem(0).getItemNumber());
+
+    itemRegister.sortListByWarehousestock(true);
+    Item item = itemRegister.searchByItemNumber("A1205B");
+    assertThrows(IllegalNumberException.class, () -> itemRegister.decreaseItemStock(item, 5));
+    assertEquals(5, itemRegister.getCopyOfList().size());
+    assertEquals("A1205B", itemRegister.getItem(0).getItemNumber());
+
+    itemRegister.increaseItemStock(item, 300);
+    assertEquals("A1205B", itemRegister.getItem(4).getItemNumber());
+  }
+
+  /**
+   * Test for the {@link ItemRegister#addListener(ItemRegisterListener)} method.
+   * Test will <code>PASS</code> if the listener is notified about the changes which
+   * succeed, with the read-only views of the changed items, until it is removed
+   * Test will <code>FAIL</code> if a failed change is reported, or the listener is
+   * notified after it has been removed
+   */
+  @Test
+  void listeners() {
+    List<String> changes = new ArrayList<>();
+    ItemRegisterListener listener = new ItemRegisterListener() {
+      @Override
+      public void stockChanged(Item item, int delta) {
+        assertTrue(item.isReadOnly());
+        changes.add(item.getItemNumber() + " " + delta + " " + item.getWarehouseStock());
+      }
+
+      @Override
+      public void itemRemoved(Item item) {
+        changes.add("removed " + item.getItemNumber());
+      }
+    };
+    itemRegister.addListener(listener);
+
+    itemRegister.increaseItemStock(itemRegister.getItem(0), 3);
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.decreaseItemStock(itemRegister.getItem(1), 9));
+    itemRegister.applyStockMovements(List.of(new StockMovement("M5788B", -8),
+            new StockMovement("C1007B", 0)));
+    itemRegister.removeItem(itemRegister.getItem(3));
+    assertTrue(itemRegister.removeListener(listener));
+    itemRegister.increaseItemStock(itemRegister.getItem(0), 3);
+
+    assertEquals(List.of("A1205B 3 5", "M5788B -8 0", "removed A1008B"), changes);
+  }
+
+  /**
+   * Test for the {@link ItemRegister#addAll(Collection)} method.
+   * Test will <code>PASS</code> if all the items are added and can be found through
+   * every index, and a collection with duplicates is rejected as a whole with
+   * every duplicate reported
+   * Test will <code>FAIL</code> if any item is added from a rejected collection, or
+   * any index is missing an item
+   */
+  @Test
+  void addAll() {
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      items.add(new ItemBuilder()
+              .setItemNumber("B" + i)
+              .setDescription("Bulk window " + i)
+              .setBrandName("Bulk")
+              .setPrice(10 + i)
+              .setWarehouseStock(i)
+              .setWeight(1)
+              .setLength(1)
+              .setHeight(1)
+              .setWidth(1)
+              .setColor(Color.WHITE)
+              .setCategory(Category.WINDOWS)
+              .build());
+    }
+
+    DuplicateItemNumberException exception = assertThrows(DuplicateItemNumberException.class,
+            () -> itemRegister.addAll(List.of(items.get(0), itemRegister.getItem(0),
+                    items.get(1), ItemBuilder.deepCopy(items.get(0)), itemRegister.getItem(3))));
+    assertEquals(List.of("A1205B", "B0", "A1008B"), exception.getDuplicateItemNumbers());
+    assertEquals(5, itemRegister.size());
+    assertNull(itemRegister.searchByItemNumber("B1"));
+
+    itemRegister.addAll(items);
+
+    assertEquals(25, itemRegister.size());
+    assertEquals("B0", itemRegister.getItem(5).getItemNumber());
+    assertEquals("B19", itemRegister.getItem(24).getItemNumber());
+    assertEquals(22, itemRegister.countByCategory(Category.WINDOWS));
+    assertEquals(20, itemRegister.searchByItemDesc("bulk").size());
+    assertIndexMatchesList();
+
+    ItemRegisterSnapshot snapshot = itemRegister.snapshot();
+    assertEquals(25, snapshot.size());
+    assertEquals(itemRegister.toString(), snapshot.toString());
+    assertEquals("B7", snapshot.searchByItemNumber("b7").getItemNumber());
+
+    itemRegister.sortListByPrice(true);
+    assertEquals("B0", itemRegister.getItem(0).getItemNumber());
+    itemRegister.removeItem(itemRegister.searchByItemNumber("B3"));
+    itemRegister.addAll(List.of(ItemBuilder.deepCopy(items.get(3))));
+    assertEquals("B3", itemRegister.snapshot().getItem(24).getItemNumber());
+    assertEquals(25, itemRegister.snapshot().size());
+  }
+
+  /**
+   * Test for the {@link ItemRegister#applyStockMovements(Collection)} method.
+   * Test will <code>PASS</code> if a valid batch is applied with the deltas of every
+   * item added up, and an invalid batch is rejected as a whole
+   * Test will <code>FAIL</code> if any batch is only partly applied
+   */
+  @Test
+  void applyStockMovements() {
+    itemRegister.sortListByWarehousestock(true);
+    ItemRegisterSnapshot before = itemRegister.snapshot();
+
+    StockMovementReport report = itemRegister.applyStockMovements(List.of(
+            new StockMovement("A1205B", -2),
+            new StockMovement("m5788b", 10),
+            new StockMovement("A1205B", 5),
+            new StockMovement("C1007B", 0)));
+
+    assertTrue(report.isApplied());
+    assertTrue(report.getFailures().isEmpty());
+    assertEquals(4, report.getResults().size());
+    assertEquals(StockMovementStatus.APPLIED, report.getResults().get(2).getStatus());
+    assertEquals(5, report.getResults().get(0).getWarehouseStock());
+    assertEquals(18, report.getResults().get(1).getWarehouseStock());
+    assertEquals(5, itemRegister.searchByItemNumber("A1205B").getWarehouseStock());
+    assertEquals("A1205B", itemRegister.getItem(0).getItemNumber());
+    assertEquals("M5788B", itemRegister.getItem(1).getItemNumber());
+    assertEquals(before.getVersion() + 1, itemRegister.snapshot().getVersion());
+
+    StockMovementReport rejected = itemRegister.applyStockMovements(List.of(
+            new StockMovement("A1205B", 10),
+            new StockMovement("M5788B", -19),
+            new StockMovement("X0000X", 1),
+            new StockMovement("F4020G", Integer.MAX_VALUE)));
+
+    assertFalse(rejected.isApplied());
+    assertEquals(StockMovementStatus.NOT_APPLIED, rejected.getResults().get(0).getStatus());
+    assertEquals(StockMovementStatus.INSUFFICIENT_STOCK,
+            rejected.getResults().get(1).getStatus());
+    assertEquals(StockMovementStatus.ITEM_NOT_FOUND, rejected.getResults().get(2).getStatus());
+    assertEquals(-1, rejected.getResults().get(2).getWarehouseStock());
+    assertEquals(StockMovementStatus.STOCK_OVERFLOW, rejected.getResults().get(3).getStatus());
+    assertEquals(3, rejected.getFailures().size());
+    assertEquals(5, itemRegister.searchByItemNumber("A1205B").getWarehouseStock());
+    assertEquals(18, itemRegister.searchByItemNumber("M5788B").getWarehouseStock());
+
+    assertThrows(NullPointerException.class, () -> itemRegister.applyStockMovements(null));
+    assertThrows(NullPointerException.class, () -> new StockMovement(null, 1));
+  }
+
   /**
    * Test for the {@link ItemRegister#getCopyOfList()} method.
    * Test will <code>PASS</code> if the list was deep-copied successfully
@@ -326,20 +1019,85 @@ class ItemRegisterTest {
 
   /**
    * Test for the {@link ItemRegister#getItem(int)} method.
-   * Test will <code>PASS</code> if the item was returned successfully
+   * Test will <code>PASS</code> if the same read-only view was returned every time
    * Test will <code>FAIL</code> if the item wasn't returned successfully
    */
   @Test
   void getItem() {
 
-    Item deepCopy = itemRegister.getItem(0);
+    Item item = itemRegister.getItem(0);
+
+    assertSame(item, itemRegister.getItem(0));
+    assertSame(item, itemRegister.searchByItemNumber("A1205B"));
+    assertSame(item, itemRegister.searchByCategory(Category.WINDOWS).get(0));
+    assertSame(item, itemRegister.getItems().get(0));
+    assertEquals("A1205B", item.getItemNumber());
+    assertEquals("SULOLI", item.getBrandName());
+    assertEquals(130, item.getPrice());
+    assertEquals(Color.WHITE, item.getColor());
 
-    assertNotEquals(deepCopy, itemRegister.getItem(0));
-    assertEquals(deepCopy.getItemNumber(), itemRegister.getItem(0).getItemNumber());
-    assertEquals(deepCopy.getBrandName(), itemRegister.getItem(0).getBrandName());
-    assertEquals(deepCopy.getPrice(), itemRegister.getItem(0).getPrice());
-    assertEquals(deepCopy.getColor(), itemRegister.getItem(0).getColor());
+  }
+
+  /**
+   * Test for the {@link ItemRegister#getItems(int, int)} method.
+   * Test will <code>PASS</code> if the items in the range were returned in the current
+   * order, also right after a change to a sorted register, and invalid ranges were
+   * rejected
+   * Test will <code>FAIL</code> if any range was returned wrong
+   */
+  @Test
+  void getItemsInRange() {
+    assertEquals(List.of("M5788B", "C1007B"), itemRegister.getItems(1, 3).stream()
+            .map(Item::getItemNumber).toList());
+    assertSame(itemRegister.getItem(1), itemRegister.getItems(1, 3).get(0));
+    assertEquals(List.of(), itemRegister.getItems(5, 5));
 
+    itemRegister.sortListByWarehousestock(false);
+    itemRegister.increaseItemStock(itemRegister.searchByItemNumber("A1205B"), 100);
+    assertEquals(List.of("F4020G", "A1205B", "A1008B"), itemRegister.getItems(0, 3).stream()
+            .map(Item::getItemNumber).toList());
+    assertEquals(itemRegister.getItems().subList(2, 5), itemRegister.getItems(2, 5));
+
+    assertThrows(IndexOutOfBoundsException.class, () -> itemRegister.getItems(-1, 2));
+    assertThrows(IndexOutOfBoundsException.class, () -> itemRegister.getItems(3, 6));
+    assertThrows(IndexOutOfBoundsException.class, () -> itemRegister.getItems(3, 2));
+  }
+
+  /**
+   * Test for the read-only views returned by {@link ItemRegister}.
+   * Test will <code>PASS</code> if the views can't be changed, show the changes made
+   * through the register and can be copied and added back after being removed
+   * Test will <code>FAIL</code> if any of the views behave differently
+   */
+  @Test
+  void readOnlyViews() {
+    Item item = itemRegister.searchByItemNumber("M5788B");
+
+    assertTrue(item.isReadOnly());
+    assertThrows(UnsupportedOperationException.class, () -> item.setPrice(10));
+    assertThrows(UnsupportedOperationException.class, () -> item.setDiscount(10));
+    assertThrows(UnsupportedOperationException.class, () -> item.setWarehouseStock(10));
+    assertThrows(UnsupportedOperationException.class, () -> item.setDescription("Test"));
+
+    itemRegister.increaseItemStock(item, 2);
+    itemRegister.changePriceOfItem(item, 200);
+    itemRegister.changeDiscountOfItem(item, 10);
+    itemRegister.changeDescriptionOfItem(item, "Walnut Lumber");
+    assertEquals(10, item.getWarehouseStock());
+    assertEquals(180, item.getPrice());
+    assertEquals("Walnut Lumber", item.getDescription());
+
+    Item copy = itemRegister.getCopyOfList().get(1);
+    assertFalse(copy.isReadOnly());
+    copy.setWarehouseStock(0);
+    assertEquals(10, item.getWarehouseStock());
+    assertEquals(item.toString(), ItemBuilder.deepCopy(item).toString());
+
+    assertTrue(itemRegister.removeItem(item));
+    itemRegister.addItem(item);
+    itemRegister.decreaseItemStock(item, 10);
+    assertEquals(0, itemRegister.searchByItemNumber("M5788B").getWarehouseStock());
+    assertEquals(10, item.getWarehouseStock());
   }
 
   /**
@@ -354,6 +1112,97 @@ class ItemRegisterTest {
 
   }
 
+  /**
+   * Test for the item number index used by the lookups in {@link ItemRegister}.
+   * Test will <code>PASS</code> if item numbers are found regardless of case and
+   * surrounding whitespace, and duplicates are rejected the same way
+   * Test will <code>FAIL</code> if the lookups or the duplicate check are
+   * case-sensitive or whitespace-sensitive
+   */
+  @Test
+  void itemNumberIndexIsNormalized() {
+    assertEquals("A1205B", itemRegister.searchByItemNumber("  a1205b ").getItemNumber());
+
+    assertThrows(IllegalArgumentException.class, () ->
+            itemRegister.addItem(new ItemBuilder()
+            .setItemNumber(" a1205b")
+            .setDescription("Large Christmas Window")
+            .setBrandName("SULOLI")
+            .setPrice(130)
+            .setWarehouseStock(2)
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .setWidth(20)
+            .build()));
+
+    assertEquals(5, itemRegister.size());
+  }
+
+  /**
+   * Test for keeping the item number index and the item list of {@link ItemRegister}
+   * in sync after items are added, removed and the list is sorted.
+   * Test will <code>PASS</code> if every item in the list is found through the index
+   * at its position in the list, and removed items are no longer found
+   * Test will <code>FAIL</code> if the index and the list disagree
+   */
+  @Test
+  void itemNumberIndexStaysInSyncWithList() {
+    assertIndexMatchesList();
+
+    itemRegister.addItem(new ItemBuilder()
+            .setItemNumber("A1215C")
+            .setDescription("Large Christmas Window")
+            .setBrandName("SULOLI")
+            .setPrice(130)
+            .setWarehouseStock(2)
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .setWidth(20)
+            .build());
+    assertIndexMatchesList();
+
+    Item removedItem = itemRegister.searchByItemNumber("C1007B");
+    assertTrue(itemRegister.removeItem(removedItem));
+    assertNull(itemRegister.searchByItemNumber("C1007B"));
+    assertEquals(-1, itemRegister.getIndexOfItem(removedItem));
+    assertFalse(itemRegister.removeItem(removedItem));
+    assertIndexMatchesList();
+
+    itemRegister.sortListByPrice(false);
+    assertIndexMatchesList();
+    itemRegister.sortListByItemnumber(true);
+    assertIndexMatchesList();
+
+    itemRegister.addItem(ItemBuilder.deepCopy(removedItem));
+    assertEquals(6, itemRegister.size());
+    assertIndexMatchesList();
+  }
+
+  /**
+   * Asserts that every item in the register's list can be found through the
+   * item number index, and that the index points to the same position in the list.
+   */
+  private void assertIndexMatchesList() {
+    List<Item> itemList = itemRegister.getCopyOfList();
+    assertEquals(itemRegister.size(), itemList.size());
+
+    for (int i = 0; i < itemList.size(); i++) {
+      Item itemInList = itemList.get(i);
+      Item itemFromIndex = itemRegister.searchByItemNumber(itemInList.getItemNumber());
+
+      assertNotNull(itemFromIndex);
+      assertEquals(itemInList.getItemNumber(), itemFromIndex.getItemNumber());
+      assertEquals(itemInList.getWarehouseStock(), itemFromIndex.getWarehouseStock());
+      assertEquals(i, itemRegister.getIndexOfItem(itemInList));
+    }
+  }
+
   /**
    * Test for all the exceptions that can be thrown
    * in the methods.
@@ -0,0 +1,147 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.DuplicateItemNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link MappedItemRegister} class.
+ */
+class MappedItemRegisterTest {
+
+  @TempDir
+  Path directory;
+
+  ItemRegister itemRegister;
+  Path file;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Fills an {@link ItemRegister} with default items and an item with a description
+   * outside of ASCII, and writes its items to a register file.
+   *
+   * @throws IOException If the register file could not be written
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    itemRegister = new ItemRegister();
+    itemRegister.fillListWithDefaultItems();
+    Item item = new ItemBuilder()
+            .setItemNumber("A1215C")
+            .setDescription("Großes Weihnachtsfenster")
+            .setBrandName("SULOLI")
+            .setPrice(130)
+            .setWarehouseStock(2)
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .setWidth(20)
+            .build();
+    item.setDiscount(20);
+    itemRegister.addItem(item);
+
+    file = directory.resolve("register.bin");
+    MappedItemRegister.write(file, itemRegister.getItems());
+  }
+
+  /**
+   * Test for the {@link MappedItemRegister#open(Path)} method.
+   * Test will <code>PASS</code> if every item is read back with all its values, both
+   * when the file is mapped as one chunk and when it is split between many small
+   * chunks, and the file can be replaced while it is mapped
+   * Test will <code>FAIL</code> if any item is read back with different values
+   */
+  @Test
+  void open() throws IOException {
+    for (MappedItemRegister mappedItemRegister : List.of(MappedItemRegister.open(file),
+            MappedItemRegister.open(file, 3), MappedItemRegister.open(file, 6))) {
+      assertEquals(itemRegister.size(), mappedItemRegister.size());
+      assertEquals(itemRegister.toString(), mappedItemRegister.toString());
+      assertEquals(104, mappedItemRegister.getItem(5).getPrice());
+      assertThrows(IndexOutOfBoundsException.class, () -> mappedItemRegister.getItem(6));
+    }
+
+    MappedItemRegister.write(file, List.of());
+    MappedItemRegister emptyRegister = MappedItemRegister.open(file);
+    assertEquals(0, emptyRegister.size());
+    assertNull(emptyRegister.searchByItemNumber("A1205B"));
+    assertThrows(NullPointerException.class, () -> MappedItemRegister.open(null));
+  }
+
+  /**
+   * Test for the search methods of {@link MappedItemRegister}.
+   * Test will <code>PASS</code> if the items were found by item number and category,
+   * and the categories were counted from the header
+   * Test will <code>FAIL</code> if the items weren't found successfully
+   */
+  @Test
+  void search() throws IOException {
+    MappedItemRegister mappedItemRegister = MappedItemRegister.open(file, 6);
+
+    for (Item item : itemRegister.getItems()) {
+      assertEquals(item.toString(),
+              mappedItemRegister.searchByItemNumber(item.getItemNumber()).toString());
+    }
+    assertEquals("A1205B", mappedItemRegister.searchByItemNumber(" a1205b").getItemNumber());
+    assertNull(mappedItemRegister.searchByItemNumber("A1215D"));
+
+    List<Item> windows = mappedItemRegister.searchByCategory(Category.WINDOWS);
+    assertEquals(3, windows.size());
+    assertEquals("A1215C", windows.get(2).getItemNumber());
+    assertEquals(3, mappedItemRegister.countByCategory(Category.WINDOWS));
+    assertEquals(0, mappedItemRegister.countByCategory(Category.METAL));
+    assertNull(mappedItemRegister.searchByCategory(Category.METAL));
+    assertThrows(NullPointerException.class, () -> mappedItemRegister.searchByItemNumber(null));
+    assertThrows(NullPointerException.class, () -> mappedItemRegister.searchByCategory(null));
+  }
+
+  /**
+   * Test for files which can't be opened or written by {@link MappedItemRegister}.
+   * Test will <code>PASS</code> if damaged and truncated files are rejected, and
+   * duplicate item numbers are rejected before a file is written
+   * Test will <code>FAIL</code> if an invalid file is opened or written
+   */
+  @Test
+  void invalidFile() throws IOException {
+    Path damaged = directory.resolve("damaged.bin");
+    Files.copy(file, damaged);
+    try (FileChannel channel = FileChannel.open(damaged, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(4).putInt(1000).flip(), 8);
+    }
+    assertThrows(IOException.class, () -> MappedItemRegister.open(damaged));
+
+    Path truncated = directory.resolve("truncated.bin");
+    Files.copy(file, truncated);
+    try (FileChannel channel = FileChannel.open(truncated, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+    assertThrows(IOException.class, () -> MappedItemRegister.open(truncated));
+
+    Files.write(damaged, new byte[] {1, 2, 3});
+    assertThrows(IOException.class, () -> MappedItemRegister.open(damaged));
+
+    List<Item> items = List.of(itemRegister.getItem(0), itemRegister.getItem(1),
+            itemRegister.getItem(0));
+    Path duplicates = directory.resolve("duplicates.bin");
+    DuplicateItemNumberException exception = assertThrows(DuplicateItemNumberException.class,
+            () -> MappedItemRegister.write(duplicates, items));
+    assertEquals(List.of("A1205B"), exception.getDuplicateItemNumbers());
+    assertFalse(Files.exists(duplicates));
+  }
+}
@@ -0,0 +1,335 @@
+package no.ntnu.idatt1001.common;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link OffHeapItemRegister} class.
+ */
+class OffHeapItemRegisterTest {
+
+  OffHeapItemRegister itemRegister;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Assigns a new {@link OffHeapItemRegister} to the {@code itemRegister} value and fills
+   * it with default items with the {@link OffHeapItemRegister#fillListWithDefaultItems()}
+   * method for further testing purposes. The register starts out too small for the
+   * default items, so the buffers have to grow.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new OffHeapItemRegister(1);
+    itemRegister.fillListWithDefaultItems();
+  }
+
+  /**
+   * Test for the {@link OffHeapItemRegister#addItem(Item)} method.
+   * Test will <code>PASS</code> if the item was added with all its values
+   * Test will <code>FAIL</code> if the item wasn't added successfully
+   */
+  @Test
+  void addItem() {
+    Item item = new ItemBuilder()
+            .setItemNumber("A1215C")
+            .setDescription("Großes Weihnachtsfenster")
+            .setBrandName("SULOLI")
+            .setPrice(130)
+            .setWarehouseStock(2)
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .setWidth(20)
+            .build();
+    item.setDiscount(20);
+    itemRegister.addItem(item);
+
+    assertEquals(6, itemRegister.size());
+    Item itemFromRegister = itemRegister.getItem(5);
+
+    assertEquals(item.toString(), itemFromRegister.toString());
+    assertEquals(104, itemFromRegister.getPrice());
+    assertThrows(IllegalArgumentException.class, () -> itemRegister.addItem(item));
+    assertThrows(NullPointerException.class, () -> itemRegister.addItem(null));
+    assertThrows(IllegalNumberException.class, () -> new OffHeapItemRegister(-1));
+  }
+
+  /**
+   * Test for the search methods of {@link OffHeapItemRegister}.
+   * Test will <code>PASS</code> if the items were found by item number, description
+   * and category
+   * Test will <code>FAIL</code> if the items weren't found successfully
+   */
+  @Test
+  void search() {
+    assertEquals("A1205B", itemRegister.searchByItemNumber(" a1205b").getItemNumber());
+    assertNull(itemRegister.searchByItemNumber("A1215C"));
+
+    List<Item> windowsByDescription = itemRegister.searchByItemDesc("win*");
+    assertEquals(2, windowsByDescription.size());
+    assertEquals("A1205B", windowsByDescription.get(0).getItemNumber());
+    assertEquals("A1008B", itemRegister.searchByItemDesc("basement window").get(0)
+            .getItemNumber());
+    assertNull(itemRegister.searchByItemDesc("metal"));
+
+    List<Item> windows = itemRegister.searchByCategory(Category.WINDOWS);
+    assertEquals(2, windows.size());
+    assertEquals("A1205B", windows.get(0).getItemNumber());
+    assertEquals("A1008B", windows.get(1).getItemNumber());
+    assertNull(itemRegister.searchByCategory(Category.METAL));
+    assertEquals(2, itemRegister.countByCategory(Category.WINDOWS));
+  }
+
+  /**
+   * Test for the methods changing the items in {@link OffHeapItemRegister}.
+   * Test will <code>PASS</code> if the changes are written to the records
+   * Test will <code>FAIL</code> if the changes weren't written successfully
+   */
+  @Test
+  void changeItems() {
+    Item item = itemRegister.searchByItemNumber("M5788B");
+
+    itemRegister.increaseItemStock(item, 12);
+    itemRegister.decreaseItemStock(item, 5);
+    itemRegister.changePriceOfItem(item, 200);
+    itemRegister.changeDiscountOfItem(item, 25);
+    itemRegister.changeDescriptionOfItem(item, "Walnut Lumber");
+
+    Item changedItem = itemRegister.searchByItemNumber("M5788B");
+    assertEquals(15, changedItem.getWarehouseStock());
+    assertEquals(150, changedItem.getPrice());
+    assertEquals("Walnut Lumber", changedItem.getDescription());
+    assertEquals("Barrington Hardwoods", changedItem.getBrandName());
+    assertEquals("M5788B", itemRegister.searchByItemDesc("walnut").get(0).getItemNumber());
+    assertNull(itemRegister.searchByItemDesc("cherry"));
+
+    assertThrows(IllegalNumberException.class, () -> itemRegister.decreaseItemStock(item, 16));
+    assertEquals(15, itemRegister.searchByItemNumber("M5788B").getWarehouseStock());
+    assertThrows(NoSuchElementException.class, () -> itemRegister.changePriceOfItem(
+            itemWithNumber("A1215C"), 10));
+  }
+
+  /**
+   * Test for the {@link OffHeapItemRegister#removeItem(Item)} method.
+   * Test will <code>PASS</code> if the item was removed, the order of the other
+   * items was kept and the record was reused by the next item
+   * Test will <code>FAIL</code> if the item wasn't removed successfully
+   */
+  @Test
+  void removeItem() {
+    Item item = itemRegister.searchByItemNumber("C1007B");
+
+    assertTrue(itemRegister.removeItem(item));
+    assertFalse(itemRegister.removeItem(item));
+    assertEquals(4, itemRegister.size());
+    assertNull(itemRegister.searchByItemNumber("C1007B"));
+    assertEquals("A1008B", itemRegister.getItem(2).getItemNumber());
+    assertEquals(-1, itemRegister.getIndexOfItem(item));
+
+    Item newItem = new ItemBuilder()
+            .setItemNumber("B2000A")
+            .setDescription("Pine Lumber")
+            .setBrandName("Barrington Hardwoods")
+            .setPrice(80)
+            .setWeight(1)
+            .setLength(1)
+            .setHeight(1)
+            .setWidth(1)
+            .setColor(Color.BROWN)
+            .setCategory(Category.LUMBER)
+            .build();
+    itemRegister.addItem(newItem);
+    itemRegister.addItem(item);
+
+    assertEquals(4, itemRegister.getIndexOfItem(newItem));
+    assertEquals(5, itemRegister.getIndexOfItem(item));
+    assertEquals("Pine Lumber", itemRegister.getItem(4).getDescription());
+    assertEquals("Magnetic Thermal Insulated", itemRegister.getItem(5).getDescription());
+    assertEquals(1, itemRegister.countByCategory(Category.DOORS));
+    assertEquals(1, itemRegister.searchByItemDesc("magnetic").size());
+    assertEquals("B2000A", itemRegister.searchByItemDesc("pine").get(0).getItemNumber());
+    assertEquals(2, itemRegister.searchByItemDesc("lumber").size());
+  }
+
+  /**
+   * Test for the sort methods of {@link OffHeapItemRegister}.
+   * Test will <code>PASS</code> if the items are retrieved in sorted order, and the
+   * order follows the changes made to the records
+   * Test will <code>FAIL</code> if the items aren't retrieved in sorted order
+   */
+  @Test
+  void sortList() {
+    itemRegister.sortListByItemnumber(true);
+    assertEquals("A1008B", itemRegister.getItem(0).getItemNumber());
+
+    itemRegister.sortListByBrandname(false);
+    assertEquals("SULOLI", itemRegister.getItem(0).getBrandName());
+
+    itemRegister.sortListByPrice(false);
+    assertEquals(977, itemRegister.getItem(0).getPrice());
+    assertEquals(4, itemRegister.getIndexOfItem(itemRegister.searchByItemNumber("M5788B")));
+
+    itemRegister.sortListByWarehousestock(true);
+    assertEquals(2, itemRegister.getItem(0).getWarehouseStock());
+    itemRegister.increaseItemStock(itemRegister.getItem(0), 1000);
+    assertEquals(1002, itemRegister.getItem(4).getWarehouseStock());
+
+    itemRegister.sortListByColor(true);
+    assertEquals("A1008B", itemRegister.getItem(2).getItemNumber());
+    assertEquals("C1007B", itemRegister.getItem(3).getItemNumber());
+
+    itemRegister.sortListByCategory(false);
+    assertEquals(Category.WINDOWS, itemRegister.getItem(0).getCategory());
+    assertEquals(Category.WINDOWS, itemRegister.getCopyOfList().get(1).getCategory());
+  }
+
+  /**
+   * Test for adding and removing many items in {@link OffHeapItemRegister}.
+   * Test will <code>PASS</code> if every item can be found after the hash table
+   * has been rebuilt several times
+   * Test will <code>FAIL</code> if any item is lost
+   */
+  @Test
+  void manyItems() {
+    OffHeapItemRegister largeRegister = new OffHeapItemRegister();
+    for (int i = 0; i < 10000; i++) {
+      largeRegister.addItem(new ItemBuilder()
+              .setItemNumber("SKU" + i)
+              .setDescription("Item " + i)
+              .setBrandName("Brand")
+              .setPrice(i)
+              .setColor(Color.BLACK)
+              .setWeight(1)
+              .setLength(1)
+              .setHeight(1)
+              .setWidth(1)
+              .setCategory(Category.values()[i % Category.values().length])
+              .build());
+    }
+    for (int i = 0; i < 10000; i += 2) {
+      assertTrue(largeRegister.removeItem(itemWithNumber("SKU" + i)));
+    }
+
+    assertEquals(5000, largeRegister.size());
+    for (int i = 0; i < 10000; i++) {
+      Item item = largeRegister.searchByItemNumber("sku" + i);
+      if (i % 2 == 0) {
+        assertNull(item);
+      } else {
+        assertEquals(i, item.getPrice());
+        assertEquals("Item " + i, item.getDescription());
+      }
+    }
+    assertEquals("SKU1", largeRegister.getItem(0).getItemNumber());
+    assertEquals("SKU9999", largeRegister.getItem(4999).getItemNumber());
+  }
+
+  /**
+   * Test for removing and re-adding items in {@link OffHeapItemRegister} which were
+   * added when the hash table was rebuilt.
+   * Test will <code>PASS</code> if every item is gone after it is removed, and can be
+   * added and removed again, whether or not adding it rebuilt the hash table
+   * Test will <code>FAIL</code> if a removed item can still be found, or can't be
+   * added again
+   */
+  @Test
+  void removeItemAddedAtRehash() {
+    OffHeapItemRegister largeRegister = new OffHeapItemRegister(1);
+    for (int i = 0; i < 200; i++) {
+      Item item = itemWithNumber("SKU" + i);
+      largeRegister.addItem(item);
+
+      assertTrue(largeRegister.removeItem(item));
+      assertNull(largeRegister.searchByItemNumber("SKU" + i));
+      largeRegister.addItem(item);
+      assertTrue(largeRegister.removeItem(item));
+      assertFalse(largeRegister.removeItem(item));
+      largeRegister.addItem(item);
+      assertEquals(i + 1, largeRegister.size());
+    }
+
+    for (int i = 0; i < 200; i++) {
+      assertEquals(i, largeRegister.getIndexOfItem(itemWithNumber("SKU" + i)));
+    }
+  }
+
+  /**
+   * Test for the {@link OffHeapItemRegister#OffHeapItemRegister(int)} constructor.
+   * Test will <code>PASS</code> if capacities too large for the buffers are rejected
+   * Test will <code>FAIL</code> if no exception is thrown
+   */
+  @Test
+  void tooLargeCapacity() {
+    assertThrows(IllegalNumberException.class,
+            () -> new OffHeapItemRegister(Integer.MAX_VALUE));
+    assertThrows(IllegalNumberException.class,
+            () -> new OffHeapItemRegister(Integer.MAX_VALUE / 64 + 1));
+  }
+
+  /**
+   * Test for increasing the stock of an item in {@link OffHeapItemRegister} up to
+   * {@link Integer#MAX_VALUE}.
+   * Test will <code>PASS</code> if the stock can be increased to the largest integer,
+   * and an increase past it throws an {@link IllegalNumberException} without changing
+   * the stored stock, so the item can still be read
+   * Test will <code>FAIL</code> if the stored stock overflows
+   */
+  @Test
+  void stockOverflow() {
+    Item item = itemRegister.getItem(0);
+    int warehouseStock = item.getWarehouseStock();
+    assertThrows(IllegalNumberException.class,
+            () -> itemRegister.increaseItemStock(item, Integer.MAX_VALUE));
+    assertEquals(warehouseStock, itemRegister.getItem(0).getWarehouseStock());
+
+    itemRegister.increaseItemStock(item, Integer.MAX_VALUE - warehouseStock);
+    assertEquals(Integer.MAX_VALUE,
+            itemRegister.searchByItemNumber(item.getItemNumber()).getWarehouseStock());
+    assertThrows(IllegalNumberException.class, () -> itemRegister.increaseItemStock(item, 1));
+    assertEquals(Integer.MAX_VALUE, itemRegister.getItem(0).getWarehouseStock());
+  }
+
+  /**
+   * Test for the {@link OffHeapItemRegister#toString()} method.
+   * Test will <code>PASS</code> if the table is equal to the one of {@link ItemRegister}
+   * Test will <code>FAIL</code> if the tables differ
+   */
+  @Test
+  void testToString() {
+    ItemRegister defaultItems = new ItemRegister();
+    defaultItems.fillListWithDefaultItems();
+
+    assertEquals(defaultItems.toString(), itemRegister.toString());
+  }
+
+  /**
+   * Creates an item with the specified item number, which can be used to
+   * refer to an item in the register.
+   *
+   * @param itemNumber  The item number of the item
+   * @return            An {@link Item} with the specified item number
+   */
+  private static Item itemWithNumber(String itemNumber) {
+    return new ItemBuilder()
+            .setItemNumber(itemNumber)
+            .setBrandName("")
+            .setWeight(1)
+            .setLength(1)
+            .setHeight(1)
+            .setWidth(1)
+            .setColor(Color.BLACK)
+            .setCategory(Category.METAL)
+            .build();
+  }
+}
@@ -0,0 +1,229 @@
+package no.ntnu.idatt1001.common.event;
+
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.StockMovement;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ItemChangeBus} class.
+ */
+class ItemChangeBusTest {
+
+  ItemRegister itemRegister;
+  ItemChangeBus itemChangeBus;
+  Item christmasWindow;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Fills an {@link ItemRegister} with default items, and creates a bus for it.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ItemRegister();
+    itemRegister.fillListWithDefaultItems();
+    itemChangeBus = new ItemChangeBus(itemRegister);
+    christmasWindow = itemRegister.searchByItemNumber("A1205B");
+  }
+
+  /**
+   * The code that gets executed after each test operation.
+   * Closes the bus and its subscriptions.
+   */
+  @AfterEach
+  void tearDown() {
+    itemChangeBus.close();
+  }
+
+  /**
+   * Test for the {@link ItemChangeBus#subscribe(ItemChangeSubscriber)} method.
+   * Test will <code>PASS</code> if every kind of change is received in order, with
+   * increasing sequence numbers and the values of the item right after the change
+   * Test will <code>FAIL</code> if an event is missing, out of order or has the wrong values
+   */
+  @Test
+  void publishesEveryChangeInOrder() throws InterruptedException {
+    BlockingQueue<ItemChangeEvent> events = new LinkedBlockingQueue<>();
+    itemChangeBus.subscribe(events::add);
+
+    Item newItem = ItemBuilder.deepCopy(christmasWindow);
+    itemRegister.removeItem(christmasWindow);
+    itemRegister.addItem(newItem);
+    itemRegister.increaseItemStock(newItem, 5);
+    itemRegister.applyStockMovements(List.of(new StockMovement("A1205B", -3)));
+    itemRegister.changePriceOfItem(newItem, 150);
+    itemRegister.changeDiscountOfItem(newItem, 10);
+    itemRegister.changeDescriptionOfItem(newItem, "Small Christmas Window");
+    itemRegister.increaseItemStock(newItem, 100);
+
+    List<ItemChangeEvent> received = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      ItemChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+      assertNotNull(event);
+      received.add(event);
+    }
+
+    assertEquals(List.of(ItemChangeType.ITEM_REMOVED, ItemChangeType.ITEM_ADDED,
+            ItemChangeType.STOCK_CHANGED, ItemChangeType.STOCK_CHANGED,
+            ItemChangeType.PRICE_CHANGED, ItemChangeType.DISCOUNT_CHANGED,
+            ItemChangeType.DESCRIPTION_CHANGED, ItemChangeType.STOCK_CHANGED),
+            received.stream().map(ItemChangeEvent::getType).toList());
+    for (int i = 0; i < received.size(); i++) {
+      assertEquals(i + 1, received.get(i).getSequence());
+    }
+    assertEquals(8, itemChangeBus.getLastSequence());
+
+    assertEquals(5, received.get(2).getStockDelta());
+    assertEquals(7, received.get(2).getItem().getWarehouseStock());
+    assertEquals(-3, received.get(3).getStockDelta());
+    assertEquals(4, received.get(3).getItem().getWarehouseStock());
+    assertEquals(150, received.get(4).getItem().getPrice());
+    assertEquals(135, received.get(5).getItem().getPrice());
+    assertEquals("Large Christmas Window", received.get(5).getItem().getDescription());
+    assertEquals("Small Christmas Window", received.get(6).getItem().getDescription());
+    assertTrue(received.get(6).getItem().isReadOnly());
+  }
+
+  /**
+   * Test for the {@link BackpressurePolicy#DROP_NEWEST} and
+   * {@link BackpressurePolicy#DROP_OLDEST} policies.
+   * Test will <code>PASS</code> if a slow subscriber with a full queue receives the
+   * oldest or newest events, the dropped events are counted, and the changes never wait
+   * Test will <code>FAIL</code> if the wrong events are dropped or received
+   */
+  @Test
+  void dropPoliciesDropEventsWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch entered = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    BlockingQueue<Long> newestDropped = new LinkedBlockingQueue<>();
+    BlockingQueue<Long> oldestDropped = new LinkedBlockingQueue<>();
+    ItemChangeSubscription dropNewest = itemChangeBus.subscribe(
+            slowSubscriber(entered, release, newestDropped), 2, BackpressurePolicy.DROP_NEWEST);
+    ItemChangeSubscription dropOldest = itemChangeBus.subscribe(
+            slowSubscriber(entered, release, oldestDropped), 2, BackpressurePolicy.DROP_OLDEST);
+
+    itemRegister.increaseItemStock(christmasWindow, 1);
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 4; i++) {
+      itemRegister.increaseItemStock(christmasWindow, 1);
+    }
+    assertEquals(2, dropNewest.getDroppedCount());
+    assertEquals(2, dropOldest.getDroppedCount());
+    release.countDown();
+
+    assertEquals(List.of(1L, 2L, 3L), pollSequences(newestDropped, 3));
+    assertEquals(List.of(1L, 4L, 5L), pollSequences(oldestDropped, 3));
+  }
+
+  /**
+   * Test for the {@link BackpressurePolicy#BLOCK} policy.
+   * Test will <code>PASS</code> if a change waits while the queue of a slow subscriber
+   * is full, and every event is received once the subscriber catches up
+   * Test will <code>FAIL</code> if the change doesn't wait, or an event is lost
+   */
+  @Test
+  void blockPolicyMakesChangesWait() throws InterruptedException {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BlockingQueue<Long> sequences = new LinkedBlockingQueue<>();
+    ItemChangeSubscription subscription = itemChangeBus.subscribe(
+            slowSubscriber(entered, release, sequences), 1, BackpressurePolicy.BLOCK);
+
+    itemRegister.increaseItemStock(christmasWindow, 1);
+    assertTrue(entered.await(5, TimeUnit.SECONDS));
+    itemRegister.increaseItemStock(christmasWindow, 1);
+
+    Thread changer = new Thread(() -> itemRegister.increaseItemStock(christmasWindow, 1));
+    changer.start();
+    changer.join(200);
+    assertTrue(changer.isAlive());
+
+    release.countDown();
+    changer.join(5000);
+    assertFalse(changer.isAlive());
+    assertEquals(List.of(1L, 2L, 3L), pollSequences(sequences, 3));
+    assertEquals(0, subscription.getDroppedCount());
+  }
+
+  /**
+   * Test for the {@link ItemChangeBus#close()} and
+   * {@link ItemChangeBus#unsubscribe(ItemChangeSubscription)} methods.
+   * Test will <code>PASS</code> if no events are published after the subscription or
+   * bus is closed, and invalid subscriptions are rejected
+   * Test will <code>FAIL</code> if events are received after closing
+   */
+  @Test
+  void closeStopsPublishing() throws InterruptedException {
+    BlockingQueue<ItemChangeEvent> events = new LinkedBlockingQueue<>();
+    ItemChangeSubscription subscription = itemChangeBus.subscribe(events::add);
+    assertTrue(itemChangeBus.unsubscribe(subscription));
+    assertTrue(subscription.isClosed());
+    assertFalse(itemChangeBus.unsubscribe(subscription));
+
+    itemChangeBus.subscribe(events::add);
+    itemChangeBus.close();
+    itemRegister.increaseItemStock(christmasWindow, 1);
+    assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+    assertEquals(0, itemChangeBus.getLastSequence());
+
+    assertThrows(IllegalStateException.class, () -> itemChangeBus.subscribe(events::add));
+    assertThrows(IllegalNumberException.class, () -> new ItemChangeBus(itemRegister)
+            .subscribe(events::add, 0, BackpressurePolicy.BLOCK));
+  }
+
+  /**
+   * Creates a subscriber which adds the sequence numbers of the events to the specified
+   * queue, and waits for the specified latch to be released when it receives the
+   * first event.
+   *
+   * @param entered   The latch counted down when the first event is received
+   * @param release   The latch the subscriber waits for
+   * @param sequences The queue the sequence numbers should be added to
+   * @return          The subscriber
+   */
+  private static ItemChangeSubscriber slowSubscriber(CountDownLatch entered,
+                                                     CountDownLatch release,
+                                                     BlockingQueue<Long> sequences) {
+    return event -> {
+      if (event.getSequence() == 1) {
+        entered.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      sequences.add(event.getSequence());
+    };
+  }
+
+  /**
+   * Waits for the specified number of sequence numbers from the specified queue.
+   *
+   * @param sequences The queue of sequence numbers
+   * @param count     The number of sequence numbers
+   * @return          The sequence numbers, in the order they were received
+   */
+  private static List<Long> pollSequences(BlockingQueue<Long> sequences, int count)
+          throws InterruptedException {
+    List<Long> received = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Long sequence = sequences.poll(5, TimeUnit.SECONDS);
+      assertNotNull(sequence);
+      received.add(sequence);
+    }
+    return received;
+  }
+}
@@ -0,0 +1,152 @@
+package no.ntnu.idatt1001.common.io;
+
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ItemCsvImporter} class.
+ */
+class ItemCsvImporterTest {
+
+  static final String HEADER = "itemNumber,description,brandName,price,warehouseStock,"
+          + "weight,length,height,width,color,category\n";
+
+  ItemRegister itemRegister;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Assigns a new {@link ItemRegister} filled with default items to the
+   * {@code itemRegister} value.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ItemRegister();
+    itemRegister.fillListWithDefaultItems();
+  }
+
+  /**
+   * Test for the {@link ItemCsvImporter#importFrom(Path)} method.
+   * Test will <code>PASS</code> if every row was imported with all its values, with
+   * quoted fields, columns in another order, extra columns and other spellings of
+   * colors and categories
+   * Test will <code>FAIL</code> if any item wasn't imported successfully
+   */
+  @Test
+  void importFrom(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("items.csv");
+    Files.writeString(file, "﻿Item Number,category,COLOR,Brand_Name,price,"
+            + "warehouse-stock,weight,length,height,width,description,discount,supplier\r\n"
+            + "X1001A,windows,white,SULOLI,130,2,0.45,15.8,27.5,20,"
+            + "\"Großes \"\"Weihnachtsfenster\"\", 2 m\r\nweit\",20,Acme\r\n"
+            + "\r\n"
+            + "X1002A,Floor laminates,dark-gray,BESTBRAND,50,10,1,2,3,4,,,Acme",
+            StandardCharsets.UTF_8);
+
+    CsvImportReport report = new ItemCsvImporter(itemRegister).importFrom(file);
+
+    assertEquals(2, report.getRowCount());
+    assertEquals(2, report.getImportedCount());
+    assertEquals(0, report.getErrorCount());
+    assertEquals(7, itemRegister.size());
+    assertEquals("Großes \"Weihnachtsfenster\", 2 m\r\nweit",
+            itemRegister.searchByItemNumber("X1001A").getDescription());
+    assertEquals(104, itemRegister.searchByItemNumber("X1001A").getPrice());
+    assertEquals("FLOOR_LAMINATES",
+            itemRegister.searchByItemNumber("X1002A").getCategory().name());
+    assertEquals("DARK_GRAY", itemRegister.searchByItemNumber("X1002A").getColor().name());
+    assertEquals("", itemRegister.searchByItemNumber("X1002A").getDescription());
+    assertThrows(NullPointerException.class,
+            () -> new ItemCsvImporter(itemRegister).importFrom((Path) null));
+  }
+
+  /**
+   * Test for rows which can't be imported by {@link ItemCsvImporter}.
+   * Test will <code>PASS</code> if every invalid and duplicate row was reported
+   * with its row number, and every other row was imported
+   * Test will <code>FAIL</code> if an invalid row stopped the import or was imported
+   */
+  @Test
+  void rowErrors() throws IOException {
+    String csv = HEADER
+            + "X1,Valid,B,10,1,1,1,1,1,RED,METAL\n"
+            + "X2,Bad price,B,ten,1,1,1,1,1,RED,METAL\n"
+            + "X3,Unknown color,B,10,1,1,1,1,1,PURPLE,METAL\n"
+            + "X4,Missing brand,,10,1,1,1,1,1,RED,METAL\n"
+            + "X5,Negative stock,B,10,-1,1,1,1,1,RED,METAL\n"
+            + "X6,Too few fields,B,10\n"
+            + "X7,Bad weight,B,10,1,0,1,1,1,RED,METAL\n"
+            + "X8,Valid,B,10,1,1,1,1,1,RED,METAL\n";
+
+    CsvImportReport report = new ItemCsvImporter(itemRegister, 2, 5)
+            .importFrom(new StringReader(csv));
+
+    assertEquals(8, report.getRowCount());
+    assertEquals(2, report.getImportedCount());
+    assertEquals(6, report.getErrorCount());
+    assertEquals(7, itemRegister.size());
+    assertNotNull(itemRegister.searchByItemNumber("X8"));
+
+    List<CsvImportError> errors = report.getErrors();
+    assertEquals(5, errors.size());
+    assertEquals(3, errors.get(0).getRow());
+    assertEquals("Invalid price: ten", errors.get(0).getMessage());
+    assertEquals("Row 4: Unknown color: PURPLE", errors.get(1).toString());
+    assertEquals("Missing brand name", errors.get(2).getMessage());
+    assertEquals("Warehouse stock cannot be negative", errors.get(3).getMessage());
+    assertEquals("Row 7: Missing warehouse stock", errors.get(4).toString());
+  }
+
+  /**
+   * Test for the reported duplicates and malformed rows of {@link ItemCsvImporter}.
+   * Test will <code>PASS</code> if the duplicates and the unterminated row are
+   * reported with their row numbers, the duplicates when their batch is added
+   * Test will <code>FAIL</code> if any of them are reported wrong
+   */
+  @Test
+  void duplicatesAndMalformedRows() throws IOException {
+    String csv = HEADER
+            + "a1205b,Existing item,B,10,1,1,1,1,1,RED,METAL\n"
+            + "X1,Valid,B,10,1,1,1,1,1,RED,METAL\n"
+            + "X1,Duplicate row,B,10,1,1,1,1,1,RED,METAL\n"
+            + "X2,\"Unterminated,B,10,1,1,1,1,1,RED,METAL\n";
+
+    CsvImportReport report = new ItemCsvImporter(itemRegister).importFrom(new StringReader(csv));
+
+    assertEquals(1, report.getImportedCount());
+    assertEquals(List.of("Row 5: Unterminated quoted field",
+            "Row 2: Duplicate item number: a1205b", "Row 4: Duplicate item number: X1"),
+            report.getErrors().stream().map(CsvImportError::toString).toList());
+  }
+
+  /**
+   * Test for invalid files and arguments of {@link ItemCsvImporter}.
+   * Test will <code>PASS</code> if files without a valid header and invalid
+   * arguments were rejected
+   * Test will <code>FAIL</code> if any of them were accepted
+   */
+  @Test
+  void invalidFileAndArguments() {
+    ItemCsvImporter importer = new ItemCsvImporter(itemRegister);
+
+    assertThrows(IOException.class, () -> importer.importFrom(new StringReader("")));
+    IOException exception = assertThrows(IOException.class, () -> importer.importFrom(
+            new StringReader(HEADER.replace(",color", ""))));
+    assertEquals("The CSV file has no color column", exception.getMessage());
+    assertThrows(NullPointerException.class, () -> importer.importFrom((StringReader) null));
+    assertThrows(NullPointerException.class, () -> new ItemCsvImporter(null));
+    assertThrows(IllegalNumberException.class, () -> new ItemCsvImporter(itemRegister, 0, 1));
+    assertThrows(IllegalNumberException.class, () -> new ItemCsvImporter(itemRegister, 1, -1));
+    assertEquals(5, itemRegister.size());
+  }
+}
@@ -0,0 +1,145 @@
+package no.ntnu.idatt1001.common.io;
+
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ItemExporter} class.
+ */
+class ItemExporterTest {
+
+  ItemRegister itemRegister;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Fills an {@link ItemRegister} with default items and an item with quotes,
+   * commas, line breaks and characters outside of ASCII in its text.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ItemRegister();
+    itemRegister.fillListWithDefaultItems();
+    Item item = new ItemBuilder()
+            .setItemNumber("A1215C")
+            .setDescription("Großes \"Fenster\", 2 m\nweit 🎄")
+            .setBrandName("SULOLI\\")
+            .setPrice(130)
+            .setWarehouseStock(2)
+            .setWeight(0.45)
+            .setLength(15.8)
+            .setHeight(27.5)
+            .setColor(Color.WHITE)
+            .setCategory(Category.WINDOWS)
+            .setWidth(20)
+            .build();
+    item.setDiscount(20);
+    itemRegister.addItem(item);
+  }
+
+  /**
+   * Test for exporting CSV with the {@link ItemExporter} class.
+   * Test will <code>PASS</code> if every item is written as a row, and the file can
+   * be imported again with the same items
+   * Test will <code>FAIL</code> if any item is written wrong
+   */
+  @Test
+  void exportCsv() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long itemCount = new ItemExporter(ExportFormat.CSV).export(itemRegister.snapshot(), out);
+
+    assertEquals(6, itemCount);
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+    assertEquals("itemNumber,description,brandName,price,discount,warehouseStock,"
+            + "weight,length,height,width,color,category", lines[0]);
+    assertEquals("A1215C,\"Großes \"\"Fenster\"\", 2 m", lines[6]);
+    assertEquals("weit 🎄\",SULOLI\\,130,20.0,2,0.45,15.8,27.5,20.0,WHITE,WINDOWS",
+            lines[7]);
+
+    ItemRegister importedRegister = new ItemRegister();
+    CsvImportReport report = new ItemCsvImporter(importedRegister).importFrom(
+            new InputStreamReader(new ByteArrayInputStream(out.toByteArray()),
+                    StandardCharsets.UTF_8));
+    assertEquals(0, report.getErrorCount());
+    assertEquals(itemRegister.toString(), importedRegister.toString());
+  }
+
+  /**
+   * Test for exporting JSON lines with the {@link ItemExporter} class.
+   * Test will <code>PASS</code> if every item is written as an escaped JSON object
+   * on its own line, also when the buffer is written out many times
+   * Test will <code>FAIL</code> if any item is written wrong
+   */
+  @Test
+  void exportJsonLines() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    List<Integer> writeSizes = new ArrayList<>();
+    WritableByteChannel channel = new WritableByteChannel() {
+      @Override
+      public int write(ByteBuffer src) {
+        int size = Math.min(src.remaining(), 7);
+        writeSizes.add(size);
+        out.write(src.array(), src.arrayOffset() + src.position(), size);
+        src.position(src.position() + size);
+        return size;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    new ItemExporter(ExportFormat.JSON_LINES).export(itemRegister.snapshot(), channel);
+
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(6, lines.length);
+    assertEquals("{\"itemNumber\":\"A1205B\",\"description\":\"Large Christmas Window\","
+            + "\"brandName\":\"SULOLI\",\"price\":130,\"discount\":0.0,\"warehouseStock\":2,"
+            + "\"weight\":0.45,\"length\":15.8,\"height\":27.5,\"width\":20.0,"
+            + "\"color\":\"WHITE\",\"category\":\"WINDOWS\"}", lines[0]);
+    assertTrue(lines[5].startsWith("{\"itemNumber\":\"A1215C\","
+            + "\"description\":\"Großes \\\"Fenster\\\", 2 m\\nweit 🎄\","
+            + "\"brandName\":\"SULOLI\\\\\",\"price\":130,\"discount\":20.0,"));
+    assertTrue(writeSizes.size() > 1);
+  }
+
+  /**
+   * Test for invalid arguments of the {@link ItemExporter} class.
+   * Test will <code>PASS</code> if {@code null} arguments are rejected
+   * Test will <code>FAIL</code> if any of them are accepted
+   */
+  @Test
+  void invalidArguments() {
+    ItemExporter exporter = new ItemExporter(ExportFormat.CSV);
+
+    assertThrows(NullPointerException.class, () -> new ItemExporter(null));
+    assertThrows(NullPointerException.class,
+            () -> exporter.export(null, new ByteArrayOutputStream()));
+    assertThrows(NullPointerException.class,
+            () -> exporter.export(itemRegister.snapshot(), (WritableByteChannel) null));
+    assertThrows(NullPointerException.class,
+            () -> exporter.export(Arrays.asList(itemRegister.getItem(0), null),
+                    Channels.newChannel(new ByteArrayOutputStream())));
+  }
+}
@@ -0,0 +1,86 @@
+package no.ntnu.idatt1001.common.menu;
+
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link ItemPager} class.
+ */
+class ItemPagerTest {
+
+  ItemRegister itemRegister;
+  ItemPager itemPager;
+
+  /**
+   * The code that gets executed before each test operation.
+   * Fills an {@link ItemRegister} with default items, and assigns a new
+   * {@link ItemPager} with two items on every page to the {@code itemPager} value.
+   */
+  @BeforeEach
+  void setUp() {
+    itemRegister = new ItemRegister();
+    itemRegister.fillListWithDefaultItems();
+    itemPager = new ItemPager(itemRegister, 2);
+  }
+
+  /**
+   * Test for the navigation methods of {@link ItemPager}.
+   * Test will <code>PASS</code> if the pager moves between the existing pages and
+   * refuses to move past the first and last page
+   * Test will <code>FAIL</code> if the pager moves to a page which doesn't exist
+   */
+  @Test
+  void navigation() {
+    assertEquals(3, itemPager.getPageCount());
+    assertEquals(1, itemPager.getPage());
+    assertFalse(itemPager.previous());
+    assertTrue(itemPager.next());
+    assertTrue(itemPager.next());
+    assertFalse(itemPager.next());
+    assertEquals(3, itemPager.getPage());
+    assertTrue(itemPager.jumpTo(1));
+    assertFalse(itemPager.jumpTo(4));
+    assertFalse(itemPager.jumpTo(0));
+    assertEquals(1, itemPager.getPage());
+
+    assertEquals(1, new ItemPager(new ItemRegister(), 2).getPageCount());
+    assertThrows(NullPointerException.class, () -> new ItemPager(null, 2));
+    assertThrows(IllegalNumberException.class, () -> new ItemPager(itemRegister, 0));
+  }
+
+  /**
+   * Test for the {@link ItemPager#render(java.io.Writer)} method.
+   * Test will <code>PASS</code> if only the items on the current page are written,
+   * in the format of {@link ItemRegister#toString()}, and the page is moved back
+   * when the register shrinks
+   * Test will <code>FAIL</code> if the page is written wrong
+   */
+  @Test
+  void render() throws IOException {
+    StringWriter out = new StringWriter();
+    itemPager.render(out);
+
+    assertEquals(ItemRegister.tableHeader() + "\u001B[33m" + itemRegister.getItem(0) + "\n"
+            + itemRegister.getItem(1) + "\n\u001B[0m"
+            + "\u001B[36mPage 1 of 3 (items 1-2 of 5)\u001B[0m\n", out.toString());
+
+    itemPager.jumpTo(3);
+    out = new StringWriter();
+    itemPager.render(out);
+    assertTrue(out.toString().contains(itemRegister.getItem(4).toString()));
+    assertFalse(out.toString().contains(itemRegister.getItem(3).toString()));
+    assertTrue(out.toString().endsWith("Page 3 of 3 (items 5-5 of 5)\u001B[0m\n"));
+
+    itemRegister.removeItem(itemRegister.getItem(4));
+    out = new StringWriter();
+    itemPager.render(out);
+    assertEquals(2, itemPager.getPage());
+    assertTrue(out.toString().endsWith("Page 2 of 2 (items 3-4 of 4)\u001B[0m\n"));
+  }
+}
@@ -0,0 +1,390 @@
+package no.ntnu.idatt1001.common.persistence;
+
+import no.ntnu.idatt1001.common.ItemRegister;
+import no.ntnu.idatt1001.common.StockMovement;
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import no.ntnu.idatt1001.util.IllegalNumberException;
+import no.ntnu.idatt1001.util.item.Item;
+import no.ntnu.idatt1001.util.item.ItemBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit class for testing the {@link MutationLog} class.
+ */
+class MutationLogTest {
+
+  @TempDir
+  Path directory;
+
+  /**
+   * Creates an item with the specified item number and stock.
+   *
+   * @param itemNumber      The item number of the item
+   * @param warehouseStock  The warehouse stock of the item
+   * @return                The new {@link Item}
+   */
+  private static Item item(String itemNumber, int warehouseStock) {
+    return new ItemBuilder()
+            .setItemNumber(itemNumber)
+            .setDescription("Steel beam")
+            .setBrandName("Norsk Stål")
+            .setPrice(450)
+            .setWarehouseStock(warehouseStock)
+            .setWeight(12.5)
+            .setLength(4)
+            .setHeight(0.2)
+            .setWidth(0.1)
+            .setColor(Color.GRAY)
+            .setCategory(Category.METAL)
+            .build();
+  }
+
+  /**
+   * Test for opening a {@link MutationLog} which already contains records.
+   * Test will <code>PASS</code> if every kind of change made to the register is
+   * replayed into the register of the reopened log, for every {@link FsyncPolicy}
+   * Test will <code>FAIL</code> if the reopened register differs from the register
+   * the changes were made to
+   */
+  @Test
+  void replayEveryMutation() throws IOException {
+    for (FsyncPolicy fsyncPolicy : FsyncPolicy.values()) {
+      Path path = directory.resolve(fsyncPolicy.name());
+
+      String expectedRegister;
+      long expectedSequence;
+      try (MutationLog mutationLog = MutationLog.open(path, fsyncPolicy)) {
+        ItemRegister itemRegister = mutationLog.getRegister();
+        assertEquals(0, itemRegister.size());
+
+        itemRegister.fillListWithDefaultItems();
+        itemRegister.addAll(List.of(item("S100", 40), item("S200", 15)));
+        itemRegister.increaseItemStock(itemRegister.searchByItemNumber("A1205B"), 18);
+        itemRegister.decreaseItemStock(itemRegister.searchByItemNumber("M5788B"), 3);
+        itemRegister.applyStockMovements(List.of(new StockMovement("S100", -10),
+                new StockMovement("s200", 5), new StockMovement("S100", 2)));
+        itemRegister.changePriceOfItem(itemRegister.searchByItemNumber("C1007B"), 310);
+        itemRegister.changeDiscountOfItem(itemRegister.searchByItemNumber("C1007B"), 12.5);
+        itemRegister.changeDescriptionOfItem(itemRegister.searchByItemNumber("S200"),
+                "Galvanized steel beam");
+        itemRegister.removeItem(itemRegister.searchByItemNumber("A1008B"));
+
+        expectedRegister = itemRegister.toString();
+        expectedSequence = mutationLog.getLastSequence();
+        assertEquals(13, expectedSequence);
+      }
+
+      try (MutationLog mutationLog = MutationLog.open(path, fsyncPolicy)) {
+        ItemRegister itemRegister = mutationLog.getRegister();
+        assertEquals(expectedRegister, itemRegister.toString());
+        assertEquals(expectedSequence, mutationLog.getLastSequence());
+        assertEquals(32, itemRegister.searchByItemNumber("S100").getWarehouseStock());
+        assertEquals(310, itemRegister.searchByItemNumber("C1007B").getPriceWithoutDiscount());
+        assertEquals(12.5, itemRegister.searchByItemNumber("C1007B").getDiscount());
+
+        itemRegister.increaseItemStock(itemRegister.searchByItemNumber("S200"), 1);
+        assertEquals(expectedSequence + 1, mutationLog.getLastSequence());
+      }
+    }
+  }
+
+  /**
+   * Test for opening a {@link MutationLog} where the last record is incomplete or
+   * doesn't match its checksum, as after a crash in the middle of writing it.
+   * Test will <code>PASS</code> if the log is recovered up to the last valid record,
+   * and new records are appended after it
+   * Test will <code>FAIL</code> if the invalid record is replayed, or the log cannot
+   * be opened or appended to
+   */
+  @Test
+  void recoverTornRecord() throws IOException {
+    Path path = directory.resolve("mutations-1.log");
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      mutationLog.getRegister().fillListWithDefaultItems();
+    }
+    long validSize = Files.size(path);
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      ItemRegister itemRegister = mutationLog.getRegister();
+      itemRegister.increaseItemStock(itemRegister.searchByItemNumber("A1205B"), 5);
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(path) - 3);
+    }
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      ItemRegister itemRegister = mutationLog.getRegister();
+      assertEquals(5, mutationLog.getLastSequence());
+      assertEquals(validSize, Files.size(path));
+      assertEquals(2, itemRegister.searchByItemNumber("A1205B").getWarehouseStock());
+
+      itemRegister.increaseItemStock(itemRegister.searchByItemNumber("A1205B"), 7);
+    }
+    byte[] bytes = Files.readAllBytes(path);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(path, bytes);
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      ItemRegister itemRegister = mutationLog.getRegister();
+      assertEquals(5, mutationLog.getLastSequence());
+      assertEquals(2, itemRegister.searchByItemNumber("A1205B").getWarehouseStock());
+
+      itemRegister.decreaseItemStock(itemRegister.searchByItemNumber("A1205B"), 1);
+    }
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      assertEquals(6, mutationLog.getLastSequence());
+      assertEquals(1, mutationLog.getRegister().searchByItemNumber("A1205B")
+              .getWarehouseStock());
+    }
+  }
+
+  /**
+   * Test for the {@link MutationLog#checkpoint()} method, and for opening a log where
+   * a checkpoint was interrupted, both while the checkpoint was written and before the
+   * older files were deleted.
+   * Test will <code>PASS</code> if the checkpoint replaces the older segments, and the
+   * interrupted checkpoints are recovered without replaying any record twice
+   * Test will <code>FAIL</code> if the register differs after reopening the log, or
+   * the older files are kept
+   */
+  @Test
+  void checkpoint() throws IOException {
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      mutationLog.getRegister().fillListWithDefaultItems();
+    }
+    byte[] firstSegment = Files.readAllBytes(directory.resolve("mutations-1.log"));
+
+    String expectedRegister;
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      ItemRegister itemRegister = mutationLog.getRegister();
+      mutationLog.checkpoint();
+      assertEquals(5, mutationLog.getCheckpointSequence());
+      assertEquals(List.of("checkpoint-5.bin", "mutations-6.log"), fileNames());
+
+      itemRegister.increaseItemStock(itemRegister.searchByItemNumber("A1205B"), 4);
+      expectedRegister = itemRegister.toString();
+    }
+
+    Files.write(directory.resolve("mutations-1.log"), firstSegment);
+    Files.writeString(directory.resolve("checkpoint-6.tmp"), "interrupted");
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+      assertEquals(expectedRegister, mutationLog.getRegister().toString());
+      assertEquals(6, mutationLog.getLastSequence());
+      assertEquals(5, mutationLog.getCheckpointSequence());
+      assertEquals(List.of("checkpoint-5.bin", "mutations-6.log"), fileNames());
+    }
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.OS_BUFFERED, 10, 10)) {
+      ItemRegister itemRegister = mutationLog.getRegister();
+      for (int i = 0; i < 25; i++) {
+        itemRegister.increaseItemStock(itemRegister.getItem(i % 5), 1);
+      }
+      expectedRegister = itemRegister.toString();
+    }
+
+    try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.OS_BUFFERED)) {
+      assertEquals(expectedRegister, mutationLog.getRegister().toString());
+      assertEquals(31, mutationLog.getLastSequence());
+      assertTrue(mutationLog.getCheckpointSequence() >= 15);
+      assertTrue(fileNames().size() <= 3);
+    }
+  }
+
+  /**
+   * Test for opening a log after the program writing to it has been killed, while it
+   * was taking checkpoints. The log is written to by a separate process, which is killed
+   * several times. Checkpoints are taken so often that the process is most likely
+   * killed in the middle of one.
+   * Test will <code>PASS</code> if every change the process completed before it was
+   * killed is recovered, no change is recovered twice, and the old segments are deleted
+   * Test will <code>FAIL</code> if the log cannot be opened after the process has been
+   * killed, or the recovered register is missing changes or has changes twice
+   */
+  @Test
+  void killMidCheckpoint() throws IOException, InterruptedException {
+    long completedSequence = 0;
+    for (int round = 0; round < 3; round++) {
+      Process process = new ProcessBuilder(
+              Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+              "-cp", System.getProperty("java.class.path"),
+              CrashingWriter.class.getName(), directory.toString())
+              .redirectErrorStream(true)
+              .start();
+
+      long killAt = completedSequence + 300 + 200L * round;
+      try (BufferedReader reader = new BufferedReader(
+              new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null && completedSequence < killAt) {
+          try {
+            completedSequence = Long.parseLong(line);
+          } catch (NumberFormatException e) {
+            fail("Writer failed: " + line);
+          }
+        }
+      } finally {
+        process.destroyForcibly();
+        process.waitFor();
+      }
+      assertTrue(completedSequence >= killAt, "Writer stopped at " + completedSequence);
+
+      try (MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.EVERY_WRITE)) {
+        ItemRegister itemRegister = mutationLog.getRegister();
+        long lastSequence = mutationLog.getLastSequence();
+        assertTrue(lastSequence >= completedSequence);
+        assertTrue(mutationLog.getCheckpointSequence() > 0);
+        assertTrue(fileNames().stream().filter(name -> name.startsWith("mutations-")).count()
+                <= 2);
+
+        long totalStock = itemRegister.getItems().stream()
+                .mapToLong(Item::getWarehouseStock)
+                .sum();
+        assertEquals(lastSequence - 1, totalStock);
+        completedSequence = lastSequence;
+      }
+    }
+  }
+
+  /**
+   * Gets the names of the files in the directory of the log, in alphabetical order.
+   *
+   * @return              The names of the files
+   * @throws IOException  If the directory could not be read
+   */
+  private List<String> fileNames() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString()).sorted().toList();
+    }
+  }
+
+  /**
+   * A program which is run in a separate process by {@link MutationLogTest#killMidCheckpoint()}.
+   * Opens the log in the directory specified as the first argument, adds 2000 items
+   * with no stock in a single record if the register is empty, and then increases
+   * the stock of the items by one at a time until it is killed. The sequence number
+   * of every change is printed once the change has been forced to the storage device.
+   */
+  static class CrashingWriter {
+
+    /**
+     * Writes to the log until the process is killed.
+     *
+     * @param args          The directory of the log
+     * @throws IOException  If the log could not be opened
+     */
+    public static void main(String[] args) throws IOException {
+      MutationLog mutationLog = MutationLog.open(Path.of(args[0]), FsyncPolicy.EVERY_WRITE,
+              MutationLog.DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS, 50);
+      ItemRegister itemRegister = mutationLog.getRegister();
+      if (itemRegister.size() == 0) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+          items.add(item("K" + i, 0));
+        }
+        itemRegister.addAll(items);
+      }
+
+      List<Item> items = itemRegister.getItems();
+      for (int i = 0; ; i++) {
+        itemRegister.increaseItemStock(items.get(i % items.size()), 1);
+        System.out.println(mutationLog.getLastSequence());
+      }
+    }
+  }
+
+  /**
+   * Test for opening a directory containing a segment which isn't a {@link MutationLog},
+   * and for changing the register of a closed log.
+   * Test will <code>PASS</code> if an {@link IOException} is thrown for the invalid
+   * segment, and an {@link IllegalStateException} is thrown for the closed log
+   * Test will <code>FAIL</code> if the invalid segment is opened, or the closed log
+   * accepts changes
+   */
+  @Test
+  void invalidFileAndClosedLog() throws IOException {
+    Path invalidDirectory = Files.createDirectory(directory.resolve("invalid"));
+    Files.writeString(invalidDirectory.resolve("mutations-1.log"), "itemNumber,description\n",
+            StandardCharsets.UTF_8);
+    assertThrows(IOException.class,
+            () -> MutationLog.open(invalidDirectory, FsyncPolicy.OS_BUFFERED));
+    assertThrows(NullPointerException.class,
+            () -> MutationLog.open(null, FsyncPolicy.OS_BUFFERED));
+    assertThrows(IllegalNumberException.class,
+            () -> MutationLog.open(directory, FsyncPolicy.OS_BUFFERED, 10, 0));
+
+    MutationLog mutationLog = MutationLog.open(directory.resolve("closed"),
+            FsyncPolicy.GROUP_COMMIT, 1, 100);
+    ItemRegister itemRegister = mutationLog.getRegister();
+    itemRegister.fillListWithDefaultItems();
+    mutationLog.close();
+    mutationLog.close();
+
+    Item item = itemRegister.getItem(0);
+    int warehouseStock = item.getWarehouseStock();
+    assertThrows(IllegalStateException.class, () -> itemRegister.increaseItemStock(item, 1));
+    assertThrows(IllegalStateException.class, () -> itemRegister.removeItem(item));
+    assertEquals(warehouseStock, item.getWarehouseStock());
+    assertSame(item, itemRegister.getItem(0));
+  }
+
+  /**
+   * Test for changing the register of a log which could not write a record. The write
+   * is made to fail by interrupting the thread, which closes the segment.
+   * Test will <code>PASS</code> if the change which could not be logged throws an
+   * {@link UncheckedIOException}, every following change is refused without changing
+   * the register, and reopening the log restores the last logged state
+   * Test will <code>FAIL</code> if a change is made to the register after the log has
+   * failed, or the change which failed is replayed
+   */
+  @Test
+  void failedLogRefusesChanges() throws IOException {
+    MutationLog mutationLog = MutationLog.open(directory, FsyncPolicy.OS_BUFFERED);
+    ItemRegister itemRegister = mutationLog.getRegister();
+    itemRegister.addItem(item("F1", 10));
+    Item item = itemRegister.searchByItemNumber("F1");
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(UncheckedIOException.class, () -> itemRegister.increaseItemStock(item, 5));
+    } finally {
+      Thread.interrupted();
+    }
+    assertEquals(15, item.getWarehouseStock());
+
+    assertThrows(UncheckedIOException.class, () -> itemRegister.decreaseItemStock(item, 5));
+    assertThrows(UncheckedIOException.class, () -> itemRegister.addItem(item("F2", 1)));
+    assertThrows(UncheckedIOException.class, () -> itemRegister.changePriceOfItem(item, 1));
+    assertThrows(UncheckedIOException.class,
+            () -> itemRegister.applyStockMovements(List.of(new StockMovement("F1", 1))));
+    assertThrows(UncheckedIOException.class, () -> itemRegister.removeItem(item));
+    assertEquals(15, item.getWarehouseStock());
+    assertEquals(450, item.getPrice());
+    assertEquals(1, itemRegister.size());
+    assertNull(itemRegister.searchByItemNumber("F2"));
+    assertThrows(IOException.class, mutationLog::close);
+
+    try (MutationLog reopenedLog = MutationLog.open(directory, FsyncPolicy.OS_BUFFERED)) {
+      ItemRegister reopenedRegister = reopenedLog.getRegister();
+      assertEquals(1, reopenedLog.getLastSequence());
+      assertEquals(10, reopenedRegister.searchByItemNumber("F1").getWarehouseStock());
+    }
+  }
+}
@@ -73,6 +73,31 @@ class ItemBuilderTest {
 
   }
 
+  /**
+   * Test for the {@link ItemBuilder#readOnlyCopy(Item)} method for copying an item
+   * into a read-only item.
+   * Test will <code>PASS</code> if the copy has the values of the item when it was
+   * copied, keeps them when the item is changed, and can't be changed itself
+   * Test will <code>FAIL</code> if the copy follows the item, or can be changed
+   */
+  @Test
+  void readOnlyCopy() {
+    Item item = itemBuilder.build();
+    item.setDiscount(10);
+    Item readOnlyCopy = ItemBuilder.readOnlyCopy(item);
+    item.setWarehouseStock(5);
+    item.setDescription("Small Christmas Window");
+
+    assertTrue(readOnlyCopy.isReadOnly());
+    assertEquals(2, readOnlyCopy.getWarehouseStock());
+    assertEquals(117, readOnlyCopy.getPrice());
+    assertEquals("Large Christmas Window", readOnlyCopy.getDescription());
+    assertThrows(UnsupportedOperationException.class, () -> readOnlyCopy.setPrice(10));
+    assertThrows(UnsupportedOperationException.class,
+            () -> readOnlyCopy.increaseWarehouseStock(1));
+    assertThrows(NullPointerException.class, () -> ItemBuilder.readOnlyCopy(null));
+  }
+
   /**
    * Test for all the exceptions that can be thrown
    * in the methods.
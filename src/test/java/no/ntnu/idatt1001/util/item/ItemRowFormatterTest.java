@@ -0,0 +1,64 @@
+package no.ntnu.idatt1001.util.item;
+
+import no.ntnu.idatt1001.util.Category;
+import no.ntnu.idatt1001.util.Color;
+import org.junit.jupiter.api.Test;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A JUnit test class for the {@link ItemRowFormatter} class.
+ */
+class ItemRowFormatterTest {
+
+  /**
+   * Test for the {@link ItemRowFormatter#appendTo(StringBuilder, Item)} method.
+   * Test will <code>PASS</code> if the rows of many random items, and of items with
+   * values which are rounded at exactly halfway, are the same as
+   * {@link Item#toString()} in locales with different decimal separators and digits
+   * Test will <code>FAIL</code> if any row is different
+   */
+  @Test
+  void appendTo() {
+    Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+    try {
+      for (Locale locale : new Locale[] {Locale.US, Locale.GERMANY,
+          Locale.forLanguageTag("nb-NO"), Locale.forLanguageTag("ar-EG-u-nu-arab")}) {
+        Locale.setDefault(Locale.Category.FORMAT, locale);
+        ItemRowFormatter rowFormatter = new ItemRowFormatter();
+        StringBuilder row = new StringBuilder();
+
+        double[] halfwayValues = {0.125, 1.005, 2.675, 0.005, 99.995, 1234.565, 9_999_999.995,
+            12_345_678.9, 0.001, 1e-9};
+        for (double value : halfwayValues) {
+          Item item = new Item("A" + value, "Window", "SULOLI", 130, 2, value, value, value,
+                  value, Color.WHITE, Category.WINDOWS);
+          item.setDiscount(Math.min(value, 100));
+          row.setLength(0);
+          assertEquals(item.toString(), rowFormatter.appendTo(row, item).toString());
+        }
+
+        Random random = new Random(locale.hashCode());
+        for (int i = 0; i < 10_000; i++) {
+          Item item = new Item("X" + i, "Description " + i, "Brand " + i,
+                  random.nextInt(1_000_000), random.nextInt(10_000),
+                  Math.round(random.nextDouble() * 1e6) / 1e3, random.nextDouble() * 100,
+                  0.001 + random.nextInt(100_000) / 100.0, 1 + random.nextDouble(),
+                  Color.values()[random.nextInt(Color.values().length)],
+                  Category.values()[random.nextInt(Category.values().length)]);
+          item.setDiscount(random.nextInt(10_001) / 100.0);
+          row.setLength(0);
+          assertEquals(item.toString(), rowFormatter.appendTo(row, item).toString());
+          assertEquals(item.toString(), rowFormatter.format(item));
+        }
+      }
+    } finally {
+      Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+    }
+
+    assertThrows(NullPointerException.class, () -> new ItemRowFormatter(null));
+    assertThrows(NullPointerException.class, () -> new ItemRowFormatter().format(null));
+  }
+}
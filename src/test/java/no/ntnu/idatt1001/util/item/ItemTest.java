@@ -68,6 +68,18 @@ class ItemTest {
     Assertions.assertEquals(130,item.getPrice());
   }
 
+  /**
+   * Test for the {@link Item#getPriceWithoutDiscount()} method.
+   * Test will <code>PASS</code> if the price without discount matches
+   * Test will <code>FAIL</code> if the price without discount doesn't match
+   */
+  @Test
+  void getPriceWithoutDiscount() {
+    item.setDiscount(20);
+    Assertions.assertEquals(104,item.getPrice());
+    Assertions.assertEquals(130,item.getPriceWithoutDiscount());
+  }
+
   /**
    * Test for the {@link Item#getDiscount()} method.
    * Test will <code>PASS</code> if the {@code discount} matches
@@ -201,6 +213,28 @@ class ItemTest {
     Assertions.assertEquals(5,item.getWarehouseStock());
   }
 
+  /**
+   * Test for the {@link Item#increaseWarehouseStock(int)} and
+   * {@link Item#tryDecreaseWarehouseStock(int)} methods.
+   * Test will <code>PASS</code> if the stock is changed when there is enough stock,
+   * and left unchanged otherwise
+   * Test will <code>FAIL</code> if the stock is changed incorrectly
+   */
+  @Test
+  void changeWarehouseStockAtomically() {
+    item.setWarehouseStock(5);
+
+    assertEquals(8, item.increaseWarehouseStock(3));
+    assertTrue(item.tryDecreaseWarehouseStock(8));
+    assertFalse(item.tryDecreaseWarehouseStock(1));
+    assertEquals(0, item.getWarehouseStock());
+
+    item.setWarehouseStock(Integer.MAX_VALUE - 1);
+    assertThrows(IllegalNumberException.class, () -> item.increaseWarehouseStock(2));
+    assertThrows(IllegalNumberException.class, () -> item.tryDecreaseWarehouseStock(-1));
+    assertEquals(Integer.MAX_VALUE - 1, item.getWarehouseStock());
+  }
+
   /**
    * Test for the {@link Item} constructor for deep-copying
    * an item.